@@ -80,6 +80,40 @@ public class AbstractPropertyAccessorBenchmark {
 		return state.target;
 	}
 
+	@State(Scope.Benchmark)
+	public static class SimplePropertyState {
+
+		@Param({"DirectFieldAccessor", "BeanWrapper"})
+		public String accessor;
+
+		public SimpleBean target;
+
+		public AbstractPropertyAccessor propertyAccessor;
+
+		@Setup
+		public void setup() {
+			this.target = new SimpleBean();
+			if (this.accessor.equals("DirectFieldAccessor")) {
+				this.propertyAccessor = new DirectFieldAccessor(this.target);
+			}
+			else {
+				this.propertyAccessor = new BeanWrapperImpl(this.target);
+			}
+		}
+	}
+
+	@Benchmark
+	public SimpleBean setSimplePropertyValues(SimplePropertyState state) {
+		state.propertyAccessor.setPropertyValue("name", "juergen");
+		state.propertyAccessor.setPropertyValue("age", 99);
+		return state.target;
+	}
+
+	@Benchmark
+	public Object getSimplePropertyValue(SimplePropertyState state) {
+		return state.propertyAccessor.getPropertyValue("name");
+	}
+
 	@SuppressWarnings("unused")
 	private static class PrimitiveArrayBean {
 
@@ -94,4 +128,29 @@ public class AbstractPropertyAccessorBenchmark {
 		}
 	}
 
+
+	@SuppressWarnings("unused")
+	private static class SimpleBean {
+
+		private String name;
+
+		private int age;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springframework.beans.factory;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
@@ -133,6 +134,29 @@ public class DefaultListableBeanFactoryBenchmark {
 		return state.beanFactory.getBean(B.class);
 	}
 
+	@State(Scope.Benchmark)
+	public static class LateRegistrationState extends Shared {
+
+		// A fresh factory per invocation: removing the late bean definition again
+		// would reset all by-type caches, and keeping it would grow the registry.
+		@Setup(Level.Invocation)
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < 1000; i++) {
+				this.beanFactory.registerBeanDefinition("a" + i, new RootBeanDefinition(A.class));
+			}
+			this.beanFactory.freezeConfiguration();
+			this.beanFactory.getBeanNamesForType(A.class);
+			this.beanFactory.getBeanNamesForType(B.class);
+		}
+	}
+
+	@Benchmark
+	public Object lateRegistrationLookupByType(LateRegistrationState state) {
+		state.beanFactory.registerBeanDefinition("late", new RootBeanDefinition(TestBean.class));
+		return state.beanFactory.getBeanNamesForType(A.class);
+	}
+
 	static class A {
 	}
 
@@ -25,7 +25,6 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.TypeDescriptor;
-import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
 /**
@@ -60,6 +59,18 @@ import org.springframework.util.ReflectionUtils;
  */
 public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements BeanWrapper {
 
+	/**
+	 * System property that instructs Spring to always invoke JavaBean property
+	 * methods reflectively: "spring.beans.generated-accessors.ignore".
+	 * <p>By default, frequently accessed read and write methods get invoked
+	 * through accessors generated via {@link java.lang.invoke.LambdaMetafactory},
+	 * cached per bean class and property. Consider switching this flag to "true"
+	 * in order to avoid the generation of hidden classes at runtime.
+	 * @since 7.0.2
+	 */
+	public static final String IGNORE_GENERATED_ACCESSORS_PROPERTY_NAME = "spring.beans.generated-accessors.ignore";
+
+
 	/**
 	 * Cached introspections results for this object, to prevent encountering
 	 * the cost of JavaBeans introspection every time.
@@ -264,17 +275,12 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 
 		@Override
 		public @Nullable Object getValue() throws Exception {
-			Method readMethod = this.pd.getReadMethod();
-			Assert.state(readMethod != null, "No read method available");
-			ReflectionUtils.makeAccessible(readMethod);
-			return readMethod.invoke(getWrappedInstance(), (Object[]) null);
+			return this.pd.getReadMethodInvoker().get(getWrappedInstance());
 		}
 
 		@Override
 		public void setValue(@Nullable Object value) throws Exception {
-			Method writeMethod = this.pd.getWriteMethodForActualAccess();
-			ReflectionUtils.makeAccessible(writeMethod);
-			writeMethod.invoke(getWrappedInstance(), value);
+			this.pd.getWriteMethodInvokerForActualAccess().set(getWrappedInstance(), value);
 		}
 
 		@Override
@@ -51,6 +51,10 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 
 	private final @Nullable Method writeMethod;
 
+	private final @Nullable PropertyMethodInvoker readMethodInvoker;
+
+	private final @Nullable PropertyMethodInvoker writeMethodInvoker;
+
 	private @Nullable Set<Method> ambiguousWriteMethods;
 
 	private volatile boolean ambiguousWriteMethodsLogged;
@@ -89,6 +93,8 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		}
 		this.readMethod = readMethodToUse;
 		this.writeMethod = writeMethodToUse;
+		this.readMethodInvoker = (readMethodToUse != null ? PropertyMethodInvoker.forReadMethod(readMethodToUse) : null);
+		this.writeMethodInvoker = (writeMethodToUse != null ? PropertyMethodInvoker.forWriteMethod(writeMethodToUse) : null);
 
 		if (this.writeMethod != null) {
 			if (this.readMethod == null) {
@@ -147,6 +153,26 @@ final class GenericTypeAwarePropertyDescriptor extends PropertyDescriptor {
 		return this.writeMethod;
 	}
 
+	/**
+	 * Return the invoker for the read method.
+	 * @since 7.0.2
+	 */
+	public PropertyMethodInvoker getReadMethodInvoker() {
+		Assert.state(this.readMethodInvoker != null, "No read method available");
+		return this.readMethodInvoker;
+	}
+
+	/**
+	 * Return the invoker for the write method to be used for actual access.
+	 * @since 7.0.2
+	 * @see #getWriteMethodForActualAccess()
+	 */
+	public PropertyMethodInvoker getWriteMethodInvokerForActualAccess() {
+		getWriteMethodForActualAccess();
+		Assert.state(this.writeMethodInvoker != null, "No write method available");
+		return this.writeMethodInvoker;
+	}
+
 	public @Nullable Method getWriteMethodFallback(@Nullable Class<?> valueType) {
 		if (this.ambiguousWriteMethods != null) {
 			for (Method method : this.ambiguousWriteMethods) {
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.NativeDetector;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Invoker for the read or write method of a JavaBean property, cached along
+ * with its {@link GenericTypeAwarePropertyDescriptor}.
+ *
+ * <p>Starts out with reflective invocation and switches to a generated
+ * accessor once the method has been invoked {@value #GENERATION_THRESHOLD}
+ * times, keeping one-off property access (such as bean definition property
+ * population on startup) free from class generation overhead. The accessor
+ * is a {@link Function} or {@link BiConsumer} implementation spun through
+ * {@link LambdaMetafactory} as a hidden class for the method's declaring
+ * class, falling back to reflection if that class is not accessible or
+ * when running in a native image.
+ *
+ * <p>Preserves the semantics of {@link Method#invoke}: exceptions thrown by
+ * the method are wrapped in an {@link InvocationTargetException}, and values
+ * that the write method cannot accept are passed on reflectively in order to
+ * raise the same {@link IllegalArgumentException}.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see BeanWrapperImpl#IGNORE_GENERATED_ACCESSORS_PROPERTY_NAME
+ */
+final class PropertyMethodInvoker {
+
+	/**
+	 * Number of invocations after which an accessor gets generated.
+	 */
+	static final int GENERATION_THRESHOLD = 16;
+
+	private static final boolean generatedAccessorsEnabled = !NativeDetector.inNativeImage() &&
+			!SpringProperties.getFlag(BeanWrapperImpl.IGNORE_GENERATED_ACCESSORS_PROPERTY_NAME);
+
+	private static final Object NO_ACCESSOR = new Object();
+
+
+	private final Method method;
+
+	private final Class<?> parameterType;
+
+	// Function or BiConsumer once generated, NO_ACCESSOR if not possible
+	private volatile @Nullable Object accessor;
+
+	// Non-volatile: a lost update merely delays the generation
+	private int invocationCount;
+
+
+	private PropertyMethodInvoker(Method method) {
+		this.method = method;
+		this.parameterType = (method.getParameterCount() == 1 ?
+				ClassUtils.resolvePrimitiveIfNecessary(method.getParameterTypes()[0]) : Object.class);
+		if (!generatedAccessorsEnabled || Modifier.isStatic(method.getModifiers())) {
+			this.accessor = NO_ACCESSOR;
+		}
+	}
+
+
+	/**
+	 * Return the underlying read or write method.
+	 */
+	public Method getMethod() {
+		return this.method;
+	}
+
+	/**
+	 * Invoke the read method on the given target.
+	 * @param target the bean instance to read the property from
+	 * @return the property value
+	 * @throws InvocationTargetException if the read method threw an exception
+	 * @throws IllegalAccessException if the read method is not accessible
+	 */
+	@SuppressWarnings("unchecked")
+	public @Nullable Object get(Object target) throws InvocationTargetException, IllegalAccessException {
+		Object accessor = obtainAccessor();
+		if (accessor instanceof Function<?, ?> getter) {
+			try {
+				return ((Function<Object, @Nullable Object>) getter).apply(target);
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		ReflectionUtils.makeAccessible(this.method);
+		return this.method.invoke(target, (Object[]) null);
+	}
+
+	/**
+	 * Invoke the write method on the given target.
+	 * @param target the bean instance to write the property to
+	 * @param value the property value to apply
+	 * @throws InvocationTargetException if the write method threw an exception
+	 * @throws IllegalAccessException if the write method is not accessible
+	 */
+	@SuppressWarnings("unchecked")
+	public void set(Object target, @Nullable Object value) throws InvocationTargetException, IllegalAccessException {
+		Object accessor = obtainAccessor();
+		if (accessor instanceof BiConsumer<?, ?> setter && (value != null ?
+				this.parameterType.isInstance(value) : !this.method.getParameterTypes()[0].isPrimitive())) {
+			try {
+				((BiConsumer<Object, @Nullable Object>) setter).accept(target, value);
+				return;
+			}
+			catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+		}
+		ReflectionUtils.makeAccessible(this.method);
+		this.method.invoke(target, value);
+	}
+
+	private @Nullable Object obtainAccessor() {
+		Object accessor = this.accessor;
+		if (accessor == null && ++this.invocationCount >= GENERATION_THRESHOLD) {
+			accessor = generateAccessor(this.method);
+			this.accessor = accessor;
+		}
+		return accessor;
+	}
+
+
+	/**
+	 * Create an invoker for the given read method.
+	 */
+	static PropertyMethodInvoker forReadMethod(Method readMethod) {
+		return new PropertyMethodInvoker(readMethod);
+	}
+
+	/**
+	 * Create an invoker for the given write method.
+	 */
+	static PropertyMethodInvoker forWriteMethod(Method writeMethod) {
+		return new PropertyMethodInvoker(writeMethod);
+	}
+
+	private static Object generateAccessor(Method method) {
+		try {
+			MethodHandles.Lookup lookup =
+					MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+			MethodHandle handle = lookup.unreflect(method);
+			if (method.getParameterCount() == 0) {
+				return LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+						MethodType.methodType(Object.class, Object.class), handle,
+						handle.type().wrap()).getTarget().invoke();
+			}
+			else {
+				return LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+						MethodType.methodType(void.class, Object.class, Object.class), handle,
+						handle.type().wrap().changeReturnType(void.class)).getTarget().invoke();
+			}
+		}
+		catch (Throwable ex) {
+			LogFactory.getLog(PropertyMethodInvoker.class).debug(
+					"Falling back to reflective invocation of [" + method + "]", ex);
+			return NO_ACCESSOR;
+		}
+	}
+
+}
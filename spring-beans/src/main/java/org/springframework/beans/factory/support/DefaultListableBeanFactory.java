@@ -1315,7 +1315,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			resetBeanDefinition(beanName);
 		}
 		else if (isConfigurationFrozen()) {
-			clearByTypeCache();
+			addToByTypeCache(beanName);
 		}
 
 		// Cache a primary marker for the given bean.
@@ -1539,6 +1539,59 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		this.singletonBeanNamesByType.clear();
 	}
 
+	/**
+	 * Add a newly registered bean definition to the by-type mappings for the
+	 * types that it matches, rather than removing all by-type mappings.
+	 * <p>Only applies to bean definitions with a type that can be predicted
+	 * without initializing any bean, falling back to {@link #clearByTypeCache()}
+	 * for a {@code FactoryBean}, a decorated bean definition, or an unknown type.
+	 * @param beanName the name of the newly registered bean definition
+	 */
+	private void addToByTypeCache(String beanName) {
+		if (this.allBeanNamesByType.isEmpty() && this.singletonBeanNamesByType.isEmpty()) {
+			return;
+		}
+		try {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (mbd.isAbstract()) {
+				return;
+			}
+			if (mbd.getDecoratedDefinition() != null || isFactoryBean(beanName, mbd) ||
+					predictBeanType(beanName, mbd) == null) {
+				clearByTypeCache();
+				return;
+			}
+			addToByTypeCache(this.allBeanNamesByType, beanName);
+			if (mbd.isSingleton()) {
+				addToByTypeCache(this.singletonBeanNamesByType, beanName);
+			}
+		}
+		catch (BeansException ex) {
+			// Type not determinable at this point -> re-resolve on next lookup.
+			clearByTypeCache();
+		}
+	}
+
+	private void addToByTypeCache(Map<Class<?>, String[]> cache, String beanName) {
+		for (Map.Entry<Class<?>, String[]> entry : cache.entrySet()) {
+			if (isTypeMatch(beanName, ResolvableType.forRawClass(entry.getKey()), false)) {
+				// Same position as in doGetBeanNamesForType: after the bean definition
+				// matches, before the matches for manually registered singletons.
+				String[] beanNames = entry.getValue();
+				int index = beanNames.length;
+				while (index > 0 && this.manualSingletonNames.contains(
+						BeanFactoryUtils.transformedBeanName(beanNames[index - 1]))) {
+					index--;
+				}
+				String[] updatedBeanNames = new String[beanNames.length + 1];
+				System.arraycopy(beanNames, 0, updatedBeanNames, 0, index);
+				updatedBeanNames[index] = beanName;
+				System.arraycopy(beanNames, index, updatedBeanNames, index + 1, beanNames.length - index);
+				entry.setValue(updatedBeanNames);
+			}
+		}
+	}
+
 
 	//---------------------------------------------------------------------
 	// Dependency resolution functionality
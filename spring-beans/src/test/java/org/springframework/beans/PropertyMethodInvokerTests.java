@@ -0,0 +1,121 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link PropertyMethodInvoker}, covering reflective as well as
+ * generated invocation.
+ */
+class PropertyMethodInvokerTests {
+
+	@Test
+	void getAndSetBeyondGenerationThreshold() throws Exception {
+		PropertyMethodInvoker getter = PropertyMethodInvoker.forReadMethod(Bean.class.getMethod("getAge"));
+		PropertyMethodInvoker setter = PropertyMethodInvoker.forWriteMethod(Bean.class.getMethod("setAge", int.class));
+		Bean bean = new Bean();
+		for (int i = 0; i < PropertyMethodInvoker.GENERATION_THRESHOLD * 2; i++) {
+			setter.set(bean, i);
+			assertThat(getter.get(bean)).isEqualTo(i);
+		}
+	}
+
+	@Test
+	void getFromInterfaceDefaultMethod() throws Exception {
+		PropertyMethodInvoker getter = PropertyMethodInvoker.forReadMethod(Bean.class.getMethod("getLabel"));
+		for (int i = 0; i < PropertyMethodInvoker.GENERATION_THRESHOLD * 2; i++) {
+			assertThat(getter.get(new Bean())).isEqualTo("label");
+		}
+	}
+
+	@Test
+	void setThrowsInvocationTargetException() throws Exception {
+		PropertyMethodInvoker setter = PropertyMethodInvoker.forWriteMethod(Bean.class.getMethod("setAge", int.class));
+		Bean bean = new Bean();
+		for (int i = 0; i < PropertyMethodInvoker.GENERATION_THRESHOLD * 2; i++) {
+			assertThatExceptionOfType(InvocationTargetException.class)
+					.isThrownBy(() -> setter.set(bean, -1))
+					.withCauseExactlyInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	@Test
+	void setIllegalValueThrowsIllegalArgumentException() throws Exception {
+		PropertyMethodInvoker setter = PropertyMethodInvoker.forWriteMethod(Bean.class.getMethod("setAge", int.class));
+		Bean bean = new Bean();
+		for (int i = 0; i < PropertyMethodInvoker.GENERATION_THRESHOLD * 2; i++) {
+			setter.set(bean, i);
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> setter.set(bean, null));
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> setter.set(bean, "1"));
+		}
+	}
+
+	@Test
+	void setNullOnReferenceProperty() throws Exception {
+		PropertyMethodInvoker setter = PropertyMethodInvoker.forWriteMethod(Bean.class.getMethod("setName", String.class));
+		Bean bean = new Bean();
+		for (int i = 0; i < PropertyMethodInvoker.GENERATION_THRESHOLD * 2; i++) {
+			setter.set(bean, "name");
+			assertThat(bean.name).isEqualTo("name");
+			setter.set(bean, null);
+			assertThat(bean.name).isNull();
+		}
+	}
+
+
+	interface Labeled {
+
+		default String getLabel() {
+			return "label";
+		}
+	}
+
+
+	@SuppressWarnings("unused")
+	private static class Bean implements Labeled {
+
+		private int age;
+
+		private String name;
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			if (age < 0) {
+				throw new IllegalStateException("Negative age");
+			}
+			this.age = age;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+}
@@ -3239,6 +3239,32 @@ class DefaultListableBeanFactoryTests {
 		assertThat(lbf.getBeanNamesForType(Object.class)).containsExactly(StringUtils.addStringToArray(allBeanNames, "bd3"));
 	}
 
+	@Test
+	void cacheEntriesForTypeMatchingUpdatedOnLateRegistration() {
+		lbf.registerBeanDefinition("bd1", new RootBeanDefinition(TestBean.class));
+		lbf.registerBeanDefinition("bd2", new RootBeanDefinition(NestedTestBean.class));
+		lbf.registerSingleton("singleton", new TestBean());
+		lbf.freezeConfiguration();
+
+		String[] nestedBeanNames = lbf.getBeanNamesForType(NestedTestBean.class);
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("bd1", "singleton");
+		assertThat(lbf.getBeanNamesForType(TestBean.class, false, true)).containsExactly("bd1", "singleton");
+
+		lbf.registerBeanDefinition("bd3", new RootBeanDefinition(DerivedTestBean.class));
+		RootBeanDefinition prototype = new RootBeanDefinition(TestBean.class);
+		prototype.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+		lbf.registerBeanDefinition("bd4", prototype);
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).isSameAs(nestedBeanNames);
+		assertThat(lbf.getBeanNamesForType(ITestBean.class)).containsExactly("bd1", "bd3", "bd4", "singleton");
+		assertThat(lbf.getBeanNamesForType(TestBean.class, false, true)).containsExactly("bd1", "bd3", "singleton");
+
+		// FactoryBean types are only determined on lookup
+		lbf.registerBeanDefinition("factoryBean", new RootBeanDefinition(DummyFactory.class));
+		assertThat(lbf.getBeanNamesForType(NestedTestBean.class)).isNotSameAs(nestedBeanNames).containsExactly("bd2");
+		assertThat(lbf.getBeanNamesForType(ITestBean.class))
+				.containsExactly("bd1", "bd3", "bd4", "factoryBean", "singleton");
+	}
+
 
 	private int registerBeanDefinitions(Properties p) {
 		return registerBeanDefinitions(p, null);
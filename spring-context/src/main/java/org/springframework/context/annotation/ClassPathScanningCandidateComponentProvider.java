@@ -18,12 +18,17 @@ package org.springframework.context.annotation;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -62,6 +67,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * A component provider that scans for candidate components starting from a
@@ -125,6 +131,12 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	private @Nullable CandidateComponentsIndex componentsIndex;
 
+	private int parallelism = PathMatchingResourcePatternResolver.getDefaultParallelism();
+
+	private @Nullable ForkJoinPool metadataReaderPool;
+
+	private final Object metadataReaderPoolMonitor = new Object();
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -304,6 +316,31 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	}
 
 
+	/**
+	 * Specify the maximum number of threads to use for reading the class files
+	 * of candidate components during classpath scanning.
+	 * <p>Default is 1, reading class files sequentially on the calling thread,
+	 * unless configured otherwise via the
+	 * {@value PathMatchingResourcePatternResolver#PARALLELISM_PROPERTY_NAME}
+	 * system property. With a higher value, class files are read on a bounded
+	 * {@link ForkJoinPool}, whereas filters and conditions are still evaluated
+	 * on the calling thread, in the order of the scanned resources.
+	 * <p>The {@link MetadataReaderFactory} in use needs to be thread-safe,
+	 * as is the case for the default {@link CachingMetadataReaderFactory}.
+	 * The pool is reused across scans until {@link #clearCache()} is called.
+	 * @param parallelism the maximum number of threads (must be 1 or higher)
+	 * @since 7.0.2
+	 * @see PathMatchingResourcePatternResolver#setParallelism(int)
+	 */
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+		if (parallelism != this.parallelism) {
+			this.parallelism = parallelism;
+			shutdownMetadataReaderPool();
+		}
+	}
+
+
 	/**
 	 * Scan the component index or class path for candidate components.
 	 * @param basePackage the package to check for annotated classes
@@ -451,9 +488,11 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPattern);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
-				String filename = resource.getFilename();
-				if (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
+			@Nullable Object[] metadataReaders =
+					(this.parallelism > 1 && resources.length > 1 ? readMetadataInParallel(resources) : null);
+			for (int i = 0; i < resources.length; i++) {
+				Resource resource = resources[i];
+				if (isCglibClass(resource)) {
 					// Ignore CGLIB-generated classes in the classpath
 					continue;
 				}
@@ -461,7 +500,8 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 					logger.trace("Scanning " + resource);
 				}
 				try {
-					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					MetadataReader metadataReader = (metadataReaders != null ? obtainMetadataReader(metadataReaders[i]) :
+							getMetadataReaderFactory().getMetadataReader(resource));
 					if (isCandidateComponent(metadataReader)) {
 						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 						sbd.setSource(resource);
@@ -512,6 +552,88 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	}
 
 
+	/**
+	 * Read the {@link MetadataReader} for each given resource on a bounded
+	 * {@link ForkJoinPool}, retaining any failure for later handling.
+	 * @return the MetadataReader or the exception thrown for each resource,
+	 * or {@code null} for an ignored CGLIB-generated class
+	 */
+	private @Nullable Object[] readMetadataInParallel(Resource[] resources) throws IOException {
+		MetadataReaderFactory metadataReaderFactory = getMetadataReaderFactory();
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		List<Callable<@Nullable Object>> tasks = new ArrayList<>(resources.length);
+		for (Resource resource : resources) {
+			tasks.add(() -> {
+				if (isCglibClass(resource)) {
+					return null;
+				}
+				ClassLoader original = ClassUtils.overrideThreadContextClassLoader(classLoader);
+				try {
+					return metadataReaderFactory.getMetadataReader(resource);
+				}
+				catch (Throwable ex) {
+					return ex;
+				}
+				finally {
+					Thread.currentThread().setContextClassLoader(original);
+				}
+			});
+		}
+		try {
+			List<Future<@Nullable Object>> futures = obtainMetadataReaderPool().invokeAll(tasks);
+			@Nullable Object[] metadataReaders = new Object[resources.length];
+			for (int i = 0; i < metadataReaders.length; i++) {
+				metadataReaders[i] = futures.get(i).get();
+			}
+			return metadataReaders;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while reading candidate component classes");
+		}
+		catch (ExecutionException ex) {
+			throw new IllegalStateException("Unexpected failure while reading candidate component classes", ex);
+		}
+	}
+
+	private ForkJoinPool obtainMetadataReaderPool() {
+		synchronized (this.metadataReaderPoolMonitor) {
+			ForkJoinPool pool = this.metadataReaderPool;
+			if (pool == null) {
+				// Worker threads are started on demand and terminate once idle.
+				pool = new ForkJoinPool(this.parallelism);
+				this.metadataReaderPool = pool;
+			}
+			return pool;
+		}
+	}
+
+	private void shutdownMetadataReaderPool() {
+		synchronized (this.metadataReaderPoolMonitor) {
+			if (this.metadataReaderPool != null) {
+				this.metadataReaderPool.shutdown();
+				this.metadataReaderPool = null;
+			}
+		}
+	}
+
+	private static MetadataReader obtainMetadataReader(@Nullable Object result) throws IOException {
+		if (result instanceof MetadataReader metadataReader) {
+			return metadataReader;
+		}
+		if (result instanceof IOException ex) {
+			throw ex;
+		}
+		Assert.state(result instanceof Throwable, "No MetadataReader read");
+		ReflectionUtils.rethrowRuntimeException((Throwable) result);
+		throw new IllegalStateException((Throwable) result);
+	}
+
+	private static boolean isCglibClass(Resource resource) {
+		String filename = resource.getFilename();
+		return (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+	}
+
 	/**
 	 * Resolve the specified base package into a pattern specification for
 	 * the package search path.
@@ -577,8 +699,12 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	/**
 	 * Clear the local metadata cache, if any, removing all cached class metadata.
+	 * <p>As of 7.0.2, this also shuts down the pool for reading class files
+	 * in parallel, if any.
+	 * @see #setParallelism(int)
 	 */
 	public void clearCache() {
+		shutdownMetadataReaderPool();
 		if (this.metadataReaderFactory instanceof CachingMetadataReaderFactory cmrf) {
 			// Clear cache in externally provided MetadataReaderFactory; this is a no-op
 			// for a shared cache since it'll be cleared by the ApplicationContext.
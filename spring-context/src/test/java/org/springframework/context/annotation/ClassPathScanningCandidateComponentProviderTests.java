@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -49,12 +50,15 @@ import example.scannable.sub.BarComponent;
 import org.aspectj.lang.annotation.Aspect;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.testfixture.index.CandidateComponentsTestClassLoader;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.RegexPatternTypeFilter;
@@ -64,6 +68,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * Integration tests for {@link ClassPathScanningCandidateComponentProvider}.
@@ -103,6 +108,64 @@ class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, TEST_BASE_PACKAGE, true, false);
 	}
 
+	@Test
+	void defaultsWithParallelScan() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setParallelism(4);
+		testDefault(provider, TEST_BASE_PACKAGE, true, false);
+	}
+
+	@Test
+	void parallelScanRetainsResourceOrder() {
+		ClassPathScanningCandidateComponentProvider sequential = new ClassPathScanningCandidateComponentProvider(true);
+		sequential.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		ClassPathScanningCandidateComponentProvider parallel = new ClassPathScanningCandidateComponentProvider(true);
+		parallel.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		parallel.setParallelism(4);
+
+		assertThat(parallel.findCandidateComponents(TEST_BASE_PACKAGE))
+				.extracting(BeanDefinition::getBeanClassName)
+				.containsExactlyElementsOf(sequential.findCandidateComponents(TEST_BASE_PACKAGE).stream()
+						.map(BeanDefinition::getBeanClassName).toList());
+	}
+
+	@Test
+	void parallelScanReusesPoolUntilCacheCleared() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setParallelism(4);
+
+		Set<BeanDefinition> candidates = provider.findCandidateComponents(TEST_BASE_PACKAGE);
+		Object pool = new DirectFieldAccessor(provider).getPropertyValue("metadataReaderPool");
+		assertThat(pool).isNotNull();
+		assertThat(provider.findCandidateComponents(TEST_BASE_PACKAGE)).hasSameSizeAs(candidates);
+		assertThat(new DirectFieldAccessor(provider).getPropertyValue("metadataReaderPool")).isSameAs(pool);
+
+		provider.clearCache();
+		assertThat(new DirectFieldAccessor(provider).getPropertyValue("metadataReaderPool")).isNull();
+		assertThat(((ForkJoinPool) pool).isShutdown()).isTrue();
+		assertThat(provider.findCandidateComponents(TEST_BASE_PACKAGE)).hasSameSizeAs(candidates);
+		provider.clearCache();
+	}
+
+	@Test
+	void invalidParallelismProperty() {
+		SpringProperties.setProperty(PathMatchingResourcePatternResolver.PARALLELISM_PROPERTY_NAME, "0");
+		try {
+			assertThatIllegalArgumentException().isThrownBy(() -> new ClassPathScanningCandidateComponentProvider(true));
+			SpringProperties.setProperty(PathMatchingResourcePatternResolver.PARALLELISM_PROPERTY_NAME, "many");
+			assertThatIllegalArgumentException().isThrownBy(() -> new ClassPathScanningCandidateComponentProvider(true));
+		}
+		finally {
+			SpringProperties.setProperty(PathMatchingResourcePatternResolver.PARALLELISM_PROPERTY_NAME, null);
+		}
+	}
+
 	@Test
 	void defaultsWithIndex() {
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
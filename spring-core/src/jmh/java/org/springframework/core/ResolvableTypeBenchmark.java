@@ -0,0 +1,135 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.support.GenericConversionService;
+
+/**
+ * Benchmarks for generic assignability checks with {@link ResolvableType},
+ * as performed for converter and event listener lookups.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ResolvableTypeBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"true", "false"})
+		public boolean clearCache;
+
+		public Field targetField;
+
+		public Field sourceField;
+
+		public Field wildcardField;
+
+		public GenericConversionService conversionService;
+
+		public TypeDescriptor sourceType;
+
+		public TypeDescriptor targetType;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.targetField = Fields.class.getField("target");
+			this.sourceField = Fields.class.getField("source");
+			this.wildcardField = Fields.class.getField("wildcard");
+			this.conversionService = new GenericConversionService();
+			this.conversionService.addConverter(new StringToIntegerListConverter());
+			this.conversionService.addConverter(new StringToStringListConverter());
+			this.sourceType = TypeDescriptor.valueOf(String.class);
+			this.targetType = new TypeDescriptor(Fields.class.getField("integers"));
+		}
+
+		@Setup(Level.Invocation)
+		public void resetCache() {
+			if (this.clearCache) {
+				ResolvableType.clearCache();
+			}
+		}
+	}
+
+
+	@Benchmark
+	public void isAssignableFromGenericField(BenchmarkState state, Blackhole bh) {
+		ResolvableType target = ResolvableType.forField(state.targetField);
+		bh.consume(target.isAssignableFrom(ResolvableType.forField(state.sourceField)));
+		bh.consume(target.isAssignableFrom(ResolvableType.forField(state.wildcardField)));
+	}
+
+	@Benchmark
+	public void isAssignableFromResolvedPartGenericField(BenchmarkState state, Blackhole bh) {
+		ResolvableType wildcard = ResolvableType.forField(state.wildcardField);
+		bh.consume(wildcard.isAssignableFromResolvedPart(ResolvableType.forField(state.targetField)));
+	}
+
+	@Benchmark
+	public void converterLookup(BenchmarkState state, Blackhole bh) {
+		// Adding a converter invalidates the converter cache, forcing a converter match
+		state.conversionService.removeConvertible(String.class, List.class);
+		state.conversionService.addConverter(new StringToIntegerListConverter());
+		state.conversionService.addConverter(new StringToStringListConverter());
+		bh.consume(state.conversionService.canConvert(state.sourceType, state.targetType));
+	}
+
+
+	public static class Fields {
+
+		public Map<String, List<Integer>> target;
+
+		public Map<String, List<Integer>> source;
+
+		public Map<String, ? extends List<? extends Number>> wildcard;
+
+		public List<Integer> integers;
+	}
+
+
+	private static class StringToIntegerListConverter implements Converter<String, List<Integer>> {
+
+		@Override
+		public List<Integer> convert(String source) {
+			return List.of(Integer.valueOf(source));
+		}
+	}
+
+
+	private static class StringToStringListConverter implements Converter<String, List<String>> {
+
+		@Override
+		public List<String> convert(String source) {
+			return List.of(source);
+		}
+	}
+
+}
@@ -33,6 +33,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import org.springframework.core.convert.ConversionHandle;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.util.CollectionUtils;
 
@@ -102,6 +103,50 @@ public class GenericConversionServiceBenchmark {
 	}
 
 
+	@Benchmark
+	public void convertStringToIntWithConversionService(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.text, int.class));
+	}
+
+	@Benchmark
+	public void convertStringToIntWithConversionHandle(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.stringToInt.convert(state.text));
+	}
+
+	@Benchmark
+	public void convertIntegerToLongWithConversionService(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.conversionService.convert(state.number, Long.class));
+	}
+
+	@Benchmark
+	public void convertIntegerToLongWithConversionHandle(ScalarBenchmarkState state, Blackhole bh) {
+		bh.consume(state.integerToLong.convert(state.number));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class ScalarBenchmarkState {
+
+		DefaultConversionService conversionService = new DefaultConversionService();
+
+		String text = "4096";
+
+		Integer number = 4096;
+
+		ConversionHandle stringToInt;
+
+		ConversionHandle integerToLong;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.stringToInt = this.conversionService.getConversionHandle(
+					TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(int.class));
+			this.integerToLong = this.conversionService.getConversionHandle(
+					TypeDescriptor.valueOf(Integer.class), TypeDescriptor.valueOf(Long.class));
+		}
+	}
+
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
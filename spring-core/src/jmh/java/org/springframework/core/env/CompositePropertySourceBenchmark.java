@@ -37,7 +37,8 @@ import org.springframework.util.AlternativeJdkIdGenerator;
 import org.springframework.util.IdGenerator;
 
 /**
- * Benchmarks for {@link CompositePropertySource}.
+ * Benchmarks for {@link CompositePropertySource} and for resolving properties
+ * with a {@link PropertySourcesPropertyResolver}.
  *
  * @author Yike Xiao
  */
@@ -52,6 +53,13 @@ public class CompositePropertySourceBenchmark {
 		blackhole.consume(state.composite.getPropertyNames());
 	}
 
+	@Benchmark
+	public void resolveProperty(ResolverState state, Blackhole blackhole) {
+		blackhole.consume(state.resolver.getProperty(state.lastName));
+		blackhole.consume(state.resolver.getProperty(state.environmentName));
+		blackhole.consume(state.resolver.getProperty("missing.property-name"));
+	}
+
 	@State(Scope.Benchmark)
 	public static class BenchmarkState {
 
@@ -82,4 +90,41 @@ public class CompositePropertySourceBenchmark {
 
 	}
 
+	@State(Scope.Benchmark)
+	public static class ResolverState {
+
+		private static final IdGenerator ID_GENERATOR = new AlternativeJdkIdGenerator();
+
+		PropertySourcesPropertyResolver resolver;
+
+		String lastName;
+
+		String environmentName = "benchmark.environment-name";
+
+		@Param({ "10", "30" })
+		int numberOfPropertySources;
+
+		@Param({ "false", "true" })
+		boolean propertyIndexEnabled;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			MutablePropertySources propertySources = new MutablePropertySources();
+			for (int i = 0; i < this.numberOfPropertySources; i++) {
+				Map<String, Object> map = new HashMap<>(100);
+				for (int j = 0; j < 100; j++) {
+					this.lastName = ID_GENERATOR.generateId().toString();
+					map.put(this.lastName, "value");
+				}
+				propertySources.addLast(new MapPropertySource("propertySource" + i, map));
+			}
+			Map<String, Object> environment = new HashMap<>(System.getenv());
+			environment.put("BENCHMARK_ENVIRONMENT_NAME", "value");
+			propertySources.addLast(new SystemEnvironmentPropertySource("systemEnvironment", environment));
+			this.resolver = new PropertySourcesPropertyResolver(propertySources);
+			this.resolver.setPropertyIndexEnabled(this.propertyIndexEnabled);
+		}
+
+	}
+
 }
@@ -17,6 +17,7 @@
 package org.springframework.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Function;
@@ -57,6 +58,12 @@ public class ConcurrentLruCacheBenchmark {
 		@Param({"0.1"})
 		public float cacheMissRate;
 
+		@Param({"uniform", "zipfian", "scan"})
+		public String workload;
+
+		@Param({"false", "true"})
+		public boolean frequencyAdmission;
+
 		public List<String> elements;
 
 		public Function<String, String> generator;
@@ -64,13 +71,56 @@ public class ConcurrentLruCacheBenchmark {
 		@Setup(Level.Iteration)
 		public void setup() {
 			this.generator = key -> key + "value";
-			this.lruCache = new ConcurrentLruCache<>(this.capacity, this.generator);
+			this.lruCache = new ConcurrentLruCache<>(this.capacity, this.generator, this.frequencyAdmission);
 			Assert.isTrue(this.cacheMissRate < 1, "cache miss rate should be < 1");
 			Random random = new Random();
+			switch (this.workload) {
+				case "zipfian" -> this.elements = zipfianElements(random);
+				case "scan" -> this.elements = scanElements(random);
+				default -> this.elements = uniformElements(random);
+			}
+		}
+
+		private List<String> uniformElements(Random random) {
 			int elementsCount = Math.round(this.capacity * (1 + this.cacheMissRate));
-			this.elements = new ArrayList<>(elementsCount);
-			random.ints(elementsCount).forEach(value -> this.elements.add(String.valueOf(value)));
-			this.elements.sort(String::compareTo);
+			List<String> elements = new ArrayList<>(elementsCount);
+			random.ints(elementsCount).forEach(value -> elements.add(String.valueOf(value)));
+			elements.sort(String::compareTo);
+			return elements;
+		}
+
+		/**
+		 * Keys drawn from a universe ten times the capacity with a Zipfian
+		 * distribution (exponent 1), where few keys account for most lookups.
+		 */
+		private List<String> zipfianElements(Random random) {
+			int keyCount = this.capacity * 10;
+			double[] cumulative = new double[keyCount];
+			double sum = 0;
+			for (int i = 0; i < keyCount; i++) {
+				sum += 1.0 / (i + 1);
+				cumulative[i] = sum;
+			}
+			List<String> elements = new ArrayList<>(keyCount);
+			for (int i = 0; i < keyCount; i++) {
+				int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+				elements.add("key" + (index >= 0 ? index : -index - 1));
+			}
+			return elements;
+		}
+
+		/**
+		 * A hot set of half the capacity, interleaved with a scan over keys
+		 * that are each used once per iteration.
+		 */
+		private List<String> scanElements(Random random) {
+			int hotCount = Math.max(1, this.capacity / 2);
+			int elementsCount = this.capacity * 10;
+			List<String> elements = new ArrayList<>(elementsCount);
+			for (int i = 0; i < elementsCount; i++) {
+				elements.add(i % 3 == 0 ? "scan" + random.nextInt() : "hot" + random.nextInt(hotCount));
+			}
+			return elements;
 		}
 	}
 }
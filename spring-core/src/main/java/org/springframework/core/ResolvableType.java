@@ -98,6 +98,9 @@ public class ResolvableType implements Serializable {
 	private static final ConcurrentReferenceHashMap<ResolvableType, ResolvableType> cache =
 			new ConcurrentReferenceHashMap<>(256);
 
+	private static final ConcurrentReferenceHashMap<AssignabilityKey, Boolean> assignabilityCache =
+			new ConcurrentReferenceHashMap<>(256);
+
 
 	/**
 	 * The underlying Java type being managed.
@@ -258,7 +261,7 @@ public class ResolvableType implements Serializable {
 	public boolean isAssignableFrom(Class<?> other) {
 		// As of 6.1: shortcut assignability check for top-level Class references
 		return (this.type instanceof Class<?> clazz ? ClassUtils.isAssignable(clazz, other) :
-				isAssignableFrom(forClass(other), false, null, false));
+				isAssignableFrom(forClass(other), false));
 	}
 
 	/**
@@ -273,7 +276,7 @@ public class ResolvableType implements Serializable {
 	 * {@code ResolvableType}; {@code false} otherwise
 	 */
 	public boolean isAssignableFrom(ResolvableType other) {
-		return isAssignableFrom(other, false, null, false);
+		return isAssignableFrom(other, false);
 	}
 
 	/**
@@ -285,7 +288,25 @@ public class ResolvableType implements Serializable {
 	 * @since 6.2
 	 */
 	public boolean isAssignableFromResolvedPart(ResolvableType other) {
-		return isAssignableFrom(other, false, null, true);
+		return isAssignableFrom(other, true);
+	}
+
+	private boolean isAssignableFrom(ResolvableType other, boolean upUntilUnresolvable) {
+		Assert.notNull(other, "ResolvableType must not be null");
+
+		// Top-level Class references are cheap to check and not worth caching
+		if (this == NONE || other == NONE || (this.type instanceof Class && other.type instanceof Class)) {
+			return isAssignableFrom(other, false, null, upUntilUnresolvable);
+		}
+
+		// As of 7.0.2: memoize generic assignability checks between structurally equal types
+		AssignabilityKey key = new AssignabilityKey(this, other, upUntilUnresolvable);
+		Boolean assignable = assignabilityCache.get(key);
+		if (assignable == null) {
+			assignable = isAssignableFrom(other, false, null, upUntilUnresolvable);
+			assignabilityCache.put(key, assignable);
+		}
+		return assignable;
 	}
 
 	private boolean isAssignableFrom(ResolvableType other, boolean strict,
@@ -1548,14 +1569,24 @@ public class ResolvableType implements Serializable {
 	}
 
 	/**
-	 * Clear the internal {@code ResolvableType}/{@code SerializableTypeWrapper} cache.
+	 * Clear the internal {@code ResolvableType}/{@code SerializableTypeWrapper} cache,
+	 * including the cached results of generic assignability checks.
 	 * @since 4.2
 	 */
 	public static void clearCache() {
 		cache.clear();
+		assignabilityCache.clear();
 		SerializableTypeWrapper.cache.clear();
 	}
 
+	/**
+	 * Return the number of cached results of generic assignability checks,
+	 * for testing purposes.
+	 */
+	static int getAssignabilityCacheSize() {
+		return assignabilityCache.size();
+	}
+
 
 	/**
 	 * Strategy interface used to resolve {@link TypeVariable TypeVariables}.
@@ -1628,6 +1659,14 @@ public class ResolvableType implements Serializable {
 	}
 
 
+	/**
+	 * Key for a cached assignability check, relying on the structural
+	 * {@code equals}/{@code hashCode} implementation of {@code ResolvableType}.
+	 */
+	private record AssignabilityKey(ResolvableType type, ResolvableType other, boolean upUntilUnresolvable) {
+	}
+
+
 	private static final class SyntheticParameterizedType implements ParameterizedType, Serializable {
 
 		private final Type rawType;
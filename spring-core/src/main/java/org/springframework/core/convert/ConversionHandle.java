@@ -0,0 +1,48 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.convert;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A conversion between a fixed source type and target type, obtained once from
+ * a {@link ConversionService} and then applied to any number of source objects,
+ * for example, for each row of a result set or each bound request parameter.
+ *
+ * <p>Implementations are thread-safe and behave like
+ * {@link ConversionService#convert(Object, TypeDescriptor, TypeDescriptor)}
+ * for the source and target types that the handle was obtained for.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see ConversionService#getConversionHandle(TypeDescriptor, TypeDescriptor)
+ */
+@FunctionalInterface
+public interface ConversionHandle {
+
+	/**
+	 * Convert the given {@code source} to the target type of this handle.
+	 * @param source the source object to convert, an instance of the source
+	 * type of this handle (may be {@code null})
+	 * @return the converted object, an instance of the target type of this handle
+	 * @throws ConversionException if a conversion exception occurred
+	 * @throws IllegalArgumentException if the source object is not an instance
+	 * of the source type of this handle
+	 */
+	@Nullable Object convert(@Nullable Object source);
+
+}
@@ -105,4 +105,19 @@ public interface ConversionService {
 	 */
 	@Nullable Object convert(@Nullable Object source, @Nullable TypeDescriptor sourceType, TypeDescriptor targetType);
 
+	/**
+	 * Return a {@link ConversionHandle} for repeated conversions from the given
+	 * {@code sourceType} to the given {@code targetType}.
+	 * <p>The default implementation delegates to
+	 * {@link #convert(Object, TypeDescriptor, TypeDescriptor)} for each conversion.
+	 * Implementations may resolve the converter to use upfront instead.
+	 * @param sourceType context about the source type to convert from (required)
+	 * @param targetType context about the target type to convert to (required)
+	 * @return the conversion handle
+	 * @since 7.0.2
+	 */
+	default ConversionHandle getConversionHandle(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return source -> convert(source, sourceType, targetType);
+	}
+
 }
@@ -27,12 +27,14 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.DecoratingProxy;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionHandle;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.TypeDescriptor;
@@ -78,6 +80,11 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private final Map<ConverterCacheKey, GenericConverter> converterCache = new ConcurrentReferenceHashMap<>(64);
 
+	/**
+	 * Incremented on each converter registry change, invalidating resolved conversion handles.
+	 */
+	private final AtomicInteger registryVersion = new AtomicInteger();
+
 
 	// ConverterRegistry implementation
 
@@ -184,6 +191,23 @@ public class GenericConversionService implements ConfigurableConversionService {
 		return handleConverterNotFound(source, sourceType, targetType);
 	}
 
+	/**
+	 * Return a {@link ConversionHandle} that resolves the converter for the given
+	 * source and target type once, rather than looking it up for each conversion.
+	 * <p>The converter is resolved through {@link #getConverter} on first use,
+	 * and resolved again if converters are added or removed afterwards.
+	 * A converter obtained from a {@link ConverterFactory} is also resolved once
+	 * for the target type, as is the case for {@code String} to {@code Integer}
+	 * conversion with the {@link DefaultConversionService}.
+	 * @since 7.0.2
+	 */
+	@Override
+	public ConversionHandle getConversionHandle(TypeDescriptor sourceType, TypeDescriptor targetType) {
+		Assert.notNull(sourceType, "Source type to convert from cannot be null");
+		Assert.notNull(targetType, "Target type to convert to cannot be null");
+		return new ResolvingConversionHandle(sourceType, targetType);
+	}
+
 	@Override
 	public String toString() {
 		return this.converters.toString();
@@ -272,6 +296,7 @@ public class GenericConversionService implements ConfigurableConversionService {
 
 	private void invalidateCache() {
 		this.converterCache.clear();
+		this.registryVersion.incrementAndGet();
 	}
 
 	private @Nullable Object handleConverterNotFound(
@@ -406,6 +431,33 @@ public class GenericConversionService implements ConfigurableConversionService {
 			return this.converterFactory.getConverter(targetType.getObjectType()).convert(source);
 		}
 
+		/**
+		 * Return a variant of this adapter for the given target type only,
+		 * with the converter for that target type resolved upfront.
+		 */
+		public GenericConverter forTargetType(TypeDescriptor targetType) {
+			Converter<Object, ?> converter = this.converterFactory.getConverter(targetType.getObjectType());
+			return new GenericConverter() {
+				@Override
+				public Set<ConvertiblePair> getConvertibleTypes() {
+					return Collections.singleton(typeInfo);
+				}
+
+				@Override
+				public @Nullable Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+					if (source == null) {
+						return convertNullSource(sourceType, targetType);
+					}
+					return converter.convert(source);
+				}
+
+				@Override
+				public String toString() {
+					return ConverterFactoryAdapter.this.toString();
+				}
+			};
+		}
+
 		@Override
 		public String toString() {
 			return this.typeInfo + " : " + this.converterFactory;
@@ -413,6 +465,65 @@ public class GenericConversionService implements ConfigurableConversionService {
 	}
 
 
+	/**
+	 * {@link ConversionHandle} that resolves its converter once per state
+	 * of the converter registry.
+	 */
+	private final class ResolvingConversionHandle implements ConversionHandle {
+
+		private final TypeDescriptor sourceType;
+
+		private final TypeDescriptor targetType;
+
+		private volatile @Nullable ResolvedConverter resolvedConverter;
+
+		public ResolvingConversionHandle(TypeDescriptor sourceType, TypeDescriptor targetType) {
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+
+		@Override
+		public @Nullable Object convert(@Nullable Object source) {
+			if (source != null && !this.sourceType.getObjectType().isInstance(source)) {
+				throw new IllegalArgumentException("Source to convert from must be an instance of [" +
+						this.sourceType + "]; instead it was a [" + source.getClass().getName() + "]");
+			}
+			GenericConverter converter = getResolvedConverter();
+			if (converter != null) {
+				Object result = ConversionUtils.invokeConverter(converter, source, this.sourceType, this.targetType);
+				return handleResult(this.sourceType, this.targetType, result);
+			}
+			return handleConverterNotFound(source, this.sourceType, this.targetType);
+		}
+
+		private @Nullable GenericConverter getResolvedConverter() {
+			int version = registryVersion.get();
+			ResolvedConverter resolvedConverter = this.resolvedConverter;
+			if (resolvedConverter == null || resolvedConverter.version() != version) {
+				GenericConverter converter = getConverter(this.sourceType, this.targetType);
+				if (converter instanceof ConverterFactoryAdapter converterFactoryAdapter) {
+					converter = converterFactoryAdapter.forTargetType(this.targetType);
+				}
+				resolvedConverter = new ResolvedConverter(converter, version);
+				this.resolvedConverter = resolvedConverter;
+			}
+			return resolvedConverter.converter();
+		}
+
+		@Override
+		public String toString() {
+			return "ConversionHandle from [" + this.sourceType + "] to [" + this.targetType + "]";
+		}
+	}
+
+
+	/**
+	 * A converter resolved for a given version of the converter registry.
+	 */
+	private record ResolvedConverter(@Nullable GenericConverter converter, int version) {
+	}
+
+
 	/**
 	 * Key for use with the converter cache.
 	 */
@@ -42,6 +42,8 @@ public class MutablePropertySources implements PropertySources {
 
 	private final List<PropertySource<?>> propertySourceList = new CopyOnWriteArrayList<>();
 
+	private volatile int version;
+
 
 	/**
 	 * Create a new {@link MutablePropertySources} object.
@@ -104,6 +106,7 @@ public class MutablePropertySources implements PropertySources {
 		synchronized (this.propertySourceList) {
 			removeIfPresent(propertySource);
 			this.propertySourceList.add(0, propertySource);
+			this.version++;
 		}
 	}
 
@@ -114,6 +117,7 @@ public class MutablePropertySources implements PropertySources {
 		synchronized (this.propertySourceList) {
 			removeIfPresent(propertySource);
 			this.propertySourceList.add(propertySource);
+			this.version++;
 		}
 	}
 
@@ -127,6 +131,7 @@ public class MutablePropertySources implements PropertySources {
 			removeIfPresent(propertySource);
 			int index = assertPresentAndGetIndex(relativePropertySourceName);
 			addAtIndex(index, propertySource);
+			this.version++;
 		}
 	}
 
@@ -140,6 +145,7 @@ public class MutablePropertySources implements PropertySources {
 			removeIfPresent(propertySource);
 			int index = assertPresentAndGetIndex(relativePropertySourceName);
 			addAtIndex(index + 1, propertySource);
+			this.version++;
 		}
 	}
 
@@ -157,7 +163,12 @@ public class MutablePropertySources implements PropertySources {
 	public @Nullable PropertySource<?> remove(String name) {
 		synchronized (this.propertySourceList) {
 			int index = this.propertySourceList.indexOf(PropertySource.named(name));
-			return (index != -1 ? this.propertySourceList.remove(index) : null);
+			if (index == -1) {
+				return null;
+			}
+			PropertySource<?> propertySource = this.propertySourceList.remove(index);
+			this.version++;
+			return propertySource;
 		}
 	}
 
@@ -172,6 +183,7 @@ public class MutablePropertySources implements PropertySources {
 		synchronized (this.propertySourceList) {
 			int index = assertPresentAndGetIndex(name);
 			this.propertySourceList.set(index, propertySource);
+			this.version++;
 		}
 	}
 
@@ -182,6 +194,14 @@ public class MutablePropertySources implements PropertySources {
 		return this.propertySourceList.size();
 	}
 
+	/**
+	 * Return a version number that changes whenever property sources are added,
+	 * removed, or replaced, allowing for detecting changes since a previous check.
+	 */
+	int getVersion() {
+		return this.version;
+	}
+
 	@Override
 	public String toString() {
 		return this.propertySourceList.toString();
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.env;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Snapshot index of the property names in a set of {@link PropertySources},
+ * used by {@link PropertySourcesPropertyResolver} to only search the property
+ * sources that may contain a given property, in order of precedence.
+ *
+ * <p>The names of each {@link EnumerablePropertySource} are indexed as exposed
+ * at the time of creation. The names of a {@link SystemEnvironmentPropertySource}
+ * are indexed in a canonical form that covers the underscore and uppercase
+ * variants it resolves, with its {@code getProperty} method making the final
+ * decision. Any other property source is searched for every property.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see PropertySourcesPropertyResolver#setPropertyIndexEnabled(boolean)
+ */
+final class PropertySourcesIndex {
+
+	private static final int[] NO_POSITIONS = {};
+
+	private static final PropertySource<?>[] NO_PROPERTY_SOURCES = {};
+
+
+	private final int version;
+
+	private final PropertySource<?>[] propertySources;
+
+	// Property name -> positions of the property sources containing it
+	private final Map<String, int[]> namePositions;
+
+	// Canonical name -> positions of the system environment property sources containing it
+	private final Map<String, int[]> canonicalNamePositions;
+
+	// Positions of the property sources to search for every property
+	private final int[] searchedPositions;
+
+
+	PropertySourcesIndex(PropertySources propertySources, int version) {
+		this.version = version;
+		this.propertySources = propertySources.stream().toArray(PropertySource<?>[]::new);
+		Map<String, List<Integer>> namePositions = new HashMap<>();
+		Map<String, List<Integer>> canonicalNamePositions = new HashMap<>();
+		List<Integer> searchedPositions = new ArrayList<>();
+		for (int i = 0; i < this.propertySources.length; i++) {
+			PropertySource<?> propertySource = this.propertySources[i];
+			String[] names = getPropertyNames(propertySource);
+			if (names == null) {
+				searchedPositions.add(i);
+			}
+			else {
+				boolean canonical = (propertySource.getClass() == SystemEnvironmentPropertySource.class);
+				for (String name : names) {
+					List<Integer> positions = (canonical ?
+							canonicalNamePositions.computeIfAbsent(canonicalName(name), key -> new ArrayList<>(1)) :
+							namePositions.computeIfAbsent(name, key -> new ArrayList<>(1)));
+					if (positions.isEmpty() || positions.get(positions.size() - 1) != i) {
+						positions.add(i);
+					}
+				}
+			}
+		}
+		this.namePositions = toPositionArrays(namePositions);
+		this.canonicalNamePositions = toPositionArrays(canonicalNamePositions);
+		this.searchedPositions = toPositionArray(searchedPositions);
+	}
+
+	private static String @Nullable [] getPropertyNames(PropertySource<?> propertySource) {
+		if (propertySource instanceof SystemEnvironmentPropertySource &&
+				propertySource.getClass() != SystemEnvironmentPropertySource.class) {
+			// Subclasses may apply custom name resolution
+			return null;
+		}
+		if (propertySource instanceof EnumerablePropertySource<?> enumerablePropertySource) {
+			try {
+				return enumerablePropertySource.getPropertyNames();
+			}
+			catch (RuntimeException ex) {
+				// For example, a CompositePropertySource with non-enumerable property sources
+			}
+		}
+		return null;
+	}
+
+	private static String canonicalName(String name) {
+		return name.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+	}
+
+	private static Map<String, int[]> toPositionArrays(Map<String, List<Integer>> positions) {
+		Map<String, int[]> result = new HashMap<>((int) (positions.size() / 0.75f) + 1);
+		positions.forEach((name, list) -> result.put(name, toPositionArray(list)));
+		return result;
+	}
+
+	private static int[] toPositionArray(List<Integer> positions) {
+		return (positions.isEmpty() ? NO_POSITIONS : positions.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+
+	/**
+	 * Return the version of the {@link MutablePropertySources} that this index has been built for.
+	 */
+	int getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Return the property sources that may contain the given property,
+	 * in order of precedence.
+	 */
+	PropertySource<?>[] getCandidates(String name) {
+		int[] named = this.namePositions.getOrDefault(name, NO_POSITIONS);
+		int[] canonical = (this.canonicalNamePositions.isEmpty() ? NO_POSITIONS :
+				this.canonicalNamePositions.getOrDefault(canonicalName(name), NO_POSITIONS));
+		int[] searched = this.searchedPositions;
+		int total = named.length + canonical.length + searched.length;
+		if (total == 0) {
+			return NO_PROPERTY_SOURCES;
+		}
+		PropertySource<?>[] candidates = new PropertySource<?>[total];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		int count = 0;
+		while (i < named.length || j < canonical.length || k < searched.length) {
+			int position = Math.min(i < named.length ? named[i] : Integer.MAX_VALUE,
+					Math.min(j < canonical.length ? canonical[j] : Integer.MAX_VALUE,
+							k < searched.length ? searched[k] : Integer.MAX_VALUE));
+			// A position appears in at most one of the arrays
+			if (i < named.length && named[i] == position) {
+				i++;
+			}
+			else if (j < canonical.length && canonical[j] == position) {
+				j++;
+			}
+			else {
+				k++;
+			}
+			candidates[count++] = this.propertySources[position];
+		}
+		return candidates;
+	}
+
+}
@@ -16,8 +16,13 @@
 
 package org.springframework.core.env;
 
+import java.util.Arrays;
+
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.SpringProperties;
+import org.springframework.util.Assert;
+
 /**
  * {@link PropertyResolver} implementation that resolves property values against
  * an underlying set of {@link PropertySources}.
@@ -31,8 +36,22 @@ import org.jspecify.annotations.Nullable;
  */
 public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 
+	/**
+	 * System property that instructs Spring to enable the property name index
+	 * by default: {@value}.
+	 * <p>Can also be configured via the {@link SpringProperties} mechanism.
+	 * @since 7.0.2
+	 * @see #setPropertyIndexEnabled(boolean)
+	 */
+	public static final String PROPERTY_INDEX_PROPERTY_NAME = "spring.env.property-index";
+
+
 	private final @Nullable PropertySources propertySources;
 
+	private boolean propertyIndexEnabled = SpringProperties.getFlag(PROPERTY_INDEX_PROPERTY_NAME);
+
+	private volatile @Nullable PropertySourcesIndex propertyIndex;
+
 
 	/**
 	 * Create a new resolver against the given property sources.
@@ -43,10 +62,34 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 	}
 
 
+	/**
+	 * Specify whether to resolve properties through an index of the property
+	 * names in the underlying property sources, rather than searching each
+	 * property source in turn.
+	 * <p>The index is a snapshot of the names exposed by each
+	 * {@link EnumerablePropertySource}, including the variants of environment
+	 * variable names resolved by {@link SystemEnvironmentPropertySource}, and is
+	 * rebuilt whenever property sources are added to, removed from, or replaced
+	 * in the underlying {@link MutablePropertySources}. Property sources that
+	 * cannot be enumerated are searched for every property, in order of precedence.
+	 * <p>Note that properties added to an enumerable property source after the
+	 * index has been built are not found through the index. Only enable it if
+	 * the content of property sources does not change once they are registered.
+	 * <p>Default is {@code false}, unless configured otherwise via the
+	 * {@value #PROPERTY_INDEX_PROPERTY_NAME} system property. The index is only
+	 * used for property sources of type {@link MutablePropertySources}.
+	 * @since 7.0.2
+	 */
+	public void setPropertyIndexEnabled(boolean propertyIndexEnabled) {
+		this.propertyIndexEnabled = propertyIndexEnabled;
+		this.propertyIndex = null;
+	}
+
+
 	@Override
 	public boolean containsProperty(String key) {
 		if (this.propertySources != null) {
-			for (PropertySource<?> propertySource : this.propertySources) {
+			for (PropertySource<?> propertySource : getPropertySources(key)) {
 				if (propertySource.containsProperty(key)) {
 					return true;
 				}
@@ -72,7 +115,7 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 
 	protected <T> @Nullable T getProperty(String key, Class<T> targetValueType, boolean resolveNestedPlaceholders) {
 		if (this.propertySources != null) {
-			for (PropertySource<?> propertySource : this.propertySources) {
+			for (PropertySource<?> propertySource : getPropertySources(key)) {
 				if (logger.isTraceEnabled()) {
 					logger.trace("Searching for key '" + key + "' in PropertySource '" +
 							propertySource.getName() + "'");
@@ -99,6 +142,24 @@ public class PropertySourcesPropertyResolver extends AbstractPropertyResolver {
 		return null;
 	}
 
+	/**
+	 * Return the property sources to search for the given key, in order of precedence.
+	 */
+	private Iterable<PropertySource<?>> getPropertySources(String key) {
+		PropertySources propertySources = this.propertySources;
+		Assert.state(propertySources != null, "No PropertySources");
+		if (!this.propertyIndexEnabled || !(propertySources instanceof MutablePropertySources mutablePropertySources)) {
+			return propertySources;
+		}
+		int version = mutablePropertySources.getVersion();
+		PropertySourcesIndex propertyIndex = this.propertyIndex;
+		if (propertyIndex == null || propertyIndex.getVersion() != version) {
+			propertyIndex = new PropertySourcesIndex(mutablePropertySources, version);
+			this.propertyIndex = propertyIndex;
+		}
+		return Arrays.asList(propertyIndex.getCandidates(key));
+	}
+
 	/**
 	 * Log the given key as found in the given {@link PropertySource}, resulting in
 	 * the given value.
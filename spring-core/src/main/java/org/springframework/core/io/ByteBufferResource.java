@@ -0,0 +1,39 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Extended interface for a resource whose content is held in a
+ * {@link ByteBuffer}, for example, a memory-mapped file, so that it can be
+ * used as-is rather than read through a stream or channel.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see org.springframework.core.io.support.MappedResource
+ * @see org.springframework.core.io.buffer.DataBufferUtils#read(Resource, long, org.springframework.core.io.buffer.DataBufferFactory, int)
+ */
+public interface ByteBufferResource extends Resource {
+
+	/**
+	 * Return a new read-only buffer with the content of this resource,
+	 * positioned at its start.
+	 */
+	ByteBuffer getByteBuffer();
+
+}
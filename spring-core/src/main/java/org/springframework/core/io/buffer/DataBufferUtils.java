@@ -51,6 +51,7 @@ import reactor.core.publisher.Mono;
 import reactor.core.publisher.SynchronousSink;
 import reactor.util.context.Context;
 
+import org.springframework.core.io.ByteBufferResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -206,7 +207,9 @@ public abstract class DataBufferUtils {
 	/**
 	 * Read the given {@code Resource} into a {@code Flux} of {@code DataBuffer}s
 	 * starting at the given position.
-	 * <p>If the resource is a file, it is read into an
+	 * <p>If the resource is a {@link ByteBufferResource}, its content is
+	 * wrapped in buffers of up to {@code bufferSize} as of 7.0.2, without
+	 * copying. If the resource is a file, it is read into an
 	 * {@code AsynchronousFileChannel} and turned to {@code Flux} via
 	 * {@link #readAsynchronousFileChannel(Callable, DataBufferFactory, int)} or else
 	 * fall back on {@link #readByteChannel(Callable, DataBufferFactory, int)}.
@@ -220,6 +223,9 @@ public abstract class DataBufferUtils {
 	public static Flux<DataBuffer> read(
 			Resource resource, long position, DataBufferFactory bufferFactory, int bufferSize) {
 
+		if (resource instanceof ByteBufferResource byteBufferResource) {
+			return readByteBuffer(byteBufferResource, position, bufferFactory, bufferSize);
+		}
 		try {
 			if (resource.isFile()) {
 				Path filePath = resource.getFilePath();
@@ -235,6 +241,27 @@ public abstract class DataBufferUtils {
 		return (position == 0 ? result : skipUntilByteCount(result, position));
 	}
 
+	private static Flux<DataBuffer> readByteBuffer(
+			ByteBufferResource resource, long position, DataBufferFactory bufferFactory, int bufferSize) {
+
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be > 0");
+
+		return Flux.defer(() -> {
+			ByteBuffer byteBuffer = resource.getByteBuffer();
+			int limit = byteBuffer.limit();
+			if (position >= limit) {
+				return Flux.empty();
+			}
+			int start = (int) position;
+			int count = (int) ((limit - start + (long) bufferSize - 1) / bufferSize);
+			return Flux.range(0, count).map(i -> {
+				int offset = start + i * bufferSize;
+				return bufferFactory.wrap(byteBuffer.slice(offset, Math.min(bufferSize, limit - offset)));
+			});
+		});
+	}
+
 
 	//---------------------------------------------------------------------
 	// Writing
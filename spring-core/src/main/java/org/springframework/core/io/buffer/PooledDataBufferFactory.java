@@ -0,0 +1,385 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBufferFactory} interface that creates
+ * reference-counted {@link PooledDefaultDataBuffer} instances, recycling
+ * their memory once released. Intended for runtimes without a buffer pool of
+ * their own, for example WebFlux on a Servlet container through
+ * {@code ServletHttpHandlerAdapter#setDataBufferFactory}.
+ *
+ * <p>Memory is organized in size classes of powers of two, from
+ * {@link DefaultDataBufferFactory#DEFAULT_INITIAL_CAPACITY} up to a maximum
+ * pooled capacity; larger buffers are allocated without pooling. Released
+ * memory is kept for reuse until the pool reaches its maximum size in bytes.
+ * Buffers are direct by default, as those benefit most from pooling.
+ *
+ * <p>As with other pooled buffers, callers must {@linkplain DataBufferUtils#release
+ * release} buffers once done. When {@linkplain #setLeakDetection leak detection}
+ * is enabled, buffers that are garbage collected without having been released
+ * are logged as warnings, along with the hints they were
+ * {@linkplain DataBufferUtils#touch touched} with.
+ *
+ * @author Arjen Poutsma
+ * @since 7.0.2
+ * @see #getStatistics()
+ */
+public class PooledDataBufferFactory implements DataBufferFactory {
+
+	/**
+	 * The default maximum capacity of buffers kept in the pool.
+	 */
+	public static final int DEFAULT_MAX_POOLED_CAPACITY = 1024 * 1024;
+
+	/**
+	 * The default maximum number of bytes kept in the pool.
+	 */
+	public static final long DEFAULT_MAX_POOL_SIZE = 64 * 1024 * 1024;
+
+	private static final int MIN_SIZE_CLASS_SHIFT =
+			Integer.numberOfTrailingZeros(DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+
+	private static final Log logger = LogFactory.getLog(PooledDataBufferFactory.class);
+
+
+	private final DefaultDataBufferFactory delegate;
+
+	private final int maxPooledCapacity;
+
+	private final long maxPoolSize;
+
+	private final Queue<ByteBuffer>[] sizeClasses;
+
+	private volatile boolean leakDetection;
+
+	private final AtomicLong pooledBytes = new AtomicLong();
+
+	private final AtomicInteger pooledBuffers = new AtomicInteger();
+
+	private final AtomicInteger activeBuffers = new AtomicInteger();
+
+	private final LongAdder allocations = new LongAdder();
+
+	private final LongAdder poolHits = new LongAdder();
+
+	private final LongAdder unpooledAllocations = new LongAdder();
+
+	private final LongAdder recycledBuffers = new LongAdder();
+
+	private final LongAdder discardedBuffers = new LongAdder();
+
+	private final LongAdder leakedBuffers = new LongAdder();
+
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory} with direct buffers and
+	 * default pool limits.
+	 */
+	public PooledDataBufferFactory() {
+		this(true, DEFAULT_MAX_POOLED_CAPACITY, DEFAULT_MAX_POOL_SIZE);
+	}
+
+	/**
+	 * Create a new {@code PooledDataBufferFactory}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 * @param maxPooledCapacity the maximum capacity of buffers kept in the
+	 * pool, rounded up to a power of two; larger buffers are not pooled
+	 * @param maxPoolSize the maximum number of bytes kept in the pool
+	 */
+	@SuppressWarnings("unchecked")
+	public PooledDataBufferFactory(boolean preferDirect, int maxPooledCapacity, long maxPoolSize) {
+		Assert.isTrue(maxPooledCapacity >= DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY,
+				() -> "'maxPooledCapacity' should be at least " + DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+		Assert.isTrue(maxPooledCapacity <= (1 << 30), "'maxPooledCapacity' should be at most 1 GB");
+		Assert.isTrue(maxPoolSize >= 0, "'maxPoolSize' should not be negative");
+		this.delegate = new DefaultDataBufferFactory(preferDirect);
+		this.maxPooledCapacity = sizeClassCapacity(sizeClassIndex(maxPooledCapacity));
+		this.maxPoolSize = maxPoolSize;
+		this.sizeClasses = new Queue[sizeClassIndex(this.maxPooledCapacity) + 1];
+		for (int i = 0; i < this.sizeClasses.length; i++) {
+			this.sizeClasses[i] = new ConcurrentLinkedQueue<>();
+		}
+	}
+
+
+	/**
+	 * Whether to track buffers that are garbage collected without having been
+	 * released, and log those as warnings. Tracking adds overhead to every
+	 * allocation, so this is meant for diagnosing leaks.
+	 * <p>By default this is set to "false".
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+	}
+
+	/**
+	 * Return whether leak detection is enabled.
+	 */
+	public boolean isLeakDetection() {
+		return this.leakDetection;
+	}
+
+	/**
+	 * Return a snapshot of the usage statistics of this factory's pool.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(this.allocations.sum(), this.poolHits.sum(), this.unpooledAllocations.sum(),
+				this.recycledBuffers.sum(), this.discardedBuffers.sum(), this.leakedBuffers.sum(),
+				this.activeBuffers.get(), this.pooledBuffers.get(), this.pooledBytes.get());
+	}
+
+	/**
+	 * Release the memory currently kept in the pool. Buffers in use are not
+	 * affected, and their memory is recycled as usual once released.
+	 */
+	public void trim() {
+		for (Queue<ByteBuffer> sizeClass : this.sizeClasses) {
+			ByteBuffer byteBuffer;
+			while ((byteBuffer = sizeClass.poll()) != null) {
+				this.pooledBuffers.decrementAndGet();
+				this.pooledBytes.addAndGet(-byteBuffer.capacity());
+			}
+		}
+	}
+
+
+	@Override
+	@Deprecated(since = "6.0")
+	public PooledDefaultDataBuffer allocateBuffer() {
+		return allocateBuffer(DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	@Override
+	public PooledDefaultDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' should not be negative");
+		this.allocations.increment();
+		if (initialCapacity > this.maxPooledCapacity) {
+			this.unpooledAllocations.increment();
+			return new PooledDefaultDataBuffer(this, this.delegate.allocateBuffer(initialCapacity));
+		}
+		int index = sizeClassIndex(initialCapacity);
+		ByteBuffer byteBuffer = this.sizeClasses[index].poll();
+		if (byteBuffer != null) {
+			this.poolHits.increment();
+			this.pooledBuffers.decrementAndGet();
+			this.pooledBytes.addAndGet(-byteBuffer.capacity());
+			byteBuffer.clear();
+		}
+		else {
+			int capacity = sizeClassCapacity(index);
+			byteBuffer = (isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity));
+		}
+		this.activeBuffers.incrementAndGet();
+		PooledMemory memory = new PooledMemory(this, byteBuffer, index);
+		return new PooledDefaultDataBuffer(this, DefaultDataBuffer.fromEmptyByteBuffer(this.delegate, byteBuffer), memory);
+	}
+
+	@Override
+	public PooledDefaultDataBuffer wrap(ByteBuffer byteBuffer) {
+		return new PooledDefaultDataBuffer(this, this.delegate.wrap(byteBuffer));
+	}
+
+	@Override
+	public PooledDefaultDataBuffer wrap(byte[] bytes) {
+		return new PooledDefaultDataBuffer(this, this.delegate.wrap(bytes));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation allocates a single pooled buffer to contain the
+	 * data in {@code dataBuffers}, and releases the given buffers.
+	 */
+	@Override
+	public PooledDefaultDataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		int capacity = dataBuffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+		PooledDefaultDataBuffer result = allocateBuffer(capacity);
+		dataBuffers.forEach(result::write);
+		dataBuffers.forEach(DataBufferUtils::release);
+		return result;
+	}
+
+	@Override
+	public boolean isDirect() {
+		return this.delegate.isDirect();
+	}
+
+	@Override
+	public String toString() {
+		return "PooledDataBufferFactory (preferDirect=" + isDirect() +
+				", maxPooledCapacity=" + this.maxPooledCapacity + ", maxPoolSize=" + this.maxPoolSize + ")";
+	}
+
+
+	private void recycle(PooledMemory memory) {
+		this.activeBuffers.decrementAndGet();
+		ByteBuffer byteBuffer = memory.byteBuffer;
+		int capacity = byteBuffer.capacity();
+		long size = this.pooledBytes.addAndGet(capacity);
+		if (size > this.maxPoolSize) {
+			this.pooledBytes.addAndGet(-capacity);
+			this.discardedBuffers.increment();
+			return;
+		}
+		this.pooledBuffers.incrementAndGet();
+		this.recycledBuffers.increment();
+		this.sizeClasses[memory.sizeClassIndex].offer(byteBuffer);
+	}
+
+	private void reportLeak(LeakTracker tracker) {
+		this.leakedBuffers.increment();
+		if (logger.isWarnEnabled()) {
+			logger.warn("DataBuffer was garbage collected without having been released, " +
+					"see DataBufferUtils#release. Hints: " + tracker.getHints());
+		}
+	}
+
+	private static int sizeClassIndex(int capacity) {
+		int shift = (capacity <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(capacity - 1));
+		return Math.max(0, shift - MIN_SIZE_CLASS_SHIFT);
+	}
+
+	private static int sizeClassCapacity(int index) {
+		return 1 << (index + MIN_SIZE_CLASS_SHIFT);
+	}
+
+
+	/**
+	 * Usage statistics of a {@link PooledDataBufferFactory}.
+	 * @param allocations the number of buffers allocated
+	 * @param poolHits the number of allocations served with pooled memory
+	 * @param unpooledAllocations the number of allocations too large to be pooled
+	 * @param recycledBuffers the number of released buffers returned to the pool
+	 * @param discardedBuffers the number of released buffers not returned to
+	 * the pool since it was full
+	 * @param leakedBuffers the number of buffers found to be garbage collected
+	 * without having been released, when leak detection is enabled
+	 * @param activeBuffers the number of pooled buffers currently in use
+	 * @param pooledBuffers the number of buffers currently kept in the pool
+	 * @param pooledBytes the number of bytes currently kept in the pool
+	 */
+	public record Statistics(long allocations, long poolHits, long unpooledAllocations,
+			long recycledBuffers, long discardedBuffers, long leakedBuffers,
+			int activeBuffers, int pooledBuffers, long pooledBytes) {
+	}
+
+
+	/**
+	 * Memory leased from the pool, shared by a buffer and the buffers split
+	 * from it, and returned to the pool once all of them are released.
+	 */
+	static final class PooledMemory {
+
+		private final PooledDataBufferFactory factory;
+
+		private final ByteBuffer byteBuffer;
+
+		private final int sizeClassIndex;
+
+		private final AtomicInteger refCount = new AtomicInteger(1);
+
+		PooledMemory(PooledDataBufferFactory factory, ByteBuffer byteBuffer, int sizeClassIndex) {
+			this.factory = factory;
+			this.byteBuffer = byteBuffer;
+			this.sizeClassIndex = sizeClassIndex;
+		}
+
+		void retain() {
+			this.refCount.incrementAndGet();
+		}
+
+		void release() {
+			if (this.refCount.decrementAndGet() == 0) {
+				this.factory.recycle(this);
+			}
+		}
+
+		void discard() {
+			// Make sure the memory is never recycled
+			if (this.refCount.getAndSet(Integer.MIN_VALUE / 2) > 0) {
+				this.factory.activeBuffers.decrementAndGet();
+			}
+		}
+	}
+
+
+	/**
+	 * Cleaner action that reports a buffer that became unreachable with a
+	 * positive reference count. Must not reference the buffer itself.
+	 */
+	static final class LeakTracker implements Runnable {
+
+		static final Cleaner CLEANER = Cleaner.create();
+
+		private static final int MAX_HINTS = 8;
+
+		private final PooledDataBufferFactory factory;
+
+		private final AtomicInteger refCount;
+
+		private final @Nullable PooledMemory memory;
+
+		private final Queue<String> hints = new ConcurrentLinkedQueue<>();
+
+		LeakTracker(PooledDataBufferFactory factory, AtomicInteger refCount, @Nullable PooledMemory memory) {
+			this.factory = factory;
+			this.refCount = refCount;
+			this.memory = memory;
+		}
+
+		void addHint(Object hint) {
+			this.hints.offer(hint.toString());
+			if (this.hints.size() > MAX_HINTS) {
+				this.hints.poll();
+			}
+		}
+
+		List<String> getHints() {
+			return List.copyOf(this.hints);
+		}
+
+		@Override
+		public void run() {
+			if (this.refCount.get() > 0) {
+				// The memory may still be referenced through views of the
+				// leaked buffer: leave it to the garbage collector
+				if (this.memory != null) {
+					this.memory.discard();
+				}
+				this.factory.reportLeak(this);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.buffer.PooledDataBufferFactory.LeakTracker;
+import org.springframework.core.io.buffer.PooledDataBufferFactory.PooledMemory;
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBuffer} interface that is backed by memory
+ * from the pool of a {@link PooledDataBufferFactory}, and returns it to the
+ * pool once released. Buffers {@linkplain #split(int) split} from this buffer
+ * share its memory, which is recycled once all of them are released.
+ *
+ * @author Arjen Poutsma
+ * @since 7.0.2
+ */
+public final class PooledDefaultDataBuffer implements PooledDataBuffer {
+
+	private final PooledDataBufferFactory bufferFactory;
+
+	private final DefaultDataBuffer delegate;
+
+	private final @Nullable PooledMemory memory;
+
+	private final AtomicInteger refCount = new AtomicInteger(1);
+
+	private final @Nullable LeakTracker leakTracker;
+
+	private final Cleaner.@Nullable Cleanable cleanable;
+
+
+	PooledDefaultDataBuffer(PooledDataBufferFactory bufferFactory, DefaultDataBuffer delegate) {
+		this(bufferFactory, delegate, null);
+	}
+
+	PooledDefaultDataBuffer(PooledDataBufferFactory bufferFactory, DefaultDataBuffer delegate,
+			@Nullable PooledMemory memory) {
+
+		Assert.notNull(bufferFactory, "BufferFactory must not be null");
+		Assert.notNull(delegate, "Delegate must not be null");
+
+		this.bufferFactory = bufferFactory;
+		this.delegate = delegate;
+		this.memory = memory;
+		if (bufferFactory.isLeakDetection()) {
+			this.leakTracker = new LeakTracker(bufferFactory, this.refCount, memory);
+			this.cleanable = LeakTracker.CLEANER.register(this, this.leakTracker);
+		}
+		else {
+			this.leakTracker = null;
+			this.cleanable = null;
+		}
+	}
+
+
+	@Override
+	public boolean isAllocated() {
+		return this.refCount.get() > 0;
+	}
+
+	@Override
+	public PooledDataBuffer retain() {
+		int result = this.refCount.updateAndGet(c -> (c != 0 ? c + 1 : 0));
+		if (result != 0 && this.memory != null) {
+			this.memory.retain();
+		}
+		return this;
+	}
+
+	@Override
+	public PooledDataBuffer touch(Object hint) {
+		if (this.leakTracker != null) {
+			this.leakTracker.addHint(hint);
+		}
+		return this;
+	}
+
+	@Override
+	public boolean release() {
+		int result = this.refCount.updateAndGet(c -> {
+			if (c != 0) {
+				return c - 1;
+			}
+			else {
+				throw new IllegalStateException("PooledDefaultDataBuffer already released: " + this);
+			}
+		});
+		if (this.memory != null) {
+			this.memory.release();
+		}
+		if (result == 0 && this.cleanable != null) {
+			this.cleanable.clean();
+		}
+		return (result == 0);
+	}
+
+	@Override
+	public PooledDataBufferFactory factory() {
+		return this.bufferFactory;
+	}
+
+
+	// delegation
+
+	@Override
+	public int indexOf(IntPredicate predicate, int fromIndex) {
+		return this.delegate.indexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+		return this.delegate.lastIndexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int readableByteCount() {
+		return this.delegate.readableByteCount();
+	}
+
+	@Override
+	public int writableByteCount() {
+		return this.delegate.writableByteCount();
+	}
+
+	@Override
+	public int capacity() {
+		return this.delegate.capacity();
+	}
+
+	@Override
+	@Deprecated(since = "6.0")
+	public DataBuffer capacity(int capacity) {
+		this.delegate.capacity(capacity);
+		return this;
+	}
+
+	@Override
+	public DataBuffer ensureWritable(int capacity) {
+		this.delegate.ensureWritable(capacity);
+		return this;
+	}
+
+	@Override
+	public int readPosition() {
+		return this.delegate.readPosition();
+	}
+
+	@Override
+	public DataBuffer readPosition(int readPosition) {
+		this.delegate.readPosition(readPosition);
+		return this;
+	}
+
+	@Override
+	public int writePosition() {
+		return this.delegate.writePosition();
+	}
+
+	@Override
+	public DataBuffer writePosition(int writePosition) {
+		this.delegate.writePosition(writePosition);
+		return this;
+	}
+
+	@Override
+	public byte getByte(int index) {
+		return this.delegate.getByte(index);
+	}
+
+	@Override
+	public byte read() {
+		return this.delegate.read();
+	}
+
+	@Override
+	public DataBuffer read(byte[] destination) {
+		this.delegate.read(destination);
+		return this;
+	}
+
+	@Override
+	public DataBuffer read(byte[] destination, int offset, int length) {
+		this.delegate.read(destination, offset, length);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte b) {
+		this.delegate.write(b);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte[] source) {
+		this.delegate.write(source);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte[] source, int offset, int length) {
+		this.delegate.write(source, offset, length);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(DataBuffer... buffers) {
+		this.delegate.write(buffers);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(ByteBuffer... buffers) {
+		this.delegate.write(buffers);
+		return this;
+	}
+
+	@Override
+	@Deprecated(since = "6.0")
+	public DataBuffer slice(int index, int length) {
+		return share(this.delegate.slice(index, length));
+	}
+
+	@Override
+	public DataBuffer split(int index) {
+		return share(this.delegate.split(index));
+	}
+
+	private PooledDefaultDataBuffer share(DefaultDataBuffer delegate) {
+		if (this.memory != null) {
+			this.memory.retain();
+		}
+		return new PooledDefaultDataBuffer(this.bufferFactory, delegate, this.memory);
+	}
+
+	@Override
+	@Deprecated(since = "6.0")
+	public ByteBuffer asByteBuffer() {
+		return this.delegate.asByteBuffer();
+	}
+
+	@Override
+	@Deprecated(since = "6.0")
+	public ByteBuffer asByteBuffer(int index, int length) {
+		return this.delegate.asByteBuffer(index, length);
+	}
+
+	@Override
+	@Deprecated(since = "6.0.5")
+	public ByteBuffer toByteBuffer(int index, int length) {
+		return this.delegate.toByteBuffer(index, length);
+	}
+
+	@Override
+	public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+		this.delegate.toByteBuffer(srcPos, dest, destPos, length);
+	}
+
+	@Override
+	public ByteBufferIterator readableByteBuffers() {
+		ByteBufferIterator delegateIterator = this.delegate.readableByteBuffers();
+		return (this.memory != null ? new PooledByteBufferIterator(delegateIterator, this.memory) : delegateIterator);
+	}
+
+	@Override
+	public ByteBufferIterator writableByteBuffers() {
+		ByteBufferIterator delegateIterator = this.delegate.writableByteBuffers();
+		return (this.memory != null ? new PooledByteBufferIterator(delegateIterator, this.memory) : delegateIterator);
+	}
+
+	@Override
+	public String toString(int index, int length, Charset charset) {
+		return this.delegate.toString(index, length, charset);
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || (other instanceof PooledDefaultDataBuffer otherBuffer &&
+				this.delegate.equals(otherBuffer.delegate)));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.delegate.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PooledDefaultDataBuffer (r: %d, w: %d, c: %d)",
+				readPosition(), writePosition(), capacity());
+	}
+
+
+	private static final class PooledByteBufferIterator implements ByteBufferIterator {
+
+		private final ByteBufferIterator delegate;
+
+		private final PooledMemory memory;
+
+		public PooledByteBufferIterator(ByteBufferIterator delegate, PooledMemory memory) {
+			this.delegate = delegate;
+			this.memory = memory;
+			this.memory.retain();
+		}
+
+		@Override
+		public void close() {
+			this.delegate.close();
+			this.memory.release();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.delegate.hasNext();
+		}
+
+		@Override
+		public ByteBuffer next() {
+			return this.delegate.next();
+		}
+	}
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.ByteBufferResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Resource} decorator that serves the content of a file-based resource
+ * from a read-only, memory-mapped {@link ByteBuffer}, typically obtained from
+ * a {@link MappedResourceCache}. Metadata such as the file name, URL, and
+ * last-modified timestamp are taken from the underlying resource.
+ *
+ * <p>Writers that are aware of this type can send the {@linkplain #getByteBuffer()
+ * buffer} as-is, while {@link #getInputStream()} reads from the buffer
+ * without accessing the file.
+ *
+ * <p>Reads from the buffer fail with an {@link InternalError} if the file is
+ * truncated in place while mapped. {@link #getInputStream()} and
+ * {@link #getContentAsByteArray()} check the size of the file before reading
+ * and fall back to reading the underlying resource if it has shrunk, whereas
+ * writers of the buffer itself are exposed to such errors: files to be served
+ * through mappings are best updated by replacing them rather than by
+ * rewriting their content.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see MappedResourceCache
+ */
+public class MappedResource extends AbstractResource implements ByteBufferResource {
+
+	private final Resource resource;
+
+	private final ByteBuffer byteBuffer;
+
+
+	/**
+	 * Create a new {@code MappedResource}.
+	 * @param resource the underlying file-based resource
+	 * @param byteBuffer the content of the resource
+	 */
+	public MappedResource(Resource resource, ByteBuffer byteBuffer) {
+		Assert.notNull(resource, "Resource must not be null");
+		Assert.notNull(byteBuffer, "ByteBuffer must not be null");
+		this.resource = resource;
+		this.byteBuffer = byteBuffer.asReadOnlyBuffer();
+	}
+
+
+	/**
+	 * Return the underlying resource.
+	 */
+	public Resource getResource() {
+		return this.resource;
+	}
+
+	/**
+	 * Return a new read-only buffer with the content of this resource,
+	 * positioned at its start.
+	 */
+	@Override
+	public ByteBuffer getByteBuffer() {
+		return this.byteBuffer.duplicate();
+	}
+
+	@Override
+	public boolean exists() {
+		return this.resource.exists();
+	}
+
+	@Override
+	public boolean isReadable() {
+		return this.resource.isReadable();
+	}
+
+	@Override
+	public boolean isFile() {
+		return this.resource.isFile();
+	}
+
+	@Override
+	public URL getURL() throws IOException {
+		return this.resource.getURL();
+	}
+
+	@Override
+	public URI getURI() throws IOException {
+		return this.resource.getURI();
+	}
+
+	@Override
+	public File getFile() throws IOException {
+		return this.resource.getFile();
+	}
+
+	@Override
+	public Path getFilePath() throws IOException {
+		return this.resource.getFilePath();
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return new ByteBufferInputStream(getByteBuffer());
+	}
+
+	@Override
+	public byte[] getContentAsByteArray() throws IOException {
+		if (isTruncated()) {
+			return this.resource.getContentAsByteArray();
+		}
+		ByteBuffer byteBuffer = getByteBuffer();
+		byte[] bytes = new byte[byteBuffer.remaining()];
+		try {
+			byteBuffer.get(bytes);
+			return bytes;
+		}
+		catch (InternalError err) {
+			// File truncated while reading
+			return this.resource.getContentAsByteArray();
+		}
+	}
+
+	@Override
+	public long contentLength() {
+		return this.byteBuffer.capacity();
+	}
+
+	@Override
+	public long lastModified() throws IOException {
+		return this.resource.lastModified();
+	}
+
+	@Override
+	public Resource createRelative(String relativePath) throws IOException {
+		return this.resource.createRelative(relativePath);
+	}
+
+	@Override
+	public @Nullable String getFilename() {
+		return this.resource.getFilename();
+	}
+
+	@Override
+	public String getDescription() {
+		return "mapped " + this.resource.getDescription();
+	}
+
+	/**
+	 * Determine whether the file is shorter than the mapping, in which case
+	 * reads from the mapping beyond the end of the file would fail.
+	 */
+	private boolean isTruncated() {
+		try {
+			return (this.resource.contentLength() < this.byteBuffer.capacity());
+		}
+		catch (IOException ex) {
+			return true;
+		}
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || (other instanceof MappedResource that && this.resource.equals(that.resource)));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.resource.hashCode();
+	}
+
+
+	/**
+	 * {@code InputStream} that reads from a {@code ByteBuffer}, continuing
+	 * with the stream of the underlying resource if the file was truncated.
+	 */
+	private final class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer byteBuffer;
+
+		private @Nullable InputStream fallback;
+
+		ByteBufferInputStream(ByteBuffer byteBuffer) {
+			this.byteBuffer = byteBuffer;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] bytes = new byte[1];
+			return (read(bytes, 0, 1) != -1 ? bytes[0] & 0xFF : -1);
+		}
+
+		@Override
+		public int read(byte[] bytes, int off, int len) throws IOException {
+			if (this.fallback == null && this.byteBuffer.hasRemaining() && isTruncated()) {
+				openFallback();
+			}
+			if (this.fallback != null) {
+				return this.fallback.read(bytes, off, len);
+			}
+			if (len == 0) {
+				return 0;
+			}
+			if (!this.byteBuffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(len, this.byteBuffer.remaining());
+			try {
+				this.byteBuffer.get(bytes, off, count);
+				return count;
+			}
+			catch (InternalError err) {
+				// File truncated while reading
+				return openFallback().read(bytes, off, len);
+			}
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			if (this.fallback != null) {
+				return this.fallback.skip(n);
+			}
+			int count = (int) Math.max(0, Math.min(n, this.byteBuffer.remaining()));
+			this.byteBuffer.position(this.byteBuffer.position() + count);
+			return count;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (this.fallback != null ? this.fallback.available() : this.byteBuffer.remaining());
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.fallback != null) {
+				this.fallback.close();
+			}
+		}
+
+		/**
+		 * Open the stream of the underlying resource, positioned at the
+		 * current position of the buffer.
+		 */
+		private InputStream openFallback() throws IOException {
+			InputStream fallback = getResource().getInputStream();
+			long remaining = this.byteBuffer.position();
+			while (remaining > 0) {
+				long skipped = fallback.skip(remaining);
+				if (skipped <= 0) {
+					if (fallback.read() == -1) {
+						break;
+					}
+					skipped = 1;
+				}
+				remaining -= skipped;
+			}
+			this.fallback = fallback;
+			return fallback;
+		}
+	}
+
+}
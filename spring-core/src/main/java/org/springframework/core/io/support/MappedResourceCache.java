@@ -0,0 +1,217 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.support;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Cache of memory-mapped file content, decorating file-based resources as
+ * {@link MappedResource MappedResources} so that frequently served files such
+ * as static web assets are read from the page cache through the mapping
+ * rather than re-opened and copied on every access.
+ *
+ * <p>Only files on the default file system and within the
+ * {@linkplain #MappedResourceCache(int, long, int) configured size limits}
+ * are mapped. The cache is bounded by a maximum number of entries and a
+ * maximum total size, evicting the least recently used entries. Every lookup
+ * compares the size and last-modified timestamp of the file with those of the
+ * cached mapping, and maps the file again if it has changed.
+ *
+ * <p>Note that a mapping stays valid as long as it is referenced: files that
+ * are replaced, for example through a rename, remain readable through
+ * mappings in use. Files that are truncated in place, however, make reads
+ * from existing mappings fail, so cached files are best updated by replacing
+ * them rather than by rewriting their content.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see MappedResource
+ */
+public class MappedResourceCache {
+
+	/**
+	 * The default maximum size of files to map.
+	 */
+	public static final int DEFAULT_MAX_FILE_SIZE = 1024 * 1024;
+
+	/**
+	 * The default maximum total size of mapped files.
+	 */
+	public static final long DEFAULT_MAX_TOTAL_SIZE = 64 * 1024 * 1024;
+
+	/**
+	 * The default maximum number of mapped files.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	private static final Log logger = LogFactory.getLog(MappedResourceCache.class);
+
+
+	private final int maxFileSize;
+
+	private final long maxTotalSize;
+
+	private final int maxEntries;
+
+	private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long totalSize;
+
+
+	/**
+	 * Create a new cache with default limits.
+	 */
+	public MappedResourceCache() {
+		this(DEFAULT_MAX_FILE_SIZE, DEFAULT_MAX_TOTAL_SIZE, DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create a new cache with the given limits.
+	 * @param maxFileSize the maximum size of files to map
+	 * @param maxTotalSize the maximum total size of mapped files
+	 * @param maxEntries the maximum number of mapped files
+	 */
+	public MappedResourceCache(int maxFileSize, long maxTotalSize, int maxEntries) {
+		Assert.isTrue(maxFileSize >= 0, "'maxFileSize' must not be negative");
+		Assert.isTrue(maxTotalSize >= 0, "'maxTotalSize' must not be negative");
+		Assert.isTrue(maxEntries >= 0, "'maxEntries' must not be negative");
+		this.maxFileSize = maxFileSize;
+		this.maxTotalSize = maxTotalSize;
+		this.maxEntries = maxEntries;
+	}
+
+
+	/**
+	 * Return a {@link MappedResource} for the given resource if it is a file
+	 * within the limits of this cache, mapping it if not cached yet or if it
+	 * changed since it was mapped, or otherwise return the given resource as-is.
+	 * @param resource the resource to look up
+	 * @return the mapped resource, or the given resource
+	 */
+	public Resource getResource(Resource resource) {
+		if (resource instanceof MappedResource || !resource.isFile()) {
+			return resource;
+		}
+		try {
+			Path path = resource.getFilePath();
+			if (path.getFileSystem() != FileSystems.getDefault()) {
+				return resource;
+			}
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			if (!attributes.isRegularFile() || attributes.size() > this.maxFileSize ||
+					attributes.size() > this.maxTotalSize || this.maxEntries == 0) {
+				return resource;
+			}
+			long lastModified = attributes.lastModifiedTime().toMillis();
+			Entry entry = get(path);
+			if (entry == null || entry.size() != attributes.size() || entry.lastModified() != lastModified) {
+				entry = new Entry(map(path, attributes.size()), attributes.size(), lastModified);
+				put(path, entry);
+			}
+			return new MappedResource(resource, entry.byteBuffer());
+		}
+		catch (IOException | UnsupportedOperationException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to map " + resource + ": " + ex);
+			}
+			return resource;
+		}
+	}
+
+	/**
+	 * Return the number of files currently mapped.
+	 */
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Return the total size of the files currently mapped.
+	 */
+	public long getTotalSize() {
+		synchronized (this.entries) {
+			return this.totalSize;
+		}
+	}
+
+	/**
+	 * Remove all mappings from the cache. Resources obtained from the cache
+	 * remain usable.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+			this.totalSize = 0;
+		}
+	}
+
+	private static ByteBuffer map(Path path, long size) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+	}
+
+	private @Nullable Entry get(Path path) {
+		synchronized (this.entries) {
+			return this.entries.get(path);
+		}
+	}
+
+	private void put(Path path, Entry entry) {
+		synchronized (this.entries) {
+			Entry previous = this.entries.put(path, entry);
+			if (previous != null) {
+				this.totalSize -= previous.size();
+			}
+			this.totalSize += entry.size();
+			Iterator<Map.Entry<Path, Entry>> iterator = this.entries.entrySet().iterator();
+			while ((this.entries.size() > this.maxEntries || this.totalSize > this.maxTotalSize) && iterator.hasNext()) {
+				Entry eldest = iterator.next().getValue();
+				if (eldest != entry) {
+					iterator.remove();
+					this.totalSize -= eldest.size();
+				}
+			}
+		}
+	}
+
+
+	private record Entry(ByteBuffer byteBuffer, long size, long lastModified) {
+	}
+
+}
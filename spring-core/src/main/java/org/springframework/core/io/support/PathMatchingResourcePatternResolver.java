@@ -19,6 +19,7 @@ package org.springframework.core.io.support;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.lang.module.ModuleFinder;
 import java.lang.module.ModuleReader;
@@ -38,17 +39,23 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.NavigableSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
-import java.util.TreeSet;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.Attributes.Name;
@@ -64,6 +71,7 @@ import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.NativeDetector;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
@@ -215,6 +223,16 @@ import org.springframework.util.StringUtils;
  */
 public class PathMatchingResourcePatternResolver implements ResourcePatternResolver {
 
+	/**
+	 * System property that configures the default number of threads to use for
+	 * classpath scanning: {@value}.
+	 * <p>Can also be configured via the {@link SpringProperties} mechanism.
+	 * By default, classpath scanning happens sequentially on the calling thread.
+	 * @since 7.0.2
+	 * @see #setParallelism(int)
+	 */
+	public static final String PARALLELISM_PROPERTY_NAME = "spring.classpath.scanning.parallelism";
+
 	private static final Resource[] EMPTY_RESOURCE_ARRAY = {};
 
 	private static final Log logger = LogFactory.getLog(PathMatchingResourcePatternResolver.class);
@@ -263,10 +281,16 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 
 	private final Map<String, Resource[]> rootDirCache = new ConcurrentHashMap<>();
 
-	private final Map<String, NavigableSet<String>> jarEntriesCache = new ConcurrentHashMap<>();
+	private final Map<String, JarEntryIndex> jarEntriesCache = new ConcurrentHashMap<>();
 
 	private volatile @Nullable Set<ClassPathManifestEntry> manifestEntriesCache;
 
+	private int parallelism = getDefaultParallelism();
+
+	private @Nullable ForkJoinPool rootDirPool;
+
+	private final Object rootDirPoolMonitor = new Object();
+
 
 	/**
 	 * Create a {@code PathMatchingResourcePatternResolver} with a
@@ -351,6 +375,61 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		this.useCaches = useCaches;
 	}
 
+	/**
+	 * Specify the maximum number of threads to use for resolving a location
+	 * pattern against several root directories, for example, a base package
+	 * that is present in several jar files of the class path.
+	 * <p>Default is 1, resolving root directories sequentially on the calling
+	 * thread, unless configured otherwise via {@link #PARALLELISM_PROPERTY_NAME}.
+	 * With a higher value, root directories are resolved on a bounded
+	 * {@link ForkJoinPool}, and matching resources are still returned in the
+	 * order of their root directories.
+	 * <p>Note that subclasses that override the lookup methods of this resolver
+	 * need to be thread-safe when enabling parallel resolution.
+	 * The pool is reused across lookups until {@link #clearCache()} is called.
+	 * @param parallelism the maximum number of threads (must be 1 or higher)
+	 * @since 7.0.2
+	 * @see #findPathMatchingResources(String)
+	 */
+	public void setParallelism(int parallelism) {
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+		if (parallelism != this.parallelism) {
+			this.parallelism = parallelism;
+			shutdownRootDirPool();
+		}
+	}
+
+	/**
+	 * Return the maximum number of threads for resolving root directories.
+	 * @since 7.0.2
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * Return the default number of threads to use for classpath scanning,
+	 * as configured via {@link #PARALLELISM_PROPERTY_NAME}, or 1 if not set.
+	 * @throws IllegalArgumentException if the configured value is not a positive integer
+	 * @since 7.0.2
+	 */
+	public static int getDefaultParallelism() {
+		String value = SpringProperties.getProperty(PARALLELISM_PROPERTY_NAME);
+		if (!StringUtils.hasText(value)) {
+			return 1;
+		}
+		try {
+			int parallelism = Integer.parseInt(value.trim());
+			Assert.isTrue(parallelism > 0, () -> "Value [" + parallelism + "] for system property [" +
+					PARALLELISM_PROPERTY_NAME + "] must be positive");
+			return parallelism;
+		}
+		catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("Failed to parse value for system property [" +
+					PARALLELISM_PROPERTY_NAME + "]: " + ex.getMessage(), ex);
+		}
+	}
+
 
 	@Override
 	public Resource getResource(String location) {
@@ -398,9 +477,13 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 
 	/**
 	 * Clear the local resource cache, removing all cached classpath/jar structures.
+	 * <p>As of 7.0.2, this also shuts down the pool for resolving root directories
+	 * in parallel, if any.
 	 * @since 6.2
+	 * @see #setParallelism(int)
 	 */
 	public void clearCache() {
+		shutdownRootDirPool();
 		this.rootDirCache.clear();
 		this.jarEntriesCache.clear();
 		this.manifestEntriesCache = null;
@@ -739,38 +822,110 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		}
 
 		Set<Resource> result = new LinkedHashSet<>(64);
-		for (Resource rootDirResource : rootDirResources) {
-			if (actualRootPath != null && actualRootPath.length() < rootDirPath.length()) {
-				// Create sub-resource for requested sub-location from cached common root directory.
-				rootDirResource = rootDirResource.createRelative(rootDirPath.substring(actualRootPath.length()));
+		if (this.parallelism > 1 && rootDirResources.length > 1) {
+			for (Set<Resource> resources : findPathMatchingResourcesInParallel(
+					rootDirResources, actualRootPath, rootDirPath, subPattern)) {
+				result.addAll(resources);
+			}
+		}
+		else {
+			for (Resource rootDirResource : rootDirResources) {
+				result.addAll(findPathMatchingResources(rootDirResource, actualRootPath, rootDirPath, subPattern));
 			}
-			rootDirResource = resolveRootDirResource(rootDirResource);
-			URL rootDirUrl = rootDirResource.getURL();
-			if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
-				URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
-				if (resolvedUrl != null) {
-					rootDirUrl = resolvedUrl;
+		}
+		if (logger.isTraceEnabled()) {
+			logger.trace("Resolved location pattern [" + locationPattern + "] to resources " + result);
+		}
+		return result.toArray(EMPTY_RESOURCE_ARRAY);
+	}
+
+	private Set<Resource> findPathMatchingResources(Resource rootDirResource, @Nullable String actualRootPath,
+			String rootDirPath, String subPattern) throws IOException {
+
+		if (actualRootPath != null && actualRootPath.length() < rootDirPath.length()) {
+			// Create sub-resource for requested sub-location from cached common root directory.
+			rootDirResource = rootDirResource.createRelative(rootDirPath.substring(actualRootPath.length()));
+		}
+		rootDirResource = resolveRootDirResource(rootDirResource);
+		URL rootDirUrl = rootDirResource.getURL();
+		if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
+			URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
+			if (resolvedUrl != null) {
+				rootDirUrl = resolvedUrl;
+			}
+			UrlResource urlResource = new UrlResource(rootDirUrl);
+			if (this.useCaches != null) {
+				urlResource.setUseCaches(this.useCaches);
+			}
+			rootDirResource = urlResource;
+		}
+		if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
+			return VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher());
+		}
+		else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
+			return doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern);
+		}
+		else {
+			return doFindPathMatchingFileResources(rootDirResource, subPattern);
+		}
+	}
+
+	private List<Set<Resource>> findPathMatchingResourcesInParallel(Resource[] rootDirResources,
+			@Nullable String actualRootPath, String rootDirPath, String subPattern) throws IOException {
+
+		ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+		List<Callable<Set<Resource>>> tasks = new ArrayList<>(rootDirResources.length);
+		for (Resource rootDirResource : rootDirResources) {
+			tasks.add(() -> {
+				ClassLoader original = ClassUtils.overrideThreadContextClassLoader(classLoader);
+				try {
+					return findPathMatchingResources(rootDirResource, actualRootPath, rootDirPath, subPattern);
 				}
-				UrlResource urlResource = new UrlResource(rootDirUrl);
-				if (this.useCaches != null) {
-					urlResource.setUseCaches(this.useCaches);
+				finally {
+					Thread.currentThread().setContextClassLoader(original);
 				}
-				rootDirResource = urlResource;
-			}
-			if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
-				result.addAll(VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher()));
+			});
+		}
+		try {
+			List<Set<Resource>> results = new ArrayList<>(rootDirResources.length);
+			for (Future<Set<Resource>> future : obtainRootDirPool().invokeAll(tasks)) {
+				results.add(future.get());
 			}
-			else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
-				result.addAll(doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern));
+			return results;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while resolving root directories");
+		}
+		catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException ioException) {
+				throw ioException;
 			}
-			else {
-				result.addAll(doFindPathMatchingFileResources(rootDirResource, subPattern));
+			ReflectionUtils.rethrowRuntimeException(cause);
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private ForkJoinPool obtainRootDirPool() {
+		synchronized (this.rootDirPoolMonitor) {
+			ForkJoinPool pool = this.rootDirPool;
+			if (pool == null) {
+				// Worker threads are started on demand and terminate once idle.
+				pool = new ForkJoinPool(this.parallelism);
+				this.rootDirPool = pool;
 			}
+			return pool;
 		}
-		if (logger.isTraceEnabled()) {
-			logger.trace("Resolved location pattern [" + locationPattern + "] to resources " + result);
+	}
+
+	private void shutdownRootDirPool() {
+		synchronized (this.rootDirPoolMonitor) {
+			if (this.rootDirPool != null) {
+				this.rootDirPool.shutdown();
+				this.rootDirPool = null;
+			}
 		}
-		return result.toArray(EMPTY_RESOURCE_ARRAY);
 	}
 
 	/**
@@ -861,25 +1016,20 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		if (separatorIndex >= 0) {
 			jarFileUrl = urlFile.substring(0, separatorIndex);
 			rootEntryPath = urlFile.substring(separatorIndex + 2);  // both separators are 2 chars
-			NavigableSet<String> entriesCache = this.jarEntriesCache.get(jarFileUrl);
-			if (entriesCache != null) {
-				Set<Resource> result = new LinkedHashSet<>(64);
+			JarEntryIndex entryIndex = this.jarEntriesCache.get(jarFileUrl);
+			if (entryIndex != null) {
 				// Clean root entry path to match jar entries format without "!" separators
 				rootEntryPath = rootEntryPath.replace(ResourceUtils.JAR_URL_SEPARATOR, "/");
-				// Search sorted entries from first entry with rootEntryPath prefix
-				boolean rootEntryPathFound = false;
-				for (String entryPath : entriesCache.tailSet(rootEntryPath, false)) {
-					if (!entryPath.startsWith(rootEntryPath)) {
-						// We are beyond the potential matches in the current TreeSet.
-						break;
-					}
-					rootEntryPathFound = true;
-					String relativePath = entryPath.substring(rootEntryPath.length());
-					if (getPathMatcher().match(subPattern, relativePath)) {
+				if (StringUtils.hasLength(rootEntryPath) && !rootEntryPath.endsWith("/")) {
+					rootEntryPath = rootEntryPath + "/";
+				}
+				// Only visit the directories below rootEntryPath that may contain matches
+				List<String> relativePaths = entryIndex.findMatchingPaths(rootEntryPath, subPattern, getPathMatcher());
+				if (relativePaths != null) {
+					Set<Resource> result = new LinkedHashSet<>(64);
+					for (String relativePath : relativePaths) {
 						result.add(rootDirResource.createRelative(relativePath));
 					}
-				}
-				if (rootEntryPathFound) {
 					return result;
 				}
 			}
@@ -941,21 +1091,16 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 				rootEntryPath = rootEntryPath + "/";
 			}
 			Set<Resource> result = new LinkedHashSet<>(64);
-			NavigableSet<String> entriesCache = new TreeSet<>();
-			for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
-				entriesCache.add(entries.nextElement().getName());
-			}
-			for (String entryPath : entriesCache) {
-				if (entryPath.startsWith(rootEntryPath)) {
-					String relativePath = entryPath.substring(rootEntryPath.length());
-					if (getPathMatcher().match(subPattern, relativePath)) {
-						result.add(rootDirResource.createRelative(relativePath));
-					}
+			JarEntryIndex entryIndex = new JarEntryIndex(jarFile);
+			List<String> relativePaths = entryIndex.findMatchingPaths(rootEntryPath, subPattern, getPathMatcher());
+			if (relativePaths != null) {
+				for (String relativePath : relativePaths) {
+					result.add(rootDirResource.createRelative(relativePath));
 				}
 			}
 			if (this.useCaches == null || this.useCaches) {
-				// Cache jar entries in TreeSet for efficient searching on re-encounter.
-				this.jarEntriesCache.put(jarFileUrl, entriesCache);
+				// Cache jar entry index for efficient searching on re-encounter.
+				this.jarEntriesCache.put(jarFileUrl, entryIndex);
 			}
 			return result;
 		}
@@ -1269,6 +1414,103 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 	}
 
 
+	/**
+	 * Directory index for the entries of a jar file, allowing pattern lookups
+	 * to only visit the directories that may contain matching entries instead
+	 * of matching every entry name in the jar file.
+	 * <p>Entries are returned in the lexicographical order of their names.
+	 */
+	private static final class JarEntryIndex {
+
+		private static final String[] NO_NAMES = {};
+
+		// Directory path ("" or ending with "/") -> sorted names of the files and
+		// subdirectories in that directory, with subdirectory names ending with "/"
+		private final Map<String, String[]> directories;
+
+		// Directories with an entry of their own, as opposed to implicit ones
+		private final Set<String> directoryEntries = new HashSet<>();
+
+		JarEntryIndex(JarFile jarFile) {
+			Map<String, Set<String>> directories = new HashMap<>();
+			for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+				String name = entries.nextElement().getName();
+				if (!name.isEmpty()) {
+					if (name.endsWith("/")) {
+						this.directoryEntries.add(name);
+						addDirectory(directories, name);
+					}
+					else {
+						addEntry(directories, name);
+					}
+				}
+			}
+			this.directories = new HashMap<>(directories.size());
+			directories.forEach((directory, names) -> {
+				String[] sortedNames = names.toArray(NO_NAMES);
+				Arrays.sort(sortedNames);
+				this.directories.put(directory, sortedNames);
+			});
+		}
+
+		private static void addEntry(Map<String, Set<String>> directories, String name) {
+			int separatorIndex = name.lastIndexOf('/', name.length() - 2);
+			String directory = name.substring(0, separatorIndex + 1);
+			addDirectory(directories, directory).add(name.substring(separatorIndex + 1));
+		}
+
+		private static Set<String> addDirectory(Map<String, Set<String>> directories, String directory) {
+			Set<String> names = directories.get(directory);
+			if (names == null) {
+				names = new HashSet<>();
+				directories.put(directory, names);
+				if (!directory.isEmpty()) {
+					// Register implicit parent directories as well
+					addEntry(directories, directory);
+				}
+			}
+			return names;
+		}
+
+		/**
+		 * Find the entries below the given root entry path that match the given pattern.
+		 * @param rootEntryPath the root directory ("" or ending with "/")
+		 * @param subPattern the pattern to match against the relative entry paths
+		 * @param pathMatcher the PathMatcher to use
+		 * @return the relative paths of the matching entries, or {@code null}
+		 * if the jar file does not contain the given root directory
+		 */
+		@Nullable List<String> findMatchingPaths(String rootEntryPath, String subPattern, PathMatcher pathMatcher) {
+			if (!this.directories.containsKey(rootEntryPath)) {
+				return null;
+			}
+			List<String> result = new ArrayList<>();
+			collectMatchingPaths(rootEntryPath, "", subPattern, pathMatcher, result);
+			return result;
+		}
+
+		private void collectMatchingPaths(String directory, String relativeDirectory, String subPattern,
+				PathMatcher pathMatcher, List<String> result) {
+
+			for (String name : this.directories.getOrDefault(directory, NO_NAMES)) {
+				String relativePath = relativeDirectory + name;
+				if (name.endsWith("/")) {
+					String entryPath = directory + name;
+					if (this.directoryEntries.contains(entryPath) && pathMatcher.match(subPattern, relativePath)) {
+						result.add(relativePath);
+					}
+					if (pathMatcher.matchStart(subPattern, relativePath)) {
+						collectMatchingPaths(entryPath, relativePath, subPattern, pathMatcher, result);
+					}
+				}
+				else if (pathMatcher.match(subPattern, relativePath)) {
+					result.add(relativePath);
+				}
+			}
+		}
+	}
+
+
 	/**
 	 * A single {@code Class-Path} manifest entry.
 	 */
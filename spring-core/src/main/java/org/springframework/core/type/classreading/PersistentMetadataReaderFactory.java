@@ -0,0 +1,345 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.Assert;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * {@link CachingMetadataReaderFactory} that additionally persists class
+ * metadata in a file, so that subsequent JVM starts can skip reading and
+ * parsing class files that have not changed.
+ *
+ * <p>For each class file read through this factory, the ASM events that
+ * make up its metadata are recorded in a compact binary form, keyed by the
+ * URL of the class file and validated against its last-modified timestamp,
+ * which for a class in a jar file is the timestamp of the jar file, and
+ * against a CRC-32 checksum of its content, which for a class in a jar file
+ * is taken from the jar entry. The checksum detects changed class files
+ * with unchanged timestamps, for example in container images that normalize
+ * file timestamps. Recordings that cannot be replayed are discarded and
+ * recorded again from the class file. On a warm start, the recorded events are replayed to create the same metadata
+ * as an ASM-based {@link SimpleMetadataReaderFactory}, including the
+ * resolution of annotation types against the current {@link ClassLoader}.
+ *
+ * <p>The cache file is written on {@link #clearCache()}, which is invoked
+ * by {@code ConfigurationClassPostProcessor} once configuration classes have
+ * been parsed, or explicitly through {@link #save()}. It is only written if
+ * class metadata has been recorded since it was loaded, and only retains
+ * entries for class files read in the current run. A cache file should not
+ * be shared by several factory instances, as the last one to save wins.
+ *
+ * <p>To use this factory for component scanning, configure it on
+ * {@code ClassPathScanningCandidateComponentProvider} and on
+ * {@code ConfigurationClassPostProcessor} through their
+ * {@code setMetadataReaderFactory} methods.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see #save()
+ */
+public class PersistentMetadataReaderFactory extends CachingMetadataReaderFactory {
+
+	private static final Log logger = LogFactory.getLog(PersistentMetadataReaderFactory.class);
+
+	private final MetadataStore store;
+
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the given {@link ResourceLoader},
+	 * using a shared resource cache if supported or a local resource cache otherwise.
+	 * @param cacheFile the file to load class metadata from, and to save it to
+	 * @param resourceLoader the Spring ResourceLoader to use
+	 * (also determines the ClassLoader to use)
+	 */
+	public PersistentMetadataReaderFactory(Path cacheFile, @Nullable ResourceLoader resourceLoader) {
+		this(new MetadataStore(cacheFile, resourceLoader));
+	}
+
+	/**
+	 * Create a new PersistentMetadataReaderFactory for the given {@link ClassLoader},
+	 * using a local resource cache.
+	 * @param cacheFile the file to load class metadata from, and to save it to
+	 * @param classLoader the ClassLoader to use
+	 */
+	public PersistentMetadataReaderFactory(Path cacheFile, @Nullable ClassLoader classLoader) {
+		this(new MetadataStore(cacheFile, classLoader));
+	}
+
+	private PersistentMetadataReaderFactory(MetadataStore store) {
+		super(store);
+		this.store = store;
+	}
+
+
+	/**
+	 * Return the file that class metadata is loaded from and saved to.
+	 */
+	public Path getCacheFile() {
+		return this.store.cacheFile;
+	}
+
+	/**
+	 * Save the class metadata read in the current run to the cache file,
+	 * if any class metadata has been recorded since it was loaded.
+	 * @throws IOException if the cache file cannot be written
+	 */
+	public void save() throws IOException {
+		this.store.save();
+	}
+
+	/**
+	 * Save the class metadata to the cache file, logging rather than
+	 * propagating any failure, and clear the in-memory MetadataReader cache.
+	 * @see #save()
+	 */
+	@Override
+	public void clearCache() {
+		try {
+			save();
+		}
+		catch (IOException ex) {
+			logger.warn("Failed to save class metadata to " + getCacheFile(), ex);
+		}
+		super.clearCache();
+	}
+
+
+	/**
+	 * {@link MetadataReaderFactory} that reads class metadata from recorded
+	 * events if available, recording them from the class file otherwise.
+	 */
+	private static final class MetadataStore extends SimpleMetadataReaderFactory {
+
+		private static final int MAGIC = 0x53504D44;
+
+		private static final int VERSION = 2;
+
+		private final Path cacheFile;
+
+		private final Map<String, Entry> entries = new ConcurrentHashMap<>(256);
+
+		private volatile boolean modified;
+
+		MetadataStore(Path cacheFile, @Nullable ResourceLoader resourceLoader) {
+			super(resourceLoader);
+			this.cacheFile = cacheFile;
+			load();
+		}
+
+		MetadataStore(Path cacheFile, @Nullable ClassLoader classLoader) {
+			super(classLoader);
+			this.cacheFile = cacheFile;
+			load();
+		}
+
+		@Override
+		public MetadataReader getMetadataReader(Resource resource) throws IOException {
+			String key;
+			long lastModified;
+			long checksum;
+			try {
+				URL url = resource.getURL();
+				key = url.toExternalForm();
+				lastModified = resource.lastModified();
+				checksum = getChecksum(resource, url);
+			}
+			catch (IOException ex) {
+				// No URL, timestamp or content to validate against
+				return super.getMetadataReader(resource);
+			}
+			if (lastModified <= 0) {
+				return super.getMetadataReader(resource);
+			}
+
+			Entry entry = this.entries.get(key);
+			if (entry != null && entry.lastModified == lastModified && entry.checksum == checksum) {
+				try {
+					MetadataReader metadataReader = replay(resource, entry);
+					entry.accessed = true;
+					return metadataReader;
+				}
+				catch (IllegalArgumentException ex) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Discarding invalid class metadata for " + key + " in " + this.cacheFile, ex);
+					}
+				}
+			}
+
+			RecordingClassVisitor recorder = new RecordingClassVisitor();
+			SimpleMetadataReader.getClassReader(resource).accept(recorder, SimpleMetadataReader.PARSING_OPTIONS);
+			entry = new Entry(lastModified, checksum, recorder.toByteArray());
+			this.entries.put(key, entry);
+			this.modified = true;
+			entry.accessed = true;
+			return replay(resource, entry);
+		}
+
+		private MetadataReader replay(Resource resource, Entry entry) {
+			SimpleAnnotationMetadataReadingVisitor visitor =
+					new SimpleAnnotationMetadataReadingVisitor(getResourceLoader().getClassLoader());
+			RecordingClassVisitor.replay(entry.recording, visitor);
+			return new SimpleMetadataReader(resource, visitor.getMetadata());
+		}
+
+		/**
+		 * Return the CRC-32 checksum of the given class file, taken from its
+		 * jar entry if available, or computed from its content otherwise.
+		 */
+		private static long getChecksum(Resource resource, URL url) throws IOException {
+			if (ResourceUtils.isJarURL(url)) {
+				URLConnection con = url.openConnection();
+				if (con instanceof JarURLConnection jarCon) {
+					ResourceUtils.useCachesIfNecessary(jarCon);
+					JarEntry jarEntry = jarCon.getJarEntry();
+					if (jarEntry != null && jarEntry.getCrc() != -1) {
+						return jarEntry.getCrc();
+					}
+				}
+			}
+			CRC32 crc = new CRC32();
+			crc.update(resource.getContentAsByteArray());
+			return crc.getValue();
+		}
+
+		private void load() {
+			try (DataInputStream in = new DataInputStream(
+					new BufferedInputStream(Files.newInputStream(this.cacheFile)))) {
+				if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Ignoring class metadata in " + this.cacheFile + " in unsupported format");
+					}
+					return;
+				}
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String key = in.readUTF();
+					long lastModified = in.readLong();
+					long checksum = in.readLong();
+					byte[] recording = new byte[in.readInt()];
+					in.readFully(recording);
+					this.entries.put(key, new Entry(lastModified, checksum, recording));
+				}
+				if (logger.isDebugEnabled()) {
+					logger.debug("Loaded class metadata for " + count + " class files from " + this.cacheFile);
+				}
+			}
+			catch (NoSuchFileException ex) {
+				// Cold start
+			}
+			catch (IOException ex) {
+				this.entries.clear();
+				if (logger.isWarnEnabled()) {
+					logger.warn("Ignoring unreadable class metadata in " + this.cacheFile, ex);
+				}
+			}
+		}
+
+		synchronized void save() throws IOException {
+			if (!this.modified) {
+				return;
+			}
+			Path directory = this.cacheFile.toAbsolutePath().getParent();
+			Assert.state(directory != null, "No parent directory for cache file");
+			Files.createDirectories(directory);
+			Path tempFile = Files.createTempFile(directory, this.cacheFile.getFileName().toString(), ".tmp");
+			Map<String, Entry> accessed = new LinkedHashMap<>(this.entries.size());
+			this.entries.forEach((key, entry) -> {
+				if (entry.accessed) {
+					accessed.put(key, entry);
+				}
+			});
+			try {
+				try (DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(accessed.size());
+					for (Map.Entry<String, Entry> element : accessed.entrySet()) {
+						Entry entry = element.getValue();
+						out.writeUTF(element.getKey());
+						out.writeLong(entry.lastModified);
+						out.writeLong(entry.checksum);
+						out.writeInt(entry.recording.length);
+						out.write(entry.recording);
+					}
+				}
+				try {
+					Files.move(tempFile, this.cacheFile,
+							StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException ex) {
+					Files.move(tempFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING);
+				}
+				this.modified = false;
+				if (logger.isDebugEnabled()) {
+					logger.debug("Saved class metadata for " + accessed.size() + " class files to " + this.cacheFile);
+				}
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+	}
+
+
+	/**
+	 * Recorded class metadata for a class file.
+	 */
+	private static final class Entry {
+
+		final long lastModified;
+
+		final long checksum;
+
+		final byte[] recording;
+
+		volatile boolean accessed;
+
+		Entry(long lastModified, long checksum, byte[] recording) {
+			this.lastModified = lastModified;
+			this.checksum = checksum;
+			this.recording = recording;
+		}
+	}
+
+}
@@ -0,0 +1,563 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+
+/**
+ * ASM class visitor that records the events relevant to class metadata in a
+ * compact binary form, which can be {@linkplain #replay replayed} against
+ * another class visitor without parsing the class file again.
+ *
+ * <p>Only runtime-visible class and method annotations are recorded, since
+ * other annotations are not exposed through {@link MetadataReader}.
+ *
+ * @author Phillip Webb
+ * @since 7.0.2
+ * @see PersistentMetadataReaderFactory
+ */
+final class RecordingClassVisitor extends ClassVisitor {
+
+	private static final byte END = 0;
+
+	private static final byte CLASS = 1;
+
+	private static final byte OUTER_CLASS = 2;
+
+	private static final byte INNER_CLASS = 3;
+
+	private static final byte ANNOTATION = 4;
+
+	private static final byte METHOD = 5;
+
+	private static final byte VALUE = 1;
+
+	private static final byte ENUM = 2;
+
+	private static final byte ARRAY = 3;
+
+
+	private final Output output = new Output();
+
+
+	RecordingClassVisitor() {
+		super(SpringAsmInfo.ASM_VERSION);
+	}
+
+
+	@Override
+	public void visit(int version, int access, String name, @Nullable String signature,
+			@Nullable String superName, String @Nullable [] interfaces) {
+
+		this.output.write(CLASS);
+		this.output.writeInt(access);
+		this.output.writeString(name);
+		this.output.writeString(superName);
+		this.output.writeInt(interfaces != null ? interfaces.length : 0);
+		if (interfaces != null) {
+			for (String element : interfaces) {
+				this.output.writeString(element);
+			}
+		}
+	}
+
+	@Override
+	public void visitOuterClass(String owner, @Nullable String name, @Nullable String descriptor) {
+		this.output.write(OUTER_CLASS);
+		this.output.writeString(owner);
+		this.output.writeString(name);
+		this.output.writeString(descriptor);
+	}
+
+	@Override
+	public void visitInnerClass(String name, @Nullable String outerName, @Nullable String innerName, int access) {
+		this.output.write(INNER_CLASS);
+		this.output.writeString(name);
+		this.output.writeString(outerName);
+		this.output.writeString(innerName);
+		this.output.writeInt(access);
+	}
+
+	@Override
+	public @Nullable AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+		if (!visible) {
+			return null;
+		}
+		this.output.write(ANNOTATION);
+		this.output.writeString(descriptor);
+		return new RecordingAnnotationVisitor();
+	}
+
+	@Override
+	public MethodVisitor visitMethod(int access, String name, String descriptor,
+			@Nullable String signature, String @Nullable [] exceptions) {
+
+		this.output.write(METHOD);
+		this.output.writeInt(access);
+		this.output.writeString(name);
+		this.output.writeString(descriptor);
+		return new RecordingMethodVisitor();
+	}
+
+	@Override
+	public void visitEnd() {
+		this.output.write(END);
+	}
+
+	/**
+	 * Return the recorded events.
+	 */
+	byte[] toByteArray() {
+		return this.output.toByteArray();
+	}
+
+
+	/**
+	 * Replay the given recorded events against the given class visitor.
+	 * @param recording the events as returned from {@link #toByteArray()}
+	 * @param visitor the class visitor to notify
+	 * @throws IllegalArgumentException if the recording is malformed
+	 */
+	static void replay(byte[] recording, ClassVisitor visitor) {
+		Input input = new Input(recording);
+		try {
+			byte event;
+			while ((event = input.read()) != END) {
+				switch (event) {
+					case CLASS -> {
+						int access = input.readInt();
+						String name = input.readRequiredString();
+						String superName = input.readString();
+						String[] interfaces = new String[input.readInt()];
+						for (int i = 0; i < interfaces.length; i++) {
+							interfaces[i] = input.readRequiredString();
+						}
+						visitor.visit(0, access, name, null, superName, interfaces);
+					}
+					case OUTER_CLASS -> visitor.visitOuterClass(
+							input.readRequiredString(), input.readString(), input.readString());
+					case INNER_CLASS -> visitor.visitInnerClass(
+							input.readRequiredString(), input.readString(), input.readString(), input.readInt());
+					case ANNOTATION -> replayAnnotation(input,
+							visitor.visitAnnotation(input.readRequiredString(), true));
+					case METHOD -> replayMethod(input,
+							visitor.visitMethod(input.readInt(), input.readRequiredString(),
+									input.readRequiredString(), null, null));
+					default -> throw new IllegalArgumentException("Unexpected class event " + event);
+				}
+			}
+			visitor.visitEnd();
+		}
+		catch (IndexOutOfBoundsException | NegativeArraySizeException ex) {
+			throw new IllegalArgumentException("Truncated or corrupt class metadata recording", ex);
+		}
+	}
+
+	private static void replayMethod(Input input, @Nullable MethodVisitor visitor) {
+		byte event;
+		while ((event = input.read()) != END) {
+			if (event != ANNOTATION) {
+				throw new IllegalArgumentException("Unexpected method event " + event);
+			}
+			String descriptor = input.readRequiredString();
+			replayAnnotation(input, (visitor != null ? visitor.visitAnnotation(descriptor, true) : null));
+		}
+		if (visitor != null) {
+			visitor.visitEnd();
+		}
+	}
+
+	private static void replayAnnotation(Input input, @Nullable AnnotationVisitor visitor) {
+		// Always consume the recorded events, even if the visitor is not interested
+		byte event;
+		while ((event = input.read()) != END) {
+			String name = input.readString();
+			switch (event) {
+				case VALUE -> {
+					Object value = input.readValue();
+					if (visitor != null) {
+						visitor.visit(name, value);
+					}
+				}
+				case ENUM -> {
+					String descriptor = input.readRequiredString();
+					String value = input.readRequiredString();
+					if (visitor != null) {
+						visitor.visitEnum(name, descriptor, value);
+					}
+				}
+				case ANNOTATION -> {
+					String descriptor = input.readRequiredString();
+					replayAnnotation(input, (visitor != null ? visitor.visitAnnotation(name, descriptor) : null));
+				}
+				case ARRAY -> replayAnnotation(input, (visitor != null ? visitor.visitArray(name) : null));
+				default -> throw new IllegalArgumentException("Unexpected annotation event " + event);
+			}
+		}
+		if (visitor != null) {
+			visitor.visitEnd();
+		}
+	}
+
+
+	/**
+	 * {@link MethodVisitor} that records method annotations.
+	 */
+	private final class RecordingMethodVisitor extends MethodVisitor {
+
+		RecordingMethodVisitor() {
+			super(SpringAsmInfo.ASM_VERSION);
+		}
+
+		@Override
+		public @Nullable AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			return RecordingClassVisitor.this.visitAnnotation(descriptor, visible);
+		}
+
+		@Override
+		public void visitEnd() {
+			output.write(END);
+		}
+	}
+
+
+	/**
+	 * {@link AnnotationVisitor} that records annotation attributes, including
+	 * nested annotations and arrays.
+	 */
+	private final class RecordingAnnotationVisitor extends AnnotationVisitor {
+
+		RecordingAnnotationVisitor() {
+			super(SpringAsmInfo.ASM_VERSION);
+		}
+
+		@Override
+		public void visit(@Nullable String name, Object value) {
+			output.write(VALUE);
+			output.writeString(name);
+			output.writeValue(value);
+		}
+
+		@Override
+		public void visitEnum(@Nullable String name, String descriptor, String value) {
+			output.write(ENUM);
+			output.writeString(name);
+			output.writeString(descriptor);
+			output.writeString(value);
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(@Nullable String name, String descriptor) {
+			output.write(ANNOTATION);
+			output.writeString(name);
+			output.writeString(descriptor);
+			return new RecordingAnnotationVisitor();
+		}
+
+		@Override
+		public AnnotationVisitor visitArray(@Nullable String name) {
+			output.write(ARRAY);
+			output.writeString(name);
+			return new RecordingAnnotationVisitor();
+		}
+
+		@Override
+		public void visitEnd() {
+			output.write(END);
+		}
+	}
+
+
+	/**
+	 * Output for recorded events, encoding values as they are reported by
+	 * {@link org.springframework.asm.ClassReader}.
+	 */
+	private static final class Output extends ByteArrayOutputStream {
+
+		Output() {
+			super(256);
+		}
+
+		void writeInt(int value) {
+			write(value >>> 24);
+			write(value >>> 16);
+			write(value >>> 8);
+			write(value);
+		}
+
+		void writeLong(long value) {
+			writeInt((int) (value >>> 32));
+			writeInt((int) value);
+		}
+
+		void writeString(@Nullable String value) {
+			if (value == null) {
+				writeInt(-1);
+				return;
+			}
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeInt(bytes.length);
+			write(bytes, 0, bytes.length);
+		}
+
+		void writeValue(Object value) {
+			if (value instanceof String string) {
+				write('s');
+				writeString(string);
+			}
+			else if (value instanceof Type type) {
+				write('T');
+				writeString(type.getDescriptor());
+			}
+			else if (value instanceof Integer number) {
+				write('I');
+				writeInt(number);
+			}
+			else if (value instanceof Long number) {
+				write('J');
+				writeLong(number);
+			}
+			else if (value instanceof Boolean bool) {
+				write('Z');
+				write(bool ? 1 : 0);
+			}
+			else if (value instanceof Byte number) {
+				write('B');
+				write(number);
+			}
+			else if (value instanceof Character character) {
+				write('C');
+				writeInt(character);
+			}
+			else if (value instanceof Short number) {
+				write('S');
+				writeInt(number);
+			}
+			else if (value instanceof Float number) {
+				write('F');
+				writeInt(Float.floatToRawIntBits(number));
+			}
+			else if (value instanceof Double number) {
+				write('D');
+				writeLong(Double.doubleToRawLongBits(number));
+			}
+			else if (value.getClass().isArray()) {
+				writeArray(value);
+			}
+			else {
+				throw new IllegalArgumentException("Unsupported annotation value type: " + value.getClass().getName());
+			}
+		}
+
+		private void writeArray(Object array) {
+			write('[');
+			if (array instanceof int[] elements) {
+				write('I');
+				writeInt(elements.length);
+				for (int element : elements) {
+					writeInt(element);
+				}
+			}
+			else if (array instanceof long[] elements) {
+				write('J');
+				writeInt(elements.length);
+				for (long element : elements) {
+					writeLong(element);
+				}
+			}
+			else if (array instanceof boolean[] elements) {
+				write('Z');
+				writeInt(elements.length);
+				for (boolean element : elements) {
+					write(element ? 1 : 0);
+				}
+			}
+			else if (array instanceof byte[] elements) {
+				write('B');
+				writeInt(elements.length);
+				write(elements, 0, elements.length);
+			}
+			else if (array instanceof char[] elements) {
+				write('C');
+				writeInt(elements.length);
+				for (char element : elements) {
+					writeInt(element);
+				}
+			}
+			else if (array instanceof short[] elements) {
+				write('S');
+				writeInt(elements.length);
+				for (short element : elements) {
+					writeInt(element);
+				}
+			}
+			else if (array instanceof float[] elements) {
+				write('F');
+				writeInt(elements.length);
+				for (float element : elements) {
+					writeInt(Float.floatToRawIntBits(element));
+				}
+			}
+			else if (array instanceof double[] elements) {
+				write('D');
+				writeInt(elements.length);
+				for (double element : elements) {
+					writeLong(Double.doubleToRawLongBits(element));
+				}
+			}
+			else {
+				throw new IllegalArgumentException("Unsupported annotation value type: " + array.getClass().getName());
+			}
+		}
+	}
+
+
+	/**
+	 * Input for recorded events, reading what {@link Output} has written.
+	 */
+	private static final class Input {
+
+		private final byte[] bytes;
+
+		private int position;
+
+		Input(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		byte read() {
+			return this.bytes[this.position++];
+		}
+
+		int readInt() {
+			return ((read() & 0xFF) << 24) | ((read() & 0xFF) << 16) | ((read() & 0xFF) << 8) | (read() & 0xFF);
+		}
+
+		long readLong() {
+			return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+		}
+
+		@Nullable String readString() {
+			int length = readInt();
+			if (length < 0) {
+				return null;
+			}
+			String value = new String(this.bytes, this.position, length, StandardCharsets.UTF_8);
+			this.position += length;
+			return value;
+		}
+
+		String readRequiredString() {
+			String value = readString();
+			if (value == null) {
+				throw new IllegalArgumentException("Unexpected null value in class metadata recording");
+			}
+			return value;
+		}
+
+		Object readValue() {
+			byte type = read();
+			return switch (type) {
+				case 's' -> readRequiredString();
+				case 'T' -> Type.getType(readRequiredString());
+				case 'I' -> readInt();
+				case 'J' -> readLong();
+				case 'Z' -> (read() != 0);
+				case 'B' -> read();
+				case 'C' -> (char) readInt();
+				case 'S' -> (short) readInt();
+				case 'F' -> Float.intBitsToFloat(readInt());
+				case 'D' -> Double.longBitsToDouble(readLong());
+				case '[' -> readArray();
+				default -> throw new IllegalArgumentException("Unexpected annotation value type " + type);
+			};
+		}
+
+		private Object readArray() {
+			byte componentType = read();
+			int length = readInt();
+			switch (componentType) {
+				case 'I' -> {
+					int[] array = new int[length];
+					for (int i = 0; i < length; i++) {
+						array[i] = readInt();
+					}
+					return array;
+				}
+				case 'J' -> {
+					long[] array = new long[length];
+					for (int i = 0; i < length; i++) {
+						array[i] = readLong();
+					}
+					return array;
+				}
+				case 'Z' -> {
+					boolean[] array = new boolean[length];
+					for (int i = 0; i < length; i++) {
+						array[i] = (read() != 0);
+					}
+					return array;
+				}
+				case 'B' -> {
+					byte[] array = new byte[length];
+					System.arraycopy(this.bytes, this.position, array, 0, length);
+					this.position += length;
+					return array;
+				}
+				case 'C' -> {
+					char[] array = new char[length];
+					for (int i = 0; i < length; i++) {
+						array[i] = (char) readInt();
+					}
+					return array;
+				}
+				case 'S' -> {
+					short[] array = new short[length];
+					for (int i = 0; i < length; i++) {
+						array[i] = (short) readInt();
+					}
+					return array;
+				}
+				case 'F' -> {
+					float[] array = new float[length];
+					for (int i = 0; i < length; i++) {
+						array[i] = Float.intBitsToFloat(readInt());
+					}
+					return array;
+				}
+				case 'D' -> {
+					double[] array = new double[length];
+					for (int i = 0; i < length; i++) {
+						array[i] = Double.longBitsToDouble(readLong());
+					}
+					return array;
+				}
+				default -> throw new IllegalArgumentException("Unexpected annotation array type " + componentType);
+			}
+		}
+	}
+
+}
@@ -24,8 +24,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
@@ -37,6 +39,11 @@ import org.jspecify.annotations.Nullable;
  * <a href="https://github.com/ben-manes/concurrentlinkedhashmap">ConcurrentLinkedHashMap</a>.
  * <p>Read and write operations are internally recorded in dedicated buffers,
  * then drained at chosen times to avoid contention.
+ * <p>Optionally, a frequency-aware admission policy inspired from
+ * <a href="https://arxiv.org/abs/1512.00727">W-TinyLFU</a> protects frequently
+ * used entries from being evicted by bursts of entries that are used only once,
+ * such as a scan over many distinct keys. If enabled, hit, miss, and eviction
+ * counts are available through {@link #statistics()}.
  *
  * @author Brian Clozel
  * @author Ben Manes
@@ -68,8 +75,21 @@ public final class ConcurrentLruCache<K, V> {
 	 */
 	private final EvictionQueue<K, V> evictionQueue = new EvictionQueue<>();
 
+	/*
+	 * Admission policy, with its own queues replacing the eviction queue, if frequency-aware.
+	 */
+	private final @Nullable FrequencyAdmission<K, V> admission;
+
 	private final AtomicReference<DrainStatus> drainStatus = new AtomicReference<>(DrainStatus.IDLE);
 
+	private final boolean recordStatistics;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
 	/**
 	 * Create a new cache instance with the given capacity and generator function.
 	 * @param capacity the maximum number of entries in the cache
@@ -77,15 +97,59 @@ public final class ConcurrentLruCache<K, V> {
 	 * @param generator a function to generate a new value for a given key
 	 */
 	public ConcurrentLruCache(int capacity, Function<K, V> generator) {
-		this(capacity, generator, 16);
+		this(capacity, generator, false);
+	}
+
+	/**
+	 * Create a new cache instance with the given capacity and generator function,
+	 * and with or without a frequency-aware admission policy.
+	 * <p>With frequency-aware admission, new entries are first held in a small
+	 * window. An entry that leaves the window is only retained if it has been used
+	 * more frequently than the least recently used entry it would replace, as
+	 * estimated from a compact sketch of the recent usage of keys.
+	 * @param capacity the maximum number of entries in the cache
+	 * (0 indicates no caching, always generating a new value)
+	 * @param generator a function to generate a new value for a given key
+	 * @param frequencyAdmission whether to admit entries based on their frequency
+	 * of use rather than recency alone
+	 * @since 7.0.2
+	 */
+	public ConcurrentLruCache(int capacity, Function<K, V> generator, boolean frequencyAdmission) {
+		this(capacity, generator, frequencyAdmission, false);
+	}
+
+	/**
+	 * Create a new cache instance with the given capacity and generator function,
+	 * with or without a frequency-aware admission policy, and with or without
+	 * recording {@link #statistics() statistics}.
+	 * <p>Statistics are not recorded by default, avoiding the overhead of
+	 * updating shared counters on every lookup.
+	 * @param capacity the maximum number of entries in the cache
+	 * (0 indicates no caching, always generating a new value)
+	 * @param generator a function to generate a new value for a given key
+	 * @param frequencyAdmission whether to admit entries based on their frequency
+	 * of use rather than recency alone
+	 * @param recordStatistics whether to record hit, miss, and eviction counts
+	 * @since 7.0.2
+	 * @see #statistics()
+	 */
+	public ConcurrentLruCache(int capacity, Function<K, V> generator,
+			boolean frequencyAdmission, boolean recordStatistics) {
+
+		this(capacity, generator, frequencyAdmission, recordStatistics, 16);
 	}
 
-	private ConcurrentLruCache(int capacity, Function<K, V> generator, int concurrencyLevel) {
+	private ConcurrentLruCache(int capacity, Function<K, V> generator,
+			boolean frequencyAdmission, boolean recordStatistics, int concurrencyLevel) {
+
 		Assert.isTrue(capacity >= 0, "Capacity must be >= 0");
 		this.capacity = capacity;
 		this.cache = new ConcurrentHashMap<>(16, 0.75f, concurrencyLevel);
 		this.generator = generator;
-		this.readOperations = new ReadOperations<>(this.evictionQueue);
+		this.recordStatistics = recordStatistics;
+		this.admission = (frequencyAdmission && capacity > 0 ? new FrequencyAdmission<>(capacity) : null);
+		this.readOperations = new ReadOperations<>(
+				this.admission != null ? this.admission::recordAccess : this.evictionQueue::moveToBack);
 		this.writeOperations = new WriteOperations();
 	}
 
@@ -96,14 +160,23 @@ public final class ConcurrentLruCache<K, V> {
 	 */
 	public V get(K key) {
 		if (this.capacity == 0) {
+			if (this.recordStatistics) {
+				this.missCount.increment();
+			}
 			return this.generator.apply(key);
 		}
 		final Node<K, V> node = this.cache.get(key);
 		if (node == null) {
+			if (this.recordStatistics) {
+				this.missCount.increment();
+			}
 			V value = this.generator.apply(key);
 			put(key, value);
 			return value;
 		}
+		if (this.recordStatistics) {
+			this.hitCount.increment();
+		}
 		processRead(node);
 		return node.getValue();
 	}
@@ -175,6 +248,17 @@ public final class ConcurrentLruCache<K, V> {
 		return this.cache.size();
 	}
 
+	/**
+	 * Return a snapshot of the hit, miss, and eviction counts of this cache.
+	 * @throws IllegalStateException if this cache does not record statistics
+	 * @since 7.0.2
+	 * @see #ConcurrentLruCache(int, Function, boolean, boolean)
+	 */
+	public Statistics statistics() {
+		Assert.state(this.recordStatistics, "Statistics are not recorded for this cache");
+		return new Statistics(this.hitCount.sum(), this.missCount.sum(), this.evictionCount.sum());
+	}
+
 	/**
 	 * Immediately remove all entries from this cache.
 	 */
@@ -182,7 +266,7 @@ public final class ConcurrentLruCache<K, V> {
 		this.evictionLock.lock();
 		try {
 			Node<K, V> node;
-			while ((node = this.evictionQueue.poll()) != null) {
+			while ((node = (this.admission != null ? this.admission.poll() : this.evictionQueue.poll())) != null) {
 				this.cache.remove(node.key, node);
 				markAsRemoved(node);
 			}
@@ -264,19 +348,27 @@ public final class ConcurrentLruCache<K, V> {
 		public void run() {
 			currentSize.lazySet(currentSize.get() + 1);
 			if (this.node.get().isActive()) {
-				evictionQueue.add(this.node);
+				if (admission != null) {
+					admission.add(this.node);
+				}
+				else {
+					evictionQueue.add(this.node);
+				}
 				evictEntries();
 			}
 		}
 
 		private void evictEntries() {
 			while (currentSize.get() > capacity) {
-				final Node<K, V> node = evictionQueue.poll();
+				final Node<K, V> node = (admission != null ? admission.selectVictim() : evictionQueue.poll());
 				if (node == null) {
 					return;
 				}
 				cache.remove(node.key, node);
 				markAsRemoved(node);
+				if (recordStatistics) {
+					evictionCount.increment();
+				}
 			}
 		}
 
@@ -295,7 +387,12 @@ public final class ConcurrentLruCache<K, V> {
 
 		@Override
 		public void run() {
-			evictionQueue.remove(this.node);
+			if (admission != null) {
+				admission.remove(this.node);
+			}
+			else {
+				evictionQueue.remove(this.node);
+			}
 			markAsRemoved(this.node);
 		}
 	}
@@ -344,6 +441,32 @@ public final class ConcurrentLruCache<K, V> {
 		abstract boolean shouldDrainBuffers(boolean delayable);
 	}
 
+	/**
+	 * Snapshot of the statistics of a cache.
+	 * @param hitCount the number of lookups that found a cached value
+	 * @param missCount the number of lookups that generated a new value
+	 * @param evictionCount the number of entries evicted to stay within capacity
+	 * @since 7.0.2
+	 */
+	public record Statistics(long hitCount, long missCount, long evictionCount) {
+
+		/**
+		 * Return the total number of lookups.
+		 */
+		public long requestCount() {
+			return this.hitCount + this.missCount;
+		}
+
+		/**
+		 * Return the ratio of lookups that found a cached value,
+		 * or {@code 1.0} if there were no lookups yet.
+		 */
+		public double hitRate() {
+			long requestCount = requestCount();
+			return (requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount);
+		}
+	}
+
 	private enum CacheEntryState {
 		ACTIVE, PENDING_REMOVAL, REMOVED
 	}
@@ -393,10 +516,10 @@ public final class ConcurrentLruCache<K, V> {
 		@SuppressWarnings("rawtypes")
 		private final AtomicReferenceArray<Node<K, V>>[] buffers = new AtomicReferenceArray[BUFFER_COUNT];
 
-		private final EvictionQueue<K, V> evictionQueue;
+		private final Consumer<Node<K, V>> accessRecorder;
 
-		ReadOperations(EvictionQueue<K, V> evictionQueue) {
-			this.evictionQueue = evictionQueue;
+		ReadOperations(Consumer<Node<K, V>> accessRecorder) {
+			this.accessRecorder = accessRecorder;
 			for (int i = 0; i < BUFFER_COUNT; i++) {
 				this.buffers[i] = new AtomicReferenceArray<>(BUFFER_SIZE);
 			}
@@ -445,7 +568,7 @@ public final class ConcurrentLruCache<K, V> {
 					break;
 				}
 				buffer.lazySet(index, null);
-				this.evictionQueue.moveToBack(node);
+				this.accessRecorder.accept(node);
 				this.readCount[bufferIndex]++;
 			}
 			this.processedCount.lazySet(bufferIndex, writeCount);
@@ -489,6 +612,8 @@ public final class ConcurrentLruCache<K, V> {
 
 		@Nullable Node<K, V> next;
 
+		@Nullable Segment segment;
+
 		Node(K key, CacheEntry<V> cacheEntry) {
 			super(cacheEntry);
 			this.key = key;
@@ -522,6 +647,8 @@ public final class ConcurrentLruCache<K, V> {
 
 		@Nullable Node<K, V> last;
 
+		int size;
+
 
 		@Nullable Node<K, V> poll() {
 			if (this.first == null) {
@@ -538,6 +665,7 @@ public final class ConcurrentLruCache<K, V> {
 			else {
 				next.setPrevious(null);
 			}
+			this.size--;
 			return f;
 		}
 
@@ -555,6 +683,7 @@ public final class ConcurrentLruCache<K, V> {
 		private void linkLast(final Node<K, V> e) {
 			final Node<K, V> l = this.last;
 			this.last = e;
+			this.size++;
 
 			if (l == null) {
 				this.first = e;
@@ -582,6 +711,7 @@ public final class ConcurrentLruCache<K, V> {
 				next.setPrevious(prev);
 				e.setNext(null);
 			}
+			this.size--;
 		}
 
 		void moveToBack(Node<K, V> e) {
@@ -599,4 +729,202 @@ public final class ConcurrentLruCache<K, V> {
 
 	}
 
+
+	/*
+	 * Segment of the frequency-aware admission policy that a node belongs to.
+	 */
+	private enum Segment {
+		WINDOW, PROBATION, PROTECTED
+	}
+
+
+	/**
+	 * Frequency-aware admission policy that splits entries into a small admission
+	 * window and a main space made of a probation and a protected segment, each
+	 * ordered with least recently used entries first. Entries leaving the window
+	 * enter probation, and are promoted to the protected segment when used again.
+	 * When the cache is full, the newest entry in probation competes with the
+	 * least recently used one, and the less frequently used of both is evicted.
+	 * <p>All operations are performed while holding the eviction lock.
+	 */
+	private static final class FrequencyAdmission<K, V> {
+
+		private final FrequencySketch sketch;
+
+		private final EvictionQueue<K, V> window = new EvictionQueue<>();
+
+		private final EvictionQueue<K, V> probation = new EvictionQueue<>();
+
+		private final EvictionQueue<K, V> protectedQueue = new EvictionQueue<>();
+
+		private final int maxWindowSize;
+
+		private final int maxProtectedSize;
+
+		FrequencyAdmission(int capacity) {
+			this.sketch = new FrequencySketch(capacity);
+			this.maxWindowSize = Math.max(1, capacity / 100);
+			this.maxProtectedSize = (int) ((capacity - this.maxWindowSize) * 0.8);
+		}
+
+		void add(Node<K, V> node) {
+			this.sketch.increment(node.key);
+			node.segment = Segment.WINDOW;
+			this.window.add(node);
+			while (this.window.size > this.maxWindowSize) {
+				Node<K, V> candidate = this.window.poll();
+				if (candidate == null) {
+					break;
+				}
+				candidate.segment = Segment.PROBATION;
+				this.probation.add(candidate);
+			}
+		}
+
+		void recordAccess(Node<K, V> node) {
+			EvictionQueue<K, V> queue = queueOf(node);
+			if (queue == null || !queue.contains(node)) {
+				return;
+			}
+			this.sketch.increment(node.key);
+			if (node.segment == Segment.PROBATION) {
+				this.probation.remove(node);
+				node.segment = Segment.PROTECTED;
+				this.protectedQueue.add(node);
+				while (this.protectedQueue.size > this.maxProtectedSize) {
+					Node<K, V> demoted = this.protectedQueue.poll();
+					if (demoted == null) {
+						break;
+					}
+					demoted.segment = Segment.PROBATION;
+					this.probation.add(demoted);
+				}
+			}
+			else {
+				queue.moveToBack(node);
+			}
+		}
+
+		void remove(Node<K, V> node) {
+			EvictionQueue<K, V> queue = queueOf(node);
+			if (queue != null) {
+				queue.remove(node);
+			}
+		}
+
+		@Nullable Node<K, V> selectVictim() {
+			Node<K, V> victim = this.probation.first;
+			Node<K, V> candidate = this.probation.last;
+			if (victim == null || candidate == null) {
+				Node<K, V> node = this.protectedQueue.poll();
+				return (node != null ? node : this.window.poll());
+			}
+			if (victim != candidate &&
+					this.sketch.frequency(candidate.key) <= this.sketch.frequency(victim.key)) {
+				victim = candidate;
+			}
+			this.probation.remove(victim);
+			return victim;
+		}
+
+		@Nullable Node<K, V> poll() {
+			Node<K, V> node = this.window.poll();
+			if (node == null) {
+				node = this.probation.poll();
+			}
+			if (node == null) {
+				node = this.protectedQueue.poll();
+			}
+			return node;
+		}
+
+		private @Nullable EvictionQueue<K, V> queueOf(Node<K, V> node) {
+			if (node.segment == null) {
+				return null;
+			}
+			return switch (node.segment) {
+				case WINDOW -> this.window;
+				case PROBATION -> this.probation;
+				case PROTECTED -> this.protectedQueue;
+			};
+		}
+	}
+
+
+	/**
+	 * Count-Min sketch estimating the recent frequency of use of keys with
+	 * four 4-bit counters per key. All counters are halved periodically so
+	 * that the estimates favor recent usage.
+	 */
+	private static final class FrequencySketch {
+
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+
+		private final int tableMask;
+
+		private final int sampleSize;
+
+		private int additions;
+
+		FrequencySketch(int capacity) {
+			int maximum = Math.min(Math.max(capacity, 8), 1 << 30);
+			this.table = new long[1 << (Integer.SIZE - Integer.numberOfLeadingZeros(maximum - 1))];
+			this.tableMask = this.table.length - 1;
+			this.sampleSize = 10 * maximum;
+		}
+
+		int frequency(Object key) {
+			int hash = spread(key.hashCode());
+			int frequency = Integer.MAX_VALUE;
+			for (int i = 0; i < 4; i++) {
+				long count = (this.table[indexOf(hash, i)] >>> offsetOf(hash, i)) & 0xfL;
+				frequency = Math.min(frequency, (int) count);
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			int hash = spread(key.hashCode());
+			boolean added = false;
+			for (int i = 0; i < 4; i++) {
+				int index = indexOf(hash, i);
+				int offset = offsetOf(hash, i);
+				if (((this.table[index] >>> offset) & 0xfL) != 0xfL) {
+					this.table[index] += (1L << offset);
+					added = true;
+				}
+			}
+			if (added && ++this.additions == this.sampleSize) {
+				reset();
+			}
+		}
+
+		private void reset() {
+			for (int i = 0; i < this.table.length; i++) {
+				this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+			}
+			this.additions = this.additions >>> 1;
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = (hash + SEEDS[i]) * SEEDS[i];
+			h += (h >>> 32);
+			return ((int) h) & this.tableMask;
+		}
+
+		private static int offsetOf(int hash, int i) {
+			return ((hash >>> (i << 3)) & 0xf) << 2;
+		}
+
+		private static int spread(int hash) {
+			int h = hash * 0x9e3779b9;
+			return h ^ (h >>> 16);
+		}
+	}
+
 }
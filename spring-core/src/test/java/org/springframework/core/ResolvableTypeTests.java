@@ -1225,6 +1225,45 @@ class ResolvableTypeTests {
 		assertThat(wildcardConsumer.as(Consumer.class).getGeneric().isAssignableFromResolvedPart(wildcard)).isTrue();
 	}
 
+	@Test
+	void isAssignableFromWithStructurallyEqualTypes() throws Exception {
+		ResolvableType.clearCache();
+		for (int i = 0; i < 2; i++) {
+			ResolvableType charSequenceList = ResolvableType.forField(Fields.class.getField("charSequenceList"));
+			ResolvableType stringList = ResolvableType.forField(Fields.class.getField("stringList"));
+			ResolvableType wildcardType = ResolvableType.forField(Fields.class.getField("wildcardType"));
+			ResolvableType integerList = ResolvableType.forClassWithGenerics(List.class, Integer.class);
+
+			assertThat(charSequenceList.isAssignableFrom(stringList)).isFalse();
+			assertThat(stringList.isAssignableFrom(ResolvableType.forClassWithGenerics(List.class, String.class))).isTrue();
+			assertThat(wildcardType.isAssignableFrom(integerList)).isTrue();
+			assertThat(wildcardType.isAssignableFrom(stringList)).isFalse();
+			assertThat(integerList.isAssignableFrom(wildcardType)).isFalse();
+			assertThat(integerList.isAssignableFrom(ResolvableType.forClassWithGenerics(ArrayList.class, Integer.class))).isTrue();
+			assertThat(integerList.isAssignableFrom(ArrayList.class)).isFalse();
+		}
+		ResolvableType.clearCache();
+	}
+
+	@Test
+	void isAssignableFromCachesGenericChecks() throws Exception {
+		ResolvableType.clearCache();
+		assertThat(ResolvableType.getAssignabilityCacheSize()).isZero();
+
+		for (int i = 0; i < 2; i++) {
+			ResolvableType stringList = ResolvableType.forField(Fields.class.getField("stringList"));
+			ResolvableType integerList = ResolvableType.forClassWithGenerics(List.class, Integer.class);
+			assertThat(stringList.isAssignableFrom(integerList)).isFalse();
+			assertThat(ResolvableType.getAssignabilityCacheSize()).isEqualTo(1);
+		}
+
+		assertThat(ResolvableType.forClass(Object.class).isAssignableFrom(ResolvableType.forClass(String.class))).isTrue();
+		assertThat(ResolvableType.getAssignabilityCacheSize()).isEqualTo(1);
+
+		ResolvableType.clearCache();
+		assertThat(ResolvableType.getAssignabilityCacheSize()).isZero();
+	}
+
 	@Test
 	void strictGenericsMatching() {
 		ResolvableType consumerUnresolved = ResolvableType.forClass(Consumer.class);
@@ -34,6 +34,7 @@ import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionHandle;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalConverter;
@@ -410,6 +411,44 @@ class GenericConversionServiceTests {
 		assertThat(conversionService.canConvert(String.class, Color.class)).isFalse();
 	}
 
+	@Test
+	void conversionHandle() {
+		conversionService.addConverterFactory(new StringToNumberConverterFactory());
+		ConversionHandle handle = conversionService.getConversionHandle(
+				TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(int.class));
+		assertThat(handle.convert("3")).isEqualTo(3);
+		assertThat(handle.convert(" 0x10 ")).isEqualTo(16);
+		assertThatExceptionOfType(ConversionFailedException.class).isThrownBy(() -> handle.convert(null));
+		assertThatExceptionOfType(ConversionFailedException.class).isThrownBy(() -> handle.convert("x"));
+		assertThatIllegalArgumentException().isThrownBy(() -> handle.convert(3L));
+	}
+
+	@Test
+	void conversionHandleWithoutConverter() {
+		ConversionHandle handle = conversionService.getConversionHandle(
+				TypeDescriptor.valueOf(Integer.class), TypeDescriptor.valueOf(Number.class));
+		assertThat(handle.convert(3)).isSameAs(3);
+		assertThat(handle.convert(null)).isNull();
+
+		ConversionHandle notFound = conversionService.getConversionHandle(
+				TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Color.class));
+		assertThat(notFound.convert(null)).isNull();
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() -> notFound.convert("#FFF"));
+	}
+
+	@Test
+	void conversionHandleReflectsConverterRegistryChanges() {
+		ConversionHandle handle = conversionService.getConversionHandle(
+				TypeDescriptor.valueOf(String.class), TypeDescriptor.valueOf(Color.class));
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() -> handle.convert("#000000"));
+
+		conversionService.addConverter(new ColorConverter());
+		assertThat(handle.convert("#000000")).isEqualTo(Color.BLACK);
+
+		conversionService.removeConvertible(String.class, Color.class);
+		assertThatExceptionOfType(ConverterNotFoundException.class).isThrownBy(() -> handle.convert("#000000"));
+	}
+
 	@Test
 	void conditionalConverter() {
 		MyConditionalConverter converter = new MyConditionalConverter();
@@ -344,6 +344,95 @@ class PropertySourcesPropertyResolverTests {
 	}
 
 
+	@Nested
+	class PropertyIndexTests {
+
+		private final MutablePropertySources sources = new MutablePropertySources();
+
+		private final PropertySourcesPropertyResolver resolver = new PropertySourcesPropertyResolver(sources);
+
+		@BeforeEach
+		void enableIndex() {
+			resolver.setPropertyIndexEnabled(true);
+		}
+
+		@Test
+		void propertySourceSearchOrderIsFIFO() {
+			sources.addLast(new MockPropertySource("ps1").withProperty("pName", "ps1Value"));
+			sources.addLast(new MockPropertySource("ps2").withProperty("pName", "ps2Value").withProperty("other", "ps2"));
+
+			assertThat(resolver.getProperty("pName")).isEqualTo("ps1Value");
+			assertThat(resolver.getProperty("other")).isEqualTo("ps2");
+			assertThat(resolver.containsProperty("pName")).isTrue();
+			assertThat(resolver.containsProperty("missing")).isFalse();
+			assertThat(resolver.getProperty("missing")).isNull();
+		}
+
+		@Test
+		void systemEnvironmentVariantsRespectPrecedence() {
+			Map<String, Object> env = new HashMap<>();
+			env.put("MY_PROP_NAME", "env");
+			env.put("lower_case", "env-lower");
+			sources.addLast(new MockPropertySource("first").withProperty("other", "first"));
+			sources.addLast(new SystemEnvironmentPropertySource("env", env));
+			sources.addLast(new MockPropertySource("last").withProperty("my.prop-name", "last"));
+
+			assertThat(resolver.getProperty("my.prop-name")).isEqualTo("env");
+			assertThat(resolver.getProperty("MY.PROP.NAME")).isEqualTo("env");
+			assertThat(resolver.getProperty("lower.case")).isEqualTo("env-lower");
+			// Same canonical name, but not resolved by SystemEnvironmentPropertySource
+			assertThat(resolver.getProperty("LOWER.CASE")).isNull();
+			assertThat(resolver.containsProperty("my.prop.name")).isTrue();
+		}
+
+		@Test
+		void nonEnumerablePropertySourceIsAlwaysSearched() {
+			sources.addLast(new MockPropertySource("enumerable").withProperty("pName", "enumerable"));
+			sources.addFirst(new PropertySource<>("dynamic") {
+				@Override
+				public Object getProperty(String name) {
+					return (name.startsWith("dynamic.") ? name.substring(8) : null);
+				}
+			});
+
+			assertThat(resolver.getProperty("dynamic.value")).isEqualTo("value");
+			assertThat(resolver.getProperty("pName")).isEqualTo("enumerable");
+		}
+
+		@Test
+		void indexIsRebuiltWhenPropertySourcesChange() {
+			sources.addLast(new MockPropertySource("ps1").withProperty("pName", "ps1Value"));
+			assertThat(resolver.getProperty("pName")).isEqualTo("ps1Value");
+
+			sources.addFirst(new MockPropertySource("ps2").withProperty("pName", "ps2Value"));
+			assertThat(resolver.getProperty("pName")).isEqualTo("ps2Value");
+
+			sources.replace("ps2", new MockPropertySource("ps2").withProperty("other", "otherValue"));
+			assertThat(resolver.getProperty("pName")).isEqualTo("ps1Value");
+			assertThat(resolver.getProperty("other")).isEqualTo("otherValue");
+
+			sources.remove("ps1");
+			assertThat(resolver.getProperty("pName")).isNull();
+		}
+
+		@Test
+		void indexIsSnapshotOfPropertyNames() {
+			MockPropertySource propertySource = new MockPropertySource("ps1").withProperty("pName", "ps1Value");
+			sources.addLast(propertySource);
+			assertThat(resolver.getProperty("pName")).isEqualTo("ps1Value");
+
+			// Changed values of indexed names are visible, added names are not
+			propertySource.setProperty("pName", "changed");
+			propertySource.setProperty("added", "value");
+			assertThat(resolver.getProperty("pName")).isEqualTo("changed");
+			assertThat(resolver.getProperty("added")).isNull();
+
+			resolver.setPropertyIndexEnabled(false);
+			assertThat(resolver.getProperty("added")).isEqualTo("value");
+		}
+	}
+
+
 	@Nested
 	class EscapedPlaceholderTests {
 
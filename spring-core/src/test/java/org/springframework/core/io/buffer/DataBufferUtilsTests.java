@@ -55,6 +55,7 @@ import reactor.util.context.Context;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.MappedResource;
 import org.springframework.core.testfixture.io.buffer.AbstractDataBufferAllocatingTests;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -260,6 +261,30 @@ class DataBufferUtilsTests extends AbstractDataBufferAllocatingTests {
 				.verify(Duration.ofSeconds(5));
 	}
 
+	@ParameterizedDataBufferAllocatingTest
+	void readByteBufferResource(DataBufferFactory bufferFactory) {
+		super.bufferFactory = bufferFactory;
+
+		Resource resource = new MappedResource(this.resource, ByteBuffer.wrap("foobarbazqux".getBytes()));
+		Flux<DataBuffer> flux = DataBufferUtils.read(resource, super.bufferFactory, 3);
+
+		verifyReadData(flux);
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void readByteBufferResourcePosition(DataBufferFactory bufferFactory) {
+		super.bufferFactory = bufferFactory;
+
+		Resource resource = new MappedResource(this.resource, ByteBuffer.wrap("foobarbazqux".getBytes()));
+		Flux<DataBuffer> flux = DataBufferUtils.read(resource, 3, super.bufferFactory, 5);
+
+		StepVerifier.create(flux)
+				.consumeNextWith(stringConsumer("barba"))
+				.consumeNextWith(stringConsumer("zqux"))
+				.expectComplete()
+				.verify(Duration.ofSeconds(5));
+	}
+
 	private void verifyReadData(Flux<DataBuffer> buffers) {
 		StepVerifier.create(buffers)
 				.consumeNextWith(stringConsumer("foo"))
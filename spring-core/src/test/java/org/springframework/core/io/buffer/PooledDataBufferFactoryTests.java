@@ -0,0 +1,166 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PooledDataBufferFactory}.
+ */
+class PooledDataBufferFactoryTests {
+
+	private final PooledDataBufferFactory bufferFactory = new PooledDataBufferFactory();
+
+
+	@Test
+	void releasedMemoryIsRecycled() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		assertThat(buffer.capacity()).isEqualTo(256);
+		buffer.write("foo", UTF_8);
+		assertThat(this.bufferFactory.getStatistics().activeBuffers()).isEqualTo(1);
+		assertThat(buffer.release()).isTrue();
+
+		PooledDataBufferFactory.Statistics statistics = this.bufferFactory.getStatistics();
+		assertThat(statistics.activeBuffers()).isZero();
+		assertThat(statistics.recycledBuffers()).isEqualTo(1);
+		assertThat(statistics.pooledBuffers()).isEqualTo(1);
+		assertThat(statistics.pooledBytes()).isEqualTo(256);
+
+		PooledDefaultDataBuffer recycled = this.bufferFactory.allocateBuffer(200);
+		assertThat(recycled.readableByteCount()).isZero();
+		assertThat(recycled.writePosition()).isZero();
+		assertThat(this.bufferFactory.getStatistics().poolHits()).isEqualTo(1);
+		assertThat(this.bufferFactory.getStatistics().pooledBuffers()).isZero();
+		recycled.release();
+	}
+
+	@Test
+	void sizeClasses() {
+		PooledDefaultDataBuffer small = this.bufferFactory.allocateBuffer(0);
+		PooledDefaultDataBuffer medium = this.bufferFactory.allocateBuffer(257);
+		PooledDefaultDataBuffer large = this.bufferFactory.allocateBuffer(PooledDataBufferFactory.DEFAULT_MAX_POOLED_CAPACITY);
+		assertThat(small.capacity()).isEqualTo(256);
+		assertThat(medium.capacity()).isEqualTo(512);
+		assertThat(large.capacity()).isEqualTo(PooledDataBufferFactory.DEFAULT_MAX_POOLED_CAPACITY);
+		small.release();
+		medium.release();
+		large.release();
+
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(300);
+		assertThat(buffer.capacity()).isEqualTo(512);
+		assertThat(this.bufferFactory.getStatistics().poolHits()).isEqualTo(1);
+		buffer.release();
+	}
+
+	@Test
+	void largeBuffersAreNotPooled() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(PooledDataBufferFactory.DEFAULT_MAX_POOLED_CAPACITY + 1);
+		assertThat(buffer.release()).isTrue();
+
+		PooledDataBufferFactory.Statistics statistics = this.bufferFactory.getStatistics();
+		assertThat(statistics.unpooledAllocations()).isEqualTo(1);
+		assertThat(statistics.activeBuffers()).isZero();
+		assertThat(statistics.pooledBuffers()).isZero();
+	}
+
+	@Test
+	void maxPoolSize() {
+		PooledDataBufferFactory factory = new PooledDataBufferFactory(false, 1024, 1024);
+		List<PooledDefaultDataBuffer> buffers = List.of(
+				factory.allocateBuffer(1024), factory.allocateBuffer(1024), factory.allocateBuffer(1024));
+		buffers.forEach(PooledDefaultDataBuffer::release);
+
+		PooledDataBufferFactory.Statistics statistics = factory.getStatistics();
+		assertThat(statistics.recycledBuffers()).isEqualTo(1);
+		assertThat(statistics.discardedBuffers()).isEqualTo(2);
+		assertThat(statistics.pooledBytes()).isEqualTo(1024);
+
+		factory.trim();
+		assertThat(factory.getStatistics().pooledBuffers()).isZero();
+		assertThat(factory.getStatistics().pooledBytes()).isZero();
+	}
+
+	@Test
+	void splitBuffersShareMemory() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(256);
+		buffer.write("foobar", UTF_8);
+		DataBuffer prefix = buffer.split(3);
+		assertThat(prefix.toString(UTF_8)).isEqualTo("foo");
+		assertThat(buffer.toString(UTF_8)).isEqualTo("bar");
+
+		assertThat(buffer.release()).isTrue();
+		assertThat(this.bufferFactory.getStatistics().activeBuffers()).isEqualTo(1);
+		assertThat(DataBufferUtils.release(prefix)).isTrue();
+		assertThat(this.bufferFactory.getStatistics().activeBuffers()).isZero();
+		assertThat(this.bufferFactory.getStatistics().recycledBuffers()).isEqualTo(1);
+	}
+
+	@Test
+	void byteBufferIteratorRetainsMemory() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(256);
+		buffer.write("foo", UTF_8);
+		try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+			assertThat(buffer.release()).isTrue();
+			assertThat(this.bufferFactory.getStatistics().activeBuffers()).isEqualTo(1);
+			ByteBuffer byteBuffer = iterator.next();
+			assertThat(UTF_8.decode(byteBuffer).toString()).isEqualTo("foo");
+		}
+		assertThat(this.bufferFactory.getStatistics().activeBuffers()).isZero();
+	}
+
+	@Test
+	void join() {
+		DataBuffer foo = this.bufferFactory.allocateBuffer(3).write("foo", UTF_8);
+		DataBuffer bar = this.bufferFactory.wrap("bar".getBytes(UTF_8));
+
+		PooledDefaultDataBuffer result = this.bufferFactory.join(List.of(foo, bar));
+		assertThat(result.toString(UTF_8)).isEqualTo("foobar");
+		assertThat(((PooledDataBuffer) foo).isAllocated()).isFalse();
+		assertThat(((PooledDataBuffer) bar).isAllocated()).isFalse();
+		result.release();
+		assertThat(this.bufferFactory.getStatistics().activeBuffers()).isZero();
+	}
+
+	@Test
+	void tooManyReleases() {
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(256);
+		buffer.split(0).release();
+		buffer.release();
+
+		assertThatIllegalStateException().isThrownBy(buffer::release);
+		assertThat(this.bufferFactory.getStatistics().recycledBuffers()).isEqualTo(1);
+	}
+
+	@Test
+	void leakDetection() {
+		this.bufferFactory.setLeakDetection(true);
+		PooledDefaultDataBuffer buffer = this.bufferFactory.allocateBuffer(256);
+		buffer.touch("hint");
+		assertThat(buffer.release()).isTrue();
+
+		assertThat(this.bufferFactory.getStatistics().leakedBuffers()).isZero();
+		assertThat(this.bufferFactory.getStatistics().recycledBuffers()).isEqualTo(1);
+	}
+
+}
@@ -78,6 +78,25 @@ class PooledDataBufferTests {
 		}
 	}
 
+	@Nested
+	class PooledDataBufferFactoryWithPreferDirectTrueTests implements PooledDataBufferTestingTrait {
+
+		@Override
+		public DataBufferFactory createDataBufferFactory() {
+			return new PooledDataBufferFactory();
+		}
+	}
+
+	@Nested
+	class PooledDataBufferFactoryWithPreferDirectFalseTests implements PooledDataBufferTestingTrait {
+
+		@Override
+		public DataBufferFactory createDataBufferFactory() {
+			return new PooledDataBufferFactory(false, PooledDataBufferFactory.DEFAULT_MAX_POOLED_CAPACITY,
+					PooledDataBufferFactory.DEFAULT_MAX_POOL_SIZE);
+		}
+	}
+
 
 	interface PooledDataBufferTestingTrait {
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.support;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MappedResourceCache}.
+ */
+class MappedResourceCacheTests {
+
+	@TempDir
+	Path tempDir;
+
+
+	@Test
+	void mapsFileResource() throws Exception {
+		MappedResourceCache cache = new MappedResourceCache();
+		FileSystemResource resource = new FileSystemResource(write("hello.txt", "Hello World"));
+
+		Resource mapped = cache.getResource(resource);
+		assertThat(mapped).isInstanceOf(MappedResource.class);
+		assertThat(mapped.getContentAsString(UTF_8)).isEqualTo("Hello World");
+		assertThat(mapped.getInputStream().readAllBytes()).isEqualTo("Hello World".getBytes(UTF_8));
+		assertThat(mapped.contentLength()).isEqualTo(11);
+		assertThat(mapped.getFilename()).isEqualTo("hello.txt");
+		assertThat(mapped.lastModified()).isEqualTo(resource.lastModified());
+		assertThat(((MappedResource) mapped).getByteBuffer().isReadOnly()).isTrue();
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getTotalSize()).isEqualTo(11);
+
+		assertThat(cache.getResource(resource)).isEqualTo(mapped);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisabledOnOs(value = OS.WINDOWS, disabledReason = "Mapped files cannot be truncated")
+	void readsTruncatedFileFromResource() throws Exception {
+		MappedResourceCache cache = new MappedResourceCache();
+		Path file = write("hello.txt", "Hello World");
+		Resource mapped = cache.getResource(new FileSystemResource(file));
+		InputStream inputStream = mapped.getInputStream();
+		assertThat(inputStream.readNBytes(2)).isEqualTo("He".getBytes(UTF_8));
+
+		Files.writeString(file, "Hello");
+
+		assertThat(inputStream.readAllBytes()).isEqualTo("llo".getBytes(UTF_8));
+		assertThat(mapped.getContentAsString(UTF_8)).isEqualTo("Hello");
+		assertThat(mapped.getInputStream().readAllBytes()).isEqualTo("Hello".getBytes(UTF_8));
+	}
+
+	@Test
+	void ignoresResourcesThatAreNotFiles() {
+		MappedResourceCache cache = new MappedResourceCache();
+		Resource resource = new ByteArrayResource(new byte[] {1});
+
+		assertThat(cache.getResource(resource)).isSameAs(resource);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void ignoresFilesExceedingMaxFileSize() throws Exception {
+		MappedResourceCache cache = new MappedResourceCache(4, 1024, 16);
+		Resource resource = new FileSystemResource(write("hello.txt", "Hello World"));
+
+		assertThat(cache.getResource(resource)).isSameAs(resource);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void remapsChangedFile() throws Exception {
+		MappedResourceCache cache = new MappedResourceCache();
+		Path file = write("hello.txt", "Hello World");
+		Resource resource = new FileSystemResource(file);
+		assertThat(cache.getResource(resource).getContentAsString(UTF_8)).isEqualTo("Hello World");
+
+		Files.writeString(file, "Hello Spring");
+		Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+
+		assertThat(cache.getResource(resource).getContentAsString(UTF_8)).isEqualTo("Hello Spring");
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getTotalSize()).isEqualTo(12);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedFiles() throws Exception {
+		MappedResourceCache cache = new MappedResourceCache(1024, 1024, 2);
+		Resource first = new FileSystemResource(write("first.txt", "first"));
+		Resource second = new FileSystemResource(write("second.txt", "second"));
+		Resource third = new FileSystemResource(write("third.txt", "third"));
+
+		cache.getResource(first);
+		cache.getResource(second);
+		cache.getResource(first);
+		cache.getResource(third);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getTotalSize()).isEqualTo(10);
+	}
+
+	@Test
+	void evictsFilesExceedingMaxTotalSize() throws Exception {
+		MappedResourceCache cache = new MappedResourceCache(1024, 10, 16);
+		cache.getResource(new FileSystemResource(write("first.txt", "first")));
+		cache.getResource(new FileSystemResource(write("second.txt", "second")));
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getTotalSize()).isEqualTo(6);
+
+		cache.clear();
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getTotalSize()).isZero();
+	}
+
+
+	private Path write(String fileName, String content) throws Exception {
+		return Files.writeString(this.tempDir.resolve(fileName), content);
+	}
+
+}
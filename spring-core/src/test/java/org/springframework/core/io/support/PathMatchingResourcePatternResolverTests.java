@@ -296,6 +296,33 @@ class PathMatchingResourcePatternResolverTests {
 			assertExactFilenames(pattern, CLASSES_IN_REACTOR_UTIL_ANNOTATION);
 		}
 
+		@Test
+		void classpathStarWithPatternInJarWithImplicitDirectories(@TempDir Path temp) throws Exception {
+			Path jar = temp.resolve("lib.jar");
+			try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar.toFile()))) {
+				// "indexed/a/" and "indexed/a/b/" without entries of their own
+				for (String name : List.of("indexed/", "indexed/a/b/c/", "indexed/a/b/c/D.txt", "indexed/a/b/E.txt",
+						"indexed/a/F.bin", "indexed/a-b/G.txt", "indexed/H.txt")) {
+					out.putNextEntry(new ZipEntry(name));
+				}
+			}
+			try (URLClassLoader classLoader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null)) {
+				PathMatchingResourcePatternResolver resolver =
+						new PathMatchingResourcePatternResolver(new DefaultResourceLoader(classLoader));
+				// Second lookup goes against the cached jar entry index
+				for (int i = 0; i < 2; i++) {
+					assertThat(resolver.getResources("classpath*:indexed/**/*.txt")).extracting(Resource::getURL)
+							.extracting(URL::getPath).map(path -> path.substring(path.indexOf("!/") + 2))
+							.containsExactly("indexed/H.txt", "indexed/a-b/G.txt", "indexed/a/b/E.txt", "indexed/a/b/c/D.txt");
+					assertThat(resolver.getResources("classpath*:indexed/a/*/*.txt")).extracting(Resource::getFilename)
+							.containsExactly("E.txt");
+					assertThat(resolver.getResources("classpath*:indexed/**/c/")).extracting(Resource::getURL)
+							.extracting(URL::getPath).allMatch(path -> path.endsWith("!/indexed/a/b/c/")).hasSize(1);
+					assertThat(resolver.getResources("classpath*:indexed/x/**/*.txt")).isEmpty();
+				}
+			}
+		}
+
 		// Fails in a native image -- https://github.com/oracle/graal/issues/5020
 		@Test
 		void rootPatternRetrievalInJarFiles() throws IOException {
@@ -306,6 +333,56 @@ class PathMatchingResourcePatternResolverTests {
 	}
 
 
+	@Nested
+	class ParallelResolution {
+
+		@Test
+		void invalidParallelism() {
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> resolver.setParallelism(0));
+		}
+
+		@Test
+		void classpathStarWithPatternInSeveralJars(@TempDir Path temp) throws Exception {
+			URL[] urls = new URL[4];
+			for (int i = 0; i < urls.length; i++) {
+				Path jar = temp.resolve("lib" + i + ".jar");
+				try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar.toFile()))) {
+					out.putNextEntry(new ZipEntry("parallel/"));
+					out.putNextEntry(new ZipEntry("parallel/nested/"));
+					for (String name : List.of("A" + i + ".txt", "nested/B" + i + ".txt", "C" + i + ".bin")) {
+						out.putNextEntry(new ZipEntry("parallel/" + name));
+						out.write(name.getBytes(StandardCharsets.UTF_8));
+					}
+				}
+				urls[i] = jar.toUri().toURL();
+			}
+			String pattern = "classpath*:parallel/**/*.txt";
+			try (URLClassLoader classLoader = new URLClassLoader(urls, getClass().getClassLoader())) {
+				PathMatchingResourcePatternResolver sequential =
+						new PathMatchingResourcePatternResolver(new DefaultResourceLoader(classLoader));
+				PathMatchingResourcePatternResolver parallel =
+						new PathMatchingResourcePatternResolver(new DefaultResourceLoader(classLoader));
+				parallel.setParallelism(3);
+				assertThat(parallel.getParallelism()).isEqualTo(3);
+
+				Resource[] resources = sequential.getResources(pattern);
+				assertThat(resources).extracting(Resource::getFilename)
+						.containsExactlyInAnyOrder("A0.txt", "B0.txt", "A1.txt", "B1.txt", "A2.txt", "B2.txt", "A3.txt", "B3.txt");
+				assertThat(parallel.getResources(pattern)).containsExactly(resources);
+				// Cached root directories
+				assertThat(parallel.getResources(pattern)).containsExactly(resources);
+				// Pool shut down and recreated on demand
+				parallel.clearCache();
+				assertThat(parallel.getResources(pattern)).containsExactly(resources);
+				parallel.setParallelism(2);
+				parallel.clearCache();
+				assertThat(parallel.getResources(pattern)).containsExactly(resources);
+				parallel.clearCache();
+			}
+		}
+	}
+
+
 	@Nested
 	class ClassPathManifestEntries {
 
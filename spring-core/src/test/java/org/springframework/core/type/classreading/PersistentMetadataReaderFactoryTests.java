@@ -0,0 +1,246 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.AbstractAnnotationMetadataTests;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.FileSystemUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentMetadataReaderFactory}, verifying that replayed
+ * class metadata matches the metadata read from class files.
+ */
+class PersistentMetadataReaderFactoryTests extends AbstractAnnotationMetadataTests {
+
+	@Override
+	protected AnnotationMetadata get(Class<?> source) {
+		try {
+			Path directory = Files.createTempDirectory("metadata");
+			try {
+				Path cacheFile = directory.resolve("metadata.bin");
+				PersistentMetadataReaderFactory factory =
+						new PersistentMetadataReaderFactory(cacheFile, source.getClassLoader());
+				factory.getMetadataReader(source.getName());
+				factory.save();
+				return new PersistentMetadataReaderFactory(cacheFile, source.getClassLoader())
+						.getMetadataReader(source.getName()).getAnnotationMetadata();
+			}
+			finally {
+				FileSystemUtils.deleteRecursively(directory);
+			}
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Test
+	void replayAnnotationAttributes() throws Exception {
+		AnnotationMetadata metadata = get(AnnotatedClass.class);
+
+		assertThat(metadata.getAnnotations().get(Attributes.class).synthesize())
+				.isEqualTo(AnnotatedClass.class.getAnnotation(Attributes.class));
+		MethodMetadata method = metadata.getAnnotatedMethods(Attributes.class.getName()).iterator().next();
+		assertThat(method.getMethodName()).isEqualTo("annotatedMethod");
+		assertThat(method.getAnnotations().get(Attributes.class).synthesize())
+				.isEqualTo(AnnotatedClass.class.getMethod("annotatedMethod").getAnnotation(Attributes.class));
+	}
+
+	@Test
+	void warmStartReplaysUnchangedClassFile(@TempDir Path directory) throws Exception {
+		Path classFile = copyClassFile(AnnotatedClass.class, directory);
+		Path cacheFile = directory.resolve("metadata.bin");
+
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		factory.getMetadataReader(new FileSystemResource(classFile));
+		factory.clearCache();
+		assertThat(cacheFile).exists();
+
+		// Nothing recorded -> nothing saved
+		factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		Files.delete(cacheFile);
+		AnnotationMetadata metadata = factory.getMetadataReader(new FileSystemResource(classFile)).getAnnotationMetadata();
+		assertThat(metadata.getClassName()).isEqualTo(AnnotatedClass.class.getName());
+		assertThat(metadata.hasAnnotation(Attributes.class.getName())).isTrue();
+		factory.save();
+		assertThat(cacheFile).doesNotExist();
+	}
+
+	@Test
+	void readChangedClassFileWithSameTimestamp(@TempDir Path directory) throws Exception {
+		Path classFile = copyClassFile(AnnotatedClass.class, directory);
+		FileTime lastModified = Files.getLastModifiedTime(classFile);
+		Path cacheFile = directory.resolve("metadata.bin");
+
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		factory.getMetadataReader(new FileSystemResource(classFile));
+		factory.clearCache();
+
+		// Same timestamp, as in container images with normalized timestamps
+		Files.write(classFile, Files.readAllBytes(copyClassFile(OtherClass.class, directory)));
+		Files.setLastModifiedTime(classFile, lastModified);
+		factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		AnnotationMetadata metadata = factory.getMetadataReader(new FileSystemResource(classFile)).getAnnotationMetadata();
+		assertThat(metadata.getClassName()).isEqualTo(OtherClass.class.getName());
+		assertThat(metadata.hasAnnotation(Attributes.class.getName())).isFalse();
+
+		// Updated timestamp -> class file read again
+		Files.setLastModifiedTime(classFile, FileTime.fromMillis(lastModified.toMillis() + 2000));
+		factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		metadata = factory.getMetadataReader(new FileSystemResource(classFile)).getAnnotationMetadata();
+		assertThat(metadata.getClassName()).isEqualTo(OtherClass.class.getName());
+	}
+
+	@Test
+	void readClassFileWithCorruptRecording(@TempDir Path directory) throws Exception {
+		Path classFile = copyClassFile(AnnotatedClass.class, directory);
+		Resource resource = new FileSystemResource(classFile);
+		CRC32 crc = new CRC32();
+		crc.update(Files.readAllBytes(classFile));
+		Path cacheFile = directory.resolve("metadata.bin");
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(cacheFile))) {
+			out.writeInt(0x53504D44);
+			out.writeInt(2);
+			out.writeInt(1);
+			out.writeUTF(resource.getURL().toExternalForm());
+			out.writeLong(resource.lastModified());
+			out.writeLong(crc.getValue());
+			// Class event with a truncated access flag
+			out.writeInt(2);
+			out.write(new byte[] {1, 0});
+		}
+
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		AnnotationMetadata metadata = factory.getMetadataReader(resource).getAnnotationMetadata();
+		assertThat(metadata.getClassName()).isEqualTo(AnnotatedClass.class.getName());
+		assertThat(metadata.hasAnnotation(Attributes.class.getName())).isTrue();
+		factory.save();
+
+		factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		Files.delete(cacheFile);
+		metadata = factory.getMetadataReader(resource).getAnnotationMetadata();
+		assertThat(metadata.hasAnnotation(Attributes.class.getName())).isTrue();
+		factory.save();
+		assertThat(cacheFile).doesNotExist();
+	}
+
+	@Test
+	void saveOnlyWhenClassMetadataRecorded(@TempDir Path directory) throws Exception {
+		Path cacheFile = directory.resolve("metadata.bin");
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		factory.save();
+		assertThat(cacheFile).doesNotExist();
+
+		factory.getMetadataReader(AnnotatedClass.class.getName());
+		factory.save();
+		assertThat(cacheFile).exists();
+
+		factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		Files.delete(cacheFile);
+		factory.getMetadataReader(AnnotatedClass.class.getName());
+		factory.save();
+		assertThat(cacheFile).doesNotExist();
+	}
+
+	@Test
+	void ignoreUnreadableCacheFile(@TempDir Path directory) throws Exception {
+		Path cacheFile = directory.resolve("metadata.bin");
+		// Header of a truncated cache file
+		Files.write(cacheFile, ByteBuffer.allocate(12).putInt(0x53504D44).putInt(2).putInt(5).array());
+
+		PersistentMetadataReaderFactory factory = new PersistentMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		AnnotationMetadata metadata = factory.getMetadataReader(AnnotatedClass.class.getName()).getAnnotationMetadata();
+		assertThat(metadata.hasAnnotation(Attributes.class.getName())).isTrue();
+		factory.save();
+		assertThat(Files.size(cacheFile)).isGreaterThan(12);
+	}
+
+	private static Path copyClassFile(Class<?> type, Path directory) throws IOException {
+		Resource resource = new ClassPathResource(ClassUtils.convertClassNameToResourcePath(type.getName()) +
+				ClassUtils.CLASS_FILE_SUFFIX, type.getClassLoader());
+		return Files.write(directory.resolve(type.getSimpleName() + ClassUtils.CLASS_FILE_SUFFIX),
+				resource.getContentAsByteArray());
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Attributes {
+
+		String name() default "";
+
+		Class<?>[] types() default {};
+
+		Thread.State state() default Thread.State.NEW;
+
+		NestedAttribute nested() default @NestedAttribute;
+
+		int number() default 0;
+
+		long[] longs() default {};
+
+		char character() default 'a';
+
+		boolean[] flags() default {};
+
+		double decimal() default 0;
+
+		byte[] bytes() default {};
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface NestedAttribute {
+
+		String[] value() default {};
+	}
+
+
+	@Attributes(name = "class", types = {String.class, int[].class}, state = Thread.State.BLOCKED,
+			nested = @NestedAttribute({"a", "b"}), number = 42, longs = {1L, Long.MAX_VALUE}, character = 'z',
+			flags = {true, false}, decimal = 0.5, bytes = {1, -1})
+	static class AnnotatedClass {
+
+		@Attributes(name = "method", state = Thread.State.WAITING, nested = @NestedAttribute("c"))
+		public void annotatedMethod() {
+		}
+	}
+
+
+	static class OtherClass {
+	}
+
+}
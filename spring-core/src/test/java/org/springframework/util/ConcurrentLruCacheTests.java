@@ -16,9 +16,12 @@
 
 package org.springframework.util;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link ConcurrentLruCache}.
@@ -108,4 +111,68 @@ class ConcurrentLruCacheTests {
 		assertThat(this.cache.contains("k3")).isTrue();
 	}
 
+	@Test
+	void statistics() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> key + "value", false, true);
+		assertThat(cache.statistics()).isEqualTo(new ConcurrentLruCache.Statistics(0, 0, 0));
+		assertThat(cache.statistics().hitRate()).isEqualTo(1.0);
+
+		cache.get("k1");
+		cache.get("k1");
+		cache.get("k2");
+		cache.get("k3");
+
+		ConcurrentLruCache.Statistics statistics = cache.statistics();
+		assertThat(statistics).isEqualTo(new ConcurrentLruCache.Statistics(1, 3, 1));
+		assertThat(statistics.requestCount()).isEqualTo(4);
+		assertThat(statistics.hitRate()).isEqualTo(0.25);
+	}
+
+	@Test
+	void statisticsNotRecordedByDefault() {
+		this.cache.get("k1");
+		assertThatIllegalStateException().isThrownBy(this.cache::statistics);
+	}
+
+	@Test
+	void frequencyAdmissionRetainsHotEntriesDuringScan() {
+		ConcurrentLruCache<String, String> lruCache = new ConcurrentLruCache<>(10, key -> key + "value");
+		ConcurrentLruCache<String, String> frequencyCache = new ConcurrentLruCache<>(10, key -> key + "value", true, true);
+
+		for (ConcurrentLruCache<String, String> cache : List.of(lruCache, frequencyCache)) {
+			for (int i = 0; i < 5; i++) {
+				for (int j = 0; j < 5; j++) {
+					assertThat(cache.get("hot" + j)).isEqualTo("hot" + j + "value");
+				}
+			}
+			for (int i = 0; i < 100; i++) {
+				assertThat(cache.get("scan" + i)).isEqualTo("scan" + i + "value");
+			}
+			assertThat(cache.size()).isEqualTo(10);
+		}
+
+		for (int j = 0; j < 5; j++) {
+			assertThat(lruCache.contains("hot" + j)).isFalse();
+			assertThat(frequencyCache.contains("hot" + j)).isTrue();
+		}
+		assertThat(frequencyCache.statistics().evictionCount()).isEqualTo(95);
+	}
+
+	@Test
+	void frequencyAdmissionRemoveAndClear() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> key + "value", true);
+		assertThat(cache.get("k1")).isEqualTo("k1value");
+		assertThat(cache.get("k2")).isEqualTo("k2value");
+		assertThat(cache.remove("k1")).isTrue();
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get("k3")).isEqualTo("k3value");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.contains("k2")).isTrue();
+		assertThat(cache.contains("k3")).isTrue();
+		cache.clear();
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.get("k4")).isEqualTo("k4value");
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
 }
@@ -17,11 +17,17 @@
 package org.springframework.jdbc.core;
 
 import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -36,13 +42,18 @@ import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.NotWritablePropertyException;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.RowMappingPlan.PropertyMapping;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -77,6 +88,15 @@ import org.springframework.util.StringUtils;
  * &mdash; for example, a Java {@code record} or a Kotlin {@code data} class &mdash;
  * use {@link DataClassRowMapper} instead.
  *
+ * <p>The mapping of columns to properties is determined once per set of column
+ * labels and reused for all rows of any {@link ResultSet} with the same columns,
+ * including result sets of different shapes being mapped concurrently. Column values that match the type of a simple
+ * property exactly are applied through its setter method directly, with a
+ * {@link BeanWrapper} only being created for a row that requires type conversion
+ * &mdash; unless {@link #initBeanWrapper(BeanWrapper)} has been overridden or a
+ * custom {@link ConversionService} has been specified, in which case every row
+ * is mapped through a {@code BeanWrapper}.
+ *
  * <p>Please note that this class is designed to provide convenience rather than
  * high performance. For best performance, consider using a custom {@code RowMapper}
  * implementation.
@@ -116,6 +136,15 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	/** Set of bean property names we provide mapping for. */
 	private @Nullable Set<String> mappedPropertyNames;
 
+	/** Whether simple property values may be applied without a BeanWrapper. */
+	private boolean directPropertyAccess;
+
+	/** Mapping plans per column labels, shared across result sets of the same shape. */
+	private final Map<List<String>, RowMappingPlan> mappingPlans = new ConcurrentReferenceHashMap<>(16);
+
+	/** Mapping plan for the most recently mapped ResultSet. */
+	private volatile @Nullable ResultSetPlan lastPlan;
+
 
 	/**
 	 * Create a new {@code BeanPropertyRowMapper} for bean-style configuration.
@@ -221,6 +250,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	public void setConversionService(@Nullable ConversionService conversionService) {
 		this.conversionService = conversionService;
+		clearMappingPlans();
 	}
 
 	/**
@@ -244,6 +274,10 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		this.mappedClass = mappedClass;
 		this.mappedProperties = new HashMap<>();
 		this.mappedPropertyNames = new HashSet<>();
+		clearMappingPlans();
+		Method initMethod = ReflectionUtils.findMethod(getClass(), "initBeanWrapper", BeanWrapper.class);
+		this.directPropertyAccess = (initMethod != null &&
+				initMethod.getDeclaringClass() == BeanPropertyRowMapper.class);
 
 		for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(mappedClass)) {
 			if (pd.getWriteMethod() != null) {
@@ -265,6 +299,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		if (this.mappedProperties != null) {
 			this.mappedProperties.remove(lowerCaseName(propertyName));
 			this.mappedProperties.remove(underscoreName(propertyName));
+			clearMappingPlans();
 		}
 	}
 
@@ -323,56 +358,48 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	@Override
 	public T mapRow(ResultSet rs, int rowNumber) throws SQLException {
-		BeanWrapperImpl bw = new BeanWrapperImpl();
-		initBeanWrapper(bw);
-
-		T mappedObject = constructMappedInstance(rs, bw);
-		bw.setBeanInstance(mappedObject);
-
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
-		Set<String> populatedProperties = (isCheckFullyPopulated() ? new HashSet<>() : null);
-
-		for (int index = 1; index <= columnCount; index++) {
-			String column = JdbcUtils.lookupColumnName(rsmd, index);
-			String property = lowerCaseName(StringUtils.delete(column, " "));
-			PropertyDescriptor pd = (this.mappedProperties != null ? this.mappedProperties.get(property) : null);
-			if (pd != null) {
+		RowMappingPlan plan = obtainMappingPlan(rs);
+		RowTypeConverter tc = new RowTypeConverter();
+		T mappedObject = constructMappedInstance(rs, tc);
+
+		for (PropertyMapping mapping : plan.propertyMappings) {
+			PropertyDescriptor pd = mapping.descriptor();
+			try {
+				Object value = getColumnValue(rs, mapping.index(), pd);
+				if (rowNumber == 0 && logger.isDebugEnabled()) {
+					logger.debug("Mapping column '" + mapping.column() + "' to property '" + pd.getName() +
+							"' of type '" + ClassUtils.getQualifiedName(pd.getPropertyType()) + "'");
+				}
+				if (mapping.applyDirectly(mappedObject, value)) {
+					// Value applied as-is, without type conversion
+					continue;
+				}
+				BeanWrapper bw = tc.obtainBeanWrapper(mappedObject);
 				try {
-					Object value = getColumnValue(rs, index, pd);
-					if (rowNumber == 0 && logger.isDebugEnabled()) {
-						logger.debug("Mapping column '" + column + "' to property '" + pd.getName() +
-								"' of type '" + ClassUtils.getQualifiedName(pd.getPropertyType()) + "'");
-					}
-					try {
-						bw.setPropertyValue(pd.getName(), value);
-					}
-					catch (TypeMismatchException ex) {
-						if (value == null && isPrimitivesDefaultedForNullValue()) {
-							if (logger.isDebugEnabled()) {
-								String propertyType = ClassUtils.getQualifiedName(pd.getPropertyType());
-								logger.debug("""
-										Ignoring intercepted TypeMismatchException for row %d and column '%s' \
-										with null value when setting property '%s' of type '%s' on object: %s"
-										""".formatted(rowNumber, column, pd.getName(), propertyType, mappedObject), ex);
-							}
-						}
-						else {
-							throw ex;
+					bw.setPropertyValue(pd.getName(), value);
+				}
+				catch (TypeMismatchException ex) {
+					if (value == null && isPrimitivesDefaultedForNullValue()) {
+						if (logger.isDebugEnabled()) {
+							String propertyType = ClassUtils.getQualifiedName(pd.getPropertyType());
+							logger.debug("""
+									Ignoring intercepted TypeMismatchException for row %d and column '%s' \
+									with null value when setting property '%s' of type '%s' on object: %s"
+									""".formatted(rowNumber, mapping.column(), pd.getName(), propertyType, mappedObject), ex);
 						}
 					}
-					if (populatedProperties != null) {
-						populatedProperties.add(pd.getName());
+					else {
+						throw ex;
 					}
 				}
-				catch (NotWritablePropertyException ex) {
-					throw new DataRetrievalFailureException(
-							"Unable to map column '" + column + "' to property '" + pd.getName() + "'", ex);
-				}
+			}
+			catch (NotWritablePropertyException ex) {
+				throw new DataRetrievalFailureException(
+						"Unable to map column '" + mapping.column() + "' to property '" + pd.getName() + "'", ex);
 			}
 		}
 
-		if (populatedProperties != null && !populatedProperties.equals(this.mappedPropertyNames)) {
+		if (isCheckFullyPopulated() && !plan.fullyPopulated) {
 			throw new InvalidDataAccessApiUsageException("Given ResultSet does not contain all properties " +
 					"necessary to populate object of " + this.mappedClass + ": " + this.mappedPropertyNames);
 		}
@@ -380,6 +407,67 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return mappedObject;
 	}
 
+	/**
+	 * Obtain the mapping plan for the given ResultSet, reusing the plan for further
+	 * rows of the same ResultSet and for any ResultSet with the same column labels.
+	 */
+	final RowMappingPlan obtainMappingPlan(ResultSet rs) throws SQLException {
+		ResultSetPlan lastPlan = this.lastPlan;
+		if (lastPlan != null && lastPlan.resultSet.get() == rs) {
+			return lastPlan.plan;
+		}
+		ResultSetMetaData rsmd = rs.getMetaData();
+		String[] columns = new String[rsmd.getColumnCount()];
+		for (int index = 1; index <= columns.length; index++) {
+			columns[index - 1] = JdbcUtils.lookupColumnName(rsmd, index);
+		}
+		List<String> key = Arrays.asList(columns);
+		RowMappingPlan plan = this.mappingPlans.get(key);
+		if (plan == null) {
+			plan = createMappingPlan(rs, columns);
+			this.mappingPlans.put(key, plan);
+		}
+		this.lastPlan = new ResultSetPlan(rs, plan);
+		return plan;
+	}
+
+	/**
+	 * Create a mapping plan for the given ResultSet and its column labels.
+	 * @param rs the ResultSet to create the plan for
+	 * @param columns the column labels, in column order
+	 */
+	RowMappingPlan createMappingPlan(ResultSet rs, String[] columns) throws SQLException {
+		boolean directAccess = isDirectAccessAllowed();
+		List<PropertyMapping> mappings = new ArrayList<>(columns.length);
+		Set<String> populatedProperties = new HashSet<>();
+		for (int index = 1; index <= columns.length; index++) {
+			String column = columns[index - 1];
+			String property = lowerCaseName(StringUtils.delete(column, " "));
+			PropertyDescriptor pd = (this.mappedProperties != null ? this.mappedProperties.get(property) : null);
+			if (pd != null) {
+				mappings.add(PropertyMapping.of(index, column, pd, directAccess));
+				populatedProperties.add(pd.getName());
+			}
+		}
+		return new RowMappingPlan(mappings.toArray(new PropertyMapping[0]),
+				populatedProperties.equals(this.mappedPropertyNames));
+	}
+
+	/**
+	 * Determine whether values may be applied without a BeanWrapper at all:
+	 * not with a customized BeanWrapper or a custom ConversionService.
+	 * @see RowMappingPlan#isDirectlyApplicable(Class, boolean)
+	 */
+	final boolean isDirectAccessAllowed() {
+		ConversionService cs = getConversionService();
+		return (this.directPropertyAccess && (cs == null || cs == DefaultConversionService.getSharedInstance()));
+	}
+
+	private void clearMappingPlans() {
+		this.mappingPlans.clear();
+		this.lastPlan = null;
+	}
+
 	/**
 	 * Construct an instance of the mapped class for the current row.
 	 * @param rs the ResultSet to map (pre-initialized for the current row)
@@ -472,4 +560,79 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Mapping plan for a specific ResultSet.
+	 */
+	private static final class ResultSetPlan {
+
+		final WeakReference<ResultSet> resultSet;
+
+		final RowMappingPlan plan;
+
+		ResultSetPlan(ResultSet resultSet, RowMappingPlan plan) {
+			this.resultSet = new WeakReference<>(resultSet);
+			this.plan = plan;
+		}
+	}
+
+
+	/**
+	 * {@link TypeConverter} for the current row, lazily creating the
+	 * {@link BeanWrapper} that also serves for property access if necessary.
+	 */
+	private final class RowTypeConverter implements TypeConverter {
+
+		private @Nullable BeanWrapperImpl beanWrapper;
+
+		private boolean beanInstanceSet;
+
+		BeanWrapper obtainBeanWrapper(Object mappedObject) {
+			BeanWrapperImpl bw = getBeanWrapper();
+			if (!this.beanInstanceSet) {
+				bw.setBeanInstance(mappedObject);
+				this.beanInstanceSet = true;
+			}
+			return bw;
+		}
+
+		private BeanWrapperImpl getBeanWrapper() {
+			BeanWrapperImpl bw = this.beanWrapper;
+			if (bw == null) {
+				bw = new BeanWrapperImpl();
+				initBeanWrapper(bw);
+				this.beanWrapper = bw;
+			}
+			return bw;
+		}
+
+		@Override
+		public <V> @Nullable V convertIfNecessary(@Nullable Object value, @Nullable Class<V> requiredType)
+				throws TypeMismatchException {
+
+			return getBeanWrapper().convertIfNecessary(value, requiredType);
+		}
+
+		@Override
+		public <V> @Nullable V convertIfNecessary(@Nullable Object value, @Nullable Class<V> requiredType,
+				@Nullable MethodParameter methodParam) throws TypeMismatchException {
+
+			return getBeanWrapper().convertIfNecessary(value, requiredType, methodParam);
+		}
+
+		@Override
+		public <V> @Nullable V convertIfNecessary(@Nullable Object value, @Nullable Class<V> requiredType,
+				@Nullable Field field) throws TypeMismatchException {
+
+			return getBeanWrapper().convertIfNecessary(value, requiredType, field);
+		}
+
+		@Override
+		public <V> @Nullable V convertIfNecessary(@Nullable Object value, @Nullable Class<V> requiredType,
+				@Nullable TypeDescriptor typeDescriptor) throws TypeMismatchException {
+
+			return getBeanWrapper().convertIfNecessary(value, requiredType, typeDescriptor);
+		}
+	}
+
 }
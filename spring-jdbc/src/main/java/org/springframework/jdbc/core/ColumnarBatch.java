@@ -0,0 +1,596 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Disconnected, column-oriented representation of a {@link ResultSet},
+ * holding the values of each column in a primitive array along with a
+ * bitmap of {@code null} values.
+ *
+ * <p>Numeric columns are held in {@code int[]}, {@code long[]} or
+ * {@code double[]} arrays, with {@code 0} in place of {@code null} values.
+ * Decimal columns are held in a {@code BigDecimal[]}, retaining their exact
+ * value. String columns are dictionary-encoded: each distinct value is held once,
+ * with an {@code int[]} of dictionary codes per row. This makes the batch
+ * suitable for scanning and aggregating large results without allocating
+ * an object per row.
+ *
+ * <p>Created by a {@link ColumnarResultSetExtractor}.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see ColumnarResultSetExtractor
+ * @see org.springframework.jdbc.core.simple.JdbcClient.ResultQuerySpec#columnarBatch()
+ */
+public final class ColumnarBatch {
+
+	private final Column[] columns;
+
+	private final int rowCount;
+
+
+	ColumnarBatch(Column[] columns, int rowCount) {
+		this.columns = columns;
+		this.rowCount = rowCount;
+	}
+
+
+	/**
+	 * Return the number of rows in this batch.
+	 */
+	public int getRowCount() {
+		return this.rowCount;
+	}
+
+	/**
+	 * Return the number of columns in this batch.
+	 */
+	public int getColumnCount() {
+		return this.columns.length;
+	}
+
+	/**
+	 * Return the names of the columns in this batch, in column order.
+	 */
+	public List<String> getColumnNames() {
+		List<String> names = new ArrayList<>(this.columns.length);
+		for (Column column : this.columns) {
+			names.add(column.getName());
+		}
+		return names;
+	}
+
+	/**
+	 * Return the column at the given index.
+	 * @param columnIndex the index of the column, starting at 0
+	 * @return the corresponding column
+	 */
+	public Column getColumn(int columnIndex) {
+		return this.columns[columnIndex];
+	}
+
+	/**
+	 * Return the column with the given name (matched case-insensitively).
+	 * @param columnName the name of the column
+	 * @return the corresponding column
+	 * @throws IllegalArgumentException if there is no such column
+	 */
+	public Column getColumn(String columnName) {
+		for (Column column : this.columns) {
+			if (column.getName().equalsIgnoreCase(columnName)) {
+				return column;
+			}
+		}
+		throw new IllegalArgumentException("No column '" + columnName + "' in " + getColumnNames());
+	}
+
+	/**
+	 * Return the {@link ColumnType#INT} column with the given name.
+	 * @param columnName the name of the column
+	 * @throws IllegalArgumentException if there is no such column of that type
+	 */
+	public IntColumn getIntColumn(String columnName) {
+		return getColumn(columnName, IntColumn.class);
+	}
+
+	/**
+	 * Return the {@link ColumnType#LONG} column with the given name.
+	 * @param columnName the name of the column
+	 * @throws IllegalArgumentException if there is no such column of that type
+	 */
+	public LongColumn getLongColumn(String columnName) {
+		return getColumn(columnName, LongColumn.class);
+	}
+
+	/**
+	 * Return the {@link ColumnType#DOUBLE} column with the given name.
+	 * @param columnName the name of the column
+	 * @throws IllegalArgumentException if there is no such column of that type
+	 */
+	public DoubleColumn getDoubleColumn(String columnName) {
+		return getColumn(columnName, DoubleColumn.class);
+	}
+
+	/**
+	 * Return the {@link ColumnType#DECIMAL} column with the given name.
+	 * @param columnName the name of the column
+	 * @throws IllegalArgumentException if there is no such column of that type
+	 */
+	public DecimalColumn getDecimalColumn(String columnName) {
+		return getColumn(columnName, DecimalColumn.class);
+	}
+
+	/**
+	 * Return the {@link ColumnType#STRING} column with the given name.
+	 * @param columnName the name of the column
+	 * @throws IllegalArgumentException if there is no such column of that type
+	 */
+	public StringColumn getStringColumn(String columnName) {
+		return getColumn(columnName, StringColumn.class);
+	}
+
+	private <C extends Column> C getColumn(String columnName, Class<C> columnClass) {
+		Column column = getColumn(columnName);
+		if (!columnClass.isInstance(column)) {
+			throw new IllegalArgumentException(
+					"Column '" + column.getName() + "' is of type " + column.getType() + ", not " + columnClass.getSimpleName());
+		}
+		return columnClass.cast(column);
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnarBatch with " + this.rowCount + " rows for columns " + getColumnNames();
+	}
+
+
+	/**
+	 * Enumeration of the supported column types.
+	 */
+	public enum ColumnType {
+
+		/**
+		 * Column values held in an {@code int[]}.
+		 */
+		INT,
+
+		/**
+		 * Column values held in a {@code long[]}.
+		 */
+		LONG,
+
+		/**
+		 * Column values held in a {@code double[]}.
+		 */
+		DOUBLE,
+
+		/**
+		 * Column values held in a {@code BigDecimal[]}.
+		 */
+		DECIMAL,
+
+		/**
+		 * Dictionary-encoded column values held as distinct Strings
+		 * plus an {@code int[]} of dictionary codes.
+		 */
+		STRING
+	}
+
+
+	/**
+	 * Base class for a column in a {@link ColumnarBatch}.
+	 */
+	public abstract static class Column {
+
+		private final String name;
+
+		int size;
+
+		private long[] nullBits = new long[0];
+
+		private int nullCount;
+
+		Column(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Return the name of this column.
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Return the type of this column.
+		 */
+		public abstract ColumnType getType();
+
+		/**
+		 * Return the number of values in this column.
+		 */
+		public int size() {
+			return this.size;
+		}
+
+		/**
+		 * Return whether the value in the given row is {@code null}.
+		 * @param rowIndex the index of the row, starting at 0
+		 */
+		public boolean isNull(int rowIndex) {
+			checkIndex(rowIndex);
+			int word = rowIndex >>> 6;
+			return (word < this.nullBits.length && (this.nullBits[word] & (1L << rowIndex)) != 0);
+		}
+
+		/**
+		 * Return the number of {@code null} values in this column.
+		 */
+		public int getNullCount() {
+			return this.nullCount;
+		}
+
+		/**
+		 * Append the value of the given column in the current row.
+		 * @param rs the ResultSet positioned at the current row
+		 * @param columnIndex the index of the column in the ResultSet
+		 */
+		abstract void append(ResultSet rs, int columnIndex) throws SQLException;
+
+		/**
+		 * Release any state only needed while appending values.
+		 */
+		void complete() {
+		}
+
+		final void markNull(int rowIndex) {
+			int word = rowIndex >>> 6;
+			if (word >= this.nullBits.length) {
+				this.nullBits = Arrays.copyOf(this.nullBits, Math.max(word + 1, this.nullBits.length * 2));
+			}
+			this.nullBits[word] |= (1L << rowIndex);
+			this.nullCount++;
+		}
+
+		final void checkIndex(int rowIndex) {
+			if (rowIndex < 0 || rowIndex >= this.size) {
+				throw new IndexOutOfBoundsException("Row index " + rowIndex + " out of bounds for size " + this.size);
+			}
+		}
+
+		static int grow(int capacity) {
+			return Math.max(16, capacity + (capacity >> 1));
+		}
+
+		@Override
+		public String toString() {
+			return getType() + " column '" + this.name + "'";
+		}
+	}
+
+
+	/**
+	 * Column holding its values in an {@code int[]}.
+	 */
+	public static final class IntColumn extends Column {
+
+		private int[] values;
+
+		IntColumn(String name, int initialCapacity) {
+			super(name);
+			this.values = new int[initialCapacity];
+		}
+
+		@Override
+		public ColumnType getType() {
+			return ColumnType.INT;
+		}
+
+		/**
+		 * Return the value in the given row, or {@code 0} if {@code null}.
+		 * @param rowIndex the index of the row, starting at 0
+		 */
+		public int getInt(int rowIndex) {
+			checkIndex(rowIndex);
+			return this.values[rowIndex];
+		}
+
+		/**
+		 * Return a copy of all values in this column,
+		 * with {@code 0} in place of {@code null} values.
+		 */
+		public int[] toArray() {
+			return Arrays.copyOf(this.values, this.size);
+		}
+
+		@Override
+		void append(ResultSet rs, int columnIndex) throws SQLException {
+			int rowIndex = this.size;
+			if (rowIndex == this.values.length) {
+				this.values = Arrays.copyOf(this.values, grow(rowIndex));
+			}
+			int value = rs.getInt(columnIndex);
+			if (value == 0 && rs.wasNull()) {
+				markNull(rowIndex);
+			}
+			this.values[rowIndex] = value;
+			this.size++;
+		}
+	}
+
+
+	/**
+	 * Column holding its values in a {@code long[]}.
+	 */
+	public static final class LongColumn extends Column {
+
+		private long[] values;
+
+		LongColumn(String name, int initialCapacity) {
+			super(name);
+			this.values = new long[initialCapacity];
+		}
+
+		@Override
+		public ColumnType getType() {
+			return ColumnType.LONG;
+		}
+
+		/**
+		 * Return the value in the given row, or {@code 0} if {@code null}.
+		 * @param rowIndex the index of the row, starting at 0
+		 */
+		public long getLong(int rowIndex) {
+			checkIndex(rowIndex);
+			return this.values[rowIndex];
+		}
+
+		/**
+		 * Return a copy of all values in this column,
+		 * with {@code 0} in place of {@code null} values.
+		 */
+		public long[] toArray() {
+			return Arrays.copyOf(this.values, this.size);
+		}
+
+		@Override
+		void append(ResultSet rs, int columnIndex) throws SQLException {
+			int rowIndex = this.size;
+			if (rowIndex == this.values.length) {
+				this.values = Arrays.copyOf(this.values, grow(rowIndex));
+			}
+			long value = rs.getLong(columnIndex);
+			if (value == 0 && rs.wasNull()) {
+				markNull(rowIndex);
+			}
+			this.values[rowIndex] = value;
+			this.size++;
+		}
+	}
+
+
+	/**
+	 * Column holding its values in a {@code double[]}.
+	 */
+	public static final class DoubleColumn extends Column {
+
+		private double[] values;
+
+		DoubleColumn(String name, int initialCapacity) {
+			super(name);
+			this.values = new double[initialCapacity];
+		}
+
+		@Override
+		public ColumnType getType() {
+			return ColumnType.DOUBLE;
+		}
+
+		/**
+		 * Return the value in the given row, or {@code 0} if {@code null}.
+		 * @param rowIndex the index of the row, starting at 0
+		 */
+		public double getDouble(int rowIndex) {
+			checkIndex(rowIndex);
+			return this.values[rowIndex];
+		}
+
+		/**
+		 * Return a copy of all values in this column,
+		 * with {@code 0} in place of {@code null} values.
+		 */
+		public double[] toArray() {
+			return Arrays.copyOf(this.values, this.size);
+		}
+
+		@Override
+		void append(ResultSet rs, int columnIndex) throws SQLException {
+			int rowIndex = this.size;
+			if (rowIndex == this.values.length) {
+				this.values = Arrays.copyOf(this.values, grow(rowIndex));
+			}
+			double value = rs.getDouble(columnIndex);
+			if (value == 0 && rs.wasNull()) {
+				markNull(rowIndex);
+			}
+			this.values[rowIndex] = value;
+			this.size++;
+		}
+	}
+
+
+	/**
+	 * Column holding its values in a {@code BigDecimal[]},
+	 * with {@code null} in place of {@code null} values.
+	 */
+	public static final class DecimalColumn extends Column {
+
+		private @Nullable BigDecimal[] values;
+
+		DecimalColumn(String name, int initialCapacity) {
+			super(name);
+			this.values = new BigDecimal[initialCapacity];
+		}
+
+		@Override
+		public ColumnType getType() {
+			return ColumnType.DECIMAL;
+		}
+
+		/**
+		 * Return the value in the given row.
+		 * @param rowIndex the index of the row, starting at 0
+		 * @return the value, or {@code null} if none
+		 */
+		public @Nullable BigDecimal getBigDecimal(int rowIndex) {
+			checkIndex(rowIndex);
+			return this.values[rowIndex];
+		}
+
+		/**
+		 * Return a copy of all values in this column,
+		 * with {@code null} in place of {@code null} values.
+		 */
+		public @Nullable BigDecimal[] toArray() {
+			return Arrays.copyOf(this.values, this.size);
+		}
+
+		@Override
+		void append(ResultSet rs, int columnIndex) throws SQLException {
+			int rowIndex = this.size;
+			if (rowIndex == this.values.length) {
+				this.values = Arrays.copyOf(this.values, grow(rowIndex));
+			}
+			BigDecimal value = rs.getBigDecimal(columnIndex);
+			if (value == null) {
+				markNull(rowIndex);
+			}
+			this.values[rowIndex] = value;
+			this.size++;
+		}
+	}
+
+
+	/**
+	 * Dictionary-encoded column holding each distinct value once,
+	 * along with an {@code int[]} of dictionary codes per row.
+	 * {@code null} values are represented by code {@code -1}.
+	 */
+	public static final class StringColumn extends Column {
+
+		private int[] codes;
+
+		private final List<String> dictionary = new ArrayList<>();
+
+		private @Nullable Map<String, Integer> dictionaryIndex = new HashMap<>();
+
+		StringColumn(String name, int initialCapacity) {
+			super(name);
+			this.codes = new int[initialCapacity];
+		}
+
+		@Override
+		public ColumnType getType() {
+			return ColumnType.STRING;
+		}
+
+		/**
+		 * Return the value in the given row.
+		 * @param rowIndex the index of the row, starting at 0
+		 * @return the value, or {@code null} if none
+		 */
+		public @Nullable String getString(int rowIndex) {
+			int code = getCode(rowIndex);
+			return (code >= 0 ? this.dictionary.get(code) : null);
+		}
+
+		/**
+		 * Return the dictionary code of the value in the given row.
+		 * @param rowIndex the index of the row, starting at 0
+		 * @return the index of the value in the {@link #getDictionary() dictionary},
+		 * or {@code -1} if {@code null}
+		 */
+		public int getCode(int rowIndex) {
+			checkIndex(rowIndex);
+			return this.codes[rowIndex];
+		}
+
+		/**
+		 * Return a copy of the dictionary codes of all values in this column,
+		 * with {@code -1} in place of {@code null} values.
+		 */
+		public int[] getCodes() {
+			return Arrays.copyOf(this.codes, this.size);
+		}
+
+		/**
+		 * Return the distinct values in this column, in order of first occurrence.
+		 */
+		public List<String> getDictionary() {
+			return Collections.unmodifiableList(this.dictionary);
+		}
+
+		@Override
+		void append(ResultSet rs, int columnIndex) throws SQLException {
+			Map<String, Integer> dictionaryIndex = this.dictionaryIndex;
+			if (dictionaryIndex == null) {
+				throw new IllegalStateException("StringColumn already completed");
+			}
+			int rowIndex = this.size;
+			if (rowIndex == this.codes.length) {
+				this.codes = Arrays.copyOf(this.codes, grow(rowIndex));
+			}
+			String value = rs.getString(columnIndex);
+			int code;
+			if (value != null) {
+				Integer existingCode = dictionaryIndex.get(value);
+				if (existingCode != null) {
+					code = existingCode;
+				}
+				else {
+					code = this.dictionary.size();
+					this.dictionary.add(value);
+					dictionaryIndex.put(value, code);
+				}
+			}
+			else {
+				code = -1;
+				markNull(rowIndex);
+			}
+			this.codes[rowIndex] = code;
+			this.size++;
+		}
+
+		@Override
+		void complete() {
+			this.dictionaryIndex = null;
+		}
+	}
+
+}
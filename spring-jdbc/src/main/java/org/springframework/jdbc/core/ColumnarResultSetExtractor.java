@@ -0,0 +1,165 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.ColumnarBatch.Column;
+import org.springframework.jdbc.core.ColumnarBatch.ColumnType;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResultSetExtractor} implementation that reads a {@link ResultSet}
+ * into a {@link ColumnarBatch}, with the values of each column held in a
+ * growable primitive array rather than mapping each row to an object.
+ *
+ * <p>By default, all columns are extracted, with their {@link ColumnType}
+ * determined from the JDBC type reported by the {@link ResultSetMetaData}:
+ * see {@link #determineColumnType(ResultSetMetaData, int)}. Alternatively, specific columns
+ * can be selected along with their target type:
+ *
+ * <pre class="code">
+ * ColumnarBatch batch = jdbcTemplate.query("SELECT region, quantity, price FROM sales",
+ *         new ColumnarResultSetExtractor()
+ *             .withColumn("region", ColumnType.STRING)
+ *             .withColumn("price", ColumnType.DOUBLE));
+ * double[] prices = batch.getDoubleColumn("price").toArray();
+ * </pre>
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see ColumnarBatch
+ * @see org.springframework.jdbc.core.simple.JdbcClient.ResultQuerySpec#columnarBatch()
+ */
+public class ColumnarResultSetExtractor implements ResultSetExtractor<ColumnarBatch> {
+
+	private final Map<String, ColumnType> columns = new LinkedHashMap<>();
+
+	private int initialCapacity = 256;
+
+
+	/**
+	 * Select the given column for extraction, with values of the given type.
+	 * <p>If no columns are selected, all columns of the ResultSet are extracted.
+	 * @param columnName the name or label of the column
+	 * @param columnType the type to extract the column values as
+	 * @return this extractor (for method chaining)
+	 */
+	public ColumnarResultSetExtractor withColumn(String columnName, ColumnType columnType) {
+		Assert.hasText(columnName, "Column name must not be empty");
+		Assert.notNull(columnType, "ColumnType must not be null");
+		this.columns.put(columnName, columnType);
+		return this;
+	}
+
+	/**
+	 * Set the initial capacity of the value array for each column.
+	 * <p>Default is 256. Arrays grow as needed, so this is merely a hint
+	 * for avoiding array copies when the approximate result size is known.
+	 */
+	public void setInitialCapacity(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "Initial capacity must not be negative");
+		this.initialCapacity = initialCapacity;
+	}
+
+
+	@Override
+	public ColumnarBatch extractData(ResultSet rs) throws SQLException {
+		Column[] columns;
+		int[] columnIndexes;
+		if (this.columns.isEmpty()) {
+			ResultSetMetaData rsmd = rs.getMetaData();
+			int columnCount = rsmd.getColumnCount();
+			columns = new Column[columnCount];
+			columnIndexes = new int[columnCount];
+			for (int i = 0; i < columnCount; i++) {
+				columnIndexes[i] = i + 1;
+				columns[i] = createColumn(JdbcUtils.lookupColumnName(rsmd, i + 1), determineColumnType(rsmd, i + 1));
+			}
+		}
+		else {
+			columns = new Column[this.columns.size()];
+			columnIndexes = new int[this.columns.size()];
+			int i = 0;
+			for (Map.Entry<String, ColumnType> entry : this.columns.entrySet()) {
+				columnIndexes[i] = rs.findColumn(entry.getKey());
+				columns[i] = createColumn(entry.getKey(), entry.getValue());
+				i++;
+			}
+		}
+
+		int rowCount = 0;
+		while (rs.next()) {
+			for (int i = 0; i < columns.length; i++) {
+				columns[i].append(rs, columnIndexes[i]);
+			}
+			rowCount++;
+		}
+		for (Column column : columns) {
+			column.complete();
+		}
+		return new ColumnarBatch(columns, rowCount);
+	}
+
+	/**
+	 * Determine the {@link ColumnType} for the given column,
+	 * in case of all columns being extracted.
+	 * <p>The default implementation extracts integer types up to
+	 * {@code INTEGER} as {@link ColumnType#INT}, {@code BIGINT} as
+	 * {@link ColumnType#LONG}, and floating-point types as {@link ColumnType#DOUBLE}.
+	 * {@code NUMERIC} and {@code DECIMAL} columns are extracted as
+	 * {@link ColumnType#LONG} if declared without fractional digits and with
+	 * a precision of up to 18 digits, and otherwise as {@link ColumnType#DECIMAL}
+	 * in order to retain their exact values. Boolean types are extracted as
+	 * {@link ColumnType#INT} with values {@code 0} and {@code 1}, and
+	 * all other types as dictionary-encoded {@link ColumnType#STRING}.
+	 * @param rsmd the meta-data of the ResultSet
+	 * @param columnIndex the index of the column, starting at 1
+	 * @return the type to extract the column values as
+	 * @throws SQLException if thrown by the meta-data methods
+	 */
+	protected ColumnType determineColumnType(ResultSetMetaData rsmd, int columnIndex) throws SQLException {
+		return switch (rsmd.getColumnType(columnIndex)) {
+			case Types.BIT, Types.BOOLEAN, Types.TINYINT, Types.SMALLINT, Types.INTEGER -> ColumnType.INT;
+			case Types.BIGINT -> ColumnType.LONG;
+			case Types.REAL, Types.FLOAT, Types.DOUBLE -> ColumnType.DOUBLE;
+			case Types.NUMERIC, Types.DECIMAL -> {
+				int precision = rsmd.getPrecision(columnIndex);
+				yield (rsmd.getScale(columnIndex) == 0 && precision > 0 && precision <= 18 ?
+						ColumnType.LONG : ColumnType.DECIMAL);
+			}
+			default -> ColumnType.STRING;
+		};
+	}
+
+	private Column createColumn(String columnName, ColumnType columnType) {
+		return switch (columnType) {
+			case INT -> new ColumnarBatch.IntColumn(columnName, this.initialCapacity);
+			case LONG -> new ColumnarBatch.LongColumn(columnName, this.initialCapacity);
+			case DOUBLE -> new ColumnarBatch.DoubleColumn(columnName, this.initialCapacity);
+			case DECIMAL -> new ColumnarBatch.DecimalColumn(columnName, this.initialCapacity);
+			case STRING -> new ColumnarBatch.StringColumn(columnName, this.initialCapacity);
+		};
+	}
+
+}
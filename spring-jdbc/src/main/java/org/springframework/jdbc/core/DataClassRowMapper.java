@@ -46,6 +46,9 @@ import org.springframework.util.Assert;
  * via a corresponding setter method. This means that constructor arguments take
  * precedence over property setter methods.
  *
+ * <p>The columns for the constructor arguments are determined once per set of
+ * column labels and reused for all rows of any {@link ResultSet} with the same columns.
+ *
  * <p>Note that this class extends {@link BeanPropertyRowMapper} and can
  * therefore serve as a common choice for any mapped target class, flexibly
  * adapting to constructor style versus setter methods in the mapped class.
@@ -110,21 +113,18 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 
 		@Nullable Object[] args;
 		if (this.constructorParameterNames != null && this.constructorParameterTypes != null) {
+			RowMappingPlan plan = obtainMappingPlan(rs);
 			args = new Object[this.constructorParameterNames.length];
 			for (int i = 0; i < args.length; i++) {
-				String name = this.constructorParameterNames[i];
-				int index;
-				try {
-					// Try direct name match first
-					index = rs.findColumn(lowerCaseName(name));
+				TypeDescriptor td = this.constructorParameterTypes[i];
+				Object value = getColumnValue(rs, plan.argumentIndexes[i], td.getType());
+				if (RowMappingPlan.isApplicableAsIs(value, plan.argumentTypes[i], td.getType())) {
+					// Value applicable as-is, without type conversion
+					args[i] = value;
 				}
-				catch (SQLException ex) {
-					// Try underscored name match instead
-					index = rs.findColumn(underscoreName(name));
+				else {
+					args[i] = tc.convertIfNecessary(value, td.getType(), td);
 				}
-				TypeDescriptor td = this.constructorParameterTypes[i];
-				Object value = getColumnValue(rs, index, td.getType());
-				args[i] = tc.convertIfNecessary(value, td.getType(), td);
 			}
 		}
 		else {
@@ -134,6 +134,34 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		return BeanUtils.instantiateClass(this.mappedConstructor, args);
 	}
 
+	@Override
+	RowMappingPlan createMappingPlan(ResultSet rs, String[] columns) throws SQLException {
+		RowMappingPlan plan = super.createMappingPlan(rs, columns);
+		@Nullable String @Nullable [] names = this.constructorParameterNames;
+		TypeDescriptor @Nullable [] types = this.constructorParameterTypes;
+		if (names == null || types == null) {
+			return plan;
+		}
+		boolean directAccess = isDirectAccessAllowed();
+		int[] argumentIndexes = new int[names.length];
+		@Nullable Class<?>[] argumentTypes = new Class<?>[names.length];
+		for (int i = 0; i < names.length; i++) {
+			String name = names[i];
+			int index;
+			try {
+				// Try direct name match first
+				index = rs.findColumn(lowerCaseName(name));
+			}
+			catch (SQLException ex) {
+				// Try underscored name match instead
+				index = rs.findColumn(underscoreName(name));
+			}
+			argumentIndexes[i] = index;
+			argumentTypes[i] = RowMappingPlan.getDirectValueType(types[i].getType(), directAccess);
+		}
+		return plan.withArguments(argumentIndexes, argumentTypes);
+	}
+
 
 	/**
 	 * Static factory method to create a new {@code DataClassRowMapper}.
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.MethodInvocationException;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Mapping of the columns of a given {@link java.sql.ResultSet} shape to bean
+ * properties and constructor arguments, as determined by a
+ * {@link BeanPropertyRowMapper} or {@link DataClassRowMapper} and shared by
+ * all result sets with the same column labels.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ */
+final class RowMappingPlan {
+
+	private static final int[] NO_ARGUMENT_INDEXES = {};
+
+	private static final Class<?>[] NO_ARGUMENT_TYPES = {};
+
+
+	final PropertyMapping[] propertyMappings;
+
+	final boolean fullyPopulated;
+
+	final int[] argumentIndexes;
+
+	// Types of argument values applicable as-is, if any
+	final @Nullable Class<?>[] argumentTypes;
+
+
+	RowMappingPlan(PropertyMapping[] propertyMappings, boolean fullyPopulated) {
+		this(propertyMappings, fullyPopulated, NO_ARGUMENT_INDEXES, NO_ARGUMENT_TYPES);
+	}
+
+	private RowMappingPlan(PropertyMapping[] propertyMappings, boolean fullyPopulated,
+			int[] argumentIndexes, @Nullable Class<?>[] argumentTypes) {
+
+		this.propertyMappings = propertyMappings;
+		this.fullyPopulated = fullyPopulated;
+		this.argumentIndexes = argumentIndexes;
+		this.argumentTypes = argumentTypes;
+	}
+
+
+	/**
+	 * Return a copy of this plan with the given constructor argument columns.
+	 * @param argumentIndexes the column index for each constructor argument
+	 * @param argumentTypes the type of values applicable as-is for each argument,
+	 * as determined by {@link #getDirectValueType}
+	 */
+	RowMappingPlan withArguments(int[] argumentIndexes, @Nullable Class<?>[] argumentTypes) {
+		return new RowMappingPlan(this.propertyMappings, this.fullyPopulated, argumentIndexes, argumentTypes);
+	}
+
+
+	/**
+	 * Determine whether values of the given type may be applied without type
+	 * conversion if they match the type exactly: only for simple value types
+	 * and only if direct access is allowed at all, i.e. without a customized
+	 * BeanWrapper and without a custom ConversionService which might convert
+	 * values of the same type.
+	 * @param type the target type
+	 * @param directAccess whether direct access is allowed for the row mapper
+	 */
+	static boolean isDirectlyApplicable(Class<?> type, boolean directAccess) {
+		return (directAccess && BeanUtils.isSimpleValueType(type));
+	}
+
+	/**
+	 * Determine the type of values that may be applied to the given target type as-is.
+	 * @param type the target type
+	 * @param directAccess whether direct access is allowed for the row mapper
+	 * @return the (boxed) type of applicable values, or {@code null} if none
+	 * @see #isDirectlyApplicable(Class, boolean)
+	 */
+	static @Nullable Class<?> getDirectValueType(Class<?> type, boolean directAccess) {
+		return (isDirectlyApplicable(type, directAccess) ? ClassUtils.resolvePrimitiveIfNecessary(type) : null);
+	}
+
+	/**
+	 * Determine whether the given value may be applied as-is.
+	 * @param value the value (may be {@code null})
+	 * @param directValueType the type determined by {@link #getDirectValueType}
+	 * @param targetType the target type
+	 */
+	static boolean isApplicableAsIs(@Nullable Object value, @Nullable Class<?> directValueType, Class<?> targetType) {
+		return (directValueType != null &&
+				(value != null ? value.getClass() == directValueType : !targetType.isPrimitive()));
+	}
+
+
+	/**
+	 * Column to property mapping within a {@link RowMappingPlan}.
+	 * @param index the index of the column
+	 * @param column the label of the column
+	 * @param descriptor the target property
+	 * @param writeHandle a handle for setting the property directly, if applicable
+	 * @param valueType the type of values applicable through the write handle, if any
+	 */
+	record PropertyMapping(int index, String column, PropertyDescriptor descriptor,
+			@Nullable MethodHandle writeHandle, @Nullable Class<?> valueType) {
+
+		static PropertyMapping of(int index, String column, PropertyDescriptor pd, boolean directAccess) {
+			Class<?> valueType = getDirectValueType(pd.getPropertyType(), directAccess);
+			MethodHandle writeHandle = (valueType != null ? getWriteHandle(pd) : null);
+			return new PropertyMapping(index, column, pd, writeHandle, (writeHandle != null ? valueType : null));
+		}
+
+		/**
+		 * Apply the given value through the write handle, if applicable as-is.
+		 * @param target the target object
+		 * @param value the value to apply
+		 * @return {@code true} if applied, {@code false} if the value needs to be
+		 * applied through a BeanWrapper instead
+		 * @throws TypeMismatchException or {@link MethodInvocationException}
+		 * if the setter failed, as for BeanWrapper-based property access
+		 */
+		boolean applyDirectly(Object target, @Nullable Object value) {
+			MethodHandle writeHandle = this.writeHandle;
+			if (writeHandle == null || !isApplicableAsIs(value, this.valueType, this.descriptor.getPropertyType())) {
+				return false;
+			}
+			try {
+				writeHandle.invokeExact(target, value);
+				return true;
+			}
+			catch (Throwable ex) {
+				// Same exceptions as for BeanWrapper-based property access
+				PropertyChangeEvent pce = new PropertyChangeEvent(target, this.descriptor.getName(), null, value);
+				if (ex instanceof ClassCastException) {
+					throw new TypeMismatchException(pce, this.descriptor.getPropertyType(), ex);
+				}
+				throw new MethodInvocationException(pce, ex);
+			}
+		}
+
+		private static @Nullable MethodHandle getWriteHandle(PropertyDescriptor pd) {
+			Method writeMethod = pd.getWriteMethod();
+			if (writeMethod == null) {
+				return null;
+			}
+			try {
+				ReflectionUtils.makeAccessible(writeMethod);
+				return MethodHandles.lookup().unreflect(writeMethod)
+						.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			}
+			catch (IllegalAccessException | RuntimeException ex) {
+				// Not accessible -> always go through BeanWrapper
+				return null;
+			}
+		}
+	}
+
+}
@@ -28,6 +28,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import javax.sql.DataSource;
 
@@ -38,6 +41,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -48,7 +52,9 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * Abstract class to provide base functionality for easy (batch) inserts
@@ -90,6 +96,12 @@ public abstract class AbstractJdbcInsert {
 	/** The SQL type information for the insert columns. */
 	private int[] insertTypes = new int[0];
 
+	/** The maximum number of rows per multi-row insert statement. */
+	private int multiRowInsertChunkSize = 100;
+
+	/** The maximum number of multi-row insert statements to execute concurrently. */
+	private int multiRowInsertParallelism = 1;
+
 
 	/**
 	 * Constructor to be used when initializing using a {@link DataSource}.
@@ -234,6 +246,51 @@ public abstract class AbstractJdbcInsert {
 		return this.insertTypes;
 	}
 
+	/**
+	 * Specify the maximum number of rows to insert per statement in a
+	 * multi-row insert.
+	 * <p>The default is 100. Consider the maximum number of bind parameters
+	 * per statement supported by the database: the chunk size multiplied by
+	 * the number of insert columns must not exceed it.
+	 * @since 7.0.2
+	 * @see #doExecuteMultiRowInsert(SqlParameterSource...)
+	 */
+	public void setMultiRowInsertChunkSize(int multiRowInsertChunkSize) {
+		Assert.isTrue(multiRowInsertChunkSize > 0, "Chunk size must be greater than 0");
+		this.multiRowInsertChunkSize = multiRowInsertChunkSize;
+	}
+
+	/**
+	 * Return the maximum number of rows to insert per statement in a multi-row insert.
+	 * @since 7.0.2
+	 */
+	public int getMultiRowInsertChunkSize() {
+		return this.multiRowInsertChunkSize;
+	}
+
+	/**
+	 * Specify the maximum number of multi-row insert statements to execute
+	 * concurrently, each on a separate connection.
+	 * <p>The default is 1, executing all statements sequentially. Note that
+	 * concurrent statements are not executed within a common transaction;
+	 * in case of a transaction being active for the calling thread, the
+	 * statements are always executed sequentially within that transaction.
+	 * @since 7.0.2
+	 * @see #doExecuteMultiRowInsert(SqlParameterSource...)
+	 */
+	public void setMultiRowInsertParallelism(int multiRowInsertParallelism) {
+		Assert.isTrue(multiRowInsertParallelism > 0, "Parallelism must be greater than 0");
+		this.multiRowInsertParallelism = multiRowInsertParallelism;
+	}
+
+	/**
+	 * Return the maximum number of multi-row insert statements to execute concurrently.
+	 * @since 7.0.2
+	 */
+	public int getMultiRowInsertParallelism() {
+		return this.multiRowInsertParallelism;
+	}
+
 	/**
 	 * Specify whether SQL identifiers should be quoted.
 	 * <p>Defaults to {@code false}. If set to {@code true}, the identifier
@@ -608,6 +665,131 @@ public abstract class AbstractJdbcInsert {
 				});
 	}
 
+	/**
+	 * Delegate method that executes a batch insert using the passed-in Maps of
+	 * parameters, rewriting the batch into multi-row insert statements.
+	 * @param batch maps with parameter names and values to be used in the batch insert
+	 * @return an array of number of rows affected per multi-row insert statement
+	 * @since 7.0.2
+	 * @see #setMultiRowInsertChunkSize(int)
+	 * @see #setMultiRowInsertParallelism(int)
+	 */
+	@SuppressWarnings("unchecked")
+	protected int[] doExecuteMultiRowInsert(Map<String, ?>... batch) {
+		checkCompiled();
+		List<List<Object>> batchValues = new ArrayList<>(batch.length);
+		for (Map<String, ?> args : batch) {
+			batchValues.add(matchInParameterValuesWithInsertColumns(args));
+		}
+		return executeMultiRowInsertInternal(batchValues);
+	}
+
+	/**
+	 * Delegate method that executes a batch insert using the passed-in
+	 * {@link SqlParameterSource SqlParameterSources}, rewriting the batch
+	 * into multi-row insert statements.
+	 * @param batch parameter sources with names and values to be used in the batch insert
+	 * @return an array of number of rows affected per multi-row insert statement
+	 * @since 7.0.2
+	 * @see #setMultiRowInsertChunkSize(int)
+	 * @see #setMultiRowInsertParallelism(int)
+	 */
+	protected int[] doExecuteMultiRowInsert(SqlParameterSource... batch) {
+		checkCompiled();
+		List<List<Object>> batchValues = new ArrayList<>(batch.length);
+		for (SqlParameterSource parameterSource : batch) {
+			batchValues.add(matchInParameterValuesWithInsertColumns(parameterSource));
+		}
+		return executeMultiRowInsertInternal(batchValues);
+	}
+
+	/**
+	 * Delegate method to execute the multi-row insert, in chunks of up to
+	 * {@link #getMultiRowInsertChunkSize()} rows.
+	 */
+	private int[] executeMultiRowInsertInternal(List<List<Object>> batchValues) {
+		int chunkSize = getMultiRowInsertChunkSize();
+		int chunkCount = (batchValues.size() + chunkSize - 1) / chunkSize;
+		int[] rowCounts = new int[chunkCount];
+		int parallelism = Math.min(getMultiRowInsertParallelism(), chunkCount);
+		if (parallelism > 1 && isBoundToThread()) {
+			logger.debug("Executing multi-row insert sequentially within current transaction");
+			parallelism = 1;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing multi-row insert for table [" + getTableName() + "] with batch of size " +
+					batchValues.size() + " in " + chunkCount + " statements (parallelism " + parallelism + ")");
+		}
+
+		if (parallelism <= 1) {
+			for (int i = 0; i < chunkCount; i++) {
+				rowCounts[i] = executeMultiRowInsertChunk(batchValues, i * chunkSize,
+						Math.min((i + 1) * chunkSize, batchValues.size()));
+			}
+			return rowCounts;
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>(chunkCount);
+			for (int i = 0; i < chunkCount; i++) {
+				int fromIndex = i * chunkSize;
+				int toIndex = Math.min(fromIndex + chunkSize, batchValues.size());
+				futures.add(pool.submit(() -> executeMultiRowInsertChunk(batchValues, fromIndex, toIndex)));
+			}
+			for (int i = 0; i < chunkCount; i++) {
+				rowCounts[i] = futures.get(i).get();
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new TransientDataAccessResourceException("Interrupted during multi-row insert", ex);
+		}
+		catch (ExecutionException ex) {
+			ReflectionUtils.rethrowRuntimeException(ex.getCause());
+		}
+		finally {
+			pool.shutdownNow();
+		}
+		return rowCounts;
+	}
+
+	/**
+	 * Execute a single multi-row insert statement for the given range of rows.
+	 */
+	private int executeMultiRowInsertChunk(List<List<Object>> batchValues, int fromIndex, int toIndex) {
+		String insertString = getInsertString();
+		// Repeat the trailing "(?, ..., ?)" values clause for each further row
+		String valuesClause = insertString.substring(insertString.lastIndexOf("VALUES(") + 6);
+		StringBuilder sql = new StringBuilder(insertString.length() + (toIndex - fromIndex) * (valuesClause.length() + 2));
+		sql.append(insertString);
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			sql.append(", ").append(valuesClause);
+		}
+		return getJdbcTemplate().update(sql.toString(), ps -> {
+			int[] columnTypes = getInsertTypes();
+			int paramIndex = 0;
+			for (int i = fromIndex; i < toIndex; i++) {
+				List<Object> values = batchValues.get(i);
+				for (int colIndex = 0; colIndex < values.size(); colIndex++) {
+					paramIndex++;
+					int sqlType = (colIndex < columnTypes.length ? columnTypes[colIndex] : SqlTypeValue.TYPE_UNKNOWN);
+					StatementCreatorUtils.setParameterValue(ps, paramIndex, sqlType, values.get(colIndex));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Determine whether the calling thread has a transaction or a connection
+	 * bound, which concurrent statements on separate connections would bypass.
+	 */
+	private boolean isBoundToThread() {
+		DataSource dataSource = getJdbcTemplate().getDataSource();
+		return (TransactionSynchronizationManager.isActualTransactionActive() ||
+				(dataSource != null && TransactionSynchronizationManager.hasResource(dataSource)));
+	}
+
 	/**
 	 * Internal implementation for setting parameter values.
 	 * @param preparedStatement the PreparedStatement
@@ -30,6 +30,8 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeanUtils;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.jdbc.core.ColumnarBatch;
+import org.springframework.jdbc.core.ColumnarResultSetExtractor;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
@@ -345,6 +347,13 @@ final class DefaultJdbcClient implements JdbcClient {
 			public List<@Nullable Object> singleColumn() {
 				return classicOps.queryForList(sql, Object.class, indexedParams.toArray());
 			}
+
+			@Override
+			public ColumnarBatch columnarBatch() {
+				ColumnarBatch result = classicOps.query(sql, new ColumnarResultSetExtractor(), indexedParams.toArray());
+				Assert.state(result != null, "No result from ColumnarResultSetExtractor");
+				return result;
+			}
 		}
 
 
@@ -369,6 +378,13 @@ final class DefaultJdbcClient implements JdbcClient {
 			public List<@Nullable Object> singleColumn() {
 				return namedParamOps.queryForList(sql, namedParamSource, Object.class);
 			}
+
+			@Override
+			public ColumnarBatch columnarBatch() {
+				ColumnarBatch result = namedParamOps.query(sql, namedParamSource, new ColumnarResultSetExtractor());
+				Assert.state(result != null, "No result from ColumnarResultSetExtractor");
+				return result;
+			}
 		}
 
 
@@ -31,6 +31,8 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.convert.ConversionService;
 import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.ColumnarBatch;
+import org.springframework.jdbc.core.ColumnarResultSetExtractor;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowCallbackHandler;
@@ -383,6 +385,23 @@ public interface JdbcClient {
 		 */
 		List<@Nullable Object> singleColumn();
 
+		/**
+		 * Retrieve the result as a columnar batch, with the values of each
+		 * column held in a primitive array rather than mapped per row.
+		 * <p>All columns are extracted, with their type determined from the
+		 * JDBC meta-data. For selecting specific columns and their types, use
+		 * {@link StatementSpec#query(ResultSetExtractor)} with a custom
+		 * {@link ColumnarResultSetExtractor} instead.
+		 * <p>The default implementation throws {@link UnsupportedOperationException}.
+		 * @return a detached columnar representation
+		 * of the original database result
+		 * @since 7.0.2
+		 * @see ColumnarResultSetExtractor#determineColumnType(java.sql.ResultSetMetaData, int)
+		 */
+		default ColumnarBatch columnarBatch() {
+			throw new UnsupportedOperationException("Columnar batches not supported by " + getClass().getName());
+		}
+
 		/**
 		 * Retrieve a single value result.
 		 * <p>Note: As of 6.2, this will enforce non-null result values
@@ -120,6 +120,18 @@ public class SimpleJdbcInsert extends AbstractJdbcInsert implements SimpleJdbcIn
 		return this;
 	}
 
+	@Override
+	public SimpleJdbcInsert withMultiRowInsertChunkSize(int chunkSize) {
+		setMultiRowInsertChunkSize(chunkSize);
+		return this;
+	}
+
+	@Override
+	public SimpleJdbcInsert withMultiRowInsertParallelism(int parallelism) {
+		setMultiRowInsertParallelism(parallelism);
+		return this;
+	}
+
 	@Override
 	public int execute(Map<String, ?> args) {
 		return doExecute(args);
@@ -161,4 +173,15 @@ public class SimpleJdbcInsert extends AbstractJdbcInsert implements SimpleJdbcIn
 		return doExecuteBatch(batch);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public int[] executeMultiRowInsert(Map<String, ?>... batch) {
+		return doExecuteMultiRowInsert(batch);
+	}
+
+	@Override
+	public int[] executeMultiRowInsert(SqlParameterSource... batch) {
+		return doExecuteMultiRowInsert(batch);
+	}
+
 }
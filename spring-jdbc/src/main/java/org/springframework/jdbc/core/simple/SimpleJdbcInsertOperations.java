@@ -107,6 +107,33 @@ public interface SimpleJdbcInsertOperations {
 	 */
 	SimpleJdbcInsertOperations includeSynonymsForTableColumnMetaData();
 
+	/**
+	 * Specify the maximum number of rows per statement for
+	 * {@link #executeMultiRowInsert multi-row inserts} (100 by default).
+	 * <p>The default implementation ignores the given chunk size, in line with
+	 * the default {@link #executeMultiRowInsert(Map[])} implementation.
+	 * @param chunkSize the maximum number of rows per statement
+	 * @return this {@code SimpleJdbcInsert} (for method chaining)
+	 * @since 7.0.2
+	 */
+	default SimpleJdbcInsertOperations withMultiRowInsertChunkSize(int chunkSize) {
+		return this;
+	}
+
+	/**
+	 * Specify the maximum number of statements to execute concurrently, each on
+	 * a separate connection, for {@link #executeMultiRowInsert multi-row inserts}
+	 * (1 by default, executing all statements sequentially).
+	 * <p>The default implementation ignores the given parallelism, in line with
+	 * the default {@link #executeMultiRowInsert(Map[])} implementation.
+	 * @param parallelism the maximum number of concurrent statements
+	 * @return this {@code SimpleJdbcInsert} (for method chaining)
+	 * @since 7.0.2
+	 */
+	default SimpleJdbcInsertOperations withMultiRowInsertParallelism(int parallelism) {
+		return this;
+	}
+
 	/**
 	 * Execute the insert using the values passed in.
 	 * @param args a Map containing column names and corresponding value
@@ -176,4 +203,38 @@ public interface SimpleJdbcInsertOperations {
 	 */
 	int[] executeBatch(SqlParameterSource... batch);
 
+	/**
+	 * Execute a batch insert using the batch of values passed in, rewriting it
+	 * into multi-row {@code INSERT ... VALUES (...), (...)} statements of up to
+	 * the configured {@link #withMultiRowInsertChunkSize chunk size} each.
+	 * <p>This requires the database to support multi-row {@code VALUES} clauses.
+	 * Generated keys are not returned. With a {@link #withMultiRowInsertParallelism
+	 * parallelism} greater than 1, statements are executed on separate connections
+	 * outside any transaction, so a failure may leave other statements applied;
+	 * within an active transaction, statements are always executed sequentially.
+	 * <p>The default implementation delegates to {@link #executeBatch(Map[])},
+	 * returning the number of rows affected per batch entry instead.
+	 * @param batch an array of Maps containing a batch of column names and corresponding value
+	 * @return the array of number of rows affected per statement, in batch order
+	 * @since 7.0.2
+	 */
+	@SuppressWarnings("unchecked")
+	default int[] executeMultiRowInsert(Map<String, ?>... batch) {
+		return executeBatch(batch);
+	}
+
+	/**
+	 * Execute a batch insert using the batch of values passed in, rewriting it
+	 * into multi-row {@code INSERT ... VALUES (...), (...)} statements.
+	 * <p>The default implementation delegates to {@link #executeBatch(SqlParameterSource...)},
+	 * returning the number of rows affected per batch entry instead.
+	 * @param batch an array of SqlParameterSource containing values for the batch
+	 * @return the array of number of rows affected per statement, in batch order
+	 * @since 7.0.2
+	 * @see #executeMultiRowInsert(Map[])
+	 */
+	default int[] executeMultiRowInsert(SqlParameterSource... batch) {
+		return executeBatch(batch);
+	}
+
 }
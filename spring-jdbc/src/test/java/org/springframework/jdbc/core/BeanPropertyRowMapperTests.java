@@ -19,14 +19,20 @@ package org.springframework.jdbc.core;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.propertyeditors.StringTrimmerEditor;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.jdbc.core.test.ConcretePerson;
 import org.springframework.jdbc.core.test.DatePerson;
@@ -38,6 +44,10 @@ import org.springframework.jdbc.core.test.SpacePerson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link BeanPropertyRowMapper}.
@@ -131,6 +141,75 @@ class BeanPropertyRowMapperTests extends AbstractRowMapperTests {
 		mock.verifyClosed();
 	}
 
+	@Test
+	void mappingPlanReusedForRowsOfSameResultSet() throws Exception {
+		ResultSet rs = mockResultSet();
+		given(rs.getString(1)).willReturn("Bubba", "Bobby");
+		given(rs.getLong(2)).willReturn(22L, 23L);
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class);
+
+		assertThat(mapper.mapRow(rs, 0)).extracting(Person::getName, Person::getAge).containsExactly("Bubba", 22L);
+		assertThat(mapper.mapRow(rs, 1)).extracting(Person::getName, Person::getAge).containsExactly("Bobby", 23L);
+		verify(rs, times(1)).getMetaData();
+
+		ResultSet rs2 = mockResultSet();
+		given(rs2.getString(1)).willReturn("Billy");
+		assertThat(mapper.mapRow(rs2, 0)).extracting(Person::getName, Person::getAge).containsExactly("Billy", 0L);
+		verify(rs2, times(1)).getMetaData();
+	}
+
+	@Test
+	void mappingPlansKeyedByColumnLabels() throws Exception {
+		ResultSet rs = mockResultSet();
+		given(rs.getString(1)).willReturn("Bubba", "Bobby");
+		given(rs.getLong(2)).willReturn(22L, 23L);
+		ResultSetMetaData rsmd = mock();
+		given(rsmd.getColumnCount()).willReturn(1);
+		given(rsmd.getColumnLabel(1)).willReturn("name");
+		ResultSet rs2 = mock();
+		given(rs2.getMetaData()).willReturn(rsmd);
+		given(rs2.getString(1)).willReturn("Billy", "Bob");
+		AtomicInteger planColumns = new AtomicInteger();
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class) {
+			@Override
+			protected String lowerCaseName(@Nullable String name) {
+				planColumns.incrementAndGet();
+				return super.lowerCaseName(name);
+			}
+		};
+		planColumns.set(0);
+
+		// Interleaved result sets of different shapes
+		assertThat(mapper.mapRow(rs, 0)).extracting(Person::getName, Person::getAge).containsExactly("Bubba", 22L);
+		assertThat(mapper.mapRow(rs2, 0)).extracting(Person::getName, Person::getAge).containsExactly("Billy", 0L);
+		assertThat(mapper.mapRow(rs, 1)).extracting(Person::getName, Person::getAge).containsExactly("Bobby", 23L);
+		assertThat(mapper.mapRow(rs2, 1)).extracting(Person::getName, Person::getAge).containsExactly("Bob", 0L);
+		assertThat(planColumns).hasValue(3);
+
+		// Plans rebuilt after configuration change
+		mapper.setConversionService(null);
+		given(rs.getString(1)).willReturn("Bubba");
+		given(rs.getLong(2)).willReturn(22L);
+		assertThat(mapper.mapRow(rs, 0)).extracting(Person::getName, Person::getAge).containsExactly("Bubba", 22L);
+		assertThat(planColumns).hasValue(5);
+	}
+
+	@Test
+	void mappingWithCustomizedBeanWrapper() throws Exception {
+		ResultSet rs = mockResultSet();
+		given(rs.getString(1)).willReturn(" Bubba ");
+		given(rs.getLong(2)).willReturn(22L);
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class) {
+			@Override
+			protected void initBeanWrapper(BeanWrapper bw) {
+				super.initBeanWrapper(bw);
+				bw.registerCustomEditor(String.class, new StringTrimmerEditor(false));
+			}
+		};
+
+		assertThat(mapper.mapRow(rs, 0)).extracting(Person::getName, Person::getAge).containsExactly("Bubba", 22L);
+	}
+
 	@Test
 	void queryWithSpaceInColumnNameAndLocalDateTime() throws Exception {
 		Mock mock = new Mock(MockType.THREE);
@@ -195,6 +274,16 @@ class BeanPropertyRowMapperTests extends AbstractRowMapperTests {
 		assertThat(mapper.underscoreName(input)).isEqualTo(expected);
 	}
 
+	private static ResultSet mockResultSet() throws Exception {
+		ResultSetMetaData rsmd = mock();
+		given(rsmd.getColumnCount()).willReturn(2);
+		given(rsmd.getColumnLabel(1)).willReturn("name");
+		given(rsmd.getColumnLabel(2)).willReturn("age");
+		ResultSet rs = mock();
+		given(rs.getMetaData()).willReturn(rsmd);
+		return rs;
+	}
+
 
 	@Retention(RetentionPolicy.RUNTIME)
 	@interface MyColumnName {
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.ColumnarBatch.ColumnType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ColumnarResultSetExtractor}.
+ */
+class ColumnarResultSetExtractorTests {
+
+	private static final int ROW_COUNT = 100;
+
+	private final AtomicInteger row = new AtomicInteger();
+
+	private final ResultSet resultSet = mock();
+
+
+	@Test
+	void extractAllColumnsWithTypesFromMetaData() throws SQLException {
+		ResultSetMetaData metaData = mock();
+		given(metaData.getColumnCount()).willReturn(4);
+		given(metaData.getColumnLabel(1)).willReturn("quantity");
+		given(metaData.getColumnType(1)).willReturn(Types.INTEGER);
+		given(metaData.getColumnLabel(2)).willReturn("id");
+		given(metaData.getColumnType(2)).willReturn(Types.BIGINT);
+		given(metaData.getColumnLabel(3)).willReturn("price");
+		given(metaData.getColumnType(3)).willReturn(Types.DECIMAL);
+		given(metaData.getPrecision(3)).willReturn(10);
+		given(metaData.getScale(3)).willReturn(2);
+		given(metaData.getColumnLabel(4)).willReturn("region");
+		given(metaData.getColumnType(4)).willReturn(Types.VARCHAR);
+		given(this.resultSet.getMetaData()).willReturn(metaData);
+		mockRows();
+
+		ColumnarBatch batch = new ColumnarResultSetExtractor().extractData(this.resultSet);
+
+		assertThat(batch.getRowCount()).isEqualTo(ROW_COUNT);
+		assertThat(batch.getColumnNames()).containsExactly("quantity", "id", "price", "region");
+		assertColumns(batch);
+	}
+
+	@Test
+	void determineColumnTypeForDecimals() throws SQLException {
+		ResultSetMetaData metaData = mock();
+		mockColumn(metaData, 1, Types.NUMERIC, 18, 0);
+		mockColumn(metaData, 2, Types.NUMERIC, 19, 0);
+		mockColumn(metaData, 3, Types.DECIMAL, 10, 2);
+		mockColumn(metaData, 4, Types.NUMERIC, 0, 0);
+		mockColumn(metaData, 5, Types.DOUBLE, 15, 0);
+		ColumnarResultSetExtractor extractor = new ColumnarResultSetExtractor();
+
+		assertThat(extractor.determineColumnType(metaData, 1)).isEqualTo(ColumnType.LONG);
+		assertThat(extractor.determineColumnType(metaData, 2)).isEqualTo(ColumnType.DECIMAL);
+		assertThat(extractor.determineColumnType(metaData, 3)).isEqualTo(ColumnType.DECIMAL);
+		assertThat(extractor.determineColumnType(metaData, 4)).isEqualTo(ColumnType.DECIMAL);
+		assertThat(extractor.determineColumnType(metaData, 5)).isEqualTo(ColumnType.DOUBLE);
+	}
+
+	@Test
+	void extractSelectedColumns() throws SQLException {
+		given(this.resultSet.findColumn("region")).willReturn(4);
+		given(this.resultSet.findColumn("price")).willReturn(3);
+		mockRows();
+
+		ColumnarResultSetExtractor extractor = new ColumnarResultSetExtractor()
+				.withColumn("region", ColumnType.STRING)
+				.withColumn("price", ColumnType.DOUBLE);
+		extractor.setInitialCapacity(0);
+		ColumnarBatch batch = extractor.extractData(this.resultSet);
+
+		assertThat(batch.getRowCount()).isEqualTo(ROW_COUNT);
+		assertThat(batch.getColumnNames()).containsExactly("region", "price");
+		assertThat(batch.getColumn(1).getType()).isEqualTo(ColumnType.DOUBLE);
+		assertThat(batch.getDoubleColumn("PRICE").getDouble(10)).isEqualTo(5.0);
+		assertThat(batch.getStringColumn("region").getString(10)).isEqualTo("north");
+		verify(this.resultSet, never()).getInt(1);
+		assertThatIllegalArgumentException().isThrownBy(() -> batch.getIntColumn("price"));
+		assertThatIllegalArgumentException().isThrownBy(() -> batch.getColumn("quantity"));
+	}
+
+	@Test
+	void extractEmptyResult() throws SQLException {
+		given(this.resultSet.findColumn("quantity")).willReturn(1);
+
+		ColumnarBatch batch = new ColumnarResultSetExtractor()
+				.withColumn("quantity", ColumnType.INT)
+				.extractData(this.resultSet);
+
+		assertThat(batch.getRowCount()).isZero();
+		assertThat(batch.getIntColumn("quantity").toArray()).isEmpty();
+		assertThat(batch.getIntColumn("quantity").getNullCount()).isZero();
+	}
+
+	private void assertColumns(ColumnarBatch batch) {
+		ColumnarBatch.IntColumn quantities = batch.getIntColumn("quantity");
+		ColumnarBatch.LongColumn ids = batch.getLongColumn("id");
+		ColumnarBatch.DecimalColumn prices = batch.getDecimalColumn("price");
+		ColumnarBatch.StringColumn regions = batch.getStringColumn("region");
+		assertThat(quantities.toArray()).hasSize(ROW_COUNT);
+		assertThat(regions.getDictionary()).containsExactly("north", "south");
+		for (int i = 0; i < ROW_COUNT; i++) {
+			boolean isNull = (i % 7 == 0);
+			assertThat(quantities.isNull(i)).isEqualTo(isNull);
+			assertThat(quantities.getInt(i)).isEqualTo(isNull ? 0 : i);
+			assertThat(ids.isNull(i)).isFalse();
+			assertThat(ids.getLong(i)).isEqualTo(i * 1_000_000_000L);
+			assertThat(prices.getBigDecimal(i)).isEqualTo(BigDecimal.valueOf(i, 1).multiply(BigDecimal.valueOf(5)));
+			assertThat(regions.isNull(i)).isEqualTo(i % 3 == 0);
+			assertThat(regions.getCode(i)).isEqualTo(i % 3 - 1);
+			assertThat(regions.getString(i)).isEqualTo(i % 3 == 1 ? "north" : i % 3 == 2 ? "south" : null);
+		}
+		assertThat(quantities.getNullCount()).isEqualTo(15);
+		assertThat(prices.isNull(0)).isFalse();
+		assertThat(prices.toArray()).hasSize(ROW_COUNT);
+		assertThat(regions.getNullCount()).isEqualTo(34);
+	}
+
+	private void mockRows() throws SQLException {
+		AtomicInteger lastNull = new AtomicInteger();
+		given(this.resultSet.next()).willAnswer(invocation -> this.row.incrementAndGet() <= ROW_COUNT);
+		given(this.resultSet.getInt(1)).willAnswer(invocation -> {
+			int i = this.row.get() - 1;
+			lastNull.set(i % 7 == 0 ? 1 : 0);
+			return (i % 7 == 0 ? 0 : i);
+		});
+		given(this.resultSet.getLong(2)).willAnswer(invocation -> {
+			lastNull.set(0);
+			return (this.row.get() - 1) * 1_000_000_000L;
+		});
+		given(this.resultSet.getDouble(3)).willAnswer(invocation -> {
+			lastNull.set(0);
+			return (this.row.get() - 1) / 2.0;
+		});
+		given(this.resultSet.getBigDecimal(3)).willAnswer(invocation ->
+				BigDecimal.valueOf(this.row.get() - 1, 1).multiply(BigDecimal.valueOf(5)));
+		given(this.resultSet.getString(4)).willAnswer(invocation -> switch ((this.row.get() - 1) % 3) {
+			case 1 -> "north";
+			case 2 -> "south";
+			default -> null;
+		});
+		given(this.resultSet.wasNull()).willAnswer(invocation -> lastNull.get() == 1);
+	}
+
+	private static void mockColumn(ResultSetMetaData metaData, int columnIndex, int sqlType, int precision, int scale)
+			throws SQLException {
+
+		given(metaData.getColumnType(columnIndex)).willReturn(sqlType);
+		given(metaData.getPrecision(columnIndex)).willReturn(precision);
+		given(metaData.getScale(columnIndex)).willReturn(scale);
+	}
+
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.core.io.ClassRelativeResourceLoader;
+import org.springframework.jdbc.core.ColumnarBatch;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.init.DatabasePopulator;
@@ -146,6 +147,20 @@ class JdbcClientIntegrationTests {
 		assertUser(expectedId, firstName, lastName);
 	}
 
+	@Test
+	void queryForColumnarBatch() {
+		this.jdbcClient.sql(INSERT_WITH_JDBC_PARAMS).params("John", "Smith").update();
+		this.jdbcClient.sql(INSERT_WITH_JDBC_PARAMS).params("Jane", "Smith").update();
+
+		ColumnarBatch batch = this.jdbcClient.sql("select id, last_name from users order by id").query().columnarBatch();
+
+		assertThat(batch.getRowCount()).isEqualTo(3);
+		assertThat(batch.getIntColumn("id").toArray()).containsExactly(0, 1, 2);
+		ColumnarBatch.StringColumn lastNames = batch.getStringColumn("last_name");
+		assertThat(lastNames.getDictionary()).containsExactly("Brannen", "Smith");
+		assertThat(lastNames.getCodes()).containsExactly(0, 1, 1);
+	}
+
 
 	@Nested  // gh-34768
 	class ReusedNamedParameterTests {
@@ -98,6 +98,40 @@ class SimpleJdbcInsertIntegrationTests {
 				insertJaneSmith(insert);
 			}
 
+			@Test
+			void executeMultiRowInsert() {
+				SimpleJdbcInsert insert = new SimpleJdbcInsert(embeddedDatabase)
+						.withTableName("users")
+						.usingGeneratedKeyColumns("id")
+						.withMultiRowInsertChunkSize(2);
+
+				int[] rowCounts = insert.executeMultiRowInsert(users(5));
+				assertThat(rowCounts).containsExactly(2, 2, 1);
+				assertNumRows(6);
+			}
+
+			@Test
+			void executeMultiRowInsertInParallel() {
+				SimpleJdbcInsert insert = new SimpleJdbcInsert(embeddedDatabase)
+						.withTableName("users")
+						.usingGeneratedKeyColumns("id")
+						.withMultiRowInsertChunkSize(3)
+						.withMultiRowInsertParallelism(2);
+
+				int[] rowCounts = insert.executeMultiRowInsert(users(10));
+				assertThat(rowCounts).containsExactly(3, 3, 3, 1);
+				assertNumRows(11);
+			}
+
+			@SuppressWarnings("unchecked")
+			private Map<String, ?>[] users(int count) {
+				Map<String, ?>[] batch = new Map[count];
+				for (int i = 0; i < count; i++) {
+					batch[i] = Map.of("first_name", "User", "last_name", "No. " + i);
+				}
+				return batch;
+			}
+
 			@Override
 			protected String getSchemaScript() {
 				return "users-schema.sql";
@@ -141,4 +141,20 @@ public @interface JmsListener {
 	 */
 	String concurrency() default "";
 
+	/**
+	 * The maximum number of messages to deliver to the listener method at once,
+	 * turning it into a batch listener, if any.
+	 * <p>A batch listener method receives all messages of a batch through a
+	 * {@code List} parameter, either as {@code List<Message<?>>} or as a list of
+	 * converted payloads, for example {@code List<String>}. All messages of a batch
+	 * are received and committed in the same transaction; in case of an exception,
+	 * the entire batch is rolled back, with redelivered messages being processed
+	 * individually afterwards.
+	 * <p>Note that the underlying container may not support batch delivery,
+	 * in which case every message is delivered as a batch of one.
+	 * @since 7.0.2
+	 * @see org.springframework.jms.listener.AbstractPollingMessageListenerContainer#setBatchSize
+	 */
+	String batchSize() default "";
+
 }
@@ -281,6 +281,10 @@ public class JmsListenerAnnotationBeanPostProcessor
 		if (StringUtils.hasText(jmsListener.concurrency())) {
 			endpoint.setConcurrency(resolve(jmsListener.concurrency()));
 		}
+		String batchSize = resolve(jmsListener.batchSize());
+		if (StringUtils.hasText(batchSize)) {
+			endpoint.setBatchSize(Integer.parseInt(batchSize));
+		}
 
 		JmsListenerContainerFactory<?> factory = null;
 		String containerFactoryBeanName = resolve(jmsListener.containerFactory());
@@ -20,6 +20,7 @@ import jakarta.jms.MessageListener;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.jms.listener.AbstractMessageListenerContainer;
+import org.springframework.jms.listener.AbstractPollingMessageListenerContainer;
 import org.springframework.jms.listener.MessageListenerContainer;
 import org.springframework.jms.listener.endpoint.JmsActivationSpecConfig;
 import org.springframework.jms.listener.endpoint.JmsMessageEndpointManager;
@@ -46,6 +47,8 @@ public abstract class AbstractJmsListenerEndpoint implements JmsListenerEndpoint
 
 	private @Nullable String concurrency;
 
+	private @Nullable Integer batchSize;
+
 
 	/**
 	 * Set a custom id for this endpoint.
@@ -123,6 +126,28 @@ public abstract class AbstractJmsListenerEndpoint implements JmsListenerEndpoint
 		return this.concurrency;
 	}
 
+	/**
+	 * Set the maximum number of messages to deliver to the listener at once,
+	 * turning it into a batch listener, if any.
+	 * <p>Only supported by polling containers such as the
+	 * {@link org.springframework.jms.listener.DefaultMessageListenerContainer};
+	 * other containers deliver every message as a batch of one.
+	 * @since 7.0.2
+	 * @see AbstractPollingMessageListenerContainer#setBatchSize
+	 */
+	public void setBatchSize(@Nullable Integer batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Return the maximum number of messages to deliver to the listener at once,
+	 * or {@code null} if the listener is not a batch listener.
+	 * @since 7.0.2
+	 */
+	public @Nullable Integer getBatchSize() {
+		return this.batchSize;
+	}
+
 
 	@Override
 	public void setupListenerContainer(MessageListenerContainer listenerContainer) {
@@ -150,6 +175,10 @@ public abstract class AbstractJmsListenerEndpoint implements JmsListenerEndpoint
 		if (getConcurrency() != null) {
 			listenerContainer.setConcurrency(getConcurrency());
 		}
+		Integer batchSize = getBatchSize();
+		if (batchSize != null && listenerContainer instanceof AbstractPollingMessageListenerContainer pollingContainer) {
+			pollingContainer.setBatchSize(batchSize);
+		}
 		setupMessageListener(listenerContainer);
 	}
 
@@ -51,6 +51,8 @@ public class DefaultJmsListenerContainerFactory
 
 	private @Nullable Long receiveTimeout;
 
+	private @Nullable Long batchReceiveTimeout;
+
 	private @Nullable Long recoveryInterval;
 
 	private @Nullable BackOff backOff;
@@ -105,6 +107,14 @@ public class DefaultJmsListenerContainerFactory
 		this.receiveTimeout = receiveTimeout;
 	}
 
+	/**
+	 * @since 7.0.2
+	 * @see DefaultMessageListenerContainer#setBatchReceiveTimeout
+	 */
+	public void setBatchReceiveTimeout(@Nullable Long batchReceiveTimeout) {
+		this.batchReceiveTimeout = batchReceiveTimeout;
+	}
+
 	/**
 	 * @see DefaultMessageListenerContainer#setRecoveryInterval
 	 */
@@ -150,6 +160,9 @@ public class DefaultJmsListenerContainerFactory
 		if (this.receiveTimeout != null) {
 			container.setReceiveTimeout(this.receiveTimeout);
 		}
+		if (this.batchReceiveTimeout != null) {
+			container.setBatchReceiveTimeout(this.batchReceiveTimeout);
+		}
 
 		if (this.backOff != null) {
 			container.setBackOff(this.backOff);
@@ -29,6 +29,7 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.EmbeddedValueResolver;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.jms.listener.MessageListenerContainer;
+import org.springframework.jms.listener.adapter.BatchMessagingMessageListenerAdapter;
 import org.springframework.jms.listener.adapter.MessagingMessageListenerAdapter;
 import org.springframework.jms.support.QosSettings;
 import org.springframework.jms.support.converter.MessageConverter;
@@ -139,7 +140,8 @@ public class MethodJmsListenerEndpoint extends AbstractJmsListenerEndpoint imple
 	protected MessagingMessageListenerAdapter createMessageListener(MessageListenerContainer container) {
 		Assert.state(this.messageHandlerMethodFactory != null,
 				"Could not create message listener - MessageHandlerMethodFactory not set");
-		MessagingMessageListenerAdapter messageListener = createMessageListenerInstance();
+		MessagingMessageListenerAdapter messageListener = (getBatchSize() != null ?
+				createBatchMessageListenerInstance() : createMessageListenerInstance());
 		Object bean = getBean();
 		Method method = getMethod();
 		Assert.state(bean != null && method != null, "No bean+method set on endpoint");
@@ -178,6 +180,16 @@ public class MethodJmsListenerEndpoint extends AbstractJmsListenerEndpoint imple
 		return new MessagingMessageListenerAdapter();
 	}
 
+	/**
+	 * Create an empty {@link BatchMessagingMessageListenerAdapter} instance,
+	 * in case of a {@link #setBatchSize batch size} having been specified.
+	 * @return a new {@code BatchMessagingMessageListenerAdapter} or subclass thereof
+	 * @since 7.0.2
+	 */
+	protected BatchMessagingMessageListenerAdapter createBatchMessageListenerInstance() {
+		return new BatchMessagingMessageListenerAdapter();
+	}
+
 	/**
 	 * Return the default response destination, if any.
 	 */
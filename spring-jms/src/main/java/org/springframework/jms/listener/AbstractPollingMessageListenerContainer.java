@@ -16,6 +16,9 @@
 
 package org.springframework.jms.listener;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.micrometer.observation.Observation;
 import jakarta.jms.Connection;
 import jakarta.jms.Destination;
@@ -83,6 +86,12 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 	 */
 	public static final long DEFAULT_RECEIVE_TIMEOUT = 1000;
 
+	/**
+	 * The default batch size for a {@link BatchMessageListener}: 10 messages.
+	 * @since 7.0.2
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 10;
+
 
 	private final MessageListenerContainerResourceFactory transactionalResourceFactory =
 			new MessageListenerContainerResourceFactory();
@@ -95,6 +104,10 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 
 	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
 
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private long batchReceiveTimeout = 0;
+
 
 	@Override
 	public void setSessionTransacted(boolean sessionTransacted) {
@@ -182,6 +195,58 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 		return this.receiveTimeout;
 	}
 
+	/**
+	 * Set the maximum number of messages to deliver to a {@link BatchMessageListener}
+	 * at once, all received and committed within the same transaction.
+	 * The default is 10.
+	 * <p>After the first message of a batch has been received with the regular
+	 * {@link #setReceiveTimeout receive timeout}, further messages are drained
+	 * from the consumer until the batch is complete, no further message is
+	 * available, or the {@link #setBatchReceiveTimeout batch receive timeout}
+	 * has elapsed. Consider a transaction timeout that is large enough for
+	 * the processing of an entire batch.
+	 * <p>This setting has no effect on other types of message listeners.
+	 * @since 7.0.2
+	 * @see #setBatchReceiveTimeout
+	 * @see BatchMessageListener
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Return the maximum number of messages to deliver to a
+	 * {@link BatchMessageListener} at once.
+	 * @since 7.0.2
+	 */
+	protected int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Set the time window for completing a batch, in <b>milliseconds</b>,
+	 * counted from the receipt of the first message of the batch.
+	 * <p>The default is 0, only draining messages that are immediately
+	 * available through no-wait receive operations. A positive value
+	 * waits up to the given time for further messages to arrive, trading
+	 * latency for larger batches under light load.
+	 * @since 7.0.2
+	 * @see #setBatchSize
+	 */
+	public void setBatchReceiveTimeout(long batchReceiveTimeout) {
+		Assert.isTrue(batchReceiveTimeout >= 0, "'batchReceiveTimeout' must not be negative");
+		this.batchReceiveTimeout = batchReceiveTimeout;
+	}
+
+	/**
+	 * Return the time window (ms) for completing a batch.
+	 * @since 7.0.2
+	 */
+	protected long getBatchReceiveTimeout() {
+		return this.batchReceiveTimeout;
+	}
+
 
 	@Override
 	public void initialize() {
@@ -278,6 +343,7 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 	 * @return whether a message has been received
 	 * @throws JMSException if thrown by JMS methods
 	 * @see #doExecuteListener(jakarta.jms.Session, jakarta.jms.Message)
+	 * @see #doExecuteListener(jakarta.jms.Session, java.util.List)
 	 */
 	protected boolean doReceiveAndExecute(Object invoker, @Nullable Session session,
 			@Nullable MessageConsumer consumer, @Nullable TransactionStatus status) throws JMSException {
@@ -328,7 +394,12 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 						TransactionSynchronizationManager.bindResource(
 								obtainConnectionFactory(), new LocallyExposedJmsResourceHolder(sessionToUse));
 					}
-					doExecuteListener(sessionToUse, message);
+					if (getMessageListener() instanceof BatchMessageListener) {
+						doExecuteListener(sessionToUse, receiveBatch(consumerToUse, message));
+					}
+					else {
+						doExecuteListener(sessionToUse, message);
+					}
 				}
 				catch (Throwable ex) {
 					if (status != null) {
@@ -438,6 +509,42 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 		return receiveFromConsumer(consumer, getReceiveTimeout());
 	}
 
+	/**
+	 * Receive further messages from the given consumer, completing a batch
+	 * for a {@link BatchMessageListener} that starts with the given message.
+	 * <p>A redelivered first message is returned as a batch of its own:
+	 * Since a failed batch is rolled back as a whole, this isolates the
+	 * messages of the failed batch on redelivery, letting all valid ones
+	 * be processed while a poison message keeps failing on its own.
+	 * @param consumer the MessageConsumer to use
+	 * @param firstMessage the first message of the batch, already received
+	 * @return the batch of messages, in order of receipt
+	 * @throws JMSException if thrown by JMS methods
+	 * @since 7.0.2
+	 * @see #setBatchSize
+	 * @see #setBatchReceiveTimeout
+	 */
+	protected List<Message> receiveBatch(MessageConsumer consumer, Message firstMessage) throws JMSException {
+		if (this.batchSize == 1 || firstMessage.getJMSRedelivered()) {
+			return List.of(firstMessage);
+		}
+		List<Message> messages = new ArrayList<>(this.batchSize);
+		messages.add(firstMessage);
+		long deadline = System.currentTimeMillis() + this.batchReceiveTimeout;
+		while (messages.size() < this.batchSize) {
+			long remaining = deadline - System.currentTimeMillis();
+			Message message = receiveFromConsumer(consumer, (remaining > 0 ? remaining : -1));
+			if (message == null) {
+				break;
+			}
+			messages.add(message);
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Received batch of " + messages.size() + " messages from consumer [" + consumer + "]");
+		}
+		return messages;
+	}
+
 	/**
 	 * Template method that gets called right when a new message has been received,
 	 * before attempting to process it. Allows subclasses to react to the event
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jms.listener;
+
+import java.util.List;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * Variant of {@link SessionAwareMessageListener} that processes a batch of
+ * received JMS messages at once, along with the underlying JMS Session.
+ *
+ * <p>Supported by Spring's {@link DefaultMessageListenerContainer}, draining
+ * up to the configured {@link AbstractPollingMessageListenerContainer#setBatchSize
+ * batch size} from its consumer and committing the entire batch in a single
+ * Session transaction (or acknowledging it at once in client acknowledge mode).
+ * If the listener throws an exception, the entire batch is rolled back and will
+ * be redelivered. Other containers, such as {@link SimpleMessageListenerContainer},
+ * deliver every message as a batch of one.
+ *
+ * @author Juergen Hoeller
+ * @since 7.0.2
+ * @see AbstractPollingMessageListenerContainer#setBatchSize
+ * @see AbstractPollingMessageListenerContainer#setBatchReceiveTimeout
+ * @see SessionAwareMessageListener
+ */
+@FunctionalInterface
+public interface BatchMessageListener {
+
+	/**
+	 * Callback for processing a batch of received JMS messages.
+	 * <p>Implementors are supposed to process all given messages, with any
+	 * exception thrown leading to a rollback of the entire batch.
+	 * @param messages the received JMS messages, in order of receipt
+	 * (never empty)
+	 * @param session the underlying JMS Session (never {@code null})
+	 * @throws JMSException if thrown by JMS methods
+	 */
+	void onMessages(List<Message> messages, Session session) throws JMSException;
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jms.listener.adapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.jms.listener.BatchMessageListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.invocation.InvocableHandlerMethod;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * A {@link MessagingMessageListenerAdapter} for batch listener methods,
+ * invoking the handler method once for a batch of JMS messages.
+ *
+ * <p>The batch is exposed as the payload of the message that the handler
+ * method is invoked with, so that it can be injected as a {@code List}
+ * method argument: either as {@code List<Message<?>>} with each JMS message
+ * wrapped in Spring's {@link Message} abstraction, or as a list of the
+ * converted message payloads, for example, {@code List<String>}.
+ * The {@link jakarta.jms.Session} is provided as an additional argument.
+ *
+ * <p>A non-{@code void} result of the handler method is sent as a reply
+ * to the destination defined by the last message of the batch.
+ *
+ * @author Stephane Nicoll
+ * @since 7.0.2
+ * @see BatchMessageListener
+ * @see org.springframework.jms.listener.AbstractPollingMessageListenerContainer#setBatchSize
+ */
+public class BatchMessagingMessageListenerAdapter extends MessagingMessageListenerAdapter
+		implements BatchMessageListener {
+
+	private boolean messageElements;
+
+
+	@Override
+	public void setHandlerMethod(InvocableHandlerMethod handlerMethod) {
+		super.setHandlerMethod(handlerMethod);
+		this.messageElements = isMessageCollection(handlerMethod);
+	}
+
+	private static boolean isMessageCollection(InvocableHandlerMethod handlerMethod) {
+		for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+			if (Collection.class.isAssignableFrom(parameter.getParameterType())) {
+				Class<?> elementType = ResolvableType.forMethodParameter(parameter).asCollection().resolveGeneric();
+				return (elementType != null && Message.class.isAssignableFrom(elementType));
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * Process the given JMS message as a batch of one.
+	 */
+	@Override
+	public void onMessage(jakarta.jms.Message jmsMessage, @Nullable Session session) throws JMSException {
+		invokeBatch(List.of(jmsMessage), session);
+	}
+
+	@Override
+	public void onMessages(List<jakarta.jms.Message> jmsMessages, Session session) throws JMSException {
+		invokeBatch(jmsMessages, session);
+	}
+
+	private void invokeBatch(List<jakarta.jms.Message> jmsMessages, @Nullable Session session) {
+		List<Object> batch = new ArrayList<>(jmsMessages.size());
+		for (jakarta.jms.Message jmsMessage : jmsMessages) {
+			Message<?> message = toMessagingMessage(jmsMessage);
+			batch.add(this.messageElements ? message : message.getPayload());
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Processing batch of " + batch.size() + " messages");
+		}
+		Object result = invokeHandler(MessageBuilder.withPayload(batch).build(), session);
+		if (result != null) {
+			handleResult(result, jmsMessages.get(jmsMessages.size() - 1), session);
+		}
+		else {
+			logger.trace("No result object given - no result to handle");
+		}
+	}
+
+}
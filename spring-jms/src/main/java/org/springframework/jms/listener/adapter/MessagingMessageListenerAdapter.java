@@ -68,7 +68,11 @@ public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageLis
 		this.handlerMethod = handlerMethod;
 	}
 
-	private InvocableHandlerMethod getHandlerMethod() {
+	/**
+	 * Return the {@link InvocableHandlerMethod} to use.
+	 * @since 7.0.2
+	 */
+	protected InvocableHandlerMethod getHandlerMethod() {
 		Assert.state(this.handlerMethod != null, "No HandlerMethod set");
 		return this.handlerMethod;
 	}
@@ -80,7 +84,7 @@ public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageLis
 		if (logger.isDebugEnabled()) {
 			logger.debug("Processing [" + message + "]");
 		}
-		Object result = invokeHandler(jmsMessage, session, message);
+		Object result = invokeHandler(message, jmsMessage, session);
 		if (result != null) {
 			handleResult(result, jmsMessage, session);
 		}
@@ -101,11 +105,15 @@ public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageLis
 	/**
 	 * Invoke the handler, wrapping any exception in a {@link ListenerExecutionFailedException}
 	 * with a dedicated error message.
+	 * @param message the message to invoke the handler with
+	 * @param providedArgs additional arguments to match by type, for example,
+	 * the original JMS message and the JMS session
+	 * @since 7.0.2
 	 */
-	private @Nullable Object invokeHandler(jakarta.jms.Message jmsMessage, @Nullable Session session, Message<?> message) {
+	protected @Nullable Object invokeHandler(Message<?> message, @Nullable Object... providedArgs) {
 		InvocableHandlerMethod handlerMethod = getHandlerMethod();
 		try {
-			return handlerMethod.invoke(message, jmsMessage, session);
+			return handlerMethod.invoke(message, providedArgs);
 		}
 		catch (MessagingException ex) {
 			throw new ListenerExecutionFailedException(
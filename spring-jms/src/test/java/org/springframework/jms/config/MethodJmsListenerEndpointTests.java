@@ -40,6 +40,7 @@ import org.springframework.jms.StubTextMessage;
 import org.springframework.jms.listener.DefaultMessageListenerContainer;
 import org.springframework.jms.listener.MessageListenerContainer;
 import org.springframework.jms.listener.SimpleMessageListenerContainer;
+import org.springframework.jms.listener.adapter.BatchMessagingMessageListenerAdapter;
 import org.springframework.jms.listener.adapter.ListenerExecutionFailedException;
 import org.springframework.jms.listener.adapter.MessagingMessageListenerAdapter;
 import org.springframework.jms.listener.adapter.ReplyFailureException;
@@ -111,6 +112,19 @@ class MethodJmsListenerEndpointTests {
 		assertThat(endpoint.createMessageListener(this.container)).isNotNull();
 	}
 
+	@Test
+	void setupBatchMessageListener() {
+		MethodJmsListenerEndpoint endpoint = new MethodJmsListenerEndpoint();
+		endpoint.setBean(this);
+		endpoint.setMethod(getTestMethod());
+		endpoint.setMessageHandlerMethodFactory(this.factory);
+		endpoint.setBatchSize(25);
+
+		endpoint.setupListenerContainer(this.container);
+		assertThat(this.container.getMessageListener()).isInstanceOf(BatchMessagingMessageListenerAdapter.class);
+		assertThat(new DirectFieldAccessor(this.container).getPropertyValue("batchSize")).isEqualTo(25);
+	}
+
 	@Test
 	void setExtraCollaborators() {
 		MessageConverter messageConverter = mock();
@@ -17,8 +17,10 @@
 package org.springframework.jms.listener;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +30,9 @@ import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
 import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -41,6 +46,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -194,6 +200,77 @@ class DefaultMessageListenerContainerTests {
 		assertThat(container.getCacheLevel()).isEqualTo(DefaultMessageListenerContainer.CACHE_AUTO);
 	}
 
+	@Test
+	void batchListenerReceivesAvailableMessagesInSingleTransaction() throws JMSException {
+		Message message1 = mock();
+		Message message2 = mock();
+		Message message3 = mock();
+		MessageConsumer consumer = mock();
+		given(consumer.receive(1000)).willReturn(message1);
+		given(consumer.receiveNoWait()).willReturn(message2, message3, null);
+		Session session = createTransactedSession();
+		List<List<Message>> batches = new ArrayList<>();
+
+		DefaultMessageListenerContainer container = createBatchContainer((messages, s) -> batches.add(messages));
+		assertThat(container.doReceiveAndExecute(this, session, consumer, null)).isTrue();
+
+		assertThat(batches).containsExactly(List.of(message1, message2, message3));
+		verify(session, times(1)).commit();
+		verify(session, never()).rollback();
+	}
+
+	@Test
+	void batchListenerReceivesUpToBatchSize() throws JMSException {
+		Message message1 = mock();
+		Message message2 = mock();
+		MessageConsumer consumer = mock();
+		given(consumer.receive(1000)).willReturn(message1);
+		given(consumer.receiveNoWait()).willReturn(message2, mock(Message.class));
+		Session session = createTransactedSession();
+		List<List<Message>> batches = new ArrayList<>();
+
+		DefaultMessageListenerContainer container = createBatchContainer((messages, s) -> batches.add(messages));
+		container.setBatchSize(2);
+		container.doReceiveAndExecute(this, session, consumer, null);
+
+		assertThat(batches).containsExactly(List.of(message1, message2));
+		verify(consumer, times(1)).receiveNoWait();
+		verify(session, times(1)).commit();
+	}
+
+	@Test
+	void batchListenerRollsBackEntireBatchOnException() throws JMSException {
+		MessageConsumer consumer = mock();
+		given(consumer.receive(1000)).willReturn(mock(Message.class));
+		given(consumer.receiveNoWait()).willReturn(mock(Message.class), (Message) null);
+		Session session = createTransactedSession();
+
+		DefaultMessageListenerContainer container = createBatchContainer((messages, s) -> {
+			throw new IllegalStateException("Expected test exception");
+		});
+		container.doReceiveAndExecute(this, session, consumer, null);
+
+		verify(session, times(1)).rollback();
+		verify(session, never()).commit();
+	}
+
+	@Test
+	void batchListenerReceivesRedeliveredMessageAlone() throws JMSException {
+		Message message = mock();
+		given(message.getJMSRedelivered()).willReturn(true);
+		MessageConsumer consumer = mock();
+		given(consumer.receive(1000)).willReturn(message);
+		Session session = createTransactedSession();
+		List<List<Message>> batches = new ArrayList<>();
+
+		DefaultMessageListenerContainer container = createBatchContainer((messages, s) -> batches.add(messages));
+		container.doReceiveAndExecute(this, session, consumer, null);
+
+		assertThat(batches).containsExactly(List.of(message));
+		verify(consumer, never()).receiveNoWait();
+		verify(session, times(1)).commit();
+	}
+
 
 	private static Stream<String> streamCacheConstants() {
 		return Arrays.stream(DefaultMessageListenerContainer.class.getFields())
@@ -211,6 +288,26 @@ class DefaultMessageListenerContainerTests {
 		return container;
 	}
 
+	private static DefaultMessageListenerContainer createBatchContainer(BatchMessageListener listener) {
+		DefaultMessageListenerContainer container = new DefaultMessageListenerContainer() {
+			@Override
+			protected void messageReceived(Object invoker, Session session) {
+			}
+		};
+		container.setConnectionFactory(createSuccessfulConnectionFactory());
+		container.setDestination(new Destination() {});
+		container.setSessionTransacted(true);
+		container.setAcceptMessagesWhileStopping(true);
+		container.setMessageListener(listener);
+		return container;
+	}
+
+	private static Session createTransactedSession() throws JMSException {
+		Session session = mock();
+		given(session.getTransacted()).willReturn(true);
+		return session;
+	}
+
 	private static ConnectionFactory createSuccessfulConnectionFactory() {
 		try {
 			ConnectionFactory connectionFactory = mock();
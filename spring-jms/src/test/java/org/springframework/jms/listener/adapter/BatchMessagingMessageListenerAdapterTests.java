@@ -0,0 +1,120 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jms.listener.adapter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jms.StubTextMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.annotation.support.DefaultMessageHandlerMethodFactory;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link BatchMessagingMessageListenerAdapter}.
+ */
+class BatchMessagingMessageListenerAdapterTests {
+
+	private final DefaultMessageHandlerMethodFactory factory = new DefaultMessageHandlerMethodFactory();
+
+	private final SampleBean sample = new SampleBean();
+
+	private final Session session = mock();
+
+
+	@BeforeEach
+	void setup() {
+		this.factory.setBeanFactory(new StaticListableBeanFactory());
+		this.factory.afterPropertiesSet();
+	}
+
+
+	@Test
+	void onMessagesWithMessageList() throws JMSException {
+		BatchMessagingMessageListenerAdapter listener = createInstance("messages");
+		listener.onMessages(List.of(new StubTextMessage("foo"), new StubTextMessage("bar")), this.session);
+
+		assertThat(this.sample.batches).hasSize(1);
+		assertThat(this.sample.batches.get(0)).extracting(message -> ((Message<?>) message).getPayload())
+				.containsExactly("foo", "bar");
+	}
+
+	@Test
+	void onMessagesWithPayloadList() throws JMSException {
+		BatchMessagingMessageListenerAdapter listener = createInstance("payloads");
+		listener.onMessages(List.of(new StubTextMessage("foo"), new StubTextMessage("bar")), this.session);
+
+		assertThat(this.sample.batches).containsExactly(List.of("foo", "bar"));
+	}
+
+	@Test
+	void onMessageDeliversBatchOfOne() throws JMSException {
+		BatchMessagingMessageListenerAdapter listener = createInstance("payloads");
+		listener.onMessage(new StubTextMessage("foo"), this.session);
+
+		assertThat(this.sample.batches).containsExactly(List.of("foo"));
+	}
+
+	@Test
+	void exceptionInListener() {
+		BatchMessagingMessageListenerAdapter listener = createInstance("fail");
+		assertThatExceptionOfType(ListenerExecutionFailedException.class)
+				.isThrownBy(() -> listener.onMessages(List.of(new StubTextMessage("foo")), this.session))
+				.havingCause()
+				.isExactlyInstanceOf(IllegalArgumentException.class)
+				.withMessage("Expected test exception");
+	}
+
+
+	private BatchMessagingMessageListenerAdapter createInstance(String methodName) {
+		Method method = ReflectionUtils.findMethod(SampleBean.class, methodName, List.class);
+		BatchMessagingMessageListenerAdapter adapter = new BatchMessagingMessageListenerAdapter();
+		adapter.setHandlerMethod(this.factory.createInvocableHandlerMethod(this.sample, method));
+		return adapter;
+	}
+
+
+	@SuppressWarnings("unused")
+	private static class SampleBean {
+
+		public final List<List<?>> batches = new ArrayList<>();
+
+		public void messages(List<Message<String>> messages) {
+			this.batches.add(messages);
+		}
+
+		public void payloads(List<String> payloads) {
+			this.batches.add(payloads);
+		}
+
+		public void fail(List<String> payloads) {
+			throw new IllegalArgumentException("Expected test exception");
+		}
+	}
+
+}
@@ -33,6 +33,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.MultiValueMap;
 
 @BenchmarkMode(Mode.Throughput)
@@ -40,7 +41,7 @@ public class DefaultSubscriptionRegistryBenchmark {
 
 	@State(Scope.Benchmark)
 	public static class ServerState {
-		@Param("1000")
+		@Param({"1000", "20000"})
 		public int sessions;
 
 		@Param("10")
@@ -52,6 +53,9 @@ public class DefaultSubscriptionRegistryBenchmark {
 		@Param({"none", "patternSubscriptions", "selectorHeaders"})
 		String specialization;
 
+		@Param({"indexed", "unindexed"})
+		String patternIndex;
+
 		public DefaultSubscriptionRegistry registry;
 
 		public String[] destinationIds;
@@ -68,6 +72,10 @@ public class DefaultSubscriptionRegistryBenchmark {
 			this.uniqueIdGenerator = new AtomicInteger();
 
 			this.registry = new DefaultSubscriptionRegistry();
+			if ("unindexed".equals(this.patternIndex)) {
+				// Pattern subscriptions are only indexed for a plain AntPathMatcher
+				this.registry.setPathMatcher(new AntPathMatcher() {});
+			}
 			this.registry.setCacheLimit(this.cacheSizeLimit);
 			this.registry.setSelectorHeaderName("selectorHeaders".equals(this.specialization) ? "someSelector" : null);
 
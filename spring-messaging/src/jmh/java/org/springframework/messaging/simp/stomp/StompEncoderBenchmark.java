@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.stomp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Benchmarks for encoding a message broadcast to many subscribers with
+ * {@link StompEncoder}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class StompEncoderBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BroadcastState {
+
+		@Param({"100", "5000"})
+		public int subscribers;
+
+		@Param({"128", "8192"})
+		public int payloadSize;
+
+		public StompEncoder encoder;
+
+		public byte[] payload;
+
+		public Map<String, Object>[] headers;
+
+		@Setup(Level.Trial)
+		@SuppressWarnings("unchecked")
+		public void doSetup() {
+			this.encoder = new StompEncoder();
+			this.payload = "a".repeat(this.payloadSize).getBytes(StandardCharsets.UTF_8);
+			this.headers = new Map[this.subscribers];
+			for (int i = 0; i < this.subscribers; i++) {
+				StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+				accessor.setSubscriptionId("sub-" + i);
+				accessor.setDestination("/topic/prices.stock.ACME");
+				accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+				accessor.setMessageId("session" + i + "-" + i);
+				accessor.setNativeHeader("priority", "9");
+				this.headers[i] = accessor.getMessageHeaders();
+			}
+		}
+	}
+
+
+	@Benchmark
+	public void encodeForEachSubscriber(BroadcastState state, Blackhole blackhole) {
+		for (Map<String, Object> headers : state.headers) {
+			blackhole.consume(state.encoder.encode(headers, state.payload));
+		}
+	}
+
+	@Benchmark
+	public void encodeBroadcastMessage(BroadcastState state, Blackhole blackhole) {
+		for (Map<String, Object> headers : state.headers) {
+			blackhole.consume(state.encoder.encodeBroadcastMessage(headers, state.payload));
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 
@@ -55,6 +56,11 @@ import org.springframework.util.StringUtils;
  * in memory and uses a {@link org.springframework.util.PathMatcher PathMatcher}
  * for matching destinations.
  *
+ * <p>Subscriptions are indexed by destination. With an {@link AntPathMatcher},
+ * pattern subscriptions are further indexed in a tree of destination segments,
+ * so that resolving a destination only matches patterns whose literal segments
+ * match the destination, rather than all pattern subscriptions.
+ *
  * <p>This class also supports an optional <em>selector</em> header on subscription
  * messages with Spring Expression Language (SpEL) expressions evaluated against
  * the headers to filter out messages in addition to destination matching. As of
@@ -87,6 +93,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	private final ExpressionParser expressionParser = new SpelExpressionParser();
 
+	private final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
+
 	private final DestinationCache destinationCache = new DestinationCache();
 
 	private final SessionRegistry sessionRegistry = new SessionRegistry();
@@ -94,9 +102,14 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	/**
 	 * Specify the {@link PathMatcher} to use.
+	 * <p>Note that the configuration of an {@link AntPathMatcher} is expected
+	 * to be complete at this point, as it determines how pattern subscriptions
+	 * are indexed.
 	 */
 	public void setPathMatcher(PathMatcher pathMatcher) {
 		this.pathMatcher = pathMatcher;
+		this.subscriptionIndex.reset();
+		this.destinationCache.clear();
 	}
 
 	/**
@@ -160,8 +173,10 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		Expression expression = getSelectorExpression(message.getHeaders());
 		Subscription subscription = new Subscription(subscriptionId, destination, isPattern, expression);
 
-		this.sessionRegistry.addSubscription(sessionId, subscription);
-		this.destinationCache.updateAfterNewSubscription(sessionId, subscription);
+		this.sessionRegistry.addSubscription(sessionId, subscription, added -> {
+			this.subscriptionIndex.add(sessionId, added);
+			this.destinationCache.updateAfterNewSubscription(sessionId, added);
+		});
 	}
 
 	private @Nullable Expression getSelectorExpression(MessageHeaders headers) {
@@ -190,21 +205,20 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	@Override
 	protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
-		SessionInfo info = this.sessionRegistry.getSession(sessionId);
-		if (info != null) {
-			Subscription subscription = info.removeSubscription(subscriptionId);
-			if (subscription != null) {
-				this.destinationCache.updateAfterRemovedSubscription(sessionId, subscription);
-			}
-		}
+		this.sessionRegistry.removeSubscription(sessionId, subscriptionId, removed -> {
+			this.subscriptionIndex.remove(sessionId, removed);
+			this.destinationCache.updateAfterRemovedSubscription(sessionId, removed);
+		});
 	}
 
 	@Override
 	public void unregisterAllSubscriptions(String sessionId) {
-		SessionInfo info = this.sessionRegistry.removeSubscriptions(sessionId);
-		if (info != null) {
-			this.destinationCache.updateAfterRemovedSession(sessionId, info);
-		}
+		this.sessionRegistry.removeSubscriptions(sessionId, removed -> {
+			for (Subscription subscription : removed.getSubscriptions()) {
+				this.subscriptionIndex.remove(sessionId, subscription);
+			}
+			this.destinationCache.updateAfterRemovedSession(sessionId, removed);
+		});
 	}
 
 	@Override
@@ -281,13 +295,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 		private LinkedMultiValueMap<String, String> computeMatchingSubscriptions(String destination) {
 			LinkedMultiValueMap<String, String> sessionIdToSubscriptionIds = new LinkedMultiValueMap<>();
-			DefaultSubscriptionRegistry.this.sessionRegistry.forEachSubscription((sessionId, subscription) -> {
-				if (subscription.isPattern()) {
-					if (pathMatcher.match(subscription.getDestination(), destination)) {
-						addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscription.getId());
-					}
-				}
-				else if (destination.equals(subscription.getDestination())) {
+			DefaultSubscriptionRegistry.this.subscriptionIndex.forEachCandidate(destination, (sessionId, subscription) -> {
+				if (!subscription.isPattern() || pathMatcher.match(subscription.getDestination(), destination)) {
 					addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscription.getId());
 				}
 			});
@@ -327,6 +336,12 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 			}
 		}
 
+		public void clear() {
+			this.destinationCache.clear();
+			this.cacheEvictionPolicy.clear();
+			this.cacheSize.set(0);
+		}
+
 		public void updateAfterNewSubscription(String sessionId, Subscription subscription) {
 			if (subscription.isPattern()) {
 				for (String cachedDestination : this.destinationCache.keySet()) {
@@ -386,6 +401,293 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		}
 	}
 
+	/**
+	 * Index of subscriptions by destination, used to find the subscriptions
+	 * that may match a destination. Subscriptions to a plain destination are
+	 * indexed by that destination, while pattern subscriptions are indexed in
+	 * a tree of {@link PatternNode PatternNodes} for an {@link AntPathMatcher},
+	 * or otherwise checked for every destination.
+	 */
+	private final class SubscriptionIndex {
+
+		// destination -> [sessionId -> [subscriptionId -> Subscription]]
+		private final Map<String, Map<String, Map<String, Subscription>>> subscriptionsByDestination =
+				new ConcurrentHashMap<>();
+
+		// sessionId -> [subscriptionId -> Subscription]
+		private final Map<String, Map<String, Subscription>> unindexedPatternSubscriptions = new ConcurrentHashMap<>();
+
+		private @Nullable PatternNode patternRoot;
+
+		private String pathSeparator = AntPathMatcher.DEFAULT_PATH_SEPARATOR;
+
+		private boolean caseSensitive = true;
+
+		private boolean trimTokens;
+
+		SubscriptionIndex() {
+			initPatternIndex();
+		}
+
+		private void initPatternIndex() {
+			if (pathMatcher.getClass() == AntPathMatcher.class) {
+				AntPathMatcher antPathMatcher = (AntPathMatcher) pathMatcher;
+				this.pathSeparator = antPathMatcher.getPathSeparator();
+				this.caseSensitive = antPathMatcher.isCaseSensitive();
+				this.trimTokens = antPathMatcher.isTrimTokens();
+				this.patternRoot = new PatternNode();
+			}
+			else {
+				this.patternRoot = null;
+			}
+		}
+
+		/**
+		 * Re-index all subscriptions after a change of {@link PathMatcher}.
+		 */
+		public synchronized void reset() {
+			this.subscriptionsByDestination.clear();
+			this.unindexedPatternSubscriptions.clear();
+			initPatternIndex();
+			sessionRegistry.forEachSubscription(this::add);
+		}
+
+		public synchronized void add(String sessionId, Subscription subscription) {
+			String destination = subscription.getDestination();
+			if (!subscription.isPattern()) {
+				Map<String, Map<String, Subscription>> subscriptions =
+						this.subscriptionsByDestination.computeIfAbsent(destination, _destination -> new ConcurrentHashMap<>());
+				addSubscription(subscriptions, sessionId, subscription);
+				return;
+			}
+			String[] tokens = (this.patternRoot != null ? tokenizePattern(destination) : null);
+			if (this.patternRoot == null || tokens == null) {
+				addSubscription(this.unindexedPatternSubscriptions, sessionId, subscription);
+				return;
+			}
+			PatternNode node = this.patternRoot;
+			for (String token : tokens) {
+				node = node.getOrCreateChild(token, this.caseSensitive);
+			}
+			addSubscription(node.subscriptions, sessionId, subscription);
+		}
+
+		public synchronized void remove(String sessionId, Subscription subscription) {
+			String destination = subscription.getDestination();
+			if (!subscription.isPattern()) {
+				Map<String, Map<String, Subscription>> subscriptions = this.subscriptionsByDestination.get(destination);
+				if (subscriptions != null && removeSubscription(subscriptions, sessionId, subscription)) {
+					this.subscriptionsByDestination.remove(destination);
+				}
+				return;
+			}
+			String[] tokens = (this.patternRoot != null ? tokenizePattern(destination) : null);
+			if (this.patternRoot == null || tokens == null) {
+				removeSubscription(this.unindexedPatternSubscriptions, sessionId, subscription);
+				return;
+			}
+			this.patternRoot.remove(tokens, 0, sessionId, subscription, this.caseSensitive);
+		}
+
+		/**
+		 * Pass the subscriptions that may match the given destination to the
+		 * given consumer: subscriptions to the same destination, and pattern
+		 * subscriptions that still need to be matched against it.
+		 */
+		public void forEachCandidate(String destination, BiConsumer<String, Subscription> consumer) {
+			Map<String, Map<String, Subscription>> subscriptions = this.subscriptionsByDestination.get(destination);
+			if (subscriptions != null) {
+				forEachSubscription(subscriptions, consumer);
+			}
+			PatternNode root = this.patternRoot;
+			if (root != null) {
+				String[] tokens = tokenizeDestination(destination);
+				root.forEachCandidate(tokens, 0, this.caseSensitive, consumer);
+			}
+			forEachSubscription(this.unindexedPatternSubscriptions, consumer);
+		}
+
+		private String[] tokenizeDestination(String destination) {
+			return StringUtils.tokenizeToStringArray(destination, this.pathSeparator, this.trimTokens, true);
+		}
+
+		/**
+		 * Tokenize the given pattern, or return {@code null} if one of its
+		 * segments has unbalanced braces, for example, due to a separator
+		 * within a URI variable regex.
+		 */
+		private String @Nullable [] tokenizePattern(String pattern) {
+			String[] tokens = tokenizeDestination(pattern);
+			for (String token : tokens) {
+				int depth = 0;
+				for (int i = 0; i < token.length(); i++) {
+					char c = token.charAt(i);
+					if (c == '{') {
+						depth++;
+					}
+					else if (c == '}') {
+						depth--;
+					}
+				}
+				if (depth != 0) {
+					return null;
+				}
+			}
+			return tokens;
+		}
+	}
+
+	private static void addSubscription(
+			Map<String, Map<String, Subscription>> subscriptions, String sessionId, Subscription subscription) {
+
+		subscriptions.computeIfAbsent(sessionId, _sessionId -> new ConcurrentHashMap<>())
+				.put(subscription.getId(), subscription);
+	}
+
+	/**
+	 * Remove the given subscription, returning whether no subscriptions remain.
+	 */
+	private static boolean removeSubscription(
+			Map<String, Map<String, Subscription>> subscriptions, String sessionId, Subscription subscription) {
+
+		Map<String, Subscription> sessionSubscriptions = subscriptions.get(sessionId);
+		if (sessionSubscriptions != null && sessionSubscriptions.remove(subscription.getId(), subscription) &&
+				sessionSubscriptions.isEmpty()) {
+			subscriptions.remove(sessionId);
+		}
+		return subscriptions.isEmpty();
+	}
+
+	private static void forEachSubscription(
+			Map<String, Map<String, Subscription>> subscriptions, BiConsumer<String, Subscription> consumer) {
+
+		subscriptions.forEach((sessionId, sessionSubscriptions) ->
+				sessionSubscriptions.values().forEach(subscription -> consumer.accept(sessionId, subscription)));
+	}
+
+	/**
+	 * Case-insensitive key consistent with {@link String#equalsIgnoreCase(String)}.
+	 */
+	private static String caseInsensitiveKey(String text) {
+		char[] chars = new char[text.length()];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * A node in the tree of pattern subscriptions, reached through a sequence
+	 * of pattern segments. Literal segments are indexed by their text, while
+	 * segments with wildcards or URI variables share a wildcard child, and
+	 * {@code "**"} segments a double wildcard child that may match any number
+	 * of destination segments. Nodes are modified under the lock of the
+	 * {@link SubscriptionIndex} and read without locking.
+	 */
+	private static final class PatternNode {
+
+		private final Map<String, PatternNode> literalChildren = new ConcurrentHashMap<>(4);
+
+		private volatile @Nullable PatternNode wildcardChild;
+
+		private volatile @Nullable PatternNode doubleWildcardChild;
+
+		// sessionId -> [subscriptionId -> Subscription] for patterns ending at this node
+		private final Map<String, Map<String, Subscription>> subscriptions = new ConcurrentHashMap<>(4);
+
+		PatternNode getOrCreateChild(String token, boolean caseSensitive) {
+			if (token.equals("**")) {
+				PatternNode child = this.doubleWildcardChild;
+				if (child == null) {
+					child = new PatternNode();
+					this.doubleWildcardChild = child;
+				}
+				return child;
+			}
+			else if (isWildcardSegment(token)) {
+				PatternNode child = this.wildcardChild;
+				if (child == null) {
+					child = new PatternNode();
+					this.wildcardChild = child;
+				}
+				return child;
+			}
+			else {
+				String key = (caseSensitive ? token : caseInsensitiveKey(token));
+				return this.literalChildren.computeIfAbsent(key, _key -> new PatternNode());
+			}
+		}
+
+		/**
+		 * Remove the subscription for the pattern with the given segments,
+		 * pruning nodes left empty, and return whether this node is empty.
+		 */
+		boolean remove(String[] tokens, int index, String sessionId,
+				Subscription subscription, boolean caseSensitive) {
+
+			if (index == tokens.length) {
+				DefaultSubscriptionRegistry.removeSubscription(this.subscriptions, sessionId, subscription);
+			}
+			else {
+				String token = tokens[index];
+				if (token.equals("**")) {
+					PatternNode child = this.doubleWildcardChild;
+					if (child != null && child.remove(tokens, index + 1, sessionId, subscription, caseSensitive)) {
+						this.doubleWildcardChild = null;
+					}
+				}
+				else if (isWildcardSegment(token)) {
+					PatternNode child = this.wildcardChild;
+					if (child != null && child.remove(tokens, index + 1, sessionId, subscription, caseSensitive)) {
+						this.wildcardChild = null;
+					}
+				}
+				else {
+					String key = (caseSensitive ? token : caseInsensitiveKey(token));
+					PatternNode child = this.literalChildren.get(key);
+					if (child != null && child.remove(tokens, index + 1, sessionId, subscription, caseSensitive)) {
+						this.literalChildren.remove(key);
+					}
+				}
+			}
+			return (this.subscriptions.isEmpty() && this.literalChildren.isEmpty() &&
+					this.wildcardChild == null && this.doubleWildcardChild == null);
+		}
+
+		void forEachCandidate(String[] tokens, int index, boolean caseSensitive,
+				BiConsumer<String, Subscription> consumer) {
+
+			PatternNode wildcardChild = this.wildcardChild;
+			if (index == tokens.length) {
+				forEachSubscription(this.subscriptions, consumer);
+				// A trailing "*" also matches a destination that ends with a separator
+				if (wildcardChild != null) {
+					forEachSubscription(wildcardChild.subscriptions, consumer);
+				}
+			}
+			else {
+				String token = tokens[index];
+				PatternNode child = this.literalChildren.get(caseSensitive ? token : caseInsensitiveKey(token));
+				if (child != null) {
+					child.forEachCandidate(tokens, index + 1, caseSensitive, consumer);
+				}
+				if (wildcardChild != null) {
+					wildcardChild.forEachCandidate(tokens, index + 1, caseSensitive, consumer);
+				}
+			}
+			PatternNode doubleWildcardChild = this.doubleWildcardChild;
+			if (doubleWildcardChild != null) {
+				for (int i = index; i <= tokens.length; i++) {
+					doubleWildcardChild.forEachCandidate(tokens, i, caseSensitive, consumer);
+				}
+			}
+		}
+
+		private static boolean isWildcardSegment(String token) {
+			return (token.indexOf('*') != -1 || token.indexOf('?') != -1 || token.indexOf('{') != -1);
+		}
+	}
+
 	/**
 	 * Registry for all session and their subscriptions.
 	 */
@@ -402,13 +704,44 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 				info.getSubscriptions().forEach(subscription -> consumer.accept(sessionId, subscription)));
 		}
 
-		public void addSubscription(String sessionId, Subscription subscription) {
-			SessionInfo info = this.sessions.computeIfAbsent(sessionId, _sessionId -> new SessionInfo());
-			info.addSubscription(subscription);
+		/**
+		 * Add the given subscription, unless the session already has one with
+		 * the same id, and pass it to the given callback if added. The callback
+		 * is invoked atomically with respect to other updates of the session.
+		 */
+		public void addSubscription(String sessionId, Subscription subscription, Consumer<Subscription> callback) {
+			this.sessions.compute(sessionId, (_sessionId, info) -> {
+				SessionInfo result = (info != null ? info : new SessionInfo());
+				if (result.addSubscription(subscription)) {
+					callback.accept(subscription);
+				}
+				return result;
+			});
 		}
 
-		public @Nullable SessionInfo removeSubscriptions(String sessionId) {
-			return this.sessions.remove(sessionId);
+		/**
+		 * Remove the subscription with the given id, and pass it to the given
+		 * callback if present, atomically with respect to other updates of the session.
+		 */
+		public void removeSubscription(String sessionId, String subscriptionId, Consumer<Subscription> callback) {
+			this.sessions.computeIfPresent(sessionId, (_sessionId, info) -> {
+				Subscription subscription = info.removeSubscription(subscriptionId);
+				if (subscription != null) {
+					callback.accept(subscription);
+				}
+				return info;
+			});
+		}
+
+		/**
+		 * Remove the given session, and pass its subscriptions to the given
+		 * callback if present, atomically with respect to other updates of the session.
+		 */
+		public void removeSubscriptions(String sessionId, Consumer<SessionInfo> callback) {
+			this.sessions.computeIfPresent(sessionId, (_sessionId, info) -> {
+				callback.accept(info);
+				return null;
+			});
 		}
 	}
 
@@ -428,8 +761,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 			return this.subscriptionMap.get(subscriptionId);
 		}
 
-		public void addSubscription(Subscription subscription) {
-			this.subscriptionMap.putIfAbsent(subscription.getId(), subscription);
+		public boolean addSubscription(Subscription subscription) {
+			return (this.subscriptionMap.putIfAbsent(subscription.getId(), subscription) == null);
 		}
 
 		public @Nullable Subscription removeSubscription(String subscriptionId) {
@@ -18,16 +18,26 @@ package org.springframework.messaging.simp.broker;
 
 import java.security.Principal;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.SubscribableChannel;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
@@ -36,6 +46,7 @@ import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.messaging.support.MessageHeaderInitializer;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.PathMatcher;
@@ -45,6 +56,12 @@ import org.springframework.util.PathMatcher;
  * {@link SimpMessageType}, keeps track of subscriptions with the help of a
  * {@link SubscriptionRegistry}, and sends messages to subscribers.
  *
+ * <p>By default, messages are sent to subscribers on the thread that handles
+ * them. When a {@linkplain #setShardCount shard count} is configured, messages
+ * are instead partitioned across shards by session, each processing messages
+ * one at a time on a {@linkplain #setShardExecutor shard executor}, so that
+ * broadcasting to subscribers scales with the number of cores.
+ *
  * @author Rossen Stoyanchev
  * @author Juergen Hoeller
  * @author Sam Brannen
@@ -54,6 +71,8 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 
 	private static final byte[] EMPTY_PAYLOAD = new byte[0];
 
+	private static final int DEFAULT_SHARD_QUEUE_CAPACITY = 10000;
+
 
 	private @Nullable PathMatcher pathMatcher;
 
@@ -67,6 +86,12 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 
 	private @Nullable MessageHeaderInitializer headerInitializer;
 
+	private int shardCount;
+
+	private @Nullable TaskExecutor shardExecutor;
+
+	private int shardQueueCapacity = DEFAULT_SHARD_QUEUE_CAPACITY;
+
 
 	private SubscriptionRegistry subscriptionRegistry;
 
@@ -74,6 +99,10 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 
 	private @Nullable ScheduledFuture<?> heartbeatFuture;
 
+	private volatile List<Shard> shards = Collections.emptyList();
+
+	private @Nullable ThreadPoolTaskExecutor defaultShardExecutor;
+
 
 	/**
 	 * Create a SimpleBrokerMessageHandler instance with the given message channels
@@ -252,9 +281,101 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 		return this.headerInitializer;
 	}
 
+	/**
+	 * Configure the number of shards across which messages are partitioned by
+	 * the hash of their session id. All messages of a session, including
+	 * CONNECT, SUBSCRIBE, UNSUBSCRIBE, and DISCONNECT messages, are processed
+	 * by the same shard, and therefore in the order they are received, while
+	 * messages of different sessions are processed in parallel. Messages
+	 * without a session, such as those sent by the application through the
+	 * broker channel, are partitioned by the hash of their destination instead.
+	 * <p>Messages sent to the same session from different shards are kept in
+	 * order when {@link #setPreservePublishOrder(boolean) preservePublishOrder}
+	 * is enabled.
+	 * <p>By default this is set to 0, in which case messages are sent to
+	 * subscribers on the thread that handles them.
+	 * @param shardCount the number of shards, or 0 to disable sharding
+	 * @since 7.0.2
+	 * @see #getShardStats()
+	 */
+	public void setShardCount(int shardCount) {
+		Assert.isTrue(shardCount >= 0, "Shard count must not be negative");
+		this.shardCount = shardCount;
+	}
+
+	/**
+	 * Return the configured number of shards.
+	 * @since 7.0.2
+	 */
+	public int getShardCount() {
+		return this.shardCount;
+	}
+
+	/**
+	 * Configure the executor on which shards process their messages. Each shard
+	 * runs at most one task at a time, so the executor should allow as many
+	 * concurrent tasks as there are {@link #setShardCount shards} in order for
+	 * all of them to run in parallel.
+	 * <p>By default, a {@link ThreadPoolTaskExecutor} with one thread per shard
+	 * is created when the broker is started and shut down when it is stopped.
+	 * A custom executor is not shut down by this handler.
+	 * @param shardExecutor the executor to use, or {@code null} for the default
+	 * @since 7.0.2
+	 */
+	public void setShardExecutor(@Nullable TaskExecutor shardExecutor) {
+		this.shardExecutor = shardExecutor;
+	}
+
+	/**
+	 * Return the configured shard executor.
+	 * @since 7.0.2
+	 */
+	public @Nullable TaskExecutor getShardExecutor() {
+		return this.shardExecutor;
+	}
+
+	/**
+	 * Configure the maximum number of messages waiting to be processed per shard.
+	 * Once the queue of a shard is full, further messages for that shard are
+	 * rejected with a {@link MessageDeliveryException} rather than buffered.
+	 * <p>By default this is set to 10000.
+	 * @param shardQueueCapacity the queue capacity per shard
+	 * @since 7.0.2
+	 */
+	public void setShardQueueCapacity(int shardQueueCapacity) {
+		Assert.isTrue(shardQueueCapacity > 0, "Shard queue capacity must be greater than 0");
+		this.shardQueueCapacity = shardQueueCapacity;
+	}
+
+	/**
+	 * Return the configured queue capacity per shard.
+	 * @since 7.0.2
+	 */
+	public int getShardQueueCapacity() {
+		return this.shardQueueCapacity;
+	}
+
 
 	@Override
 	public void startInternal() {
+		if (this.shardCount > 0 && this.shards.isEmpty()) {
+			TaskExecutor executor = this.shardExecutor;
+			if (executor == null) {
+				ThreadPoolTaskExecutor defaultExecutor = new ThreadPoolTaskExecutor();
+				defaultExecutor.setCorePoolSize(this.shardCount);
+				defaultExecutor.setMaxPoolSize(this.shardCount);
+				defaultExecutor.setThreadNamePrefix("SimpleBroker-shard-");
+				defaultExecutor.setWaitForTasksToCompleteOnShutdown(true);
+				defaultExecutor.initialize();
+				this.defaultShardExecutor = defaultExecutor;
+				executor = defaultExecutor;
+			}
+			List<Shard> shards = new ArrayList<>(this.shardCount);
+			for (int i = 0; i < this.shardCount; i++) {
+				shards.add(new Shard(i, executor, this.shardQueueCapacity));
+			}
+			this.shards = shards;
+		}
 		publishBrokerAvailableEvent();
 		if (this.taskScheduler != null) {
 			Duration interval = initHeartbeatTaskDelay();
@@ -287,6 +408,15 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 		if (this.heartbeatFuture != null) {
 			this.heartbeatFuture.cancel(true);
 		}
+		List<Shard> shards = this.shards;
+		this.shards = Collections.emptyList();
+		for (Shard shard : shards) {
+			shard.stop();
+		}
+		if (this.defaultShardExecutor != null) {
+			this.defaultShardExecutor.shutdown();
+			this.defaultShardExecutor = null;
+		}
 	}
 
 	@Override
@@ -301,6 +431,21 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 			return;
 		}
 
+		List<Shard> shards = this.shards;
+		String shardKey = (sessionId != null ? sessionId : destination);
+		if (!shards.isEmpty() && shardKey != null) {
+			shards.get(Math.floorMod(shardKey.hashCode(), shards.size())).execute(message);
+		}
+		else {
+			processMessage(message);
+		}
+	}
+
+	private void processMessage(Message<?> message) {
+		MessageHeaders headers = message.getHeaders();
+		String destination = SimpMessageHeaderAccessor.getDestination(headers);
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+
 		SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(headers);
 		if (SimpMessageType.MESSAGE.equals(messageType)) {
 			logMessage(message);
@@ -422,12 +567,146 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 		});
 	}
 
+	/**
+	 * Return statistics for each shard, or an empty list if sharding is not
+	 * enabled or the broker is not running.
+	 * @since 7.0.2
+	 * @see #setShardCount(int)
+	 */
+	public List<ShardStats> getShardStats() {
+		List<ShardStats> result = new ArrayList<>(this.shards.size());
+		for (Shard shard : this.shards) {
+			result.add(shard.getStats());
+		}
+		return result;
+	}
+
+	/**
+	 * Return a String describing the statistics of each shard.
+	 * Effectively {@code toString()} on {@link #getShardStats() getShardStats()}.
+	 * @since 7.0.2
+	 */
+	public String getShardStatsInfo() {
+		return getShardStats().toString();
+	}
+
 	@Override
 	public String toString() {
 		return "SimpleBrokerMessageHandler [" + this.subscriptionRegistry + "]";
 	}
 
 
+	/**
+	 * Statistics for a shard.
+	 * @param index the index of the shard
+	 * @param queuedMessages the number of messages waiting to be processed
+	 * @param processedMessages the number of messages processed so far
+	 * @param rejectedMessages the number of messages rejected because the
+	 * shard was stopped or its queue was full
+	 * @since 7.0.2
+	 */
+	public record ShardStats(int index, int queuedMessages, long processedMessages, long rejectedMessages) {
+
+		@Override
+		public String toString() {
+			return "shard " + this.index + " [queued messages = " + this.queuedMessages +
+					", processed messages = " + this.processedMessages +
+					", rejected messages = " + this.rejectedMessages + "]";
+		}
+	}
+
+
+	/**
+	 * A lane that processes the messages for a subset of sessions one at a time,
+	 * in the order they are received, on the shard executor.
+	 */
+	private class Shard {
+
+		private final int index;
+
+		private final TaskExecutor executor;
+
+		private final BlockingQueue<Message<?>> queue;
+
+		private final AtomicBoolean processingInProgress = new AtomicBoolean();
+
+		private volatile boolean stopped;
+
+		private final AtomicLong processedCount = new AtomicLong();
+
+		private final AtomicLong rejectedCount = new AtomicLong();
+
+		Shard(int index, TaskExecutor executor, int queueCapacity) {
+			this.index = index;
+			this.executor = executor;
+			this.queue = new LinkedBlockingQueue<>(queueCapacity);
+		}
+
+		public void execute(Message<?> message) {
+			if (this.stopped) {
+				this.rejectedCount.incrementAndGet();
+				if (logger.isDebugEnabled()) {
+					logger.debug("Shard " + this.index + " stopped, ignoring " + message);
+				}
+				return;
+			}
+			if (!this.queue.offer(message)) {
+				this.rejectedCount.incrementAndGet();
+				throw new MessageDeliveryException(message, "Queue of shard " + this.index + " is full");
+			}
+			tryProcess();
+		}
+
+		private void tryProcess() {
+			// Take processingInProgress flag only if queue is not empty
+			if (this.queue.isEmpty() || !this.processingInProgress.compareAndSet(false, true)) {
+				return;
+			}
+			try {
+				this.executor.execute(this::processMessages);
+			}
+			catch (RejectedExecutionException ex) {
+				List<Message<?>> messages = new ArrayList<>();
+				this.queue.drainTo(messages);
+				this.rejectedCount.addAndGet(messages.size());
+				this.processingInProgress.set(false);
+				if (logger.isErrorEnabled()) {
+					logger.error("Shard " + this.index + " executor rejected task, ignoring " +
+							messages.size() + " messages", ex);
+				}
+			}
+		}
+
+		private void processMessages() {
+			Message<?> message;
+			while ((message = this.queue.poll()) != null) {
+				try {
+					processMessage(message);
+				}
+				catch (Throwable ex) {
+					if (logger.isErrorEnabled()) {
+						logger.error("Failed to process " + message, ex);
+					}
+				}
+				finally {
+					this.processedCount.incrementAndGet();
+				}
+			}
+			this.processingInProgress.set(false);
+			tryProcess();
+		}
+
+		public ShardStats getStats() {
+			return new ShardStats(this.index, this.queue.size(),
+					this.processedCount.get(), this.rejectedCount.get());
+		}
+
+		public void stop() {
+			this.stopped = true;
+		}
+	}
+
+
 	private static class SessionInfo {
 
 		/* STOMP spec: receiver SHOULD take into account an error margin */
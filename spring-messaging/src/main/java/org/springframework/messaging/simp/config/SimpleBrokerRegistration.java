@@ -18,6 +18,7 @@ package org.springframework.messaging.simp.config;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.SubscribableChannel;
 import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
@@ -38,6 +39,12 @@ public class SimpleBrokerRegistration extends AbstractBrokerRegistration {
 
 	private @Nullable String selectorHeaderName;
 
+	private int shardCount;
+
+	private @Nullable TaskExecutor shardExecutor;
+
+	private @Nullable Integer shardQueueCapacity;
+
 
 	/**
 	 * Create a new {@code SimpleBrokerRegistration}.
@@ -99,6 +106,42 @@ public class SimpleBrokerRegistration extends AbstractBrokerRegistration {
 		this.selectorHeaderName = selectorHeaderName;
 	}
 
+	/**
+	 * Configure the number of shards across which messages are partitioned by
+	 * session in order to broadcast messages to subscribers in parallel.
+	 * <p>By default this is set to 0, in which case messages are broadcast on
+	 * the thread that handles them.
+	 * @since 7.0.2
+	 * @see SimpleBrokerMessageHandler#setShardCount(int)
+	 */
+	public SimpleBrokerRegistration setShardCount(int shardCount) {
+		this.shardCount = shardCount;
+		return this;
+	}
+
+	/**
+	 * Configure the executor on which shards process their messages.
+	 * <p>By default, an executor with one thread per shard is used.
+	 * @since 7.0.2
+	 * @see SimpleBrokerMessageHandler#setShardExecutor(TaskExecutor)
+	 */
+	public SimpleBrokerRegistration setShardExecutor(TaskExecutor shardExecutor) {
+		this.shardExecutor = shardExecutor;
+		return this;
+	}
+
+	/**
+	 * Configure the maximum number of messages waiting to be processed per
+	 * shard, beyond which further messages are rejected.
+	 * <p>By default this is set to 10000.
+	 * @since 7.0.2
+	 * @see SimpleBrokerMessageHandler#setShardQueueCapacity(int)
+	 */
+	public SimpleBrokerRegistration setShardQueueCapacity(int shardQueueCapacity) {
+		this.shardQueueCapacity = shardQueueCapacity;
+		return this;
+	}
+
 
 	@Override
 	protected SimpleBrokerMessageHandler getMessageHandler(SubscribableChannel brokerChannel) {
@@ -111,6 +154,11 @@ public class SimpleBrokerRegistration extends AbstractBrokerRegistration {
 			handler.setHeartbeatValue(this.heartbeat);
 		}
 		handler.setSelectorHeaderName(this.selectorHeaderName);
+		handler.setShardCount(this.shardCount);
+		handler.setShardExecutor(this.shardExecutor);
+		if (this.shardQueueCapacity != null) {
+			handler.setShardQueueCapacity(this.shardQueueCapacity);
+		}
 		return handler;
 	}
 
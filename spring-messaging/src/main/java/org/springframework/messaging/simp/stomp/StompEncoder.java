@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.commons.logging.Log;
 import org.jspecify.annotations.Nullable;
@@ -53,6 +54,10 @@ public class StompEncoder {
 
 	private static final int HEADER_KEY_CACHE_LIMIT = 32;
 
+	private static final int SHARED_FRAME_CACHE_SIZE = 16;
+
+	private static final byte[] CONTENT_LENGTH_PREFIX = "content-length:".getBytes(StandardCharsets.UTF_8);
+
 
 	private final Map<String, byte[]> headerKeyAccessCache = new ConcurrentHashMap<>(HEADER_KEY_CACHE_LIMIT);
 
@@ -71,6 +76,8 @@ public class StompEncoder {
 				}
 			};
 
+	private final AtomicReferenceArray<SharedFrame> sharedFrames = new AtomicReferenceArray<>(SHARED_FRAME_CACHE_SIZE);
+
 
 	/**
 	 * Encodes the given STOMP {@code message} into a {@code byte[]}.
@@ -111,6 +118,91 @@ public class StompEncoder {
 		return result.toByteArray();
 	}
 
+	/**
+	 * Encodes the given payload and headers of a MESSAGE frame that is one of
+	 * many copies of a message broadcast to subscribers.
+	 * <p>Such copies share the same payload instance and differ only in their
+	 * {@literal "subscription"} and {@literal "message-id"} headers. The payload
+	 * and all other headers are encoded once, and the per-subscriber headers are
+	 * spliced in for each subsequent copy. Frames other than MESSAGE frames are
+	 * encoded as with {@link #encode(Map, byte[])}.
+	 * <p>Note that the per-subscriber headers are written after all other headers.
+	 * @param headers the STOMP message headers
+	 * @param payload the STOMP message payload
+	 * @return the encoded message
+	 * @since 7.0.2
+	 */
+	public byte[] encodeBroadcastMessage(Map<String, Object> headers, byte[] payload) {
+		Assert.notNull(headers, "'headers' is required");
+		Assert.notNull(payload, "'payload' is required");
+
+		@SuppressWarnings("unchecked")
+		Map<String, List<String>> nativeHeaders =
+				(Map<String, List<String>>) headers.get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+
+		if (nativeHeaders == null || !StompCommand.MESSAGE.equals(StompHeaderAccessor.getCommand(headers)) ||
+				SimpMessageType.HEARTBEAT.equals(SimpMessageHeaderAccessor.getMessageType(headers))) {
+			return encode(headers, payload);
+		}
+
+		if (logger.isTraceEnabled()) {
+			logger.trace("Encoding STOMP MESSAGE, headers=" + nativeHeaders);
+		}
+
+		int index = System.identityHashCode(payload) & (SHARED_FRAME_CACHE_SIZE - 1);
+		SharedFrame frame = this.sharedFrames.get(index);
+		if (frame == null || !frame.matches(payload, nativeHeaders)) {
+			frame = createSharedFrame(payload, nativeHeaders);
+			this.sharedFrames.set(index, frame);
+		}
+
+		Result result = new DefaultResult();
+		result.add(frame.head);
+		writeHeader(StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER, nativeHeaders, result);
+		writeHeader(StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER, nativeHeaders, result);
+		result.add(LINE_FEED_BYTE);
+		result.add(payload);
+		result.add((byte) 0);
+		return result.toByteArray();
+	}
+
+	private SharedFrame createSharedFrame(byte[] payload, Map<String, List<String>> nativeHeaders) {
+		Map<String, List<String>> commonHeaders = new LinkedHashMap<>(nativeHeaders.size());
+		Result result = new DefaultResult();
+		result.add(StompCommand.MESSAGE.toString().getBytes(StandardCharsets.UTF_8));
+		result.add(LINE_FEED_BYTE);
+		for (Entry<String, List<String>> entry : nativeHeaders.entrySet()) {
+			if (!SharedFrame.isCommonHeader(entry.getKey())) {
+				continue;
+			}
+			commonHeaders.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+			byte[] encodedKey = encodeHeaderKey(entry.getKey(), true);
+			for (String value : entry.getValue()) {
+				result.add(encodedKey);
+				result.add(COLON_BYTE);
+				result.add(encodeHeaderValue(value, true));
+				result.add(LINE_FEED_BYTE);
+			}
+		}
+		result.add(CONTENT_LENGTH_PREFIX);
+		result.add(Integer.toString(payload.length).getBytes(StandardCharsets.UTF_8));
+		result.add(LINE_FEED_BYTE);
+		return new SharedFrame(payload, commonHeaders, result.toByteArray());
+	}
+
+	private void writeHeader(String name, Map<String, List<String>> nativeHeaders, Result result) {
+		List<String> values = nativeHeaders.get(name);
+		if (values != null) {
+			byte[] encodedKey = encodeHeaderKey(name, true);
+			for (String value : values) {
+				result.add(encodedKey);
+				result.add(COLON_BYTE);
+				result.add(encodeHeaderValue(value, true));
+				result.add(LINE_FEED_BYTE);
+			}
+		}
+	}
+
 	private void writeHeaders(
 			StompCommand command, Map<String, Object> headers, byte[] payload, Result result) {
 
@@ -218,6 +310,48 @@ public class StompEncoder {
 	}
 
 
+	/**
+	 * The command, common headers, and content length of a broadcast MESSAGE
+	 * frame, encoded once for the given payload instance.
+	 */
+	private static final class SharedFrame {
+
+		private final byte[] payload;
+
+		private final Map<String, List<String>> commonHeaders;
+
+		private final byte[] head;
+
+		SharedFrame(byte[] payload, Map<String, List<String>> commonHeaders, byte[] head) {
+			this.payload = payload;
+			this.commonHeaders = commonHeaders;
+			this.head = head;
+		}
+
+		boolean matches(byte[] payload, Map<String, List<String>> nativeHeaders) {
+			if (this.payload != payload) {
+				return false;
+			}
+			int count = 0;
+			for (Entry<String, List<String>> entry : nativeHeaders.entrySet()) {
+				if (isCommonHeader(entry.getKey())) {
+					if (!entry.getValue().equals(this.commonHeaders.get(entry.getKey()))) {
+						return false;
+					}
+					count++;
+				}
+			}
+			return (count == this.commonHeaders.size());
+		}
+
+		static boolean isCommonHeader(String name) {
+			return !(StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER.equals(name) ||
+					StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER.equals(name) ||
+					StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER.equals(name));
+		}
+	}
+
+
 	/**
 	 * Accumulates byte content and returns an aggregated byte[] at the end.
 	 */
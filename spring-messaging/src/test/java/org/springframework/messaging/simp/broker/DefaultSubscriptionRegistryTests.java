@@ -16,10 +16,16 @@
 
 package org.springframework.messaging.simp.broker;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +33,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.MultiValueMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -417,6 +424,37 @@ class DefaultSubscriptionRegistryTests {
 		assertThat(sort(actual.get(sessIds.get(2)))).isEqualTo(subscriptionIds);
 	}
 
+	@Test
+	void registerAndUnregisterAllSubscriptionsConcurrently() throws Exception {
+		List<String> sessIds = IntStream.range(0, 50).mapToObj(i -> "sess" + i).toList();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (String sessId : sessIds) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 100; i++) {
+						String dest = (i % 2 == 0 ? "/foo" : "/**");
+						this.registry.registerSubscription(subscribeMessage(sessId, "subs" + i, dest));
+					}
+				}));
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 100; i++) {
+						this.registry.unregisterAllSubscriptions(sessId);
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		sessIds.forEach(this.registry::unregisterAllSubscriptions);
+		assertThat(this.registry.findSubscriptions(createMessage("/foo"))).isEmpty();
+	}
+
 	@Test
 	void unregisterAllSubscriptionsNoMatch() {
 		this.registry.unregisterAllSubscriptions("bogus");
@@ -479,6 +517,60 @@ class DefaultSubscriptionRegistryTests {
 		assertThat(this.registry.findSubscriptions(createMessage("/bar"))).hasSize(2);
 	}
 
+	@Test
+	void registerSubscriptionsWithDoubleWildcardPatterns() {
+		this.registry.registerSubscription(subscribeMessage("sess1", "1", "/topic/**"));
+		this.registry.registerSubscription(subscribeMessage("sess1", "2", "/**/prices"));
+		this.registry.registerSubscription(subscribeMessage("sess1", "3", "/topic/**/prices/*"));
+		this.registry.registerSubscription(subscribeMessage("sess1", "4", "/queue/*"));
+
+		assertThat(this.registry.findSubscriptions(createMessage("/topic")).get("sess1")).containsExactly("1");
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/prices")).get("sess1"))
+				.containsExactlyInAnyOrder("1", "2");
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/stock/nasdaq/prices/IBM")).get("sess1"))
+				.containsExactlyInAnyOrder("1", "3");
+		assertThat(this.registry.findSubscriptions(createMessage("/queue/")).get("sess1")).containsExactly("4");
+		assertThat(this.registry.findSubscriptions(createMessage("/queue/a/b"))).isEmpty();
+
+		this.registry.unregisterSubscription(unsubscribeMessage("sess1", "1"));
+		this.registry.unregisterSubscription(unsubscribeMessage("sess1", "3"));
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/prices")).get("sess1")).containsExactly("2");
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/stock/nasdaq/prices/IBM"))).isEmpty();
+	}
+
+	@Test
+	void registerSubscriptionsWithCustomPathMatcher() {
+		AntPathMatcher pathMatcher = new AntPathMatcher(".");
+		pathMatcher.setCaseSensitive(false);
+		this.registry.setPathMatcher(pathMatcher);
+
+		this.registry.registerSubscription(subscribeMessage("sess1", "1", "price.stock.*"));
+		this.registry.registerSubscription(subscribeMessage("sess1", "2", "Price.Stock.{ticker:(IBM|MSFT)}"));
+		this.registry.registerSubscription(subscribeMessage("sess1", "3", "price.**"));
+
+		assertThat(this.registry.findSubscriptions(createMessage("PRICE.STOCK.IBM")).get("sess1"))
+				.containsExactlyInAnyOrder("1", "2", "3");
+		assertThat(this.registry.findSubscriptions(createMessage("price.stock.vmw")).get("sess1"))
+				.containsExactlyInAnyOrder("1", "3");
+		assertThat(this.registry.findSubscriptions(createMessage("price/stock/IBM"))).isEmpty();
+	}
+
+	@Test
+	void setPathMatcherAfterSubscriptionsRegistered() {
+		this.registry.registerSubscription(subscribeMessage("sess1", "1", "/topic/*"));
+		this.registry.registerSubscription(subscribeMessage("sess1", "2", "price.*"));
+
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/price")).get("sess1")).containsExactly("1");
+		assertThat(this.registry.findSubscriptions(createMessage("price.stock.IBM")).get("sess1")).containsExactly("2");
+
+		this.registry.setPathMatcher(new AntPathMatcher("."));
+		assertThat(this.registry.findSubscriptions(createMessage("price.stock.IBM"))).isEmpty();
+		assertThat(this.registry.findSubscriptions(createMessage("price.stock")).get("sess1")).containsExactly("2");
+
+		this.registry.setPathMatcher(new AntPathMatcher() {});
+		assertThat(this.registry.findSubscriptions(createMessage("/topic/stock")).get("sess1")).containsExactly("1");
+	}
+
 	private Message<?> createMessage(String destination) {
 		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
 		accessor.setDestination(destination);
@@ -18,6 +18,7 @@ package org.springframework.messaging.simp.broker;
 
 import java.security.Principal;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
@@ -33,6 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.testfixture.security.TestPrincipal;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.SubscribableChannel;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
@@ -41,6 +43,7 @@ import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.scheduling.TaskScheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -48,6 +51,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -151,6 +155,101 @@ public class SimpleBrokerMessageHandlerTests {
 		assertThat(messageCaptured(sess2, "sub3", "/bar")).isTrue();
 	}
 
+	@Test
+	void subscribePublishWithShards() {
+		this.messageHandler.setShardCount(4);
+		startSession("sess1");
+		startSession("sess2");
+
+		List<String> destinations = List.of("/foo", "/bar", "/baz");
+		for (String destination : destinations) {
+			this.messageHandler.handleMessage(createSubscriptionMessage("sess1", "sub" + destination, destination));
+			this.messageHandler.handleMessage(createSubscriptionMessage("sess2", "sub" + destination, destination));
+		}
+		awaitProcessedShardMessages(8);
+		for (int i = 0; i < 10; i++) {
+			for (String destination : destinations) {
+				this.messageHandler.handleMessage(createMessage(destination, destination + i));
+			}
+		}
+
+		verify(this.clientOutChannel, timeout(5000).times(60)).send(this.messageCaptor.capture());
+		for (String destination : destinations) {
+			for (String sessionId : List.of("sess1", "sess2")) {
+				List<Object> payloads = new ArrayList<>();
+				for (Message<?> message : this.messageCaptor.getAllValues()) {
+					SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(message);
+					if (sessionId.equals(headers.getSessionId()) && destination.equals(headers.getDestination())) {
+						payloads.add(message.getPayload());
+					}
+				}
+				assertThat(payloads).as("Messages in order for " + sessionId + " on " + destination)
+						.containsExactly(destination + 0, destination + 1, destination + 2, destination + 3,
+								destination + 4, destination + 5, destination + 6, destination + 7,
+								destination + 8, destination + 9);
+			}
+		}
+
+		List<SimpleBrokerMessageHandler.ShardStats> stats = this.messageHandler.getShardStats();
+		assertThat(stats).hasSize(4);
+		assertThat(stats).extracting(SimpleBrokerMessageHandler.ShardStats::rejectedMessages).containsOnly(0L);
+		assertThat(this.messageHandler.getShardStatsInfo()).contains("shard 0 [queued messages = ");
+
+		this.messageHandler.stop();
+		assertThat(this.messageHandler.getShardStats()).isEmpty();
+	}
+
+	@Test
+	void sessionMessagesProcessedInOrderWithShards() {
+		this.messageHandler.setShardCount(4);
+		List<String> sessionIds = List.of("sess1", "sess2", "sess3", "sess4", "sess5", "sess6");
+		for (String sessionId : sessionIds) {
+			startSession(sessionId);
+		}
+
+		// Each subscription is registered before the message that follows it in the same session
+		for (String sessionId : sessionIds) {
+			this.messageHandler.handleMessage(createSubscriptionMessage(sessionId, "sub1", "/" + sessionId));
+			this.messageHandler.handleMessage(createMessage(sessionId, "/" + sessionId, "message1"));
+		}
+
+		verify(this.clientOutChannel, timeout(5000).times(6)).send(this.messageCaptor.capture());
+		for (String sessionId : sessionIds) {
+			assertThat(messageCaptured(sessionId, "sub1", "/" + sessionId)).isTrue();
+		}
+		this.messageHandler.stop();
+	}
+
+	@Test
+	void shardQueueFullRejectsMessages() {
+		List<Runnable> tasks = new ArrayList<>();
+		this.messageHandler.setShardCount(1);
+		this.messageHandler.setShardQueueCapacity(1);
+		this.messageHandler.setShardExecutor(tasks::add);
+		this.messageHandler.start();
+
+		this.messageHandler.handleMessage(createMessage("/foo", "message1"));
+		assertThatExceptionOfType(MessageDeliveryException.class)
+				.isThrownBy(() -> this.messageHandler.handleMessage(createMessage("/foo", "message2")));
+		assertThat(this.messageHandler.getShardStats())
+				.containsExactly(new SimpleBrokerMessageHandler.ShardStats(0, 1, 0, 1));
+
+		tasks.forEach(Runnable::run);
+		assertThat(this.messageHandler.getShardStats())
+				.containsExactly(new SimpleBrokerMessageHandler.ShardStats(0, 0, 1, 1));
+		this.messageHandler.stop();
+	}
+
+	@Test
+	void shardCountMustNotBeNegative() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.messageHandler.setShardCount(-1));
+	}
+
+	@Test
+	void shardQueueCapacityMustBePositive() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.messageHandler.setShardQueueCapacity(0));
+	}
+
 	@Test
 	void connect() {
 		String id = "sess1";
@@ -304,7 +403,7 @@ public class SimpleBrokerMessageHandlerTests {
 		this.messageHandler.setTaskScheduler(this.taskScheduler);
 		this.messageHandler.handleMessage(connectMessage);
 
-		verify(this.clientOutChannel, times(1)).send(this.messageCaptor.capture());
+		verify(this.clientOutChannel, timeout(5000).times(1)).send(this.messageCaptor.capture());
 		reset(this.clientOutChannel);
 		return connectMessage;
 	}
@@ -331,6 +430,26 @@ public class SimpleBrokerMessageHandlerTests {
 		return MessageBuilder.createMessage(payload, headers.getMessageHeaders());
 	}
 
+	private Message<String> createMessage(String sessionId, String destination, String payload) {
+		SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		headers.setSessionId(sessionId);
+		headers.setDestination(destination);
+		return MessageBuilder.createMessage(payload, headers.getMessageHeaders());
+	}
+
+	private void awaitProcessedShardMessages(long count) {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (getProcessedShardMessages() < count && System.currentTimeMillis() < deadline) {
+			Thread.onSpinWait();
+		}
+		assertThat(getProcessedShardMessages()).isEqualTo(count);
+	}
+
+	private long getProcessedShardMessages() {
+		return this.messageHandler.getShardStats().stream()
+				.mapToLong(SimpleBrokerMessageHandler.ShardStats::processedMessages).sum();
+	}
+
 	private boolean messageCaptured(String sessionId, String subscriptionId, String destination) {
 		for (Message<?> message : this.messageCaptor.getAllValues()) {
 			SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.wrap(message);
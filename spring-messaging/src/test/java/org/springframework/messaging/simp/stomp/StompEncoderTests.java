@@ -16,6 +16,8 @@
 
 package org.springframework.messaging.simp.stomp;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.messaging.Message;
@@ -83,4 +85,45 @@ class StompEncoderTests {
 		assertThat(new String(encoder.encode(frame))).isEqualTo("SEND\ncontent-length:12\n\nMessage body\0");
 	}
 
+	@Test
+	void encodeBroadcastMessage() {
+		byte[] payload = "Message body".getBytes();
+
+		assertThat(new String(encoder.encodeBroadcastMessage(broadcastHeaders("sub:1", "m-1"), payload)))
+				.isEqualTo("MESSAGE\ndestination:/topic/a\ncontent-length:12\nsubscription:sub\\c1\nmessage-id:m-1\n\nMessage body\0");
+		assertThat(new String(encoder.encodeBroadcastMessage(broadcastHeaders("sub-2", "m-2"), payload)))
+				.isEqualTo("MESSAGE\ndestination:/topic/a\ncontent-length:12\nsubscription:sub-2\nmessage-id:m-2\n\nMessage body\0");
+	}
+
+	@Test
+	void encodeBroadcastMessageWithDifferentCommonHeaders() {
+		byte[] payload = "Message body".getBytes();
+		encoder.encodeBroadcastMessage(broadcastHeaders("sub-1", "m-1"), payload);
+
+		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE);
+		headers.setDestination("/topic/b");
+		headers.setSubscriptionId("sub-2");
+		headers.setMessageId("m-2");
+
+		assertThat(new String(encoder.encodeBroadcastMessage(headers.getMessageHeaders(), payload)))
+				.isEqualTo("MESSAGE\ndestination:/topic/b\ncontent-length:12\nsubscription:sub-2\nmessage-id:m-2\n\nMessage body\0");
+	}
+
+	@Test
+	void encodeBroadcastMessageFallsBackForOtherFrames() {
+		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.SEND);
+		headers.addNativeHeader("a", "alpha");
+
+		assertThat(new String(encoder.encodeBroadcastMessage(headers.getMessageHeaders(), "Message body".getBytes())))
+				.isEqualTo("SEND\na:alpha\ncontent-length:12\n\nMessage body\0");
+	}
+
+	private static Map<String, Object> broadcastHeaders(String subscriptionId, String messageId) {
+		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE);
+		headers.setSubscriptionId(subscriptionId);
+		headers.setDestination("/topic/a");
+		headers.setMessageId(messageId);
+		return headers.getMessageHeaders();
+	}
+
 }
@@ -17,6 +17,10 @@
 package org.springframework.r2dbc.core;
 
 import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -32,11 +36,17 @@ import io.r2dbc.spi.RowMetadata;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.TypeConverter;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.r2dbc.core.RowMappingPlan.PropertyMapping;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
@@ -64,6 +74,15 @@ import org.springframework.util.StringUtils;
  * &mdash; for example, a Java {@code record} or a Kotlin {@code data} class &mdash;
  * use {@link DataClassRowMapper} instead.
  *
+ * <p>The mapping of columns to properties is determined once per set of item
+ * names (as obtained from {@link RowMetadata}) and reused for all rows with the
+ * same columns, including rows of different shapes being mapped concurrently.
+ * Values that match the type of a simple property exactly are applied through
+ * its setter method directly, with a {@link BeanWrapper} only being created for
+ * a row that requires type conversion &mdash; unless a custom
+ * {@link ConversionService} has been specified, in which case every row is
+ * mapped through a {@code BeanWrapper}.
+ *
  * <p>Please note that this class is designed to provide convenience rather than
  * high performance. For best performance, consider using a custom mapping function
  * implementation.
@@ -86,6 +105,12 @@ public class BeanPropertyRowMapper<T> implements Function<Readable, T> {
 	/** Map of the properties we provide mapping for. */
 	private final Map<String, PropertyDescriptor> mappedProperties;
 
+	/** Mapping plans per item names, shared across rows of the same shape. */
+	private final Map<List<String>, RowMappingPlan> mappingPlans = new ConcurrentReferenceHashMap<>(16);
+
+	/** Mapping plan for the most recently mapped item metadata. */
+	private volatile @Nullable MetadataPlan lastPlan;
+
 
 	/**
 	 * Create a new {@code BeanPropertyRowMapper}.
@@ -128,6 +153,8 @@ public class BeanPropertyRowMapper<T> implements Function<Readable, T> {
 	protected void suppressProperty(@Nullable String propertyName) {
 		this.mappedProperties.remove(lowerCaseName(propertyName));
 		this.mappedProperties.remove(underscoreName(propertyName));
+		this.mappingPlans.clear();
+		this.lastPlan = null;
 	}
 
 	/**
@@ -190,24 +217,69 @@ public class BeanPropertyRowMapper<T> implements Function<Readable, T> {
 	}
 
 	private <R extends Readable> T mapForReadable(R readable, List<? extends ReadableMetadata> readableMetadatas) {
-		BeanWrapperImpl bw = new BeanWrapperImpl();
-		bw.setConversionService(this.conversionService);
-		T mappedObject = constructMappedInstance(readable, readableMetadatas, bw);
-		bw.setBeanInstance(mappedObject);
-
-		int readableItemCount = readableMetadatas.size();
-		for (int itemIndex = 0; itemIndex < readableItemCount; itemIndex++) {
-			ReadableMetadata itemMetadata = readableMetadatas.get(itemIndex);
-			String itemName = itemMetadata.getName();
-			String property = lowerCaseName(StringUtils.delete(itemName, " "));
+		RowMappingPlan plan = obtainMappingPlan(readableMetadatas);
+		ReadableTypeConverter tc = new ReadableTypeConverter();
+		T mappedObject = constructMappedInstance(readable, readableMetadatas, tc);
+
+		for (PropertyMapping mapping : plan.propertyMappings) {
+			PropertyDescriptor pd = mapping.descriptor();
+			Object value = getItemValue(readable, mapping.index(), pd.getPropertyType());
+			if (!mapping.applyDirectly(mappedObject, value)) {
+				tc.obtainBeanWrapper(mappedObject).setPropertyValue(pd.getName(), value);
+			}
+		}
+
+		return mappedObject;
+	}
+
+	/**
+	 * Obtain the mapping plan for the given item metadata, reusing the plan for
+	 * the same metadata instance and for any metadata with the same item names.
+	 */
+	final RowMappingPlan obtainMappingPlan(List<? extends ReadableMetadata> readableMetadatas) {
+		MetadataPlan lastPlan = this.lastPlan;
+		if (lastPlan != null && lastPlan.metadatas.get() == readableMetadatas) {
+			return lastPlan.plan;
+		}
+		String[] names = new String[readableMetadatas.size()];
+		for (int itemIndex = 0; itemIndex < names.length; itemIndex++) {
+			names[itemIndex] = readableMetadatas.get(itemIndex).getName();
+		}
+		List<String> key = Arrays.asList(names);
+		RowMappingPlan plan = this.mappingPlans.get(key);
+		if (plan == null) {
+			plan = createMappingPlan(readableMetadatas, names);
+			this.mappingPlans.put(key, plan);
+		}
+		this.lastPlan = new MetadataPlan(readableMetadatas, plan);
+		return plan;
+	}
+
+	/**
+	 * Create a mapping plan for the given item metadata and its item names.
+	 * @param readableMetadatas the item metadata to create the plan for
+	 * @param names the item names, in item order
+	 */
+	RowMappingPlan createMappingPlan(List<? extends ReadableMetadata> readableMetadatas, String[] names) {
+		boolean directAccess = isDirectAccessAllowed();
+		List<PropertyMapping> mappings = new ArrayList<>(names.length);
+		for (int itemIndex = 0; itemIndex < names.length; itemIndex++) {
+			String property = lowerCaseName(StringUtils.delete(names[itemIndex], " "));
 			PropertyDescriptor pd = this.mappedProperties.get(property);
 			if (pd != null) {
-				Object value = getItemValue(readable, itemIndex, pd.getPropertyType());
-				bw.setPropertyValue(pd.getName(), value);
+				mappings.add(PropertyMapping.of(itemIndex, pd, directAccess));
 			}
 		}
+		return new RowMappingPlan(mappings.toArray(new PropertyMapping[0]));
+	}
 
-		return mappedObject;
+	/**
+	 * Determine whether values may be applied without a BeanWrapper at all:
+	 * not with a custom ConversionService.
+	 * @see RowMappingPlan#isDirectlyApplicable(Class, boolean)
+	 */
+	final boolean isDirectAccessAllowed() {
+		return (this.conversionService == DefaultConversionService.getSharedInstance());
 	}
 
 	/**
@@ -247,4 +319,79 @@ public class BeanPropertyRowMapper<T> implements Function<Readable, T> {
 		}
 	}
 
+
+	/**
+	 * Mapping plan for a specific {@code ReadableMetadata} list.
+	 */
+	private static final class MetadataPlan {
+
+		final WeakReference<List<? extends ReadableMetadata>> metadatas;
+
+		final RowMappingPlan plan;
+
+		MetadataPlan(List<? extends ReadableMetadata> metadatas, RowMappingPlan plan) {
+			this.metadatas = new WeakReference<>(metadatas);
+			this.plan = plan;
+		}
+	}
+
+
+	/**
+	 * {@link TypeConverter} for the current {@code Readable}, lazily creating
+	 * the {@link BeanWrapper} that also serves for property access if necessary.
+	 */
+	private final class ReadableTypeConverter implements TypeConverter {
+
+		private @Nullable BeanWrapperImpl beanWrapper;
+
+		private boolean beanInstanceSet;
+
+		BeanWrapper obtainBeanWrapper(Object mappedObject) {
+			BeanWrapperImpl bw = getBeanWrapper();
+			if (!this.beanInstanceSet) {
+				bw.setBeanInstance(mappedObject);
+				this.beanInstanceSet = true;
+			}
+			return bw;
+		}
+
+		private BeanWrapperImpl getBeanWrapper() {
+			BeanWrapperImpl bw = this.beanWrapper;
+			if (bw == null) {
+				bw = new BeanWrapperImpl();
+				bw.setConversionService(conversionService);
+				this.beanWrapper = bw;
+			}
+			return bw;
+		}
+
+		@Override
+		public <V> @Nullable V convertIfNecessary(@Nullable Object value, @Nullable Class<V> requiredType)
+				throws TypeMismatchException {
+
+			return getBeanWrapper().convertIfNecessary(value, requiredType);
+		}
+
+		@Override
+		public <V> @Nullable V convertIfNecessary(@Nullable Object value, @Nullable Class<V> requiredType,
+				@Nullable MethodParameter methodParam) throws TypeMismatchException {
+
+			return getBeanWrapper().convertIfNecessary(value, requiredType, methodParam);
+		}
+
+		@Override
+		public <V> @Nullable V convertIfNecessary(@Nullable Object value, @Nullable Class<V> requiredType,
+				@Nullable Field field) throws TypeMismatchException {
+
+			return getBeanWrapper().convertIfNecessary(value, requiredType, field);
+		}
+
+		@Override
+		public <V> @Nullable V convertIfNecessary(@Nullable Object value, @Nullable Class<V> requiredType,
+				@Nullable TypeDescriptor typeDescriptor) throws TypeMismatchException {
+
+			return getBeanWrapper().convertIfNecessary(value, requiredType, typeDescriptor);
+		}
+	}
+
 }
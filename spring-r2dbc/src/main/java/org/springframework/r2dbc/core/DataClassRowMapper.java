@@ -49,6 +49,9 @@ import org.springframework.dao.DataRetrievalFailureException;
  * via a corresponding setter method. This means that constructor arguments take
  * precedence over property setter methods.
  *
+ * <p>The items for the constructor arguments are determined once per set of
+ * item names and reused for all rows with the same columns.
+ *
  * <p>Note that this class extends {@link BeanPropertyRowMapper} and can
  * therefore serve as a common choice for any mapped target class, flexibly
  * adapting to constructor style versus setter methods in the mapped class.
@@ -99,22 +102,42 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 
 	@Override
 	protected T constructMappedInstance(Readable readable, List<? extends ReadableMetadata> itemMetadatas, TypeConverter tc) {
+		RowMappingPlan plan = obtainMappingPlan(itemMetadatas);
 		@Nullable Object[] args = new Object[this.constructorParameterNames.length];
 		for (int i = 0; i < args.length; i++) {
+			TypeDescriptor td = this.constructorParameterTypes[i];
+			Object value = getItemValue(readable, plan.argumentIndexes[i], td.getType());
+			if (RowMappingPlan.isApplicableAsIs(value, plan.argumentTypes[i], td.getType())) {
+				// Value applicable as-is, without type conversion
+				args[i] = value;
+			}
+			else {
+				args[i] = tc.convertIfNecessary(value, td.getType(), td);
+			}
+		}
+		return BeanUtils.instantiateClass(this.mappedConstructor, args);
+	}
+
+	@Override
+	RowMappingPlan createMappingPlan(List<? extends ReadableMetadata> readableMetadatas, String[] names) {
+		RowMappingPlan plan = super.createMappingPlan(readableMetadatas, names);
+		boolean directAccess = isDirectAccessAllowed();
+		int[] argumentIndexes = new int[this.constructorParameterNames.length];
+		@Nullable Class<?>[] argumentTypes = new Class<?>[argumentIndexes.length];
+		for (int i = 0; i < argumentIndexes.length; i++) {
 			String name = this.constructorParameterNames[i];
-			int index = findIndex(itemMetadatas, lowerCaseName(name));
+			int index = findIndex(readableMetadatas, lowerCaseName(name));
 			if (index == -1) {
-				index = findIndex(itemMetadatas, underscoreName(name));
+				index = findIndex(readableMetadatas, underscoreName(name));
 			}
 			if (index == -1) {
 				throw new DataRetrievalFailureException(
 						"Unable to map constructor parameter '" + name + "' to a column or out-parameter");
 			}
-			TypeDescriptor td = this.constructorParameterTypes[i];
-			Object value = getItemValue(readable, index, td.getType());
-			args[i] = tc.convertIfNecessary(value, td.getType(), td);
+			argumentIndexes[i] = index;
+			argumentTypes[i] = RowMappingPlan.getDirectValueType(this.constructorParameterTypes[i].getType(), directAccess);
 		}
-		return BeanUtils.instantiateClass(this.mappedConstructor, args);
+		return plan.withArguments(argumentIndexes, argumentTypes);
 	}
 
 	private int findIndex(List<? extends ReadableMetadata> itemMetadatas, String name) {
@@ -98,6 +98,20 @@ public interface DatabaseClient extends ConnectionAccessor {
 	 */
 	GenericExecuteSpec sql(Supplier<String> sqlSupplier);
 
+	/**
+	 * Specify a batch of static SQL statements to run together, mapped onto an
+	 * R2DBC {@link io.r2dbc.spi.Batch}. The statements cannot contain bind
+	 * markers; for running a single parameterized statement with multiple
+	 * binding sets, see {@link GenericExecuteSpec#add()} instead.
+	 * <p>The default implementation throws {@link UnsupportedOperationException}.
+	 * @return a new {@link BatchSpec}
+	 * @since 7.0.2
+	 * @see io.r2dbc.spi.Connection#createBatch()
+	 */
+	default BatchSpec batch() {
+		throw new UnsupportedOperationException("SQL batches not supported by " + getClass().getName());
+	}
+
 
 	// Static factory methods
 
@@ -224,6 +238,29 @@ public interface DatabaseClient extends ConnectionAccessor {
 		 */
 		GenericExecuteSpec bindProperties(Object source);
 
+		/**
+		 * Complete the current binding set and start a new one, for executing
+		 * the statement once per binding set in a single round trip. For example:
+		 * <pre class="code">
+		 * GenericExecuteSpec spec = client.sql("INSERT INTO person (id, name) VALUES (:id, :name)");
+		 * for (Person person : persons) {
+		 *     spec = spec.bindProperties(person).add();
+		 * }
+		 * Flux&lt;Long&gt; rowsUpdated = spec.rowsUpdatedPerBinding();
+		 * </pre>
+		 * <p>Maps onto {@link Statement#add()}, with named parameters expanded
+		 * for each binding set. All binding sets need to expand to the same SQL,
+		 * i.e. collection values need to be of the same size. A trailing empty
+		 * binding set is ignored.
+		 * <p>The default implementation throws {@link UnsupportedOperationException}.
+		 * @return a specification with an empty binding set
+		 * @since 7.0.2
+		 * @see #rowsUpdatedPerBinding()
+		 */
+		default GenericExecuteSpec add() {
+			throw new UnsupportedOperationException("Multiple binding sets not supported by " + getClass().getName());
+		}
+
 		/**
 		 * Add the given filter to the end of the filter chain.
 		 * <p>Filter functions are typically used to invoke methods on the Statement
@@ -306,6 +343,20 @@ public interface DatabaseClient extends ConnectionAccessor {
 		 */
 		FetchSpec<Map<String, Object>> fetch();
 
+		/**
+		 * Perform the SQL call and return the number of rows updated per
+		 * {@link Result}, i.e. per binding set in case of a batch.
+		 * <p>The default implementation delegates to {@link #flatMap(Function)}
+		 * with {@link Result#getRowsUpdated()}.
+		 * @return a {@link Flux} emitting the update counts in binding order
+		 * @since 7.0.2
+		 * @see #add()
+		 * @see Result#getRowsUpdated()
+		 */
+		default Flux<Long> rowsUpdatedPerBinding() {
+			return flatMap(Result::getRowsUpdated);
+		}
+
 		/**
 		 * Perform the SQL call and return a {@link Mono} that completes without result
 		 * on statement completion.
@@ -314,4 +365,44 @@ public interface DatabaseClient extends ConnectionAccessor {
 		Mono<Void> then();
 	}
 
+
+	/**
+	 * Contract for specifying a batch of static SQL statements along with
+	 * options leading to the execution.
+	 * <p>The batch is executed through {@link io.r2dbc.spi.Batch#execute()}
+	 * rather than the configured {@link ExecuteFunction}.
+	 * @since 7.0.2
+	 * @see DatabaseClient#batch()
+	 */
+	interface BatchSpec {
+
+		/**
+		 * Add a static SQL statement to this batch.
+		 * @param sql the SQL statement, without bind markers
+		 * @return a specification including the given statement
+		 */
+		BatchSpec add(String sql);
+
+		/**
+		 * Perform the batch and apply {@link Function function} to each {@link Result}.
+		 * @param mappingFunction a function that maps from {@link Result} into a result publisher
+		 * @param <R> the result type
+		 * @return a {@link Flux} that emits mapped elements, in statement order
+		 */
+		<R> Flux<R> flatMap(Function<Result, Publisher<R>> mappingFunction);
+
+		/**
+		 * Perform the batch and return the number of rows updated per statement.
+		 * @return a {@link Flux} emitting the update counts in statement order
+		 */
+		Flux<Long> rowsUpdated();
+
+		/**
+		 * Perform the batch and return a {@link Mono} that completes without result
+		 * on batch completion.
+		 * @return a {@link Mono} ignoring its payload (actively dropping)
+		 */
+		Mono<Void> then();
+	}
+
 }
@@ -21,6 +21,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -32,6 +33,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import io.r2dbc.spi.Batch;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.Parameter;
@@ -112,6 +114,11 @@ final class DefaultDatabaseClient implements DatabaseClient {
 		return new DefaultGenericExecuteSpec(sqlSupplier);
 	}
 
+	@Override
+	public BatchSpec batch() {
+		return new DefaultBatchSpec(Collections.emptyList());
+	}
+
 	@Override
 	public <T> Mono<T> inConnection(Function<Connection, Mono<T>> action) {
 		Assert.notNull(action, "Callback object must not be null");
@@ -226,6 +233,8 @@ final class DefaultDatabaseClient implements DatabaseClient {
 
 		final Map<String, Parameter> byName;
 
+		final @Nullable Bindings previousBindings;
+
 		final Supplier<String> sqlSupplier;
 
 		final StatementFilterFunction filterFunction;
@@ -233,15 +242,17 @@ final class DefaultDatabaseClient implements DatabaseClient {
 		DefaultGenericExecuteSpec(Supplier<String> sqlSupplier) {
 			this.byIndex = Collections.emptyMap();
 			this.byName = Collections.emptyMap();
+			this.previousBindings = null;
 			this.sqlSupplier = sqlSupplier;
 			this.filterFunction = StatementFilterFunction.EMPTY_FILTER;
 		}
 
 		DefaultGenericExecuteSpec(Map<Integer, Parameter> byIndex, Map<String, Parameter> byName,
-				Supplier<String> sqlSupplier, StatementFilterFunction filterFunction) {
+				@Nullable Bindings previousBindings, Supplier<String> sqlSupplier, StatementFilterFunction filterFunction) {
 
 			this.byIndex = byIndex;
 			this.byName = byName;
+			this.previousBindings = previousBindings;
 			this.sqlSupplier = sqlSupplier;
 			this.filterFunction = filterFunction;
 		}
@@ -269,7 +280,8 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			Map<Integer, Parameter> byIndex = new LinkedHashMap<>(this.byIndex);
 			byIndex.put(index, resolveParameter(value));
 
-			return new DefaultGenericExecuteSpec(byIndex, this.byName, this.sqlSupplier, this.filterFunction);
+			return new DefaultGenericExecuteSpec(byIndex, this.byName, this.previousBindings,
+					this.sqlSupplier, this.filterFunction);
 		}
 
 		@Override
@@ -279,7 +291,8 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			Map<Integer, Parameter> byIndex = new LinkedHashMap<>(this.byIndex);
 			byIndex.put(index, Parameters.in(type));
 
-			return new DefaultGenericExecuteSpec(byIndex, this.byName, this.sqlSupplier, this.filterFunction);
+			return new DefaultGenericExecuteSpec(byIndex, this.byName, this.previousBindings,
+					this.sqlSupplier, this.filterFunction);
 		}
 
 		@Override
@@ -293,7 +306,8 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			Map<String, Parameter> byName = new LinkedHashMap<>(this.byName);
 			byName.put(name, resolveParameter(value));
 
-			return new DefaultGenericExecuteSpec(this.byIndex, byName, this.sqlSupplier, this.filterFunction);
+			return new DefaultGenericExecuteSpec(this.byIndex, byName, this.previousBindings,
+					this.sqlSupplier, this.filterFunction);
 		}
 
 		@Override
@@ -304,7 +318,8 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			Map<String, Parameter> byName = new LinkedHashMap<>(this.byName);
 			byName.put(name, Parameters.in(type));
 
-			return new DefaultGenericExecuteSpec(this.byIndex, byName, this.sqlSupplier, this.filterFunction);
+			return new DefaultGenericExecuteSpec(this.byIndex, byName, this.previousBindings,
+					this.sqlSupplier, this.filterFunction);
 		}
 
 		@Override
@@ -316,7 +331,8 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			while (listIterator.hasNext()) {
 				byIndex.put(listIterator.nextIndex(), resolveParameter(listIterator.next()));
 			}
-			return new DefaultGenericExecuteSpec(byIndex, this.byName, this.sqlSupplier, this.filterFunction);
+			return new DefaultGenericExecuteSpec(byIndex, this.byName, this.previousBindings,
+					this.sqlSupplier, this.filterFunction);
 		}
 
 		@Override
@@ -327,7 +343,8 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			Map<String, Parameter> target = new LinkedHashMap<>(this.byName);
 			source.forEach((name, value) -> target.put(name, resolveParameter(value)));
 
-			return new DefaultGenericExecuteSpec(this.byIndex, target, this.sqlSupplier, this.filterFunction);
+			return new DefaultGenericExecuteSpec(this.byIndex, target, this.previousBindings,
+					this.sqlSupplier, this.filterFunction);
 		}
 
 		@Override
@@ -344,14 +361,23 @@ final class DefaultDatabaseClient implements DatabaseClient {
 				}
 			}
 
-			return new DefaultGenericExecuteSpec(this.byIndex, byName, this.sqlSupplier, this.filterFunction);
+			return new DefaultGenericExecuteSpec(this.byIndex, byName, this.previousBindings,
+					this.sqlSupplier, this.filterFunction);
+		}
+
+		@Override
+		public DefaultGenericExecuteSpec add() {
+			assertNotPreparedOperation();
+			Bindings bindings = new Bindings(this.byIndex, this.byName, this.previousBindings);
+			return new DefaultGenericExecuteSpec(Collections.emptyMap(), Collections.emptyMap(), bindings,
+					this.sqlSupplier, this.filterFunction);
 		}
 
 		@Override
 		public DefaultGenericExecuteSpec filter(StatementFilterFunction filter) {
 			Assert.notNull(filter, "StatementFilterFunction must not be null");
-			return new DefaultGenericExecuteSpec(
-					this.byIndex, this.byName, this.sqlSupplier, this.filterFunction.andThen(filter));
+			return new DefaultGenericExecuteSpec(this.byIndex, this.byName, this.previousBindings,
+					this.sqlSupplier, this.filterFunction.andThen(filter));
 		}
 
 		@Override
@@ -389,6 +415,14 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			return execute(this.sqlSupplier, result -> result.map(ColumnMapRowMapper.INSTANCE));
 		}
 
+		@Override
+		public Flux<Long> rowsUpdatedPerBinding() {
+			ResultFunction resultHandler = getResultFunction(this.sqlSupplier);
+			ConnectionFunction<Flux<Long>> connectionFunction = new DelegateConnectionFunction<>(resultHandler,
+					cx -> resultHandler.apply(cx).concatMap(Result::getRowsUpdated));
+			return inConnectionMany(connectionFunction);
+		}
+
 		@Override
 		public Mono<Void> then() {
 			return fetch().rowsUpdated().then();
@@ -406,37 +440,60 @@ final class DefaultDatabaseClient implements DatabaseClient {
 					return statement;
 				}
 
-				if (DefaultDatabaseClient.this.namedParameterExpander != null) {
-					Map<String, Parameter> remainderByName = new LinkedHashMap<>(this.byName);
-					Map<Integer, Parameter> remainderByIndex = new LinkedHashMap<>(this.byIndex);
+				List<Bindings> bindingSets = getBindingSets();
 
+				if (DefaultDatabaseClient.this.namedParameterExpander != null) {
 					List<String> parameterNames = DefaultDatabaseClient.this.namedParameterExpander.getParameterNames(sql);
-					MapBindParameterSource namedBindings = retrieveParameters(
-							sql, parameterNames, remainderByName, remainderByIndex);
-
-					PreparedOperation<String> operation = DefaultDatabaseClient.this.namedParameterExpander.expand(
-							sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
-
-					String expanded = getRequiredSql(operation);
-					if (logger.isTraceEnabled()) {
-						logger.trace("Expanded SQL [" + expanded + "]");
+					Statement statement = null;
+					String expandedSql = null;
+
+					for (Bindings bindings : bindingSets) {
+						Map<String, Parameter> remainderByName = new LinkedHashMap<>(bindings.byName());
+						Map<Integer, Parameter> remainderByIndex = new LinkedHashMap<>(bindings.byIndex());
+
+						MapBindParameterSource namedBindings = retrieveParameters(
+								sql, parameterNames, bindings, remainderByName, remainderByIndex);
+
+						PreparedOperation<String> operation = DefaultDatabaseClient.this.namedParameterExpander.expand(
+								sql, DefaultDatabaseClient.this.bindMarkersFactory, namedBindings);
+
+						String expanded = getRequiredSql(operation);
+						if (statement == null) {
+							if (logger.isTraceEnabled()) {
+								logger.trace("Expanded SQL [" + expanded + "]");
+							}
+							statement = connection.createStatement(expanded);
+							expandedSql = expanded;
+						}
+						else {
+							if (!expanded.equals(expandedSql)) {
+								throw new InvalidDataAccessApiUsageException(String.format(
+										"Binding sets expand to different SQL [%s] and [%s]", expandedSql, expanded));
+							}
+							statement.add();
+						}
+						BindTarget bindTarget = new StatementWrapper(statement);
+
+						operation.bindTo(bindTarget);
+
+						bindByName(statement, remainderByName);
+						bindByIndex(statement, remainderByIndex);
 					}
 
-					Statement statement = connection.createStatement(expanded);
-					BindTarget bindTarget = new StatementWrapper(statement);
-
-					operation.bindTo(bindTarget);
-
-					bindByName(statement, remainderByName);
-					bindByIndex(statement, remainderByIndex);
-
+					Assert.state(statement != null, "No binding set");
 					return statement;
 				}
 
 				Statement statement = connection.createStatement(sql);
 
-				bindByIndex(statement, this.byIndex);
-				bindByName(statement, this.byName);
+				for (int i = 0; i < bindingSets.size(); i++) {
+					if (i > 0) {
+						statement.add();
+					}
+					Bindings bindings = bindingSets.get(i);
+					bindByIndex(statement, bindings.byIndex());
+					bindByName(statement, bindings.byName());
+				}
 
 				return statement;
 			};
@@ -458,12 +515,29 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			return inConnectionMany(connectionFunction);
 		}
 
-		private MapBindParameterSource retrieveParameters(String sql, List<String> parameterNames,
+		/**
+		 * Return the binding sets to execute the statement with: the ones
+		 * completed through {@link #add()} followed by the current one,
+		 * unless empty after previously completed ones.
+		 */
+		private List<Bindings> getBindingSets() {
+			List<Bindings> bindingSets = new ArrayList<>();
+			for (Bindings bindings = this.previousBindings; bindings != null; bindings = bindings.previous()) {
+				bindingSets.add(bindings);
+			}
+			Collections.reverse(bindingSets);
+			if (bindingSets.isEmpty() || !this.byIndex.isEmpty() || !this.byName.isEmpty()) {
+				bindingSets.add(new Bindings(this.byIndex, this.byName, this.previousBindings));
+			}
+			return bindingSets;
+		}
+
+		private MapBindParameterSource retrieveParameters(String sql, List<String> parameterNames, Bindings bindings,
 				Map<String, Parameter> remainderByName, Map<Integer, Parameter> remainderByIndex) {
 
 			Map<String, Parameter> namedBindings = CollectionUtils.newLinkedHashMap(parameterNames.size());
 			for (String parameterName : parameterNames) {
-				Parameter parameter = getParameter(remainderByName, remainderByIndex, parameterNames, parameterName);
+				Parameter parameter = getParameter(bindings, remainderByName, remainderByIndex, parameterNames, parameterName);
 				if (parameter == null) {
 					throw new InvalidDataAccessApiUsageException(
 							String.format("No parameter specified for [%s] in query [%s]", parameterName, sql));
@@ -473,18 +547,18 @@ final class DefaultDatabaseClient implements DatabaseClient {
 			return new MapBindParameterSource(namedBindings);
 		}
 
-		private @Nullable Parameter getParameter(Map<String, Parameter> remainderByName,
+		private @Nullable Parameter getParameter(Bindings bindings, Map<String, Parameter> remainderByName,
 				Map<Integer, Parameter> remainderByIndex, List<String> parameterNames, String parameterName) {
 
-			if (this.byName.containsKey(parameterName)) {
+			if (bindings.byName().containsKey(parameterName)) {
 				remainderByName.remove(parameterName);
-				return this.byName.get(parameterName);
+				return bindings.byName().get(parameterName);
 			}
 
 			int index = parameterNames.indexOf(parameterName);
-			if (this.byIndex.containsKey(index)) {
+			if (bindings.byIndex().containsKey(index)) {
 				remainderByIndex.remove(index);
-				return this.byIndex.get(index);
+				return bindings.byIndex().get(index);
 			}
 
 			return null;
@@ -512,6 +586,65 @@ final class DefaultDatabaseClient implements DatabaseClient {
 	}
 
 
+	/**
+	 * Binding set completed through {@link GenericExecuteSpec#add()}, linked to
+	 * the binding set completed before, if any.
+	 */
+	record Bindings(Map<Integer, Parameter> byIndex, Map<String, Parameter> byName, @Nullable Bindings previous) {
+	}
+
+
+	/**
+	 * Default {@link DatabaseClient.BatchSpec} implementation.
+	 */
+	class DefaultBatchSpec implements BatchSpec {
+
+		final List<String> statements;
+
+		DefaultBatchSpec(List<String> statements) {
+			this.statements = statements;
+		}
+
+		@Override
+		public DefaultBatchSpec add(String sql) {
+			Assert.hasText(sql, "SQL must not be null or empty");
+			List<String> statements = new ArrayList<>(this.statements.size() + 1);
+			statements.addAll(this.statements);
+			statements.add(sql);
+			return new DefaultBatchSpec(Collections.unmodifiableList(statements));
+		}
+
+		@Override
+		public <R> Flux<R> flatMap(Function<Result, Publisher<R>> mappingFunction) {
+			Assert.notNull(mappingFunction, "Mapping function must not be null");
+			Assert.state(!this.statements.isEmpty(), "No SQL statements added to batch");
+			String sql = String.join("; ", this.statements);
+			ConnectionFunction<Flux<R>> connectionFunction = new DelegateConnectionFunction<>(() -> sql, cx -> {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Executing SQL batch [" + sql + "]");
+				}
+				Batch batch = cx.createBatch();
+				for (String statement : this.statements) {
+					batch.add(statement);
+				}
+				return Flux.from(batch.execute()).checkpoint("SQL batch \"" + sql + "\" [DatabaseClient]")
+						.concatMap(mappingFunction);
+			});
+			return inConnectionMany(connectionFunction);
+		}
+
+		@Override
+		public Flux<Long> rowsUpdated() {
+			return flatMap(Result::getRowsUpdated);
+		}
+
+		@Override
+		public Mono<Void> then() {
+			return rowsUpdated().then();
+		}
+	}
+
+
 	/**
 	 * Invocation handler that suppresses close calls on R2DBC Connections. Also prepares
 	 * returned Statement (Prepared/CallbackStatement) objects.
@@ -159,6 +159,34 @@ abstract class AbstractDatabaseClientIntegrationTests {
 				.verifyComplete();
 	}
 
+	@Test
+	void executeBatchInsert() {
+		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
+
+		databaseClient.sql("INSERT INTO legoset (id, name, manual) VALUES(:id, :name, :manual)")
+				.bind("id", 42055).bind("name", "SCHAUFELRADBAGGER").bind("manual", 12).add()
+				.bind("id", 42056).bind("name", "DUMPER").bindNull("manual", Integer.class).add()
+				.rowsUpdatedPerBinding()
+				.as(StepVerifier::create)
+				.expectNext(1L, 1L)
+				.verifyComplete();
+
+		databaseClient.batch()
+				.add("UPDATE legoset SET manual = 13 WHERE id = 42056")
+				.add("DELETE FROM legoset WHERE id = 42055")
+				.rowsUpdated()
+				.as(StepVerifier::create)
+				.expectNext(1L, 1L)
+				.verifyComplete();
+
+		databaseClient.sql("SELECT manual FROM legoset")
+				.mapValue(Integer.class)
+				.all()
+				.as(StepVerifier::create)
+				.expectNext(13)
+				.verifyComplete();
+	}
+
 	@Test
 	void shouldTranslateDuplicateKeyException() {
 		DatabaseClient databaseClient = DatabaseClient.create(connectionFactory);
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.r2dbc.spi.Batch;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.Parameters;
@@ -44,6 +45,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.r2dbc.core.binding.BindMarkersFactory;
 import org.springframework.r2dbc.core.binding.BindTarget;
 
@@ -253,6 +255,80 @@ class DefaultDatabaseClientTests {
 		verify(statement).bind(0, Parameters.in("foo"));
 	}
 
+	@Test
+	void executeShouldBindBatchOfNamedValues() {
+		Statement statement = mockStatementFor("INSERT INTO person (id, name) VALUES ($1, $2)");
+		doReturn(Flux.just(mockRowsUpdatedResult(1L), mockRowsUpdatedResult(0L))).when(statement).execute();
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("INSERT INTO person (id, name) VALUES (:id, :name)")
+				.bind("id", 1).bind("name", "Walter").add()
+				.bindProperties(new Person(2, "Jesse")).add()
+				.rowsUpdatedPerBinding()
+				.as(StepVerifier::create).expectNext(1L, 0L).verifyComplete();
+
+		InOrder inOrder = inOrder(statement);
+		inOrder.verify(statement).bind(0, Parameters.in(1));
+		inOrder.verify(statement).bind(1, Parameters.in("Walter"));
+		inOrder.verify(statement).add();
+		inOrder.verify(statement).bind(0, Parameters.in(2));
+		inOrder.verify(statement).bind(1, Parameters.in("Jesse"));
+		inOrder.verify(statement).execute();
+		verifyNoMoreInteractions(statement);
+	}
+
+	@Test
+	void executeShouldBindBatchOfIndexedValues() {
+		Statement statement = mockStatementFor("INSERT INTO person (id, name) VALUES ($1, $2)");
+		DatabaseClient databaseClient = databaseClientBuilder.namedParameters(false).build();
+
+		databaseClient.sql("INSERT INTO person (id, name) VALUES ($1, $2)")
+				.bindValues(List.of(1, "Walter")).add()
+				.bindValues(List.of(2, "Jesse"))
+				.then().as(StepVerifier::create).verifyComplete();
+
+		InOrder inOrder = inOrder(statement);
+		inOrder.verify(statement).bind(0, Parameters.in(1));
+		inOrder.verify(statement).bind(1, Parameters.in("Walter"));
+		inOrder.verify(statement).add();
+		inOrder.verify(statement).bind(0, Parameters.in(2));
+		inOrder.verify(statement).bind(1, Parameters.in("Jesse"));
+		inOrder.verify(statement).execute();
+		verifyNoMoreInteractions(statement);
+	}
+
+	@Test
+	void executeShouldRejectBatchExpandingToDifferentSql() {
+		mockStatementFor("SELECT * FROM person WHERE name IN ($1, $2)");
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.sql("SELECT * FROM person WHERE name IN (:names)")
+				.bind("names", List.of("Walter", "Jesse")).add()
+				.bind("names", List.of("Saul"))
+				.then().as(StepVerifier::create).verifyError(InvalidDataAccessApiUsageException.class);
+	}
+
+	@Test
+	void batchShouldEmitRowsUpdatedPerStatement() {
+		Batch batch = mock();
+		when(connection.createBatch()).thenReturn(batch);
+		when(batch.add(anyString())).thenReturn(batch);
+		doReturn(Flux.just(mockRowsUpdatedResult(3L), mockRowsUpdatedResult(1L))).when(batch).execute();
+		DatabaseClient databaseClient = databaseClientBuilder.build();
+
+		databaseClient.batch()
+				.add("DELETE FROM person")
+				.add("INSERT INTO person (id, name) VALUES (1, 'Walter')")
+				.rowsUpdated()
+				.as(StepVerifier::create).expectNext(3L, 1L).verifyComplete();
+
+		InOrder inOrder = inOrder(batch);
+		inOrder.verify(batch).add("DELETE FROM person");
+		inOrder.verify(batch).add("INSERT INTO person (id, name) VALUES (1, 'Walter')");
+		inOrder.verify(batch).execute();
+		verify(connection).close();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void rowsUpdatedShouldEmitSingleValue() {
@@ -480,6 +556,12 @@ class DefaultDatabaseClientTests {
 		return statement;
 	}
 
+	private Result mockRowsUpdatedResult(long rowsUpdated) {
+		Result result = mock();
+		when(result.getRowsUpdated()).thenReturn(Mono.just(rowsUpdated));
+		return result;
+	}
+
 	private MockResult mockSingleColumnEmptyResult() {
 		return mockSingleColumnResult(null);
 	}
@@ -504,4 +586,7 @@ class DefaultDatabaseClientTests {
 
 	record ParameterRecord(String key) {}
 
+
+	record Person(int id, String name) {}
+
 }
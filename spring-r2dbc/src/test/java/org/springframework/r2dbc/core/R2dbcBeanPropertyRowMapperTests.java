@@ -16,17 +16,22 @@
 
 package org.springframework.r2dbc.core;
 
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import io.r2dbc.spi.Readable;
 import io.r2dbc.spi.test.MockColumnMetadata;
 import io.r2dbc.spi.test.MockOutParameters;
 import io.r2dbc.spi.test.MockRow;
 import io.r2dbc.spi.test.MockRowMetadata;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
 
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.convert.support.DefaultConversionService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -90,6 +95,95 @@ class R2dbcBeanPropertyRowMapperTests {
 		assertThat(result.email).as("email").isEqualTo("mail@example.org");
 	}
 
+	@Test
+	void mappingRowsWithDifferentMetadata() {
+		BeanPropertyRowMapper<EmailPerson> mapper = new BeanPropertyRowMapper<>(EmailPerson.class);
+
+		EmailPerson result = mapper.apply(EMAIL_PERSON_ROW);
+		assertThat(result.lastName).as("lastName").isEqualTo("Doe");
+		assertThat(result.email).as("email").isEqualTo("mail@example.org");
+
+		result = mapper.apply(SIMPLE_PERSON_ROW);
+		assertThat(result.firstName).as("firstName").isEqualTo("John");
+		assertThat(result.lastName).as("lastName").isEqualTo("Doe");
+		assertThat(result.age).as("age").isEqualTo(30);
+		assertThat(result.email).as("email").isNull();
+
+		result = mapper.apply(EMAIL_PERSON_ROW);
+		assertThat(result.age).as("age").isEqualTo(30);
+		assertThat(result.email).as("email").isEqualTo("mail@example.org");
+	}
+
+	@Test
+	void mappingRowsWithSameColumnsReusesMappingPlan() {
+		AtomicInteger planItems = new AtomicInteger();
+		BeanPropertyRowMapper<Person> mapper = new CountingBeanPropertyRowMapper<>(Person.class, planItems);
+
+		mapper.apply(SIMPLE_PERSON_ROW);
+		int itemCount = planItems.get();
+		assertThat(itemCount).isPositive();
+
+		Person result = mapper.apply(SIMPLE_PERSON_ROW);
+		assertThat(result.firstName).as("firstName").isEqualTo("John");
+		assertThat(planItems).hasValue(itemCount);
+
+		result = mapper.apply(buildPersonRow("Jane", int.class, 40));
+		assertThat(result.firstName).as("firstName").isEqualTo("Jane");
+		assertThat(result.lastName).as("lastName").isEqualTo("Doe");
+		assertThat(result.age).as("age").isEqualTo(40);
+		assertThat(planItems).hasValue(itemCount);
+	}
+
+	@Test
+	void mappingRowsWithDifferentColumnsReusesMappingPlans() {
+		AtomicInteger planItems = new AtomicInteger();
+		BeanPropertyRowMapper<EmailPerson> mapper = new CountingBeanPropertyRowMapper<>(EmailPerson.class, planItems);
+
+		mapper.apply(EMAIL_PERSON_ROW);
+		mapper.apply(SIMPLE_PERSON_ROW);
+		int itemCount = planItems.get();
+
+		// Interleaved rows of different shapes
+		for (int i = 0; i < 2; i++) {
+			EmailPerson result = mapper.apply(EMAIL_PERSON_ROW);
+			assertThat(result.email).as("email").isEqualTo("mail@example.org");
+			result = mapper.apply(SIMPLE_PERSON_ROW);
+			assertThat(result.age).as("age").isEqualTo(30);
+			assertThat(result.email).as("email").isNull();
+		}
+		assertThat(planItems).hasValue(itemCount);
+	}
+
+	@Test
+	void mappingRowsWithTypeConversion() {
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class);
+
+		Person result = mapper.apply(buildPersonRow("Jane", int.class, 40));
+		assertThat(result.age).as("age").isEqualTo(40);
+
+		// Same columns, with values that require conversion
+		result = mapper.apply(buildPersonRow("Jane", int.class, 41L));
+		assertThat(result.age).as("age").isEqualTo(41);
+		result = mapper.apply(buildPersonRow("Jane", int.class, "42"));
+		assertThat(result.age).as("age").isEqualTo(42);
+		assertThat(result.firstName).as("firstName").isEqualTo("Jane");
+	}
+
+	@Test
+	void mappingRowWithCustomConversionService() {
+		DefaultConversionService conversionService = new DefaultConversionService();
+		conversionService.addConverter(String.class, String.class, value -> value.toUpperCase(Locale.ROOT));
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class, conversionService);
+
+		// Values matching the property types are converted as well
+		for (int i = 0; i < 2; i++) {
+			Person result = mapper.apply(SIMPLE_PERSON_ROW);
+			assertThat(result.firstName).as("firstName").isEqualTo("JOHN");
+			assertThat(result.lastName).as("lastName").isEqualTo("DOE");
+			assertThat(result.age).as("age").isEqualTo(30);
+		}
+	}
+
 	@Test
 	void rowTypeAndMappingTypeMisaligned() {
 		BeanPropertyRowMapper<TypeMismatchExtendedPerson> mapper = new BeanPropertyRowMapper<>(TypeMismatchExtendedPerson.class);
@@ -115,6 +209,28 @@ class R2dbcBeanPropertyRowMapperTests {
 	}
 
 
+	/**
+	 * Counts the names converted for mapping plans, after construction.
+	 */
+	private static class CountingBeanPropertyRowMapper<T> extends BeanPropertyRowMapper<T> {
+
+		private final AtomicInteger planItems;
+
+		CountingBeanPropertyRowMapper(Class<T> mappedClass, AtomicInteger planItems) {
+			super(mappedClass);
+			this.planItems = planItems;
+		}
+
+		@Override
+		protected String lowerCaseName(@Nullable String name) {
+			if (this.planItems != null) {
+				this.planItems.incrementAndGet();
+			}
+			return super.lowerCaseName(name);
+		}
+	}
+
+
 	@SuppressWarnings("unused")
 	private static class Person {
 
@@ -216,6 +332,19 @@ class R2dbcBeanPropertyRowMapperTests {
 	private static final MockRow EMAIL_PERSON_ROW = buildRowWithExtraColumn("EMail", String.class,
 			String.class, "mail@example.org");
 
+	private static MockRow buildPersonRow(String firstName, Class<?> ageClass, Object age) {
+		return MockRow.builder()
+				.metadata(MockRowMetadata.builder()
+						.columnMetadata(MockColumnMetadata.builder().name("firstName").javaType(String.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("lastName").javaType(String.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("age").javaType(Integer.class).build())
+						.build())
+				.identified(0, String.class, firstName)
+				.identified(1, String.class, "Doe")
+				.identified(2, ageClass, age)
+				.build();
+	}
+
 	private static MockRow buildRowWithExtraColumn(
 			String extraColumnName, Class<?> extraColumnClass, Class<?> identifiedClass, Object value) {
 
@@ -19,12 +19,17 @@ package org.springframework.r2dbc.core;
 import java.math.BigDecimal;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.r2dbc.spi.test.MockColumnMetadata;
 import io.r2dbc.spi.test.MockRow;
 import io.r2dbc.spi.test.MockRowMetadata;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.convert.support.DefaultConversionService;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -48,6 +53,48 @@ class R2dbcDataClassRowMapperTests {
 		assertThat(person.birth_date).as("birth_date").isNotNull();
 	}
 
+	@Test
+	void staticQueryWithSameColumnsReusesConstructorPlan() {
+		AtomicInteger planItems = new AtomicInteger();
+		DataClassRowMapper<RecordPerson> mapper = new DataClassRowMapper<>(RecordPerson.class) {
+			@Override
+			protected String lowerCaseName(@Nullable String name) {
+				planItems.incrementAndGet();
+				return super.lowerCaseName(name);
+			}
+		};
+		planItems.set(0);
+
+		mapper.apply(MOCK_ROW);
+		int itemCount = planItems.get();
+		assertThat(itemCount).isPositive();
+
+		RecordPerson person = mapper.apply(MOCK_ROW);
+		assertThat(person.name()).isEqualTo("Bubba");
+		assertThat(planItems).hasValue(itemCount);
+
+		// Different metadata instance with the same columns
+		person = mapper.apply(buildMockRow("birth_date", false));
+		assertThat(person.name()).isEqualTo("Bubba");
+		assertThat(person.age()).isEqualTo(22L);
+		assertThat(person.balance()).isEqualTo(new BigDecimal("1234.56"));
+		assertThat(planItems).hasValue(itemCount);
+	}
+
+	@Test
+	void staticQueryWithCustomConversionService() {
+		DefaultConversionService conversionService = new DefaultConversionService();
+		conversionService.addConverter(String.class, String.class, value -> value.toUpperCase(Locale.ROOT));
+		DataClassRowMapper<RecordPerson> mapper = new DataClassRowMapper<>(RecordPerson.class, conversionService);
+
+		// Arguments matching the parameter types are converted as well
+		for (int i = 0; i < 2; i++) {
+			RecordPerson person = mapper.apply(MOCK_ROW);
+			assertThat(person.name()).isEqualTo("BUBBA");
+			assertThat(person.age()).isEqualTo(22L);
+		}
+	}
+
 	@Test
 	void staticQueryWithDataClassAndGenerics() {
 		MockRow mockRow = buildMockRow("birth_date", true); // uses name, age, birth_date, balance (as list)
@@ -37,6 +37,7 @@ import org.springframework.util.AntPathMatcher;
  * Benchmarks for matching requests paths against path patterns in a web context.
  * We're considering here the {@link org.springframework.util.AntPathMatcher} and
  * {@link PathPatternParser} implementations with typical sets of patterns.
+ * Run with {@code -prof gc} to compare allocation rates of matching and extraction.
  * @author Brian Clozel
  */
 @BenchmarkMode(Mode.Throughput)
@@ -60,6 +61,15 @@ public class PathMatchingBenchmark {
 		}
 	}
 
+	@Benchmark
+	public void matchAndExtractAllRoutesWithPathPatternParser(AllRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			for (PathPattern pattern : data.patterns) {
+				bh.consume(pattern.matchAndExtract(path));
+			}
+		}
+	}
+
 	@Benchmark
 	public void matchAndSortAllRoutesWithPathPatternParser(AllRoutesPatternParser data, Blackhole bh) {
 		for (PathContainer path : data.requestPaths) {
@@ -92,6 +102,73 @@ public class PathMatchingBenchmark {
 		}
 	}
 
+	@Benchmark
+	public void matchAndExtractStaticRoutesWithPathPatternParser(StaticRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			for (PathPattern pattern : data.patterns) {
+				bh.consume(pattern.matchAndExtract(path));
+			}
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class CaptureRoutesPatternParser extends PatternParserData {
+
+		@Setup(Level.Trial)
+		public void registerPatterns() {
+			parseRoutes(RouteGenerator.captureRoutes());
+		}
+	}
+
+	@Benchmark
+	public void matchAndExtractCaptureRoutesWithPathPatternParser(CaptureRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			for (PathPattern pattern : data.patterns) {
+				bh.consume(pattern.matchAndExtract(path));
+			}
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class LargeRouteTablePatternParser extends PatternParserData {
+
+		PathPatternIndex<PathPattern> index = new PathPatternIndex<>();
+
+		@Setup(Level.Trial)
+		public void registerPatterns() {
+			parseRoutes(RouteGenerator.largeRouteTable());
+			this.patterns.forEach(pattern -> this.index.add(pattern, pattern));
+		}
+	}
+
+	@Benchmark
+	public void matchAndSortLargeRouteTableWithPathPatternParser(LargeRouteTablePatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pattern : data.patterns) {
+				if (pattern.matches(path)) {
+					matches.add(pattern);
+				}
+			}
+			Collections.sort(matches);
+			bh.consume(matches);
+		}
+	}
+
+	@Benchmark
+	public void matchAndSortLargeRouteTableWithPathPatternIndex(LargeRouteTablePatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pattern : data.index.getCandidates(path)) {
+				if (pattern.matches(path)) {
+					matches.add(pattern);
+				}
+			}
+			Collections.sort(matches);
+			bh.consume(matches);
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class AllRoutesAntPathMatcher extends AntPathMatcherData {
 
@@ -274,5 +351,21 @@ public class PathMatchingBenchmark {
 			return routes;
 		}
 
+		/**
+		 * Routes of a large API gateway: 1,800 routes spread across 60 services.
+		 */
+		static List<Route> largeRouteTable() {
+			List<Route> routes = new ArrayList<>();
+			for (int service = 0; service < 60; service++) {
+				for (int resource = 0; resource < 10; resource++) {
+					String prefix = "/api/service" + service + "/resource" + resource;
+					routes.add(new Route(prefix + "/{id}", prefix + "/42"));
+					routes.add(new Route(prefix + "/{id}/items/{itemId}", prefix + "/42/items/7"));
+					routes.add(new Route(prefix + "/{id}/**", prefix + "/42/history/2020"));
+				}
+			}
+			return routes;
+		}
+
 	}
 }
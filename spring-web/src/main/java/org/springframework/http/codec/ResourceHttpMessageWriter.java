@@ -34,6 +34,7 @@ import org.springframework.core.codec.Hints;
 import org.springframework.core.codec.ResourceDecoder;
 import org.springframework.core.codec.ResourceEncoder;
 import org.springframework.core.codec.ResourceRegionEncoder;
+import org.springframework.core.io.ByteBufferResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -199,7 +200,9 @@ public class ResourceHttpMessageWriter implements HttpMessageWriter<Resource> {
 	private static @Nullable Mono<Void> zeroCopy(Resource resource, @Nullable ResourceRegion region,
 			ReactiveHttpOutputMessage message, Map<String, Object> hints) {
 
-		if (message instanceof ZeroCopyHttpOutputMessage zeroCopyHttpOutputMessage && resource.isFile()) {
+		// Buffered resources, such as mapped ones, are read from memory without file access, see DataBufferUtils#read
+		if (message instanceof ZeroCopyHttpOutputMessage zeroCopyHttpOutputMessage && resource.isFile() &&
+				!(resource instanceof ByteBufferResource)) {
 			try {
 				Path filePath = resource.getFilePath();
 				long pos = (region != null ? region.getPosition() : 0);
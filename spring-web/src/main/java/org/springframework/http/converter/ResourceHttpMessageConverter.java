@@ -20,16 +20,19 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.NoSuchFileException;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.MappedResource;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.server.ZeroCopyServerHttpResponse;
 import org.springframework.util.StreamUtils;
 
 /**
@@ -149,6 +152,23 @@ public class ResourceHttpMessageConverter extends AbstractHttpMessageConverter<R
 	protected void writeContent(Resource resource, HttpOutputMessage outputMessage)
 			throws IOException, HttpMessageNotWritableException {
 
+		if (outputMessage instanceof ZeroCopyServerHttpResponse zeroCopyResponse &&
+				resource instanceof MappedResource mappedResource) {
+			zeroCopyResponse.writeWith(mappedResource.getByteBuffer());
+			zeroCopyResponse.flush();
+			return;
+		}
+		if (outputMessage instanceof ZeroCopyServerHttpResponse zeroCopyResponse && resource.isFile()) {
+			try {
+				zeroCopyResponse.writeWith(resource.getFilePath(), 0, resource.contentLength());
+				zeroCopyResponse.flush();
+			}
+			catch (FileNotFoundException | NoSuchFileException ignored) {
+				// see SPR-12999
+			}
+			return;
+		}
+
 		// We cannot use try-with-resources here for the InputStream, since we have
 		// custom handling of the close() method in a finally-block.
 		try {
@@ -21,11 +21,13 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.io.ByteBufferResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourceRegion;
@@ -34,6 +36,7 @@ import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.server.ZeroCopyServerHttpResponse;
 import org.springframework.util.Assert;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.StreamUtils;
@@ -173,6 +176,11 @@ public class ResourceRegionHttpMessageConverter extends AbstractGenericHttpMessa
 		responseHeaders.add("Content-Range", "bytes " + start + '-' + end + '/' + resourceLength);
 		responseHeaders.setContentLength(rangeLength);
 
+		if (outputMessage instanceof ZeroCopyServerHttpResponse zeroCopyResponse &&
+				writeZeroCopy(zeroCopyResponse, region.getResource(), start, rangeLength)) {
+			return;
+		}
+
 		InputStream in = region.getResource().getInputStream();
 		// We cannot use try-with-resources here for the InputStream, since we have
 		// custom handling of the close() method in a finally-block.
@@ -199,6 +207,8 @@ public class ResourceRegionHttpMessageConverter extends AbstractGenericHttpMessa
 		String boundaryString = MimeTypeUtils.generateMultipartBoundaryString();
 		responseHeaders.set(HttpHeaders.CONTENT_TYPE, "multipart/byteranges; boundary=" + boundaryString);
 		OutputStream out = outputMessage.getBody();
+		ZeroCopyServerHttpResponse zeroCopyResponse =
+				(outputMessage instanceof ZeroCopyServerHttpResponse response ? response : null);
 
 		Resource resource = null;
 		InputStream in = null;
@@ -206,17 +216,6 @@ public class ResourceRegionHttpMessageConverter extends AbstractGenericHttpMessa
 
 		try {
 			for (ResourceRegion region : resourceRegions) {
-				long start = region.getPosition() - inputStreamPosition;
-				if (start < 0 || resource != region.getResource()) {
-					if (in != null) {
-						in.close();
-					}
-					resource = region.getResource();
-					in = resource.getInputStream();
-					inputStreamPosition = 0;
-					start = region.getPosition();
-				}
-				long end = start + region.getCount() - 1;
 				// Writing MIME header.
 				println(out);
 				print(out, "--" + boundaryString);
@@ -226,13 +225,30 @@ public class ResourceRegionHttpMessageConverter extends AbstractGenericHttpMessa
 					println(out);
 				}
 				long resourceLength = region.getResource().contentLength();
-				end = Math.min(end, resourceLength - inputStreamPosition - 1);
 				print(out, "Content-Range: bytes " +
 						region.getPosition() + '-' + (region.getPosition() + region.getCount() - 1) +
 						'/' + resourceLength);
 				println(out);
 				println(out);
 				// Printing content
+				if (zeroCopyResponse != null) {
+					long count = Math.min(region.getCount(), resourceLength - region.getPosition());
+					if (writeZeroCopy(zeroCopyResponse, region.getResource(), region.getPosition(), count)) {
+						continue;
+					}
+				}
+				long start = region.getPosition() - inputStreamPosition;
+				if (start < 0 || resource != region.getResource()) {
+					if (in != null) {
+						in.close();
+					}
+					resource = region.getResource();
+					in = resource.getInputStream();
+					inputStreamPosition = 0;
+					start = region.getPosition();
+				}
+				long end = start + region.getCount() - 1;
+				end = Math.min(end, resourceLength - inputStreamPosition - 1);
 				StreamUtils.copyRange(in, out, start, end);
 				inputStreamPosition += (end + 1);
 			}
@@ -251,6 +267,31 @@ public class ResourceRegionHttpMessageConverter extends AbstractGenericHttpMessa
 		print(out, "--" + boundaryString + "--");
 	}
 
+	/**
+	 * Write the given range of the resource through the zero-copy response,
+	 * sending its buffer for a range within a {@link ByteBufferResource} or
+	 * transferring from its file otherwise.
+	 * @return {@code true} if written, or {@code false} if the resource is
+	 * neither backed by a buffer nor by a file
+	 */
+	private static boolean writeZeroCopy(ZeroCopyServerHttpResponse response, Resource resource,
+			long position, long count) throws IOException {
+
+		if (resource instanceof ByteBufferResource byteBufferResource) {
+			ByteBuffer byteBuffer = byteBufferResource.getByteBuffer();
+			if (position + count <= byteBuffer.remaining()) {
+				// Range within the buffer, so within int range as well
+				response.writeWith(byteBuffer.slice(byteBuffer.position() + (int) position, (int) count));
+				return true;
+			}
+		}
+		if (resource.isFile()) {
+			response.writeWith(resource.getFilePath(), position, count);
+			return true;
+		}
+		return false;
+	}
+
 	private static void println(OutputStream os) throws IOException {
 		os.write('\r');
 		os.write('\n');
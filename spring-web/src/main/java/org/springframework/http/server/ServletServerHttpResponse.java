@@ -17,12 +17,22 @@
 package org.springframework.http.server;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.Nullable;
 
@@ -31,15 +41,28 @@ import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StreamUtils;
 
 /**
  * {@link ServerHttpResponse} implementation that is based on a {@link HttpServletResponse}.
  *
+ * <p>As of 7.0.2, file transfers through {@link #writeWith(Path, long, long)}
+ * read the file into a direct buffer that is written with
+ * {@link ServletOutputStream#write(ByteBuffer)}, which lets the container send
+ * file content to the network without copying it through heap buffers.
+ *
  * @author Arjen Poutsma
  * @author Rossen Stoyanchev
  * @since 3.0
  */
-public class ServletServerHttpResponse implements ServerHttpResponse {
+public class ServletServerHttpResponse implements ZeroCopyServerHttpResponse {
+
+	/** Size of the direct buffer that file transfers read into. */
+	private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+	private static final Map<Class<?>, Boolean> byteBufferWriteSupport = new ConcurrentReferenceHashMap<>();
 
 	private final HttpServletResponse servletResponse;
 
@@ -97,6 +120,84 @@ public class ServletServerHttpResponse implements ServerHttpResponse {
 		return this.servletResponse.getOutputStream();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation reads the file region through a single direct
+	 * buffer, passing each chunk to {@link #writeWith(ByteBuffer)}, and falls
+	 * back on copying the file content if the output stream does not provide
+	 * its own implementation of {@link ServletOutputStream#write(ByteBuffer)}.
+	 */
+	@Override
+	public void writeWith(Path file, long position, long count) throws IOException {
+		this.bodyUsed = true;
+		writeHeaders();
+		ServletOutputStream outputStream = this.servletResponse.getOutputStream();
+		if (count <= 0) {
+			return;
+		}
+		if (file.getFileSystem() != FileSystems.getDefault() || !supportsByteBufferWrites(outputStream)) {
+			try (InputStream in = Files.newInputStream(file)) {
+				StreamUtils.copyRange(in, outputStream, position, position + count - 1);
+			}
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long current = position;
+			long end = Math.min(position + count, channel.size());
+			if (current >= end) {
+				return;
+			}
+			ByteBuffer byteBuffer = ByteBuffer.allocateDirect((int) Math.min(end - current, TRANSFER_BUFFER_SIZE));
+			while (current < end) {
+				byteBuffer.clear().limit((int) Math.min(end - current, byteBuffer.capacity()));
+				int read = channel.read(byteBuffer, current);
+				if (read == -1) {
+					break;
+				}
+				byteBuffer.flip();
+				writeWith(byteBuffer);
+				current += read;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation passes the buffer to
+	 * {@link ServletOutputStream#write(ByteBuffer)} if the output stream
+	 * provides its own implementation of that method, or otherwise copies
+	 * the buffer in chunks.
+	 */
+	@Override
+	public void writeWith(ByteBuffer byteBuffer) throws IOException {
+		this.bodyUsed = true;
+		writeHeaders();
+		ServletOutputStream outputStream = this.servletResponse.getOutputStream();
+		if (byteBuffer.hasArray()) {
+			outputStream.write(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+			byteBuffer.position(byteBuffer.limit());
+		}
+		else if (supportsByteBufferWrites(outputStream)) {
+			outputStream.write(byteBuffer);
+		}
+		else {
+			byte[] chunk = new byte[Math.min(byteBuffer.remaining(), StreamUtils.BUFFER_SIZE)];
+			while (byteBuffer.hasRemaining()) {
+				int length = Math.min(chunk.length, byteBuffer.remaining());
+				byteBuffer.get(chunk, 0, length);
+				outputStream.write(chunk, 0, length);
+			}
+		}
+	}
+
+	private static boolean supportsByteBufferWrites(ServletOutputStream outputStream) {
+		// The default ServletOutputStream implementation copies the buffer to a byte array
+		return byteBufferWriteSupport.computeIfAbsent(outputStream.getClass(), streamClass -> {
+			Method method = ReflectionUtils.findMethod(streamClass, "write", ByteBuffer.class);
+			return (method != null && method.getDeclaringClass() != ServletOutputStream.class);
+		});
+	}
+
 	@Override
 	public void flush() throws IOException {
 		writeHeaders();
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Sub-interface of {@link ServerHttpResponse} that has support for "zero-copy"
+ * file transfers: the blocking counterpart of
+ * {@link org.springframework.http.ZeroCopyHttpOutputMessage}.
+ *
+ * @author Arjen Poutsma
+ * @since 7.0.2
+ * @see <a href="https://en.wikipedia.org/wiki/Zero-copy">Zero-copy</a>
+ */
+public interface ZeroCopyServerHttpResponse extends ServerHttpResponse {
+
+	/**
+	 * Use the given {@link File} to write the body of the response.
+	 * @param file the file to transfer
+	 * @param position the position within the file from which the transfer is to begin
+	 * @param count the number of bytes to be transferred
+	 * @throws IOException in case of I/O errors
+	 */
+	default void writeWith(File file, long position, long count) throws IOException {
+		writeWith(file.toPath(), position, count);
+	}
+
+	/**
+	 * Use the given {@link Path} to write the body of the response, writing
+	 * the response headers first if necessary. Implementations that cannot
+	 * transfer the file without copying fall back on copying its content to
+	 * the {@linkplain #getBody() body}.
+	 * @param file the file to transfer
+	 * @param position the position within the file from which the transfer is to begin
+	 * @param count the number of bytes to be transferred
+	 * @throws IOException in case of I/O errors
+	 */
+	void writeWith(Path file, long position, long count) throws IOException;
+
+	/**
+	 * Write the remaining content of the given buffer to the body of the
+	 * response, writing the response headers first if necessary. This allows
+	 * passing memory-mapped file content, for example from a
+	 * {@link org.springframework.core.io.support.MappedResource MappedResource},
+	 * to the underlying HTTP layer without copying it to a heap array.
+	 * @param byteBuffer the content to write
+	 * @throws IOException in case of I/O errors
+	 */
+	void writeWith(ByteBuffer byteBuffer) throws IOException;
+
+}
@@ -18,7 +18,10 @@ package org.springframework.http.server.reactive;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import jakarta.servlet.AsyncContext;
 import jakarta.servlet.AsyncEvent;
@@ -30,6 +33,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Processor;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
 
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
@@ -38,6 +42,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
 import org.springframework.util.Assert;
 
 /**
@@ -48,7 +53,10 @@ import org.springframework.util.Assert;
  * @author Brian Clozel
  * @since 5.0
  */
-class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
+class ServletServerHttpResponse extends AbstractListenerServerHttpResponse implements ZeroCopyHttpOutputMessage {
+
+	/** Size of the buffers that file transfers read into. */
+	private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
 
 	private final HttpServletResponse response;
 
@@ -102,6 +110,18 @@ class ServletServerHttpResponse extends AbstractListenerServerHttpResponse {
 		return (status != null ? status : HttpStatusCode.valueOf(this.response.getStatus()));
 	}
 
+	/**
+	 * Write the file region as buffers from the {@link #bufferFactory()} that
+	 * are read from the file, and that the container writes through
+	 * {@link ServletOutputStream#write(ByteBuffer)}.
+	 */
+	@Override
+	public Mono<Void> writeWith(Path file, long position, long count) {
+		return writeWith(DataBufferUtils.takeUntilByteCount(DataBufferUtils.readByteChannel(
+				() -> FileChannel.open(file, StandardOpenOption.READ).position(position),
+				bufferFactory(), TRANSFER_BUFFER_SIZE), count));
+	}
+
 	@Override
 	protected void applyStatusCode() {
 		HttpStatusCode status = super.getStatusCode();
@@ -0,0 +1,591 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.server.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.util.Assert;
+import org.springframework.util.IdGenerator;
+import org.springframework.util.JdkIdGenerator;
+import org.springframework.web.server.WebSession;
+
+/**
+ * Map-based storage for {@link WebSession} instances that, unlike
+ * {@link InMemoryWebSessionStore}, indexes sessions by expiration time so that
+ * expired sessions are removed incrementally rather than by periodically
+ * sweeping all sessions.
+ *
+ * <p>Sessions are grouped in segments of {@link #setExpirationResolution
+ * expirationResolution} by the time at which they expire. Expiration checks
+ * kicked off during calls to {@link #createWebSession()} and
+ * {@link #retrieveSession} only visit segments whose time has passed, and
+ * process at most {@link #setExpirationBatchSize expirationBatchSize} sessions
+ * at a time, without blocking concurrent checks. Sessions accessed since they
+ * were indexed are moved to a later segment when their segment is visited, so
+ * the cost of a check is proportional to the number of sessions that expired
+ * or were accessed in the meantime, not to the total number of sessions.
+ *
+ * <p>Once the {@link #setMaxSessions maxSessions} limit is reached, saving a
+ * new session either fails, or evicts the session closest to expiration,
+ * depending on the configured {@link EvictionPolicy}.
+ *
+ * @author Rossen Stoyanchev
+ * @since 7.0.2
+ * @see InMemoryWebSessionStore
+ */
+public class SegmentedInMemoryWebSessionStore implements WebSessionStore {
+
+	private static final IdGenerator idGenerator = new JdkIdGenerator();
+
+
+	private int maxSessions = 10000;
+
+	private EvictionPolicy evictionPolicy = EvictionPolicy.REJECT;
+
+	private long expirationResolution = 1000;
+
+	private int expirationBatchSize = 10000;
+
+	private Clock clock = Clock.systemUTC();
+
+	private final Map<String, InMemoryWebSession> sessions = new ConcurrentHashMap<>();
+
+	/** Sessions by the expiration segment they were last indexed in. */
+	private final NavigableMap<Long, Set<InMemoryWebSession>> expirationIndex = new ConcurrentSkipListMap<>();
+
+	private final AtomicBoolean expirationInProgress = new AtomicBoolean();
+
+	private final LongAdder expiredSessionCount = new LongAdder();
+
+	private final LongAdder evictedSessionCount = new LongAdder();
+
+
+	/**
+	 * Set the maximum number of sessions that can be stored. Once the limit is
+	 * reached, any attempt to store an additional session is handled according
+	 * to the configured {@link #setEvictionPolicy EvictionPolicy}.
+	 * <p>By default set to 10000.
+	 * @param maxSessions the maximum number of sessions
+	 */
+	public void setMaxSessions(int maxSessions) {
+		this.maxSessions = maxSessions;
+	}
+
+	/**
+	 * Return the maximum number of sessions that can be stored.
+	 */
+	public int getMaxSessions() {
+		return this.maxSessions;
+	}
+
+	/**
+	 * Set the policy to apply when storing a new session would exceed the
+	 * {@link #setMaxSessions maxSessions} limit.
+	 * <p>By default set to {@link EvictionPolicy#REJECT}.
+	 * @param evictionPolicy the eviction policy to use
+	 */
+	public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+		Assert.notNull(evictionPolicy, "EvictionPolicy is required");
+		this.evictionPolicy = evictionPolicy;
+	}
+
+	/**
+	 * Return the configured eviction policy.
+	 */
+	public EvictionPolicy getEvictionPolicy() {
+		return this.evictionPolicy;
+	}
+
+	/**
+	 * Set the time span of the segments that sessions are grouped in by
+	 * expiration time, which is also the maximum delay after which an expired
+	 * session that is not accessed again is removed.
+	 * <p>This should be configured before any session is stored.
+	 * <p>By default set to 1 second.
+	 * @param expirationResolution the expiration resolution
+	 */
+	public void setExpirationResolution(Duration expirationResolution) {
+		Assert.isTrue(expirationResolution.toMillis() > 0, "Expiration resolution must be at least 1 millisecond");
+		this.expirationResolution = expirationResolution.toMillis();
+	}
+
+	/**
+	 * Return the configured expiration resolution.
+	 */
+	public Duration getExpirationResolution() {
+		return Duration.ofMillis(this.expirationResolution);
+	}
+
+	/**
+	 * Set the maximum number of indexed sessions to visit during a single
+	 * expiration check, in order to bound the latency added to the request
+	 * that triggers it. Remaining sessions are visited by subsequent checks.
+	 * <p>By default set to 10000.
+	 * @param expirationBatchSize the maximum number of sessions per check
+	 */
+	public void setExpirationBatchSize(int expirationBatchSize) {
+		Assert.isTrue(expirationBatchSize > 0, "Expiration batch size must be greater than 0");
+		this.expirationBatchSize = expirationBatchSize;
+	}
+
+	/**
+	 * Return the maximum number of sessions visited per expiration check.
+	 */
+	public int getExpirationBatchSize() {
+		return this.expirationBatchSize;
+	}
+
+	/**
+	 * Configure the {@link Clock} to use to set the {@code lastAccessTime} on
+	 * every created session and to calculate if the session has expired.
+	 * <p>By default this is {@code Clock.system(ZoneId.of("GMT"))}.
+	 * @param clock the clock to use
+	 * @see InMemoryWebSessionStore#setClock(Clock)
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock is required");
+		this.clock = clock;
+		removeExpiredSessions();
+	}
+
+	/**
+	 * Return the configured clock for session {@code lastAccessTime} calculations.
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Return an {@linkplain Collections#unmodifiableMap unmodifiable} view of the
+	 * map of sessions.
+	 * <p>This could be used for management purposes, to list active sessions,
+	 * to invalidate expired sessions, etc.
+	 */
+	public Map<String, WebSession> getSessions() {
+		return Collections.unmodifiableMap(this.sessions);
+	}
+
+	/**
+	 * Return statistics about the sessions in this store.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(this.sessions.size(),
+				this.expiredSessionCount.sum(), this.evictedSessionCount.sum());
+	}
+
+
+	@Override
+	public Mono<WebSession> createWebSession() {
+
+		// Opportunity to clean expired sessions
+		Instant now = this.clock.instant();
+		checkIfNecessary(now);
+
+		return Mono.<WebSession>fromSupplier(() -> new InMemoryWebSession(now))
+				.subscribeOn(Schedulers.boundedElastic())
+				.publishOn(Schedulers.parallel());
+	}
+
+	@Override
+	public Mono<WebSession> retrieveSession(String id) {
+		Instant now = this.clock.instant();
+		checkIfNecessary(now);
+		InMemoryWebSession session = this.sessions.get(id);
+		if (session == null) {
+			return Mono.empty();
+		}
+		else if (session.isExpired(now)) {
+			if (this.sessions.remove(id, session)) {
+				this.expiredSessionCount.increment();
+			}
+			return Mono.empty();
+		}
+		else {
+			session.updateLastAccessTime(now);
+			return Mono.just(session);
+		}
+	}
+
+	@Override
+	public Mono<Void> removeSession(String id) {
+		this.sessions.remove(id);
+		return Mono.empty();
+	}
+
+	@Override
+	public Mono<WebSession> updateLastAccessTime(WebSession session) {
+		return Mono.fromSupplier(() -> {
+			Assert.isInstanceOf(InMemoryWebSession.class, session);
+			((InMemoryWebSession) session).updateLastAccessTime(this.clock.instant());
+			return session;
+		});
+	}
+
+	/**
+	 * Check for expired sessions and remove them, visiting at most
+	 * {@link #setExpirationBatchSize expirationBatchSize} indexed sessions.
+	 * <p>Typically such checks are kicked off lazily during calls to
+	 * {@link #createWebSession()} or {@link #retrieveSession}, once the
+	 * earliest expiration segment has passed.
+	 * <p>This method can be called to force a check at a specific time.
+	 */
+	public void removeExpiredSessions() {
+		removeExpiredSessions(this.clock.instant());
+	}
+
+	private void checkIfNecessary(Instant now) {
+		Map.Entry<Long, Set<InMemoryWebSession>> first = this.expirationIndex.firstEntry();
+		if (first != null && first.getKey() * this.expirationResolution <= now.toEpochMilli()) {
+			removeExpiredSessions(now);
+		}
+	}
+
+	private void removeExpiredSessions(Instant now) {
+		if (!this.expirationInProgress.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			long nowMillis = now.toEpochMilli();
+			int budget = this.expirationBatchSize;
+			Map.Entry<Long, Set<InMemoryWebSession>> entry;
+			while (budget > 0 && (entry = this.expirationIndex.firstEntry()) != null &&
+					entry.getKey() * this.expirationResolution <= nowMillis) {
+				long segment = entry.getKey();
+				Iterator<InMemoryWebSession> iterator = entry.getValue().iterator();
+				while (budget > 0 && iterator.hasNext()) {
+					InMemoryWebSession session = iterator.next();
+					iterator.remove();
+					budget--;
+					if (!isStored(session)) {
+						unindex(session, segment);
+						continue;
+					}
+					if (session.isExpired(now)) {
+						if (this.sessions.remove(session.getId(), session)) {
+							this.expiredSessionCount.increment();
+						}
+						session.invalidate();
+					}
+					else if (unindex(session, segment)) {
+						// Move to the segment matching its current expiration time
+						index(session);
+					}
+				}
+				if (entry.getValue().isEmpty()) {
+					this.expirationIndex.remove(segment, entry.getValue());
+				}
+			}
+		}
+		finally {
+			this.expirationInProgress.set(false);
+		}
+	}
+
+	private boolean isStored(InMemoryWebSession session) {
+		return (this.sessions.get(session.getId()) == session);
+	}
+
+	/**
+	 * Index the given session by its current expiration time, unless it does
+	 * not expire or is already indexed in the same or an earlier segment.
+	 * <p>A session whose expiration time moved later stays in its segment until
+	 * that segment is visited, and is only moved then, so that repeated access
+	 * does not accumulate entries in the index.
+	 */
+	private void index(InMemoryWebSession session) {
+		long segment = session.getExpirationSegment();
+		long indexedSegment = session.indexedSegment;
+		if (segment != Long.MAX_VALUE && (indexedSegment == Long.MIN_VALUE || segment < indexedSegment)) {
+			session.indexedSegment = segment;
+			Set<InMemoryWebSession> segmentSessions;
+			do {
+				segmentSessions = this.expirationIndex.computeIfAbsent(segment, key -> ConcurrentHashMap.newKeySet());
+				segmentSessions.add(session);
+			}
+			// Retry if the segment was removed concurrently by an expiration check
+			while (this.expirationIndex.get(segment) != segmentSessions);
+		}
+	}
+
+	/**
+	 * Mark the given session as no longer indexed, if it was last indexed in
+	 * the given segment from which its entry has been removed. Entries left
+	 * in other segments after a session moved to an earlier one are stale.
+	 * @return whether the removed entry was the current one for the session
+	 */
+	private boolean unindex(InMemoryWebSession session, long segment) {
+		if (session.indexedSegment == segment) {
+			session.indexedSegment = Long.MIN_VALUE;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Evict the stored session closest to expiration, other than the given one.
+	 * Sessions accessed since they were indexed are moved to a later segment
+	 * along the way, so that recently used sessions are not evicted.
+	 * @return whether a session was evicted
+	 */
+	private boolean evictSession(InMemoryWebSession excluded) {
+		for (Map.Entry<Long, Set<InMemoryWebSession>> entry : this.expirationIndex.entrySet()) {
+			long segment = entry.getKey();
+			for (InMemoryWebSession session : entry.getValue()) {
+				if (session == excluded) {
+					continue;
+				}
+				entry.getValue().remove(session);
+				if (!unindex(session, segment) || !isStored(session)) {
+					continue;
+				}
+				if (session.getExpirationSegment() > segment) {
+					index(session);
+				}
+				else if (this.sessions.remove(session.getId(), session)) {
+					session.invalidate();
+					this.evictedSessionCount.increment();
+					return true;
+				}
+			}
+			if (entry.getValue().isEmpty()) {
+				this.expirationIndex.remove(segment, entry.getValue());
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * Policy to apply when the {@link #setMaxSessions maxSessions} limit is reached.
+	 */
+	public enum EvictionPolicy {
+
+		/**
+		 * Fail to save an additional session with an {@link IllegalStateException},
+		 * consistent with {@link InMemoryWebSessionStore}.
+		 */
+		REJECT,
+
+		/**
+		 * Evict the stored session closest to expiration, which is typically
+		 * the least recently accessed one, to make room for an additional session.
+		 */
+		EVICT_EARLIEST_EXPIRING
+	}
+
+
+	/**
+	 * Statistics about the sessions in a {@link SegmentedInMemoryWebSessionStore}.
+	 * @param sessionCount the number of sessions currently stored
+	 * @param expiredSessionCount the number of sessions removed because they expired
+	 * @param evictedSessionCount the number of sessions evicted to make room for new ones
+	 */
+	public record Statistics(int sessionCount, long expiredSessionCount, long evictedSessionCount) {
+	}
+
+
+	private class InMemoryWebSession implements WebSession {
+
+		private final AtomicReference<String> id = new AtomicReference<>(String.valueOf(idGenerator.generateId()));
+
+		private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+		private final Instant creationTime;
+
+		private volatile Instant lastAccessTime;
+
+		private volatile Duration maxIdleTime = Duration.ofMinutes(30);
+
+		private final AtomicReference<State> state = new AtomicReference<>(State.NEW);
+
+		/** The expiration segment this session was last indexed in. */
+		volatile long indexedSegment = Long.MIN_VALUE;
+
+
+		public InMemoryWebSession(Instant creationTime) {
+			this.creationTime = creationTime;
+			this.lastAccessTime = this.creationTime;
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		public String getId() {
+			return this.id.get();
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			return this.attributes;
+		}
+
+		@Override
+		public Instant getCreationTime() {
+			return this.creationTime;
+		}
+
+		@Override
+		public Instant getLastAccessTime() {
+			return this.lastAccessTime;
+		}
+
+		@Override
+		public void setMaxIdleTime(Duration maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+			if (isStored(this)) {
+				index(this);
+			}
+		}
+
+		@Override
+		public Duration getMaxIdleTime() {
+			return this.maxIdleTime;
+		}
+
+		@Override
+		public void start() {
+			this.state.compareAndSet(State.NEW, State.STARTED);
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		public boolean isStarted() {
+			return this.state.get().equals(State.STARTED) || !getAttributes().isEmpty();
+		}
+
+		@Override
+		public Mono<Void> changeSessionId() {
+			return Mono.<Void>defer(() -> {
+						String currentId = this.id.get();
+						SegmentedInMemoryWebSessionStore.this.sessions.remove(currentId);
+						String newId = String.valueOf(idGenerator.generateId());
+						this.id.set(newId);
+						SegmentedInMemoryWebSessionStore.this.sessions.put(this.id.get(), this);
+						index(this);
+						return Mono.empty();
+					})
+					.subscribeOn(Schedulers.boundedElastic())
+					.publishOn(Schedulers.parallel())
+					.then();
+		}
+
+		@Override
+		public Mono<Void> invalidate() {
+			this.state.set(State.EXPIRED);
+			getAttributes().clear();
+			SegmentedInMemoryWebSessionStore.this.sessions.remove(this.id.get(), this);
+			return Mono.empty();
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		public Mono<Void> save() {
+
+			checkMaxSessionsLimit();
+
+			// Implicitly started session..
+			if (!getAttributes().isEmpty()) {
+				this.state.compareAndSet(State.NEW, State.STARTED);
+			}
+
+			if (isStarted()) {
+				// Save
+				SegmentedInMemoryWebSessionStore.this.sessions.put(this.id.get(), this);
+				index(this);
+
+				// Unless it was invalidated
+				if (this.state.get().equals(State.EXPIRED)) {
+					SegmentedInMemoryWebSessionStore.this.sessions.remove(this.id.get(), this);
+					return Mono.error(new IllegalStateException("Session was invalidated"));
+				}
+			}
+
+			return Mono.empty();
+		}
+
+		private void checkMaxSessionsLimit() {
+			if (sessions.size() >= maxSessions && !sessions.containsKey(this.id.get())) {
+				removeExpiredSessions(clock.instant());
+				while (sessions.size() >= maxSessions && evictionPolicy == EvictionPolicy.EVICT_EARLIEST_EXPIRING) {
+					if (!evictSession(this)) {
+						break;
+					}
+				}
+				if (sessions.size() >= maxSessions && !sessions.containsKey(this.id.get())) {
+					throw new IllegalStateException("Max sessions limit reached: " + sessions.size());
+				}
+			}
+		}
+
+		@Override
+		public boolean isExpired() {
+			return isExpired(clock.instant());
+		}
+
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		private boolean isExpired(Instant now) {
+			if (this.state.get().equals(State.EXPIRED)) {
+				return true;
+			}
+			if (checkExpired(now)) {
+				this.state.set(State.EXPIRED);
+				return true;
+			}
+			return false;
+		}
+
+		private boolean checkExpired(Instant currentTime) {
+			return isStarted() && !this.maxIdleTime.isNegative() &&
+					currentTime.minus(this.maxIdleTime).isAfter(this.lastAccessTime);
+		}
+
+		private void updateLastAccessTime(Instant currentTime) {
+			this.lastAccessTime = currentTime;
+		}
+
+		/**
+		 * Return the first expiration segment that starts after this session
+		 * expires, or {@link Long#MAX_VALUE} if it does not expire.
+		 */
+		long getExpirationSegment() {
+			Duration maxIdleTime = this.maxIdleTime;
+			if (maxIdleTime.isNegative()) {
+				return Long.MAX_VALUE;
+			}
+			long expirationTime = this.lastAccessTime.toEpochMilli() + maxIdleTime.toMillis();
+			return Math.floorDiv(expirationTime, expirationResolution) + 1;
+		}
+	}
+
+
+	private enum State { NEW, STARTED, EXPIRED }
+
+}
@@ -60,15 +60,8 @@ class LiteralPathElement extends PathElement {
 			return false;
 		}
 
-		if (this.caseSensitive) {
-			if (!this.text.equals(value)) {
-				return false;
-			}
-		}
-		else {
-			if (!this.text.equalsIgnoreCase(value)) {
-				return false;
-			}
+		if (!matchesValue(value)) {
+			return false;
 		}
 
 		pathIndex++;
@@ -101,6 +94,21 @@ class LiteralPathElement extends PathElement {
 		return true;
 	}
 
+	/**
+	 * Whether the given decoded path segment value matches the literal text.
+	 */
+	boolean matchesValue(String value) {
+		return (this.caseSensitive ? this.text.equals(value) : this.text.equalsIgnoreCase(value));
+	}
+
+	String getText() {
+		return this.text;
+	}
+
+	boolean isCaseSensitive() {
+		return this.caseSensitive;
+	}
+
 	@Override
 	public String toString() {
 		return "Literal(" + this.text + ")";
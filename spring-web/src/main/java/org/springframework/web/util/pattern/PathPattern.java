@@ -16,11 +16,17 @@
 
 package org.springframework.web.util.pattern;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.StringJoiner;
 
 import org.jspecify.annotations.Nullable;
@@ -148,6 +154,9 @@ public class PathPattern implements Comparable<PathPattern> {
 	/** Does the pattern end with {*...}. */
 	private boolean catchAll = false;
 
+	/** Does the pattern only consist of separators and literal segments. */
+	private boolean literalOnly = true;
+
 
 	PathPattern(String patternText, PathPatternParser parser, @Nullable PathElement head) {
 		this.patternString = patternText;
@@ -168,6 +177,9 @@ public class PathPattern implements Comparable<PathPattern> {
 			if (elem instanceof SeparatorPathElement && elem.next instanceof WildcardPathElement && elem.next.next == null) {
 				this.endsWithSeparatorWildcard = true;
 			}
+			if (!elem.isLiteral()) {
+				this.literalOnly = false;
+			}
 			elem = elem.next;
 		}
 	}
@@ -207,6 +219,9 @@ public class PathPattern implements Comparable<PathPattern> {
 				return false;
 			}
 		}
+		if (this.literalOnly) {
+			return matchesLiteralPath(pathContainer);
+		}
 		MatchingContext matchingContext = new MatchingContext(pathContainer, false);
 		return this.head.matches(0, matchingContext);
 	}
@@ -229,7 +244,10 @@ public class PathPattern implements Comparable<PathPattern> {
 				return null;
 			}
 		}
-		MatchingContext matchingContext = new MatchingContext(pathContainer, true);
+		if (this.literalOnly) {
+			return (matchesLiteralPath(pathContainer) ? PathMatchInfo.EMPTY : null);
+		}
+		MatchingContext matchingContext = new MatchingContext(pathContainer, this.capturedVariableCount > 0);
 		return this.head.matches(0, matchingContext) ? matchingContext.getPathMatchResult() : null;
 	}
 
@@ -561,6 +579,34 @@ public class PathPattern implements Comparable<PathPattern> {
 		}
 	}
 
+	/**
+	 * Match a pattern made of separators and literal segments only, which are
+	 * aligned one-to-one with path elements, without creating a
+	 * {@link MatchingContext}.
+	 * @param pathContainer the candidate path to attempt to match against
+	 * @return {@code true} if the path matches this pattern
+	 */
+	private boolean matchesLiteralPath(PathContainer pathContainer) {
+		List<Element> pathElements = pathContainer.elements();
+		int pathLength = pathElements.size();
+		int pathIndex = 0;
+		for (PathElement elem = this.head; elem != null; elem = elem.next) {
+			if (pathIndex == pathLength) {
+				return false;
+			}
+			Element element = pathElements.get(pathIndex++);
+			if (elem instanceof LiteralPathElement literal) {
+				if (!(element instanceof PathSegment segment) || !literal.matchesValue(segment.valueToMatch())) {
+					return false;
+				}
+			}
+			else if (!(element instanceof Separator)) {
+				return false;
+			}
+		}
+		return (pathIndex == pathLength);
+	}
+
 	/**
 	 * Return if the container is not null and has more than zero elements.
 	 * @param container a path container
@@ -593,7 +639,7 @@ public class PathPattern implements Comparable<PathPattern> {
 		private final Map<String, MultiValueMap<String, String>> matrixVariables;
 
 		PathMatchInfo(Map<String, String> uriVars, @Nullable Map<String, MultiValueMap<String, String>> matrixVars) {
-			this.uriVariables = Collections.unmodifiableMap(uriVars);
+			this.uriVariables = (uriVars instanceof UriVariablesMap ? uriVars : Collections.unmodifiableMap(uriVars));
 			this.matrixVariables = (matrixVars != null ?
 					Collections.unmodifiableMap(matrixVars) : Collections.emptyMap());
 		}
@@ -689,7 +735,9 @@ public class PathPattern implements Comparable<PathPattern> {
 
 		final int pathLength;
 
-		private @Nullable Map<String, String> extractedUriVariables;
+		private String @Nullable [] extractedUriVariables;
+
+		private int extractedUriVariableCount;
 
 		private @Nullable Map<String, MultiValueMap<String, String>> extractedMatrixVariables;
 
@@ -714,10 +762,7 @@ public class PathPattern implements Comparable<PathPattern> {
 		}
 
 		public void set(String key, String value, MultiValueMap<String,String> parameters) {
-			if (this.extractedUriVariables == null) {
-				this.extractedUriVariables = new HashMap<>();
-			}
-			this.extractedUriVariables.put(key, value);
+			putUriVariable(key, value);
 
 			if (!parameters.isEmpty()) {
 				if (this.extractedMatrixVariables == null) {
@@ -727,12 +772,42 @@ public class PathPattern implements Comparable<PathPattern> {
 			}
 		}
 
+		/**
+		 * Store a URI variable in a flat array of alternating names and values,
+		 * replacing the value of a variable set earlier while backtracking.
+		 */
+		private void putUriVariable(String key, String value) {
+			String[] variables = this.extractedUriVariables;
+			int length = this.extractedUriVariableCount * 2;
+			if (variables == null) {
+				variables = new String[4];
+				this.extractedUriVariables = variables;
+			}
+			else {
+				for (int i = 0; i < length; i += 2) {
+					if (variables[i].equals(key)) {
+						variables[i + 1] = value;
+						return;
+					}
+				}
+				if (length == variables.length) {
+					variables = Arrays.copyOf(variables, length * 2);
+					this.extractedUriVariables = variables;
+				}
+			}
+			variables[length] = key;
+			variables[length + 1] = value;
+			this.extractedUriVariableCount++;
+		}
+
 		public PathMatchInfo getPathMatchResult() {
 			if (this.extractedUriVariables == null) {
 				return PathMatchInfo.EMPTY;
 			}
 			else {
-				return new PathMatchInfo(this.extractedUriVariables, this.extractedMatrixVariables);
+				return new PathMatchInfo(
+						new UriVariablesMap(this.extractedUriVariables, this.extractedUriVariableCount),
+						this.extractedMatrixVariables);
 			}
 		}
 
@@ -756,4 +831,76 @@ public class PathPattern implements Comparable<PathPattern> {
 		}
 	}
 
+
+	/**
+	 * Read-only map of URI variables, backed by the flat array of alternating
+	 * names and values populated by a {@link MatchingContext}. Lookups are
+	 * linear, which is efficient for the handful of variables in a pattern.
+	 */
+	private static final class UriVariablesMap extends AbstractMap<String, String> {
+
+		private final String[] variables;
+
+		private final int size;
+
+		UriVariablesMap(String[] variables, int size) {
+			this.variables = variables;
+			this.size = size;
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+		@Override
+		public boolean containsKey(@Nullable Object key) {
+			return (indexOf(key) != -1);
+		}
+
+		@Override
+		public @Nullable String get(@Nullable Object key) {
+			int index = indexOf(key);
+			return (index != -1 ? this.variables[index + 1] : null);
+		}
+
+		private int indexOf(@Nullable Object key) {
+			for (int i = 0; i < this.size * 2; i += 2) {
+				if (this.variables[i].equals(key)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		public Set<Entry<String, String>> entrySet() {
+			return new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<String, String>> iterator() {
+					return new Iterator<>() {
+						private int index;
+						@Override
+						public boolean hasNext() {
+							return (this.index < size * 2);
+						}
+						@Override
+						public Entry<String, String> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							Entry<String, String> entry = new SimpleImmutableEntry<>(variables[this.index], variables[this.index + 1]);
+							this.index += 2;
+							return entry;
+						}
+					};
+				}
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+	}
+
 }
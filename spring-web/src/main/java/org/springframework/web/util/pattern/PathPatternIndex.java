@@ -0,0 +1,259 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.PathContainer.Element;
+import org.springframework.http.server.PathContainer.PathSegment;
+import org.springframework.http.server.PathContainer.Separator;
+
+/**
+ * Index of values registered against {@link PathPattern PathPatterns}, organized
+ * as a prefix tree over the parsed path elements of each pattern. This allows
+ * selecting candidate values for a path in time proportional to the depth of
+ * the path rather than to the number of registered patterns.
+ *
+ * <p>Literal segments are indexed by their text, while single segment elements
+ * such as <code>{name}</code>, {@code *}, {@code t?st} or {@code {name}.json}
+ * share a wildcard branch, and patterns ending with {@code /**} or
+ * <code>{*path}</code> are candidates for any path below their prefix.
+ * Patterns that cannot be indexed, like those starting with {@code /**}, are
+ * candidates for all paths.
+ *
+ * <p>The returned candidates are a superset of the values whose patterns match
+ * the path, so callers are still expected to match candidate patterns against
+ * the path. This class is not thread-safe: registrations and lookups need to be
+ * guarded by the caller.
+ *
+ * @author Rossen Stoyanchev
+ * @since 7.0.2
+ * @param <T> the type of values registered in the index
+ */
+public class PathPatternIndex<T> {
+
+	private final Node<T> root = new Node<>();
+
+	private final List<T> unindexedValues = new ArrayList<>();
+
+
+	/**
+	 * Register the given value for the given pattern.
+	 * @param pattern the pattern the value is mapped to
+	 * @param value the value to register
+	 */
+	public void add(PathPattern pattern, T value) {
+		PathElement element = pattern.getHeadSection();
+		if (!isIndexable(element)) {
+			this.unindexedValues.add(value);
+			return;
+		}
+		Node<T> node = this.root;
+		while (element != null) {
+			if (isMultiSegment(element)) {
+				node.catchAllValues = addValue(node.catchAllValues, value);
+				return;
+			}
+			node = node.getOrCreateChild(element);
+			element = element.next;
+		}
+		node.values = addValue(node.values, value);
+	}
+
+	/**
+	 * Remove the registration of the given value for the given pattern.
+	 * @param pattern the pattern the value was mapped to
+	 * @param value the value to remove
+	 * @return whether a registration was removed
+	 */
+	public boolean remove(PathPattern pattern, T value) {
+		PathElement element = pattern.getHeadSection();
+		if (!isIndexable(element)) {
+			return this.unindexedValues.remove(value);
+		}
+		Node<T> node = this.root;
+		while (element != null) {
+			if (isMultiSegment(element)) {
+				return (node.catchAllValues != null && node.catchAllValues.remove(value));
+			}
+			node = node.getChild(element);
+			if (node == null) {
+				return false;
+			}
+			element = element.next;
+		}
+		return (node.values != null && node.values.remove(value));
+	}
+
+	/**
+	 * Return the values registered for patterns that may match the given path,
+	 * in registration order within each index branch and without duplicates.
+	 * @param path the path to find candidates for
+	 * @return the candidate values, possibly empty
+	 */
+	public Set<T> getCandidates(PathContainer path) {
+		Set<T> result = new LinkedHashSet<>(this.unindexedValues);
+		collectCandidates(this.root, path.elements(), 0, result);
+		return result;
+	}
+
+	private void collectCandidates(Node<T> node, List<Element> elements, int index, Set<T> result) {
+		if (node.catchAllValues != null) {
+			result.addAll(node.catchAllValues);
+		}
+		if (index == elements.size()) {
+			if (node.values != null) {
+				result.addAll(node.values);
+			}
+			// A trailing single segment wildcard may also match no path element
+			if (node.wildcardChild != null && node.wildcardChild.values != null) {
+				result.addAll(node.wildcardChild.values);
+			}
+			return;
+		}
+		Element element = elements.get(index);
+		if (element instanceof Separator) {
+			if (node.separatorChild != null) {
+				collectCandidates(node.separatorChild, elements, index + 1, result);
+			}
+		}
+		else if (element instanceof PathSegment segment) {
+			String value = segment.valueToMatch();
+			if (node.literalChildren != null) {
+				Node<T> child = node.literalChildren.get(value);
+				if (child != null) {
+					collectCandidates(child, elements, index + 1, result);
+				}
+			}
+			if (node.caseInsensitiveLiteralChildren != null) {
+				Node<T> child = node.caseInsensitiveLiteralChildren.get(caseInsensitiveKey(value));
+				if (child != null) {
+					collectCandidates(child, elements, index + 1, result);
+				}
+			}
+			if (node.wildcardChild != null) {
+				collectCandidates(node.wildcardChild, elements, index + 1, result);
+			}
+		}
+	}
+
+	private static boolean isIndexable(@Nullable PathElement head) {
+		// Empty patterns also match a single separator, and leading multi segment
+		// wildcards can match at any depth: neither fits a prefix tree
+		return (head != null && !(isMultiSegment(head) && head.next != null));
+	}
+
+	private static boolean isMultiSegment(PathElement element) {
+		return (element instanceof WildcardSegmentsPathElement || element instanceof CaptureSegmentsPathElement);
+	}
+
+	private static <T> List<T> addValue(@Nullable List<T> values, T value) {
+		List<T> result = (values != null ? values : new ArrayList<>(1));
+		result.add(value);
+		return result;
+	}
+
+	/**
+	 * Case-insensitive key consistent with {@link String#equalsIgnoreCase(String)}.
+	 */
+	private static String caseInsensitiveKey(String text) {
+		char[] chars = new char[text.length()];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+		}
+		return new String(chars);
+	}
+
+
+	/**
+	 * A node in the index, reached through a sequence of path elements.
+	 */
+	private static final class Node<T> {
+
+		private @Nullable Node<T> separatorChild;
+
+		private @Nullable Map<String, Node<T>> literalChildren;
+
+		private @Nullable Map<String, Node<T>> caseInsensitiveLiteralChildren;
+
+		private @Nullable Node<T> wildcardChild;
+
+		/** Values for patterns that end at this node. */
+		private @Nullable List<T> values;
+
+		/** Values for patterns that match any path below this node. */
+		private @Nullable List<T> catchAllValues;
+
+		Node<T> getOrCreateChild(PathElement element) {
+			if (element instanceof SeparatorPathElement) {
+				if (this.separatorChild == null) {
+					this.separatorChild = new Node<>();
+				}
+				return this.separatorChild;
+			}
+			else if (element instanceof LiteralPathElement literal) {
+				if (literal.isCaseSensitive()) {
+					if (this.literalChildren == null) {
+						this.literalChildren = new HashMap<>();
+					}
+					return this.literalChildren.computeIfAbsent(literal.getText(), key -> new Node<>());
+				}
+				else {
+					if (this.caseInsensitiveLiteralChildren == null) {
+						this.caseInsensitiveLiteralChildren = new HashMap<>();
+					}
+					return this.caseInsensitiveLiteralChildren.computeIfAbsent(
+							caseInsensitiveKey(literal.getText()), key -> new Node<>());
+				}
+			}
+			else {
+				if (this.wildcardChild == null) {
+					this.wildcardChild = new Node<>();
+				}
+				return this.wildcardChild;
+			}
+		}
+
+		@Nullable Node<T> getChild(PathElement element) {
+			if (element instanceof SeparatorPathElement) {
+				return this.separatorChild;
+			}
+			else if (element instanceof LiteralPathElement literal) {
+				if (literal.isCaseSensitive()) {
+					return (this.literalChildren != null ? this.literalChildren.get(literal.getText()) : null);
+				}
+				else {
+					return (this.caseInsensitiveLiteralChildren != null ?
+							this.caseInsensitiveLiteralChildren.get(caseInsensitiveKey(literal.getText())) : null);
+				}
+			}
+			else {
+				return this.wildcardChild;
+			}
+		}
+
+	}
+
+}
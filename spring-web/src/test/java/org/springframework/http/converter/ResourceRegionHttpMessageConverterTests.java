@@ -27,13 +27,16 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourceRegion;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRange;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.util.StringUtils;
 import org.springframework.web.testfixture.http.MockHttpOutputMessage;
+import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -103,6 +106,36 @@ class ResourceRegionHttpMessageConverterTests {
 		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo("Framework test resource content.");
 	}
 
+	@Test
+	void shouldWritePartialContentByteRangeFromFile() throws Exception {
+		MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+		Resource body = new FileSystemResource(new ClassPathResource("byterangeresource.txt", getClass()).getFile());
+		ResourceRegion region = HttpRange.createByteRange(7, 15).toResourceRegion(body);
+		converter.write(region, MediaType.TEXT_PLAIN, new ServletServerHttpResponse(servletResponse));
+
+		assertThat(servletResponse.getContentLengthLong()).isEqualTo(9L);
+		assertThat(servletResponse.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-15/39");
+		assertThat(servletResponse.getContentAsString()).isEqualTo("Framework");
+	}
+
+	@Test
+	void partialContentMultipleByteRangesFromFile() throws Exception {
+		MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+		Resource body = new FileSystemResource(new ClassPathResource("byterangeresource.txt", getClass()).getFile());
+		List<ResourceRegion> regions = new ArrayList<>();
+		for (HttpRange range : HttpRange.parseRanges("bytes=0-5,17-20")) {
+			regions.add(range.toResourceRegion(body));
+		}
+		converter.write(regions, MediaType.TEXT_PLAIN, new ServletServerHttpResponse(servletResponse));
+
+		String boundary = "--" + MediaType.parseMediaType(servletResponse.getContentType()).getParameter("boundary");
+		String[] ranges = StringUtils.tokenizeToStringArray(servletResponse.getContentAsString(), "\r\n", false, true);
+		assertThat(ranges).containsExactly(
+				boundary, "Content-Type: text/plain", "Content-Range: bytes 0-5/39", "Spring",
+				boundary, "Content-Type: text/plain", "Content-Range: bytes 17-20/39", "test",
+				boundary + "--");
+	}
+
 	@Test
 	void partialContentMultipleByteRanges() throws Exception {
 		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
@@ -16,16 +16,26 @@
 
 package org.springframework.http.server;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import jakarta.servlet.ServletOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.web.testfixture.servlet.DelegatingServletOutputStream;
 import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -120,4 +130,68 @@ class ServletServerHttpResponseTests {
 		assertThat(mockResponse.getContentAsByteArray()).as("Invalid content written").isEqualTo(content);
 	}
 
+	@Test
+	void writeWithFile(@TempDir Path tempDir) throws Exception {
+		Path file = Files.writeString(tempDir.resolve("hello.txt"), "Hello World");
+		response.getHeaders().setContentLength(5);
+		response.writeWith(file, 6, 5);
+
+		assertThat(mockResponse.getContentLengthLong()).isEqualTo(5);
+		assertThat(mockResponse.getContentAsString()).isEqualTo("World");
+	}
+
+	@Test
+	void writeWithFileAsDirectByteBuffer(@TempDir Path tempDir) throws Exception {
+		Path file = Files.writeString(tempDir.resolve("hello.txt"), "Hello World");
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		List<ByteBuffer> buffers = new ArrayList<>();
+		new ServletServerHttpResponse(createResponse(content, buffers)).writeWith(file, 0, 5);
+
+		assertThat(buffers).singleElement().satisfies(buffer -> assertThat(buffer.isDirect()).isTrue());
+		assertThat(content.toString(StandardCharsets.UTF_8)).isEqualTo("Hello");
+	}
+
+	@Test
+	void writeWithLargeFileReusesDirectByteBuffer(@TempDir Path tempDir) throws Exception {
+		byte[] bytes = new byte[200 * 1024];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) i;
+		}
+		Path file = Files.write(tempDir.resolve("large.bin"), bytes);
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		List<ByteBuffer> buffers = new ArrayList<>();
+		new ServletServerHttpResponse(createResponse(content, buffers)).writeWith(file, 1000, 150 * 1024);
+
+		assertThat(buffers).hasSize(3).allSatisfy(buffer -> assertThat(buffer).isSameAs(buffers.get(0)));
+		assertThat(content.toByteArray()).isEqualTo(Arrays.copyOfRange(bytes, 1000, 1000 + 150 * 1024));
+	}
+
+	@Test
+	void writeWithFileBeyondEnd(@TempDir Path tempDir) throws Exception {
+		Path file = Files.writeString(tempDir.resolve("hello.txt"), "Hello World");
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		List<ByteBuffer> buffers = new ArrayList<>();
+		new ServletServerHttpResponse(createResponse(content, buffers)).writeWith(file, 6, 100);
+
+		assertThat(content.toString(StandardCharsets.UTF_8)).isEqualTo("World");
+	}
+
+	private static MockHttpServletResponse createResponse(ByteArrayOutputStream content, List<ByteBuffer> buffers) {
+		ServletOutputStream outputStream = new DelegatingServletOutputStream(content) {
+			@Override
+			public void write(ByteBuffer buffer) throws IOException {
+				buffers.add(buffer);
+				while (buffer.hasRemaining()) {
+					write(buffer.get());
+				}
+			}
+		};
+		return new MockHttpServletResponse() {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return outputStream;
+			}
+		};
+	}
+
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.server.reactive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.testfixture.servlet.DelegatingServletOutputStream;
+import org.springframework.web.testfixture.servlet.MockAsyncContext;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ServletServerHttpResponse}.
+ */
+class ServletServerHttpResponseTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+
+	@Test
+	void writeWithFile(@TempDir Path tempDir) throws Exception {
+		Path file = Files.writeString(tempDir.resolve("hello.txt"), "Hello World");
+		createResponse().writeWith(file, 6, 5).block(TIMEOUT);
+
+		assertThat(this.content.toString(StandardCharsets.UTF_8)).isEqualTo("World");
+	}
+
+	@Test
+	void writeWithLargeFile(@TempDir Path tempDir) throws Exception {
+		byte[] bytes = new byte[200 * 1024];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) i;
+		}
+		Path file = Files.write(tempDir.resolve("large.bin"), bytes);
+		createResponse().writeWith(file, 1000, 150 * 1024).block(TIMEOUT);
+
+		assertThat(this.content.toByteArray()).isEqualTo(Arrays.copyOfRange(bytes, 1000, 1000 + 150 * 1024));
+	}
+
+	@Test
+	void writeWithFileBeyondEnd(@TempDir Path tempDir) throws Exception {
+		Path file = Files.writeString(tempDir.resolve("hello.txt"), "Hello World");
+		createResponse().writeWith(file, 6, 100).block(TIMEOUT);
+
+		assertThat(this.content.toString(StandardCharsets.UTF_8)).isEqualTo("World");
+	}
+
+	private ServletServerHttpResponse createResponse() throws Exception {
+		ServletOutputStream outputStream = new DelegatingServletOutputStream(this.content) {
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+			}
+		};
+		MockHttpServletResponse servletResponse = new MockHttpServletResponse() {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return outputStream;
+			}
+		};
+		MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/");
+		AsyncContext asyncContext = new MockAsyncContext(servletRequest, servletResponse);
+		DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+		ServletServerHttpRequest request =
+				new ServletServerHttpRequest(servletRequest, asyncContext, "", bufferFactory, 1024);
+		return new ServletServerHttpResponse(servletResponse, asyncContext, bufferFactory, request);
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.server.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.web.server.WebSession;
+import org.springframework.web.server.session.SegmentedInMemoryWebSessionStore.EvictionPolicy;
+import org.springframework.web.server.session.SegmentedInMemoryWebSessionStore.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link SegmentedInMemoryWebSessionStore}.
+ */
+class SegmentedInMemoryWebSessionStoreTests {
+
+	private final SegmentedInMemoryWebSessionStore store = new SegmentedInMemoryWebSessionStore();
+
+	private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+
+	@BeforeEach
+	void setup() {
+		this.store.setClock(this.clock);
+	}
+
+
+	@Test
+	void retrieveExpiredSession() {
+		WebSession session = insertSession();
+		String id = session.getId();
+		assertThat(this.store.retrieveSession(id).block()).isSameAs(session);
+
+		// Fast-forward 31 minutes, without removing expired sessions
+		new DirectFieldAccessor(this.store).setPropertyValue("clock", Clock.offset(this.clock, Duration.ofMinutes(31)));
+		assertThat(this.store.retrieveSession(id).block()).isNull();
+		assertThat(this.store.getStatistics()).isEqualTo(new Statistics(0, 1, 0));
+	}
+
+	@Test
+	void expirationCheckOnCreate() {
+		IntStream.rangeClosed(1, 100).forEach(i -> insertSession());
+		assertNumSessions(100);
+
+		// Fast-forward 31 minutes, without removing expired sessions
+		new DirectFieldAccessor(this.store).setPropertyValue("clock", Clock.offset(this.clock, Duration.ofMinutes(31)));
+		assertNumSessions(100);
+
+		// Create 1 more which forces a time-based check
+		insertSession();
+		assertNumSessions(1);
+		assertThat(this.store.getStatistics().expiredSessionCount()).isEqualTo(100);
+	}
+
+	@Test
+	void expirationKeepsAccessedSessions() {
+		WebSession accessed = insertSession();
+		WebSession idle = insertSession();
+
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(20)));
+		assertThat(this.store.retrieveSession(accessed.getId()).block()).isSameAs(accessed);
+
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(31)));
+		assertThat(this.store.getSessions()).containsOnlyKeys(accessed.getId());
+		assertThat(idle.isExpired()).isTrue();
+
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(51)));
+		assertNumSessions(0);
+	}
+
+	@Test
+	void expirationWithMaxIdleTime() {
+		WebSession shortLived = insertSession();
+		shortLived.setMaxIdleTime(Duration.ofMinutes(5));
+		WebSession longLived = insertSession();
+		longLived.setMaxIdleTime(Duration.ofHours(1));
+		WebSession eternal = insertSession();
+		eternal.setMaxIdleTime(Duration.ofSeconds(-1));
+
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(6)));
+		assertThat(this.store.getSessions()).containsOnlyKeys(longLived.getId(), eternal.getId());
+
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(61)));
+		assertThat(this.store.getSessions()).containsOnlyKeys(eternal.getId());
+	}
+
+	@Test
+	void expirationBatchSize() {
+		this.store.setExpirationBatchSize(10);
+		IntStream.rangeClosed(1, 25).forEach(i -> insertSession());
+
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(31)));
+		assertNumSessions(15);
+
+		this.store.removeExpiredSessions();
+		assertNumSessions(5);
+
+		this.store.retrieveSession("unknown").block();
+		assertNumSessions(0);
+	}
+
+	@Test
+	void repeatedSaveKeepsIndexBounded() {
+		WebSession session = insertSession();
+		for (int i = 1; i <= 100; i++) {
+			new DirectFieldAccessor(this.store).setPropertyValue("clock", Clock.offset(this.clock, Duration.ofSeconds(i * 10)));
+			assertThat(this.store.retrieveSession(session.getId()).block()).isSameAs(session);
+			session.save().block();
+		}
+		assertThat(getIndexedSessionCount()).isEqualTo(1);
+
+		// Visiting the original segment moves the session to its current one
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(31)));
+		assertThat(this.store.getSessions()).containsOnlyKeys(session.getId());
+		assertThat(getIndexedSessionCount()).isEqualTo(1);
+
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(48)));
+		assertNumSessions(0);
+		assertThat(getIndexedSessionCount()).isEqualTo(0);
+	}
+
+	@Test
+	void maxSessions() {
+		this.store.setMaxSessions(10);
+
+		IntStream.rangeClosed(1, 10).forEach(i -> insertSession());
+		assertThatIllegalStateException()
+				.isThrownBy(this::insertSession)
+				.withMessage("Max sessions limit reached: 10");
+	}
+
+	@Test
+	void updateSessionAfterMaxSessionLimitIsReached() {
+		this.store.setMaxSessions(10);
+		WebSession session = insertSession();
+		IntStream.rangeClosed(1, 9).forEach(i -> insertSession());
+
+		session.save().block();
+		assertNumSessions(10);
+	}
+
+	@Test
+	void evictEarliestExpiringSession() {
+		this.store.setMaxSessions(3);
+		this.store.setEvictionPolicy(EvictionPolicy.EVICT_EARLIEST_EXPIRING);
+
+		WebSession first = insertSession();
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(1)));
+		WebSession second = insertSession();
+		this.store.setClock(Clock.offset(this.clock, Duration.ofSeconds(90)));
+		WebSession third = insertSession();
+
+		// Accessing the first session makes the second one the earliest expiring
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(2)));
+		this.store.retrieveSession(first.getId()).block();
+
+		WebSession fourth = insertSession();
+		assertThat(this.store.getSessions()).containsOnlyKeys(first.getId(), third.getId(), fourth.getId());
+		assertThat(second.isExpired()).isTrue();
+		assertThat(this.store.getStatistics()).isEqualTo(new Statistics(3, 0, 1));
+	}
+
+	@Test
+	void sessionInvalidatedBeforeSave() {
+		WebSession session = insertSession();
+		String id = session.getId();
+
+		WebSession retrieved = this.store.retrieveSession(id).block();
+		assertThat(retrieved).isSameAs(session);
+		retrieved.invalidate().block();
+
+		session.save().block();
+		assertThat(this.store.retrieveSession(id).block()).isNull();
+	}
+
+	@Test
+	void changeSessionId() {
+		WebSession session = insertSession();
+		String oldId = session.getId();
+		session.changeSessionId().block();
+
+		assertThat(this.store.getSessions()).containsOnlyKeys(session.getId());
+		assertThat(session.getId()).isNotEqualTo(oldId);
+
+		this.store.setClock(Clock.offset(this.clock, Duration.ofMinutes(31)));
+		assertNumSessions(0);
+	}
+
+
+	private WebSession insertSession() {
+		WebSession session = this.store.createWebSession().block();
+		assertThat(session).isNotNull();
+		session.start();
+		session.save().block();
+		return session;
+	}
+
+	private void assertNumSessions(int numSessions) {
+		assertThat(this.store.getSessions()).hasSize(numSessions);
+	}
+
+	@SuppressWarnings("unchecked")
+	private int getIndexedSessionCount() {
+		Map<Long, Set<?>> index = (Map<Long, Set<?>>) new DirectFieldAccessor(this.store).getPropertyValue("expirationIndex");
+		assertThat(index).isNotNull();
+		return index.values().stream().mapToInt(Set::size).sum();
+	}
+
+}
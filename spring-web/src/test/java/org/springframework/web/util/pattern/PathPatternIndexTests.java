@@ -0,0 +1,151 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.server.PathContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PathPatternIndex}.
+ */
+class PathPatternIndexTests {
+
+	private final PathPatternParser parser = new PathPatternParser();
+
+	private final PathPatternIndex<String> index = new PathPatternIndex<>();
+
+
+	@Test
+	void literalPatterns() {
+		register("/projects", "/projects/spring", "/team");
+
+		assertThat(candidates("/projects")).containsExactly("/projects");
+		assertThat(candidates("/projects/spring")).containsExactly("/projects/spring");
+		assertThat(candidates("/projects/spring/")).isEmpty();
+		assertThat(candidates("/other")).isEmpty();
+	}
+
+	@Test
+	void singleSegmentPatterns() {
+		register("/projects/{name}", "/projects/*/releases", "/projects/spring-?", "/projects/{name}.json");
+
+		assertThat(candidates("/projects/spring")).containsExactlyInAnyOrder(
+				"/projects/{name}", "/projects/spring-?", "/projects/{name}.json");
+		assertThat(candidates("/projects/spring/releases")).containsExactly("/projects/*/releases");
+		assertThat(candidates("/projects")).isEmpty();
+	}
+
+	@Test
+	void trailingWildcardMatchingNoSegment() {
+		register("/projects/*");
+
+		assertThat(candidates("/projects/")).containsExactly("/projects/*");
+		assertThat(parser.parse("/projects/*").matches(PathContainer.parsePath("/projects/"))).isTrue();
+	}
+
+	@Test
+	void catchAllPatterns() {
+		register("/static/**", "/files/{*path}", "/**");
+
+		assertThat(candidates("/static")).containsExactlyInAnyOrder("/static/**", "/**");
+		assertThat(candidates("/static/css/spring.css")).containsExactlyInAnyOrder("/static/**", "/**");
+		assertThat(candidates("/files/a/b")).containsExactlyInAnyOrder("/files/{*path}", "/**");
+		assertThat(candidates("/other")).containsExactly("/**");
+	}
+
+	@Test
+	void unindexedPatterns() {
+		register("", "/**/spring", "/projects");
+
+		assertThat(candidates("/")).containsExactlyInAnyOrder("", "/**/spring");
+		assertThat(candidates("/projects")).containsExactlyInAnyOrder("", "/**/spring", "/projects");
+	}
+
+	@Test
+	void caseInsensitivePatterns() {
+		PathPatternParser caseInsensitiveParser = new PathPatternParser();
+		caseInsensitiveParser.setCaseSensitive(false);
+		this.index.add(caseInsensitiveParser.parse("/Projects/Spring"), "insensitive");
+		register("/projects/spring");
+
+		assertThat(candidates("/PROJECTS/spring")).containsExactly("insensitive");
+		assertThat(candidates("/projects/spring")).containsExactlyInAnyOrder("insensitive", "/projects/spring");
+	}
+
+	@Test
+	void decodedPathSegments() {
+		register("/projects/spring framework");
+
+		assertThat(candidates("/projects/spring%20framework;v=1")).containsExactly("/projects/spring framework");
+	}
+
+	@Test
+	void multiplePatternsForSameValue() {
+		this.index.add(parser.parse("/projects/{name}"), "projects");
+		this.index.add(parser.parse("/projects/spring"), "projects");
+
+		assertThat(candidates("/projects/spring")).containsExactly("projects");
+	}
+
+	@Test
+	void remove() {
+		register("/projects/{name}", "/static/**", "/**/spring");
+
+		assertThat(this.index.remove(parser.parse("/projects/{name}"), "/projects/{name}")).isTrue();
+		assertThat(this.index.remove(parser.parse("/static/**"), "/static/**")).isTrue();
+		assertThat(this.index.remove(parser.parse("/**/spring"), "/**/spring")).isTrue();
+		assertThat(this.index.remove(parser.parse("/other/{name}"), "/other/{name}")).isFalse();
+
+		assertThat(candidates("/projects/spring")).isEmpty();
+		assertThat(candidates("/static/spring")).isEmpty();
+	}
+
+	@Test
+	void candidatesIncludeAllMatches() {
+		List<String> patterns = List.of("/", "/a", "/a/", "/a/b", "/a/*", "/a/{x}", "/a/{x}/c", "/a/**",
+				"/a/{*rest}", "/{a}/{b}", "/a/b*", "/a/t?st", "/a/b/c/**", "/x/{y:[0-9]+}", "a/b", "/a//b");
+		patterns.forEach(this::register);
+		List<String> paths = List.of("", "/", "/a", "/a/", "/a/b", "/a/b/", "/a/b/c", "/a/b/c/d", "/a/test",
+				"/b/c", "//a", "/a//b", "a/b", "/x/12", "/x/ab");
+
+		for (String path : paths) {
+			PathContainer container = PathContainer.parsePath(path);
+			for (String pattern : patterns) {
+				if (parser.parse(pattern).matches(container)) {
+					assertThat(this.index.getCandidates(container)).as(path).contains(pattern);
+				}
+			}
+		}
+	}
+
+
+	private void register(String... patterns) {
+		for (String pattern : patterns) {
+			this.index.add(this.parser.parse(pattern), pattern);
+		}
+	}
+
+	private List<String> candidates(String path) {
+		return List.copyOf(this.index.getCandidates(PathContainer.parsePath(path)));
+	}
+
+}
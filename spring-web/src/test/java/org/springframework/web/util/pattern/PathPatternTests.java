@@ -32,6 +32,7 @@ import org.springframework.util.AntPathMatcher;
 import org.springframework.web.util.pattern.PathPattern.PathRemainingMatchInfo;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
@@ -1017,6 +1018,42 @@ class PathPatternTests {
 		assertMatches(p,"/group/Sales/members");
 	}
 
+	@Test
+	void caseInsensitiveLiteralPattern() {
+		PathPatternParser pp = new PathPatternParser();
+		pp.setCaseSensitive(false);
+		PathPattern p = pp.parse("/group/sales/members");
+		assertMatches(p,"/Group/Sales/Members");
+		assertNoMatch(p,"/Group/Sales");
+		assertNoMatch(p,"/Group/Sales/Members/");
+		assertThat(p.matchAndExtract(toPathContainer("/GROUP/sales/members")).getUriVariables()).isEmpty();
+	}
+
+	@Test
+	void literalPatternMatchesDecodedSegments() {
+		PathPattern p = parse("/group/sales team/members");
+		assertMatches(p,"/group/sales%20team/members;a=b");
+		assertNoMatch(p,"/group/sales%20team//members");
+		assertThat(p.matchAndExtract(toPathContainer("/group/sales%20team/members"))).isNotNull();
+		assertThat(p.matchAndExtract(toPathContainer("/group/sales/members"))).isNull();
+	}
+
+	@Test
+	void extractedUriVariablesMap() {
+		PathPattern.PathMatchInfo result = matchAndExtract("/{a}/{b}/{c}/{d}/{e}/{f}", "/1/2/3/4/5/6");
+		Map<String, String> expected = Map.of("a", "1", "b", "2", "c", "3", "d", "4", "e", "5", "f", "6");
+		assertThat(result.getUriVariables()).isEqualTo(expected);
+		assertThat(result.getUriVariables()).hasSameHashCodeAs(expected);
+		assertThat(result.getUriVariables()).containsKey("f").doesNotContainKey("g");
+		assertThat(result.getUriVariables().get("g")).isNull();
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> result.getUriVariables().put("g", "7"));
+
+		// Captures after leading wildcard segments tried at several positions
+		result = matchAndExtract("/**/{name}/spring", "/projects/spring/spring");
+		assertThat(result.getUriVariables()).containsExactly(Map.entry("name", "spring"));
+	}
+
 	@Test
 	void parameters() {
 		// CaptureVariablePathElement
@@ -28,6 +28,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.cache.Cache;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.MappedResourceCache;
 import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.MediaTypeFactory;
@@ -59,6 +60,8 @@ public class ResourceHandlerRegistration {
 
 	private boolean optimizeLocations = false;
 
+	private @Nullable MappedResourceCache mappedResourceCache;
+
 	private @Nullable Map<String, MediaType> mediaTypes;
 
 
@@ -152,6 +155,21 @@ public class ResourceHandlerRegistration {
 		return this;
 	}
 
+	/**
+	 * Configure a cache of memory-mapped files to serve file-based resources
+	 * from, instead of reading them from disk on every request. A cache
+	 * instance may be shared across registrations to bound their overall
+	 * memory use.
+	 * @param mappedResourceCache the cache to use
+	 * @return the same {@link ResourceHandlerRegistration} instance, for chained method invocation
+	 * @since 7.0.2
+	 * @see ResourceWebHandler#setMappedResourceCache
+	 */
+	public ResourceHandlerRegistration setMappedResourceCache(MappedResourceCache mappedResourceCache) {
+		this.mappedResourceCache = mappedResourceCache;
+		return this;
+	}
+
 	/**
 	 * Configure a chain of resource resolvers and transformers to use. This
 	 * can be useful, for example, to apply a version strategy to resource URLs.
@@ -231,6 +249,7 @@ public class ResourceHandlerRegistration {
 		handler.setUseLastModified(this.useLastModified);
 		handler.setEtagGenerator(this.etagGenerator);
 		handler.setOptimizeLocations(this.optimizeLocations);
+		handler.setMappedResourceCache(this.mappedResourceCache);
 		if (this.mediaTypes != null) {
 			handler.setMediaTypes(this.mediaTypes);
 		}
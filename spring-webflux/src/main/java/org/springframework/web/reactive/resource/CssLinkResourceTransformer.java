@@ -78,7 +78,8 @@ public class CssLinkResourceTransformer extends ResourceTransformerSupport {
 				.flatMap(outputResource -> {
 					String filename = outputResource.getFilename();
 					if (!"css".equals(StringUtils.getFilenameExtension(filename)) ||
-							inputResource instanceof EncodedResourceResolver.EncodedResource) {
+							inputResource instanceof EncodedResourceResolver.EncodedResource ||
+							inputResource instanceof CompressingResourceResolver.CompressedResource) {
 						return Mono.just(outputResource);
 					}
 
@@ -37,6 +37,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.codec.Hints;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.MappedResourceCache;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -118,6 +119,8 @@ public class ResourceWebHandler implements WebHandler, InitializingBean {
 
 	private boolean optimizeLocations = false;
 
+	private @Nullable MappedResourceCache mappedResourceCache;
+
 
 	/**
 	 * Provide the ResourceLoader to load {@link #setLocationValues location values} with.
@@ -315,6 +318,25 @@ public class ResourceWebHandler implements WebHandler, InitializingBean {
 		return this.optimizeLocations;
 	}
 
+	/**
+	 * Configure a cache of memory-mapped files to serve file-based resources
+	 * from, instead of reading them from disk on every request.
+	 * <p>By default, no cache is used.
+	 * @param mappedResourceCache the cache to use, or {@code null} for none
+	 * @since 7.0.2
+	 */
+	public void setMappedResourceCache(@Nullable MappedResourceCache mappedResourceCache) {
+		this.mappedResourceCache = mappedResourceCache;
+	}
+
+	/**
+	 * Return the configured cache of memory-mapped files, if any.
+	 * @since 7.0.2
+	 */
+	public @Nullable MappedResourceCache getMappedResourceCache() {
+		return this.mappedResourceCache;
+	}
+
 	/**
 	 * Add mappings between file extensions extracted from the filename of static
 	 * {@link Resource}s and the media types to use for the response.
@@ -465,7 +487,9 @@ public class ResourceWebHandler implements WebHandler, InitializingBean {
 									.then(exchange.getResponse().setComplete());
 						}
 						else {
-							return writer.write(Mono.just(resource),
+							Resource body = (this.mappedResourceCache != null ?
+									this.mappedResourceCache.getResource(resource) : resource);
+							return writer.write(Mono.just(body),
 									null, ResolvableType.forClass(Resource.class), mediaType,
 									exchange.getRequest(), exchange.getResponse(),
 									Hints.from(Hints.LOG_PREFIX_HINT, exchange.getLogPrefix()));
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,6 +38,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.RequestPath;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -49,6 +51,8 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.handler.AbstractHandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
 
 /**
  * Abstract base class for {@link HandlerMapping} implementations that define
@@ -323,7 +327,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, exchange);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, exchange);
+			addMatchingMappings(this.mappingRegistry.getMappingsByPath(exchange), matches, exchange);
 		}
 		if (!matches.isEmpty()) {
 			Comparator<Match> comparator = new MatchComparator(getMappingComparator(exchange));
@@ -438,6 +442,18 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the {@link PathPattern PathPatterns} of the given mapping, used to
+	 * index mappings so that a lookup only checks mappings with patterns that
+	 * may match the {@link RequestPath#pathWithinApplication() path within the
+	 * application}. Mappings without patterns are checked for every request.
+	 * @since 7.0.2
+	 * @see PathPatternIndex
+	 */
+	protected Set<PathPattern> getPathPatterns(T mapping) {
+		return Collections.emptySet();
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -468,6 +484,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final PathPatternIndex<T> patternIndex = new PathPatternIndex<>();
+
+		private final Set<T> unindexedMappings = new LinkedHashSet<>();
+
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
@@ -490,6 +510,20 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(path);
 		}
 
+		/**
+		 * Return the mappings that may match the given URL path, as selected
+		 * through their {@link #getPathPatterns path patterns}, along with all
+		 * mappings without patterns. Not thread-safe.
+		 * @since 7.0.2
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPath(ServerWebExchange exchange) {
+			PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+			Set<T> result = this.patternIndex.getCandidates(path);
+			result.addAll(this.unindexedMappings);
+			return result;
+		}
+
 		/**
 		 * Return CORS configuration. Thread-safe for concurrent use.
 		 */
@@ -526,6 +560,14 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				Set<PathPattern> patterns = AbstractHandlerMethodMapping.this.getPathPatterns(mapping);
+				if (patterns.isEmpty()) {
+					this.unindexedMappings.add(mapping);
+				}
+				for (PathPattern pattern : patterns) {
+					this.patternIndex.add(pattern, mapping);
+				}
+
 				CorsConfiguration corsConfig = initCorsConfiguration(handler, method, mapping);
 				if (corsConfig != null) {
 					corsConfig.validateAllowCredentials();
@@ -570,6 +612,14 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				Set<PathPattern> patterns = AbstractHandlerMethodMapping.this.getPathPatterns(mapping);
+				if (patterns.isEmpty()) {
+					this.unindexedMappings.remove(mapping);
+				}
+				for (PathPattern pattern : patterns) {
+					this.patternIndex.remove(pattern, mapping);
+				}
+
 				this.corsLookup.remove(registration.getHandlerMethod());
 			}
 			finally {
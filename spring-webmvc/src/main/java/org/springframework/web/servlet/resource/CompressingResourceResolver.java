@@ -0,0 +1,396 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.resource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolver that delegates to the chain, and if a compressible resource is
+ * found, returns a variant compressed with a content coding that is acceptable
+ * based on the "Accept-Encoding" request header. This is an alternative to
+ * {@link EncodedResourceResolver} for resources without pre-compressed files.
+ *
+ * <p>Each resource is compressed once per content coding, and the encoded
+ * bytes are cached by content coding and by the URI, last-modified timestamp,
+ * and content length of the resource, so that changed resources are
+ * compressed again, whereas cached variants are returned without reading the
+ * resource. Cached entries are softly referenced and may be reclaimed under
+ * memory pressure.
+ *
+ * <p>This resolver is expected to be preceded by a {@link CachingResourceResolver}
+ * to avoid resolving the resource on every request, and to be ordered
+ * ahead of an {@link EncodedResourceResolver}, whose pre-compressed variants
+ * are served as they are, and of a {@link VersionResourceResolver}. Note that
+ * compressed resources are not transformed by {@link CssLinkResourceTransformer}.
+ *
+ * <p>Out of the box, the {@literal "gzip"} and {@literal "deflate"} codings
+ * are supported; subclasses can support other codings through
+ * {@link #encode(String, OutputStream)}.
+ *
+ * @author Rossen Stoyanchev
+ * @since 7.0.2
+ */
+public class CompressingResourceResolver extends AbstractResourceResolver {
+
+	/**
+	 * The default content codings.
+	 */
+	public static final List<String> DEFAULT_CODINGS = List.of("gzip");
+
+	/**
+	 * The default compressible media types.
+	 */
+	public static final List<MediaType> DEFAULT_MEDIA_TYPES = List.of(
+			new MediaType("text", "*"), MediaType.APPLICATION_JSON, new MediaType("application", "*+json"),
+			MediaType.APPLICATION_XML, new MediaType("application", "*+xml"),
+			new MediaType("application", "javascript"), new MediaType("application", "wasm"));
+
+	private static final byte[] NOT_COMPRESSIBLE = new byte[0];
+
+
+	private final List<String> contentCodings = new ArrayList<>(DEFAULT_CODINGS);
+
+	private final List<MediaType> mediaTypes = new ArrayList<>(DEFAULT_MEDIA_TYPES);
+
+	private long minContentLength = 1024;
+
+	private long maxContentLength = 1024 * 1024;
+
+	private final Map<String, byte[]> cache = new ConcurrentReferenceHashMap<>();
+
+
+	/**
+	 * Configure the supported content codings in order of preference. The first
+	 * coding that the {@literal "Accept-Encoding"} header of a given request
+	 * accepts, either explicitly or through {@literal "*"}, with a quality value
+	 * other than 0, is used.
+	 * <p><strong>Note:</strong> customizations to the list of codings here
+	 * should be matched by customizations to the same list in
+	 * {@link CachingResourceResolver} to ensure compressed variants of a
+	 * resource are cached under separate keys.
+	 * <p>By default this property is set to {@literal ["gzip"]}.
+	 * @param codings one or more supported content codings
+	 */
+	public void setContentCodings(List<String> codings) {
+		Assert.notEmpty(codings, "At least one content coding expected");
+		this.contentCodings.clear();
+		this.contentCodings.addAll(codings);
+	}
+
+	/**
+	 * Return a read-only list with the supported content codings.
+	 */
+	public List<String> getContentCodings() {
+		return Collections.unmodifiableList(this.contentCodings);
+	}
+
+	/**
+	 * Configure the media types of resources to compress, as determined from
+	 * their file name. Media types may use wildcards, for example
+	 * {@literal "text/*"} or {@literal "application/*+json"}.
+	 * <p>By default this property is set to {@link #DEFAULT_MEDIA_TYPES}.
+	 * @param mediaTypes the compressible media types
+	 */
+	public void setMediaTypes(List<MediaType> mediaTypes) {
+		Assert.notNull(mediaTypes, "MediaTypes must not be null");
+		this.mediaTypes.clear();
+		this.mediaTypes.addAll(mediaTypes);
+	}
+
+	/**
+	 * Return a read-only list with the compressible media types.
+	 */
+	public List<MediaType> getMediaTypes() {
+		return Collections.unmodifiableList(this.mediaTypes);
+	}
+
+	/**
+	 * Configure the minimum content length of resources to compress, below
+	 * which compression typically does not pay off.
+	 * <p>By default this is set to 1024 bytes.
+	 * @param minContentLength the minimum content length in bytes
+	 */
+	public void setMinContentLength(long minContentLength) {
+		this.minContentLength = minContentLength;
+	}
+
+	/**
+	 * Return the minimum content length of resources to compress.
+	 */
+	public long getMinContentLength() {
+		return this.minContentLength;
+	}
+
+	/**
+	 * Configure the maximum content length of resources to compress, which
+	 * bounds the memory held for each cached variant.
+	 * <p>By default this is set to 1 MB.
+	 * @param maxContentLength the maximum content length in bytes
+	 */
+	public void setMaxContentLength(long maxContentLength) {
+		this.maxContentLength = maxContentLength;
+	}
+
+	/**
+	 * Return the maximum content length of resources to compress.
+	 */
+	public long getMaxContentLength() {
+		return this.maxContentLength;
+	}
+
+
+	@Override
+	protected @Nullable Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+			List<? extends Resource> locations, ResourceResolverChain chain) {
+
+		Resource resource = chain.resolveResource(request, requestPath, locations);
+		if (resource == null || request == null || !isCompressible(resource)) {
+			return resource;
+		}
+
+		String coding = getContentCoding(request);
+		if (coding == null) {
+			return resource;
+		}
+
+		String key = getCacheKey(resource, coding);
+		byte[] compressed = (key != null ? this.cache.get(key) : null);
+		if (compressed != null) {
+			return createResource(resource, coding, compressed);
+		}
+
+		try {
+			return compress(resource, coding, key);
+		}
+		catch (IOException ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to compress [" + resource.getFilename() + "] with " + coding, ex);
+			}
+			return resource;
+		}
+	}
+
+	private boolean isCompressible(Resource resource) {
+		if (resource instanceof HttpResource httpResource &&
+				httpResource.getResponseHeaders().containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+			return false;
+		}
+		MediaType mediaType = MediaTypeFactory.getMediaType(resource).orElse(null);
+		if (mediaType == null || this.mediaTypes.stream().noneMatch(type -> type.includes(mediaType))) {
+			return false;
+		}
+		try {
+			long contentLength = resource.contentLength();
+			return (contentLength >= this.minContentLength && contentLength <= this.maxContentLength);
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
+	private @Nullable String getContentCoding(HttpServletRequest request) {
+		String header = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		if (!StringUtils.hasText(header)) {
+			return null;
+		}
+		Map<String, Float> qualities = new HashMap<>();
+		for (String token : StringUtils.tokenizeToStringArray(header, ",")) {
+			String[] parts = StringUtils.tokenizeToStringArray(token, ";");
+			if (parts.length > 0) {
+				qualities.put(parts[0].toLowerCase(Locale.ROOT), getQuality(parts));
+			}
+		}
+		for (String coding : this.contentCodings) {
+			Float quality = qualities.getOrDefault(coding, qualities.get("*"));
+			if (quality != null && quality > 0) {
+				return coding;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the quality value among the parameters of an "Accept-Encoding"
+	 * element, 1 if there is none, or 0 if it is not a valid number.
+	 */
+	private static float getQuality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			int index = parts[i].indexOf('=');
+			if (index > 0 && parts[i].substring(0, index).trim().equalsIgnoreCase("q")) {
+				try {
+					return Float.parseFloat(parts[i].substring(index + 1).trim());
+				}
+				catch (NumberFormatException ex) {
+					return 0;
+				}
+			}
+		}
+		return 1;
+	}
+
+	/**
+	 * Return the key of the compressed variant of the given resource, or
+	 * {@code null} if the resource cannot be identified.
+	 */
+	private static @Nullable String getCacheKey(Resource resource, String coding) {
+		try {
+			return coding + ":" + resource.getURI() + ":" + resource.lastModified() + ":" + resource.contentLength();
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
+	private Resource compress(Resource resource, String coding, @Nullable String key) throws IOException {
+		byte[] content = resource.getContentAsByteArray();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+		try (OutputStream encodingStream = encode(coding, out)) {
+			encodingStream.write(content);
+		}
+		byte[] compressed = (out.size() < content.length ? out.toByteArray() : NOT_COMPRESSIBLE);
+		if (key != null) {
+			this.cache.put(key, compressed);
+		}
+		return createResource(resource, coding, compressed);
+	}
+
+	private static Resource createResource(Resource resource, String coding, byte[] compressed) {
+		return (compressed != NOT_COMPRESSIBLE ? new CompressedResource(resource, coding, compressed) : resource);
+	}
+
+	/**
+	 * Wrap the given stream with one that compresses with the given content coding.
+	 * <p>The default implementation supports {@literal "gzip"} and {@literal "deflate"}.
+	 * @param coding the content coding, as configured via {@link #setContentCodings}
+	 * @param out the stream to write the compressed content to
+	 * @return the compressing stream, closed once the content is written
+	 * @throws IOException in case of I/O errors
+	 * @throws IllegalStateException if the content coding is not supported
+	 */
+	protected OutputStream encode(String coding, OutputStream out) throws IOException {
+		return switch (coding) {
+			case "gzip" -> new BestCompressionGzipOutputStream(out);
+			case "deflate" -> new BestCompressionDeflaterOutputStream(out);
+			default -> throw new IllegalStateException("Unsupported content coding " + coding);
+		};
+	}
+
+	@Override
+	protected @Nullable String resolveUrlPathInternal(String resourceUrlPath,
+			List<? extends Resource> locations, ResourceResolverChain chain) {
+
+		return chain.resolveUrlPath(resourceUrlPath, locations);
+	}
+
+
+	/**
+	 * {@link GZIPOutputStream} that compresses with the best compression level.
+	 */
+	private static final class BestCompressionGzipOutputStream extends GZIPOutputStream {
+
+		BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+			super(out);
+			this.def.setLevel(Deflater.BEST_COMPRESSION);
+		}
+	}
+
+
+	/**
+	 * {@link DeflaterOutputStream} that compresses with the best compression
+	 * level, and releases its {@link Deflater} when closed.
+	 */
+	private static final class BestCompressionDeflaterOutputStream extends DeflaterOutputStream {
+
+		BestCompressionDeflaterOutputStream(OutputStream out) {
+			super(out, new Deflater(Deflater.BEST_COMPRESSION));
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			}
+			finally {
+				this.def.end();
+			}
+		}
+	}
+
+
+	/**
+	 * A compressed {@link HttpResource}.
+	 */
+	static final class CompressedResource extends TransformedResource implements HttpResource {
+
+		private final Resource original;
+
+		private final String coding;
+
+		CompressedResource(Resource original, String coding, byte[] compressedContent) {
+			super(original, compressedContent);
+			this.original = original;
+			this.coding = coding;
+		}
+
+		@Override
+		public Resource createRelative(String relativePath) throws IOException {
+			return this.original.createRelative(relativePath);
+		}
+
+		@Override
+		public String getDescription() {
+			return this.coding + " compressed " + this.original.getDescription();
+		}
+
+		@Override
+		public HttpHeaders getResponseHeaders() {
+			HttpHeaders headers;
+			if (this.original instanceof HttpResource httpResource) {
+				headers = httpResource.getResponseHeaders();
+			}
+			else {
+				headers = new HttpHeaders();
+			}
+			headers.add(HttpHeaders.CONTENT_ENCODING, this.coding);
+			headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			return headers;
+		}
+	}
+
+}
@@ -72,7 +72,8 @@ public class CssLinkResourceTransformer extends ResourceTransformerSupport {
 
 		String filename = resource.getFilename();
 		if (!"css".equals(StringUtils.getFilenameExtension(filename)) ||
-				resource instanceof EncodedResourceResolver.EncodedResource) {
+				resource instanceof EncodedResourceResolver.EncodedResource ||
+				resource instanceof CompressingResourceResolver.CompressedResource) {
 			return resource;
 		}
 
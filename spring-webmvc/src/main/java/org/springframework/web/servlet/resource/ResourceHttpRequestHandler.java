@@ -37,6 +37,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.EmbeddedValueResolverAware;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.MappedResourceCache;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRange;
@@ -134,6 +135,8 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 
 	private boolean optimizeLocations = false;
 
+	private @Nullable MappedResourceCache mappedResourceCache;
+
 	private @Nullable StringValueResolver embeddedValueResolver;
 
 
@@ -401,6 +404,25 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		return this.optimizeLocations;
 	}
 
+	/**
+	 * Configure a cache of memory-mapped files to serve file-based resources
+	 * from, instead of reading them from disk on every request.
+	 * <p>By default, no cache is used.
+	 * @param mappedResourceCache the cache to use, or {@code null} for none
+	 * @since 7.0.2
+	 */
+	public void setMappedResourceCache(@Nullable MappedResourceCache mappedResourceCache) {
+		this.mappedResourceCache = mappedResourceCache;
+	}
+
+	/**
+	 * Return the configured cache of memory-mapped files, if any.
+	 * @since 7.0.2
+	 */
+	public @Nullable MappedResourceCache getMappedResourceCache() {
+		return this.mappedResourceCache;
+	}
+
 	@Override
 	public void setEmbeddedValueResolver(StringValueResolver resolver) {
 		this.embeddedValueResolver = resolver;
@@ -552,6 +574,9 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 
 		// Content phase
 		ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+		if (this.mappedResourceCache != null && !HttpMethod.HEAD.matches(request.getMethod())) {
+			resource = this.mappedResourceCache.getResource(resource);
+		}
 		if (request.getHeader(HttpHeaders.RANGE) == null) {
 			Assert.state(this.resourceHttpMessageConverter != null, "Not initialized");
 
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompressingResourceResolver}.
+ */
+class CompressingResourceResolverTests {
+
+	private static final String CONTENT = "body { background-color: white; }\n".repeat(100);
+
+	private final AtomicInteger encodeCount = new AtomicInteger();
+
+	private final CompressingResourceResolver compressingResolver = new CompressingResourceResolver() {
+		@Override
+		protected OutputStream encode(String coding, OutputStream out) throws IOException {
+			encodeCount.incrementAndGet();
+			return super.encode(coding, out);
+		}
+	};
+
+	private Path dir;
+
+	private ResourceResolverChain chain;
+
+	private List<Resource> locations;
+
+
+	@BeforeEach
+	void setup(@TempDir Path dir) throws IOException {
+		this.dir = dir;
+		Files.writeString(dir.resolve("main.css"), CONTENT);
+		Files.writeString(dir.resolve("copy.css"), CONTENT);
+		Files.write(dir.resolve("image.png"), CONTENT.getBytes(StandardCharsets.UTF_8));
+
+		this.chain = new DefaultResourceResolverChain(List.of(this.compressingResolver, new PathResourceResolver()));
+		this.locations = List.of(new FileSystemResource(dir.toString() + "/"), new ClassPathResource("test/", getClass()));
+	}
+
+
+	@Test
+	void resolveGzipped() throws IOException {
+		Resource resolved = resolve("main.css", "gzip, deflate");
+
+		assertThat(resolved.getFilename()).isEqualTo("main.css");
+		assertThat(resolved.contentLength()).isLessThan(CONTENT.length());
+		assertThat(resolved).isInstanceOf(HttpResource.class);
+		HttpHeaders headers = ((HttpResource) resolved).getResponseHeaders();
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(headers.getFirst(HttpHeaders.VARY)).isEqualTo("Accept-Encoding");
+		try (InputStream in = new GZIPInputStream(resolved.getInputStream())) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+		}
+	}
+
+	@Test
+	void resolveDeflatedInPreferredOrder() throws IOException {
+		this.compressingResolver.setContentCodings(List.of("deflate", "gzip"));
+		Resource resolved = resolve("main.css", "gzip;q=0.8, deflate");
+
+		HttpHeaders headers = ((HttpResource) resolved).getResponseHeaders();
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("deflate");
+		try (InputStream in = new InflaterInputStream(resolved.getInputStream())) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+		}
+	}
+
+	@Test
+	void compressOncePerResource() throws IOException {
+		Resource first = resolve("main.css", "gzip");
+		Resource second = resolve("main.css", "gzip");
+		Resource copy = resolve("copy.css", "gzip");
+
+		assertThat(this.encodeCount).hasValue(2);
+		assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+		assertThat(copy.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+		assertThat(copy.getFilename()).isEqualTo("copy.css");
+	}
+
+	@Test
+	void compressAgainWhenResourceChanged() throws IOException {
+		resolve("main.css", "gzip");
+		Path file = this.dir.resolve("main.css");
+		Files.writeString(file, CONTENT + CONTENT);
+		Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+
+		Resource resolved = resolve("main.css", "gzip");
+		assertThat(this.encodeCount).hasValue(2);
+		try (InputStream in = new GZIPInputStream(resolved.getInputStream())) {
+			assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(CONTENT + CONTENT);
+		}
+	}
+
+	@Test
+	void resolveCachedVariantWithoutReadingResource() {
+		AtomicInteger readCount = new AtomicInteger();
+		Resource resource = new FileSystemResource(this.dir.resolve("main.css")) {
+			@Override
+			public InputStream getInputStream() throws IOException {
+				readCount.incrementAndGet();
+				return super.getInputStream();
+			}
+			@Override
+			public byte[] getContentAsByteArray() throws IOException {
+				readCount.incrementAndGet();
+				return super.getContentAsByteArray();
+			}
+		};
+		ResourceResolver resolver = new AbstractResourceResolver() {
+			@Override
+			protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+					List<? extends Resource> locations, ResourceResolverChain chain) {
+				return resource;
+			}
+			@Override
+			protected @Nullable String resolveUrlPathInternal(String resourceUrlPath,
+					List<? extends Resource> locations, ResourceResolverChain chain) {
+				return null;
+			}
+		};
+		this.chain = new DefaultResourceResolverChain(List.of(this.compressingResolver, resolver));
+
+		Resource first = resolve("main.css", "gzip");
+		Resource second = resolve("main.css", "gzip");
+
+		assertThat(first).isInstanceOf(HttpResource.class);
+		assertThat(second).isInstanceOf(HttpResource.class);
+		assertThat(readCount).hasValue(1);
+		assertThat(this.encodeCount).hasValue(1);
+	}
+
+	@Test
+	void resolveFromCachingResourceResolver() {
+		this.chain = new DefaultResourceResolverChain(List.of(
+				new CachingResourceResolver(new ConcurrentMapCache("resourceCache")),
+				this.compressingResolver, new PathResourceResolver()));
+
+		Resource compressed = resolve("main.css", "gzip");
+		assertThat(resolve("main.css", "gzip")).isSameAs(compressed);
+		assertThat(resolve("main.css", null)).isNotInstanceOf(HttpResource.class);
+	}
+
+	@Test
+	void resolveWithoutAcceptedCoding() {
+		assertThat(resolve("main.css", null)).isNotInstanceOf(HttpResource.class);
+		assertThat(resolve("main.css", "br")).isNotInstanceOf(HttpResource.class);
+		assertThat(this.chain.resolveResource(null, "main.css", this.locations)).isNotInstanceOf(HttpResource.class);
+		assertThat(this.encodeCount).hasValue(0);
+	}
+
+	@Test
+	void resolveWithCodingsExcludedByQuality() {
+		assertThat(resolve("main.css", "gzip;q=0")).isNotInstanceOf(HttpResource.class);
+		assertThat(resolve("main.css", "identity, gzip; q=0.0")).isNotInstanceOf(HttpResource.class);
+		assertThat(resolve("main.css", "*, gzip;q=0")).isNotInstanceOf(HttpResource.class);
+		assertThat(resolve("main.css", "*;q=0")).isNotInstanceOf(HttpResource.class);
+		assertThat(this.encodeCount).hasValue(0);
+	}
+
+	@Test
+	void resolveNextCodingWhenPreferredOneIsExcluded() {
+		this.compressingResolver.setContentCodings(List.of("gzip", "deflate"));
+		Resource resolved = resolve("main.css", "gzip;q=0, deflate;q=0.5");
+
+		HttpHeaders headers = ((HttpResource) resolved).getResponseHeaders();
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("deflate");
+	}
+
+	@Test
+	void resolveWithWildcardCoding() {
+		Resource resolved = resolve("main.css", "*");
+
+		HttpHeaders headers = ((HttpResource) resolved).getResponseHeaders();
+		assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+	}
+
+	@Test
+	void resolveNonCompressibleResources() {
+		assertThat(resolve("image.png", "gzip")).isNotInstanceOf(HttpResource.class);
+		assertThat(resolve("foo.css", "gzip")).isNotInstanceOf(HttpResource.class);
+
+		this.compressingResolver.setMaxContentLength(CONTENT.length() - 1);
+		assertThat(resolve("main.css", "gzip")).isNotInstanceOf(HttpResource.class);
+		assertThat(this.encodeCount).hasValue(0);
+	}
+
+	private Resource resolve(String file, String acceptEncoding) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/" + file);
+		if (acceptEncoding != null) {
+			request.addHeader("Accept-Encoding", acceptEncoding);
+		}
+		return this.chain.resolveResource(request, file, this.locations);
+	}
+
+}
@@ -30,6 +30,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.MappedResourceCache;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
@@ -97,6 +98,19 @@ class ResourceHttpRequestHandlerTests {
 			assertThat(this.response.getContentAsString()).isEqualTo("h1 { color:red; }");
 		}
 
+		@Test
+		void servesResourceFromMappedResourceCache() throws Exception {
+			MappedResourceCache cache = new MappedResourceCache();
+			this.handler.setMappedResourceCache(cache);
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.css");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.response.getContentType()).isEqualTo("text/css");
+			assertThat(this.response.getContentLength()).isEqualTo(17);
+			assertThat(this.response.getContentAsString()).isEqualTo("h1 { color:red; }");
+			assertThat(cache.size()).isEqualTo(1);
+		}
+
 		@Test
 		void supportsHeadRequests() throws Exception {
 			this.request.setMethod("HEAD");
@@ -230,6 +244,19 @@ class ResourceHttpRequestHandlerTests {
 			this.response = new MockHttpServletResponse();
 		}
 
+		@Test
+		void partialContentFromMappedResourceCache() throws Exception {
+			this.handler.setMappedResourceCache(new MappedResourceCache());
+			this.request.addHeader("Range", "bytes=0-1");
+			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.txt");
+			this.handler.handleRequest(this.request, this.response);
+
+			assertThat(this.response.getStatus()).isEqualTo(206);
+			assertThat(this.response.getContentLength()).isEqualTo(2);
+			assertThat(this.response.getHeader("Content-Range")).isEqualTo("bytes 0-1/10");
+			assertThat(this.response.getContentAsString()).isEqualTo("So");
+		}
+
 		@Test
 		void supportsRangeRequest() throws Exception {
 			this.request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, "foo.css");
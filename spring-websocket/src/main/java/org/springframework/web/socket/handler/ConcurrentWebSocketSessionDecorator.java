@@ -17,6 +17,9 @@
 package org.springframework.web.socket.handler;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -28,7 +31,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 
@@ -41,6 +46,10 @@ import org.springframework.web.socket.WebSocketSession;
  * buffered instead. At that time, the specified buffer-size limit and send-time
  * limit will be checked, and the session will be closed if the limits are exceeded.
  *
+ * <p>Optionally, messages buffered during a slow {@code send} can be
+ * {@linkplain #setMessageCoalescingLimit coalesced} into fewer, larger messages
+ * for sub-protocols such as STOMP whose frames are delimited within messages.
+ *
  * @author Rossen Stoyanchev
  * @author Juergen Hoeller
  * @since 4.0.3
@@ -58,6 +67,8 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 
 	private @Nullable Consumer<WebSocketMessage<?>> preSendCallback;
 
+	private int messageCoalescingLimit;
+
 
 	private final Queue<WebSocketMessage<?>> buffer = new LinkedBlockingQueue<>();
 
@@ -153,6 +164,30 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 	}
 
 
+	/**
+	 * Set the maximum size (number of bytes) up to which buffered text or
+	 * binary messages are coalesced into a single message when flushed.
+	 * <p>This reduces the number of writes to the underlying session when
+	 * messages accumulate in the buffer, but changes message boundaries, and
+	 * must therefore only be enabled for sub-protocols that allow multiple
+	 * frames within a single WebSocket message, such as STOMP.
+	 * <p>By default this is set to 0, in which case messages are not coalesced.
+	 * @param messageCoalescingLimit the maximum size of a coalesced message
+	 * @since 7.0.2
+	 */
+	public void setMessageCoalescingLimit(int messageCoalescingLimit) {
+		this.messageCoalescingLimit = messageCoalescingLimit;
+	}
+
+	/**
+	 * Return the configured message coalescing limit (number of bytes).
+	 * @since 7.0.2
+	 */
+	public int getMessageCoalescingLimit() {
+		return this.messageCoalescingLimit;
+	}
+
+
 	@Override
 	public void sendMessage(WebSocketMessage<?> message) throws IOException {
 		if (shouldNotSend()) {
@@ -187,15 +222,25 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 	private boolean tryFlushMessageBuffer() throws IOException {
 		if (this.flushLock.tryLock()) {
 			try {
+				MessageCoalescer coalescer =
+						(this.messageCoalescingLimit > 0 ? new MessageCoalescer(this.messageCoalescingLimit) : null);
 				while (true) {
 					WebSocketMessage<?> message = this.buffer.poll();
 					if (message == null || shouldNotSend()) {
 						break;
 					}
 					this.bufferSize.addAndGet(-message.getPayloadLength());
-					this.sendStartTime = System.currentTimeMillis();
-					getDelegate().sendMessage(message);
-					this.sendStartTime = 0;
+					if (coalescer != null) {
+						message = coalescer.add(message);
+						if (message == null) {
+							continue;
+						}
+					}
+					sendToDelegate(message);
+				}
+				WebSocketMessage<?> message = (coalescer != null ? coalescer.flush() : null);
+				if (message != null && !shouldNotSend()) {
+					sendToDelegate(message);
 				}
 			}
 			finally {
@@ -207,6 +252,12 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 		return false;
 	}
 
+	private void sendToDelegate(WebSocketMessage<?> message) throws IOException {
+		this.sendStartTime = System.currentTimeMillis();
+		getDelegate().sendMessage(message);
+		this.sendStartTime = 0;
+	}
+
 	private void checkSessionLimits() {
 		if (!shouldNotSend() && this.closeLock.tryLock()) {
 			try {
@@ -290,6 +341,76 @@ public class ConcurrentWebSocketSessionDecorator extends WebSocketSessionDecorat
 	}
 
 
+	/**
+	 * Accumulates consecutive text or binary messages up to a size limit,
+	 * and combines them into a single message.
+	 */
+	private static final class MessageCoalescer {
+
+		private final int limit;
+
+		private final List<WebSocketMessage<?>> messages = new ArrayList<>();
+
+		private int length;
+
+		MessageCoalescer(int limit) {
+			this.limit = limit;
+		}
+
+		/**
+		 * Add the given message, returning the previously accumulated messages
+		 * combined into one if the given message cannot be combined with them.
+		 */
+		public @Nullable WebSocketMessage<?> add(WebSocketMessage<?> message) {
+			WebSocketMessage<?> result = null;
+			int messageLength = message.getPayloadLength();
+			if (!this.messages.isEmpty() &&
+					(!canCoalesce(this.messages.get(0), message) || this.length + messageLength > this.limit)) {
+				result = flush();
+			}
+			this.messages.add(message);
+			this.length += messageLength;
+			return result;
+		}
+
+		/**
+		 * Return the accumulated messages combined into one, if any.
+		 */
+		public @Nullable WebSocketMessage<?> flush() {
+			if (this.messages.isEmpty()) {
+				return null;
+			}
+			WebSocketMessage<?> result;
+			if (this.messages.size() == 1) {
+				result = this.messages.get(0);
+			}
+			else if (this.messages.get(0) instanceof TextMessage) {
+				StringBuilder sb = new StringBuilder(this.length);
+				for (WebSocketMessage<?> message : this.messages) {
+					sb.append(((TextMessage) message).getPayload());
+				}
+				result = new TextMessage(sb);
+			}
+			else {
+				ByteBuffer buffer = ByteBuffer.allocate(this.length);
+				for (WebSocketMessage<?> message : this.messages) {
+					buffer.put(((BinaryMessage) message).getPayload().duplicate());
+				}
+				result = new BinaryMessage(buffer.flip());
+			}
+			this.messages.clear();
+			this.length = 0;
+			return result;
+		}
+
+		private static boolean canCoalesce(WebSocketMessage<?> first, WebSocketMessage<?> message) {
+			return (first.isLast() && message.isLast() &&
+					((first instanceof TextMessage && message instanceof TextMessage) ||
+							(first instanceof BinaryMessage && message instanceof BinaryMessage)));
+		}
+	}
+
+
 	/**
 	 * Enum for options of what to do when the buffer fills up.
 	 * @since 5.1
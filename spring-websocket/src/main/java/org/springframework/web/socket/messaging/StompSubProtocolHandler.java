@@ -103,6 +103,8 @@ public class StompSubProtocolHandler implements SubProtocolHandler, ApplicationE
 
 	private StompDecoder stompDecoder = new StompDecoder();
 
+	private boolean encodeBroadcastMessages;
+
 	private final Map<String, BufferingStompDecoder> decoders = new ConcurrentHashMap<>();
 
 	private @Nullable MessageHeaderInitializer headerInitializer;
@@ -172,6 +174,26 @@ public class StompSubProtocolHandler implements SubProtocolHandler, ApplicationE
 		this.stompDecoder = decoder;
 	}
 
+	/**
+	 * Whether to encode MESSAGE frames sent to clients with
+	 * {@link StompEncoder#encodeBroadcastMessage(Map, byte[])}, which encodes
+	 * the payload and common headers of a message broadcast to many subscribers
+	 * once, rather than once per subscriber.
+	 * <p>By default this is set to {@code false}.
+	 * @since 7.0.2
+	 */
+	public void setEncodeBroadcastMessages(boolean encodeBroadcastMessages) {
+		this.encodeBroadcastMessages = encodeBroadcastMessages;
+	}
+
+	/**
+	 * Whether MESSAGE frames are encoded as broadcast messages.
+	 * @since 7.0.2
+	 */
+	public boolean isEncodeBroadcastMessages() {
+		return this.encodeBroadcastMessages;
+	}
+
 	/**
 	 * Configure a {@link MessageHeaderInitializer} to apply to the headers of all
 	 * messages created from decoded STOMP frames and other messages sent to the
@@ -517,7 +539,9 @@ public class StompSubProtocolHandler implements SubProtocolHandler, ApplicationE
 	private void sendToClient(WebSocketSession session, StompHeaderAccessor stompAccessor, byte[] payload) {
 		StompCommand command = stompAccessor.getCommand();
 		try {
-			byte[] bytes = this.stompEncoder.encode(stompAccessor.getMessageHeaders(), payload);
+			byte[] bytes = (this.encodeBroadcastMessages && StompCommand.MESSAGE.equals(command) ?
+					this.stompEncoder.encodeBroadcastMessage(stompAccessor.getMessageHeaders(), payload) :
+					this.stompEncoder.encode(stompAccessor.getMessageHeaders(), payload));
 			boolean useBinary = (payload.length > 0 && !(session instanceof SockJsSession) &&
 					MimeTypeUtils.APPLICATION_OCTET_STREAM.isCompatibleWith(stompAccessor.getContentType()));
 			if (useBinary) {
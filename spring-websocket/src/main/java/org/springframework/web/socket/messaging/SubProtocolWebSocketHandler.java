@@ -94,6 +94,8 @@ public class SubProtocolWebSocketHandler
 
 	private int sendBufferSizeLimit = 512 * 1024;
 
+	private int messageCoalescingLimit;
+
 	private int timeToFirstMessage = DEFAULT_TIME_TO_FIRST_MESSAGE;
 
 	private volatile long lastSessionCheckTime = System.currentTimeMillis();
@@ -224,6 +226,27 @@ public class SubProtocolWebSocketHandler
 		return this.sendBufferSizeLimit;
 	}
 
+	/**
+	 * Specify the maximum size (number of bytes) up to which messages buffered
+	 * for a session are coalesced into a single WebSocket message when flushed.
+	 * <p>This must only be enabled if all configured sub-protocols allow
+	 * multiple frames within a single WebSocket message, as STOMP does.
+	 * <p>By default this is set to 0, in which case messages are not coalesced.
+	 * @since 7.0.2
+	 * @see ConcurrentWebSocketSessionDecorator#setMessageCoalescingLimit(int)
+	 */
+	public void setMessageCoalescingLimit(int messageCoalescingLimit) {
+		this.messageCoalescingLimit = messageCoalescingLimit;
+	}
+
+	/**
+	 * Return the message coalescing limit (number of bytes).
+	 * @since 7.0.2
+	 */
+	public int getMessageCoalescingLimit() {
+		return this.messageCoalescingLimit;
+	}
+
 	/**
 	 * Set the maximum time allowed in milliseconds after the WebSocket connection
 	 * is established and before the first sub-protocol message is received.
@@ -426,14 +449,18 @@ public class SubProtocolWebSocketHandler
 	/**
 	 * Decorate the given {@link WebSocketSession}, if desired.
 	 * <p>The default implementation builds a {@link ConcurrentWebSocketSessionDecorator}
-	 * with the configured {@link #getSendTimeLimit() send-time limit} and
-	 * {@link #getSendBufferSizeLimit() buffer-size limit}.
+	 * with the configured {@link #getSendTimeLimit() send-time limit},
+	 * {@link #getSendBufferSizeLimit() buffer-size limit}, and
+	 * {@link #getMessageCoalescingLimit() message coalescing limit}.
 	 * @param session the original {@code WebSocketSession}
 	 * @return the decorated {@code WebSocketSession}, or potentially the given session as-is
 	 * @since 4.3.13
 	 */
 	protected WebSocketSession decorateSession(WebSocketSession session) {
-		return new ConcurrentWebSocketSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit());
+		ConcurrentWebSocketSessionDecorator decorator =
+				new ConcurrentWebSocketSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit());
+		decorator.setMessageCoalescingLimit(getMessageCoalescingLimit());
+		return decorator;
 	}
 
 	/**
@@ -19,12 +19,15 @@ package org.springframework.web.socket.handler;
 import java.io.IOException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
 
@@ -81,6 +84,51 @@ class ConcurrentWebSocketSessionDecoratorTests {
 		assertThat(session.isOpen()).isTrue();
 	}
 
+	@Test
+	void sendWithMessageCoalescing() throws Exception {
+		CountDownLatch sendLatch = new CountDownLatch(1);
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+		TestWebSocketSession session = new TestWebSocketSession() {
+			@Override
+			public void sendMessage(WebSocketMessage<?> message) throws IOException {
+				super.sendMessage(message);
+				if (sendLatch.getCount() > 0) {
+					sendLatch.countDown();
+					try {
+						releaseLatch.await(5, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+		};
+		session.setOpen(true);
+
+		ConcurrentWebSocketSessionDecorator decorator =
+				new ConcurrentWebSocketSessionDecorator(session, 10 * 1000, 1024);
+		decorator.setMessageCoalescingLimit(20);
+
+		Future<?> future = Executors.newSingleThreadExecutor().submit(() -> {
+			decorator.sendMessage(new TextMessage("slow message"));
+			return null;
+		});
+		assertThat(sendLatch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		for (int i = 0; i < 6; i++) {
+			decorator.sendMessage(new TextMessage("frame" + i));
+		}
+		decorator.sendMessage(new BinaryMessage(new byte[] {1, 2}));
+		decorator.sendMessage(new BinaryMessage(new byte[] {3}));
+		releaseLatch.countDown();
+		future.get(5, TimeUnit.SECONDS);
+
+		assertThat(session.getSentMessages()).containsExactly(
+				new TextMessage("slow message"), new TextMessage("frame0frame1frame2"),
+				new TextMessage("frame3frame4frame5"), new BinaryMessage(new byte[] {1, 2, 3}));
+		assertThat(decorator.getBufferSize()).isEqualTo(0);
+	}
+
 	@Test
 	void sendTimeLimitExceeded() throws InterruptedException {
 
@@ -224,6 +272,7 @@ class ConcurrentWebSocketSessionDecoratorTests {
 		assertThat(sessionDecorator.getSendTimeLimit()).isEqualTo(42);
 		assertThat(sessionDecorator.getBufferSizeLimit()).isEqualTo(43);
 		assertThat(sessionDecorator.getOverflowStrategy()).isEqualTo(OverflowStrategy.DROP);
+		assertThat(sessionDecorator.getMessageCoalescingLimit()).isEqualTo(0);
 	}
 
 }
@@ -17,6 +17,7 @@
 package org.springframework.web.socket.messaging;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -271,6 +272,29 @@ class StompSubProtocolHandlerTests {
 		assertThat(((String) textMessage.getPayload())).doesNotContain(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
 	}
 
+	@Test
+	void handleMessageToClientWithBroadcastEncoding() {
+		this.protocolHandler.setEncodeBroadcastMessages(true);
+		byte[] payload = "body".getBytes(StandardCharsets.UTF_8);
+
+		for (String subscriptionId : List.of("sub0", "sub1")) {
+			SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+			headers.setSessionId("s1");
+			headers.setSubscriptionId(subscriptionId);
+			headers.setDestination("/topic/foo");
+			Message<byte[]> message = MessageBuilder.createMessage(payload, headers.getMessageHeaders());
+			this.protocolHandler.handleMessageToClient(this.session, message);
+		}
+
+		assertThat(this.session.getSentMessages()).hasSize(2);
+		for (int i = 0; i < 2; i++) {
+			String frame = (String) this.session.getSentMessages().get(i).getPayload();
+			assertThat(frame).startsWith("MESSAGE\n").endsWith("\n\nbody\u0000")
+					.contains("destination:/topic/foo\n", "content-length:4\n", "subscription:sub" + i + "\n")
+					.containsPattern("message-id:s1-\\d+\n");
+		}
+	}
+
 	// SPR-12475
 
 	@Test